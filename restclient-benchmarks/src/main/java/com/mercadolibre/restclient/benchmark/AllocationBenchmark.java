@@ -0,0 +1,107 @@
+package com.mercadolibre.restclient.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.mercadolibre.restclient.RESTPool;
+import com.mercadolibre.restclient.Response;
+import com.mercadolibre.restclient.RestClient;
+import com.mercadolibre.restclient.cache.local.RESTLocalCache;
+import com.mercadolibre.restclient.exception.RestException;
+
+/**
+ * Measures bytes allocated per request on the sync hot path, to be run single threaded with the GC profiler:
+ * <pre>
+ * java -jar restclient-benchmarks/target/benchmarks.jar AllocationBenchmark -prof gc
+ * </pre>
+ * The figure to watch is {@code gc.alloc.rate.norm}, in bytes per operation:
+ * <ul>
+ *     <li>{@code cached}: a fresh local cache hit, covering request build, interceptors and cache lookup with no
+ *     network involved. Target is at most {@value #CACHED_TARGET_BYTES} bytes per request</li>
+ *     <li>{@code network}: an uncached small GET through the loopback server, which adds the engine's own allocations.
+ *     Target is at most {@value #NETWORK_TARGET_BYTES} bytes per request</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class AllocationBenchmark {
+
+    public static final int CACHED_TARGET_BYTES = 2560;
+    public static final int NETWORK_TARGET_BYTES = 20480;
+
+    private static final long TIMEOUT = 10000L;
+    private static final int CACHE_MAX_AGE = 3600;
+
+    @Param({"cached", "network"})
+    public String path;
+
+    private LoopbackServer server;
+    private RestClient restClient;
+    private RESTPool pool;
+    private RESTLocalCache cache;
+    private String url;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, RestException {
+        server = new LoopbackServer();
+        server.start();
+
+        boolean cached = "cached".equals(path);
+
+        RESTPool.Builder builder = RESTPool.builder()
+                .withName("allocation")
+                .withConnectionTimeout(TIMEOUT)
+                .withSocketTimeout(TIMEOUT);
+
+        if (cached) {
+            cache = RESTLocalCache.builder("allocation").build();
+            builder.withCache(cache);
+        }
+
+        pool = builder.build();
+
+        restClient = RestClient.builder()
+                .withPool(pool)
+                .disableDefault()
+                .build();
+
+        url = server.url(LoopbackServer.Payload.small, false, cached ? CACHE_MAX_AGE : 0);
+
+        // Fills the cache, so every measured call is a hit
+        restClient.withPool(pool).get(url);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        restClient.close();
+
+        if (cache != null)
+            cache.close();
+
+        server.stop();
+    }
+
+    @Benchmark
+    public Response get() throws RestException {
+        return restClient.withPool(pool).get(url);
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.mercadolibre.restclient.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.mercadolibre.restclient.Response;
+
+/**
+ * Drives the async engine ({@code WrappingExecAsyncREST} over {@code HTTPCAsyncClient}) end to end, waiting on the returned future.
+ * Concurrency is given by JMH threads, each one keeping a single request in flight, see {@link ConcurrencySweep}.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class AsyncRequestBenchmark {
+
+    @Benchmark
+    public byte[] get(ClientState state) throws Exception {
+        Response response = state.restClient.withPool(state.pool).asyncGet(state.url).get();
+
+        return response.getBytes();
+    }
+
+}
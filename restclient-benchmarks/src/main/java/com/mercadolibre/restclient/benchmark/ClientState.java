@@ -0,0 +1,86 @@
+package com.mercadolibre.restclient.benchmark;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.mercadolibre.restclient.RESTPool;
+import com.mercadolibre.restclient.RestClient;
+import com.mercadolibre.restclient.cache.RESTCache;
+import com.mercadolibre.restclient.cache.local.RESTLocalCache;
+
+/**
+ * Shared benchmark fixture: a loopback server plus a {@link RestClient} with a single pool sized for the highest concurrency level.
+ * <p>
+ * Cache modes are {@code none} (no cache configured), {@code hit} (responses are fresh for an hour, so every measured call is served
+ * from cache) and {@code miss} (responses carry {@code max-age=0}, so every call goes through cache lookup and then to the network).
+ */
+@State(Scope.Benchmark)
+public class ClientState {
+
+    public static final int MAX_CONNECTIONS = 1024;
+
+    private static final long TIMEOUT = 10000L;
+    private static final int CACHE_ELEMENTS = 1000;
+    private static final int CACHE_HIT_MAX_AGE = 3600;
+
+    @Param({"small", "large"})
+    public LoopbackServer.Payload payload;
+
+    @Param({"false", "true"})
+    public boolean gzip;
+
+    @Param({"none", "hit", "miss"})
+    public String cache;
+
+    public LoopbackServer server;
+    public RestClient restClient;
+    public RESTPool pool;
+    public String url;
+
+    private RESTCache restCache;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        server = new LoopbackServer();
+        server.start();
+
+        RESTPool.Builder builder = RESTPool.builder()
+                .withName("benchmark")
+                .withMaxTotal(MAX_CONNECTIONS)
+                .withMaxPerRoute(MAX_CONNECTIONS)
+                .withConnectionTimeout(TIMEOUT)
+                .withSocketTimeout(TIMEOUT)
+                .withMaxPoolWait(TIMEOUT);
+
+        if (!"none".equals(cache)) {
+            restCache = new RESTLocalCache("benchmark", CACHE_ELEMENTS);
+            builder.withCache(restCache);
+        }
+
+        pool = builder.build();
+
+        restClient = RestClient.builder()
+                .withPool(pool)
+                .disableDefault()
+                .build();
+
+        url = server.url(payload, gzip, "hit".equals(cache) ? CACHE_HIT_MAX_AGE : 0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        restClient.close();
+
+        if (restCache != null)
+            restCache.close();
+
+        server.stop();
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.mercadolibre.restclient.benchmark;
+
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs selected benchmarks once per concurrency level, so throughput and latency percentiles can be compared as load grows.
+ * <p>
+ * Levels are taken from {@code -Drestclient.benchmark.concurrency} (comma separated, defaults to {@value #DEFAULT_LEVELS}) and
+ * must not exceed {@link ClientState#MAX_CONNECTIONS}. Any other argument is handled as a regular JMH command line option.
+ */
+public class ConcurrencySweep {
+
+    private static final String LEVELS_PROPERTY = "restclient.benchmark.concurrency";
+    private static final String DEFAULT_LEVELS = "1,4,16,64,256,1024";
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+
+        for (String level : System.getProperty(LEVELS_PROPERTY, DEFAULT_LEVELS).split(",")) {
+            int threads = Integer.parseInt(level.trim());
+            if (threads > ClientState.MAX_CONNECTIONS)
+                throw new IllegalArgumentException("Concurrency level " + threads + " exceeds pool size " + ClientState.MAX_CONNECTIONS);
+
+            Options options = new OptionsBuilder()
+                    .parent(commandLine)
+                    .threads(threads)
+                    .build();
+
+            new Runner(options).run();
+        }
+    }
+
+}
@@ -0,0 +1,137 @@
+package com.mercadolibre.restclient.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.http.HttpException;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.config.SocketConfig;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.impl.bootstrap.HttpServer;
+import org.apache.http.impl.bootstrap.ServerBootstrap;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpRequestHandler;
+
+/**
+ * Embedded HttpCore server bound to loopback, serving canned payloads for benchmarks.
+ * <p>
+ * Resources are addressed as {@code /{payload}?gzip={true|false}&maxAge={seconds}}, where payload is one of {@link Payload}.
+ * Bodies are precomputed, so the server adds as little noise as possible to client measurements.
+ */
+public class LoopbackServer {
+
+    public enum Payload {
+        small(512), large(256 * 1024);
+
+        private final byte[] plain;
+        private final byte[] gzipped;
+
+        Payload(int size) {
+            this.plain = makeBody(size);
+            this.gzipped = gzip(plain);
+        }
+    }
+
+    private final HttpServer server;
+
+    public LoopbackServer() {
+        SocketConfig socketConfig = SocketConfig.custom()
+                .setSoTimeout(15000)
+                .setTcpNoDelay(true)
+                .setBacklogSize(2048)
+                .build();
+
+        server = ServerBootstrap.bootstrap()
+                .setSocketConfig(socketConfig)
+                .setServerInfo("BENCHMARK/1.1")
+                .setListenerPort(0)
+                .registerHandler("/*", new PayloadHandler())
+                .create();
+    }
+
+    public void start() throws IOException {
+        server.start();
+    }
+
+    public void stop() {
+        server.shutdown(3L, TimeUnit.SECONDS);
+    }
+
+    public int getPort() {
+        return server.getLocalPort();
+    }
+
+    public String url(Payload payload, boolean gzip, int maxAge) {
+        return "http://localhost:" + getPort() + "/" + payload.name() + "?gzip=" + gzip + "&maxAge=" + maxAge;
+    }
+
+    private static class PayloadHandler implements HttpRequestHandler {
+
+        @Override
+        public void handle(HttpRequest request, HttpResponse response, HttpContext context) throws HttpException, IOException {
+            URI uri = URI.create(request.getRequestLine().getUri());
+
+            Payload payload;
+            try {
+                payload = Payload.valueOf(uri.getPath().substring(1));
+            } catch (IllegalArgumentException e) {
+                response.setStatusCode(HttpStatus.SC_NOT_FOUND);
+                return;
+            }
+
+            String query = uri.getQuery() != null ? uri.getQuery() : "";
+            boolean gzip = query.contains("gzip=true") && request.containsHeader("Accept-Encoding")
+                    && request.getFirstHeader("Accept-Encoding").getValue().contains("gzip");
+
+            response.setStatusCode(HttpStatus.SC_OK);
+            response.setHeader("Content-Type", "application/json");
+            response.setHeader("Cache-Control", "max-age=" + parseMaxAge(query));
+
+            if (gzip) {
+                response.setHeader("Content-Encoding", "gzip");
+                response.setEntity(new ByteArrayEntity(payload.gzipped));
+            } else
+                response.setEntity(new ByteArrayEntity(payload.plain));
+        }
+
+        private static int parseMaxAge(String query) {
+            int start = query.indexOf("maxAge=");
+            if (start < 0) return 0;
+
+            start += "maxAge=".length();
+            int end = query.indexOf('&', start);
+
+            return Integer.parseInt(end < 0 ? query.substring(start) : query.substring(start, end));
+        }
+    }
+
+    private static byte[] makeBody(int size) {
+        StringBuilder builder = new StringBuilder(size + 64).append("{\"items\":[");
+
+        for (int i = 0; builder.length() < size - 2; i++) {
+            if (i > 0) builder.append(',');
+            builder.append("{\"id\":").append(i).append(",\"title\":\"item ").append(i).append("\",\"price\":").append(i * 10).append('}');
+        }
+
+        return builder.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+
+        return out.toByteArray();
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.mercadolibre.restclient.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.mercadolibre.restclient.Response;
+import com.mercadolibre.restclient.exception.RestException;
+
+/**
+ * Drives the sync engine ({@code WrappingExecREST} over {@code HTTPCClient}) end to end, from request build to materialized body.
+ * Concurrency is given by JMH threads, see {@link ConcurrencySweep}.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class SyncRequestBenchmark {
+
+    @Benchmark
+    public byte[] get(ClientState state) throws RestException {
+        Response response = state.restClient.withPool(state.pool).get(state.url);
+
+        return response.getBytes();
+    }
+
+}
@@ -0,0 +1,392 @@
+package com.mercadolibre.restclient.cache.codec;
+
+import com.mercadolibre.restclient.Response;
+import com.mercadolibre.restclient.cache.CacheControl;
+import com.mercadolibre.restclient.http.Header;
+import com.mercadolibre.restclient.http.Headers;
+import com.mercadolibre.restclient.util.Clocks;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compact, versioned binary format for a {@link Response}, meant for caches that store responses out of the heap or in
+ * remote servers. It's much smaller and cheaper to build than Java serialization:
+ * <ul>
+ *     <li>lengths and numbers are written as varints</li>
+ *     <li>common header names take a single byte, and are read back as shared instances</li>
+ *     <li>headers can be restricted to a whitelist</li>
+ *     <li>bodies above a threshold are deflated, unless they already have a Content-Encoding</li>
+ *     <li>bodies not read yet are kept as they came, and still decoded lazily once read back</li>
+ * </ul>
+ * Besides status, headers and body, it keeps the response {@link CacheControl} creation and expiration times, so a
+ * response read back is exactly as fresh as when it was written, even by another process.
+ * <p>
+ * Every encoded response starts with a format version. Decoders read all versions up to their own, so new ones may be
+ * rolled out while older instances still share the cache.
+ */
+public final class ResponseCodec {
+
+    public static final int VERSION = 1;
+    public static final int DEFAULT_COMPRESSION_THRESHOLD = 1024;
+
+    private static final int MAGIC = 0xCA;
+
+    private static final int FLAG_NO_BODY = 1;
+    private static final int FLAG_DEFLATED = 2;
+    private static final int FLAG_ENCODED = 4;
+
+    private static final String CONTENT_ENCODING = "Content-Encoding";
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    // Append only: indexes are part of the format
+    private static final String[] HEADER_NAMES = {
+            "Content-Type", "Content-Length", "Content-Encoding", "Cache-Control", "Age", "Date", "Expires", "ETag",
+            "Last-Modified", "Vary", "Server", "Connection", "Transfer-Encoding", "Accept-Ranges", "Set-Cookie",
+            "Location", "Pragma", "Via", "X-Request-Id", "Access-Control-Allow-Origin", "Content-Language",
+            "Content-Disposition", "Keep-Alive", "Strict-Transport-Security", "X-Content-Type-Options"
+    };
+
+    private static final Map<String, Integer> HEADER_INDEXES = new HashMap<>();
+
+    static {
+        for (int i = 0; i < HEADER_NAMES.length; i++)
+            HEADER_INDEXES.put(HEADER_NAMES[i].toLowerCase(), i + 1);
+    }
+
+    private static final ResponseCodec DEFAULT = builder().build();
+
+    private final Set<String> headerWhitelist;
+    private final int compressionThreshold;
+
+    private ResponseCodec(Builder builder) {
+        this.headerWhitelist = builder.headerWhitelist;
+        this.compressionThreshold = builder.compressionThreshold;
+    }
+
+    public static class Builder {
+
+        private Set<String> headerWhitelist;
+        private int compressionThreshold = DEFAULT_COMPRESSION_THRESHOLD;
+
+        private Builder() {
+        }
+
+        /**
+         * Specifies the only headers to be kept, case insensitive. Headers needed by caches, as Cache-Control, Age, ETag,
+         * Last-Modified and Vary, should be included along with those needed to read the body, as Content-Type.
+         * Default is keeping all headers
+         * @param names the header names
+         * @return this builder
+         */
+        public Builder withHeaderWhitelist(String... names) {
+            Set<String> whitelist = new HashSet<>();
+            for (String name : names)
+                whitelist.add(name.toLowerCase());
+
+            this.headerWhitelist = whitelist;
+            return this;
+        }
+
+        /**
+         * Specifies the body size from which bodies are deflated. Default is {@value #DEFAULT_COMPRESSION_THRESHOLD}
+         * @param bytes the minimum body size to be compressed
+         * @return this builder
+         */
+        public Builder withCompressionThreshold(int bytes) {
+            if (bytes < 0) throw new IllegalArgumentException("Compression threshold should not be negative");
+            this.compressionThreshold = bytes;
+            return this;
+        }
+
+        /**
+         * Specifies bodies should never be compressed
+         * @return this builder
+         */
+        public Builder withoutCompression() {
+            this.compressionThreshold = -1;
+            return this;
+        }
+
+        public ResponseCodec build() {
+            return new ResponseCodec(this);
+        }
+
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return a codec keeping all headers and compressing bodies from {@value #DEFAULT_COMPRESSION_THRESHOLD} bytes
+     */
+    public static ResponseCodec getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Encodes a response
+     * @param response the response
+     * @return its binary representation
+     */
+    public byte[] encode(Response response) {
+        Header bodyEncoding = response.getBodyEncoding();
+        boolean encoded = bodyEncoding != null && isKept(bodyEncoding);
+
+        byte[] body = encoded ? response.getEncodedBytes() : response.getBytes();
+        Output output = new Output(64 + 32 * response.getHeaders().size() + (body != null ? body.length : 0));
+
+        int flags = 0;
+        if (body == null)
+            flags |= FLAG_NO_BODY;
+        else if (encoded)
+            flags |= FLAG_ENCODED;
+        else if (compressionThreshold >= 0 && body.length >= compressionThreshold && !response.getHeaders().contains(CONTENT_ENCODING)) {
+            byte[] deflated = deflate(body);
+            if (deflated.length < body.length) {
+                body = deflated;
+                flags |= FLAG_DEFLATED;
+            }
+        }
+
+        CacheControl cacheControl = response.getCacheControl();
+
+        output.write(MAGIC);
+        output.writeVarLong(VERSION);
+        output.writeVarLong(flags);
+        output.writeVarLong(response.getStatus());
+        output.writeVarLong(Clocks.currentTimeMillis() - TimeUnit.SECONDS.toMillis(cacheControl.getCurrentAge()));
+        output.writeVarLong(Math.max(0, cacheControl.getExpiration()));
+
+        int count = 0;
+        for (Header header : response.getHeaders())
+            if (isKept(header)) count++;
+
+        output.writeVarLong(count);
+        for (Header header : response.getHeaders()) {
+            if (!isKept(header)) continue;
+
+            Integer index = HEADER_INDEXES.get(header.getName().toLowerCase());
+            if (index != null)
+                output.writeVarLong(index);
+            else {
+                output.writeVarLong(0);
+                output.writeString(header.getName());
+            }
+
+            output.writeString(header.getValue());
+        }
+
+        if (body != null) {
+            output.writeVarLong(body.length);
+            output.write(body, 0, body.length);
+        }
+
+        return output.toByteArray();
+    }
+
+    private boolean isKept(Header header) {
+        return headerWhitelist == null || headerWhitelist.contains(header.getName().toLowerCase());
+    }
+
+    /**
+     * Decodes a response encoded by any codec of this or a previous {@link #VERSION}
+     * @param data a binary representation, as built by {@link #encode(Response)}
+     * @return the response
+     * @throws IOException if data is not a response, is truncated or was written by a newer version
+     */
+    public Response decode(byte[] data) throws IOException {
+        Input input = new Input(data);
+
+        if (input.read() != MAGIC) throw new IOException("Not an encoded response");
+
+        long version = input.readVarLong();
+        if (version > VERSION) throw new IOException("Unsupported response encoding version: " + version);
+
+        int flags = (int) input.readVarLong();
+        int status = (int) input.readVarLong();
+        long created = input.readVarLong();
+        long expiration = input.readVarLong();
+
+        int count = (int) input.readVarLong();
+        Headers headers = new Headers();
+        for (int i = 0; i < count; i++) {
+            int index = (int) input.readVarLong();
+            if (index > HEADER_NAMES.length) throw new IOException("Unknown header index: " + index);
+
+            String name = index > 0 ? HEADER_NAMES[index - 1] : input.readString();
+            headers.append(name, input.readString());
+        }
+
+        byte[] body = null;
+        if ((flags & FLAG_NO_BODY) == 0) {
+            body = input.readBytes((int) input.readVarLong());
+
+            if ((flags & FLAG_DEFLATED) != 0)
+                body = inflate(body);
+        }
+
+        Response response = new Response(status, headers, body);
+        if ((flags & FLAG_ENCODED) != 0)
+            response.setBodyEncoding(headers.getHeader(CONTENT_ENCODING));
+
+        CacheControl cacheControl = response.getCacheControl();
+        cacheControl.setAge((int) TimeUnit.MILLISECONDS.toSeconds(Math.max(0, Clocks.currentTimeMillis() - created)));
+        cacheControl.setExpiration();
+        cacheControl.setExpiration(expiration);
+
+        return response;
+    }
+
+    private static byte[] deflate(byte[] data) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+
+            byte[] buffer = new byte[Math.max(64, data.length / 2)];
+            int length = 0;
+            while (!deflater.finished()) {
+                if (length == buffer.length) {
+                    // no gain, leave it as it is
+                    if (length >= data.length) return data;
+                    buffer = Arrays.copyOf(buffer, Math.min(data.length, buffer.length * 2));
+                }
+
+                length += deflater.deflate(buffer, length, buffer.length - length);
+            }
+
+            return Arrays.copyOf(buffer, length);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] data) throws IOException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data);
+
+            byte[] buffer = new byte[Math.max(64, data.length * 4)];
+            int length = 0;
+            while (!inflater.finished()) {
+                if (length == buffer.length)
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+
+                int inflated = inflater.inflate(buffer, length, buffer.length - length);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary()))
+                    throw new IOException("Truncated compressed body");
+
+                length += inflated;
+            }
+
+            return Arrays.copyOf(buffer, length);
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt compressed body", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static class Output {
+
+        private byte[] buffer;
+        private int length;
+
+        private Output(int size) {
+            this.buffer = new byte[size];
+        }
+
+        private void ensure(int extra) {
+            if (length + extra > buffer.length)
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + extra));
+        }
+
+        private void write(int b) {
+            ensure(1);
+            buffer[length++] = (byte) b;
+        }
+
+        private void write(byte[] data, int offset, int count) {
+            ensure(count);
+            System.arraycopy(data, offset, buffer, length, count);
+            length += count;
+        }
+
+        private void writeVarLong(long value) {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[length++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[length++] = (byte) value;
+        }
+
+        private void writeString(String value) {
+            byte[] bytes = value.getBytes(UTF_8);
+            writeVarLong(bytes.length);
+            write(bytes, 0, bytes.length);
+        }
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(buffer, length);
+        }
+
+    }
+
+    private static class Input {
+
+        private final byte[] data;
+        private int position;
+
+        private Input(byte[] data) {
+            this.data = data;
+        }
+
+        private int read() throws IOException {
+            if (position >= data.length) throw new IOException("Truncated response");
+            return data[position++] & 0xFF;
+        }
+
+        private long readVarLong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = read();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) return value;
+            }
+
+            throw new IOException("Malformed varint");
+        }
+
+        private byte[] readBytes(int count) throws IOException {
+            if (count < 0 || position + count > data.length) throw new IOException("Truncated response");
+
+            byte[] bytes = Arrays.copyOfRange(data, position, position + count);
+            position += count;
+            return bytes;
+        }
+
+        private String readString() throws IOException {
+            int count = (int) readVarLong();
+            if (count < 0 || position + count > data.length) throw new IOException("Truncated response");
+
+            String value = new String(data, position, count, UTF_8);
+            position += count;
+            return value;
+        }
+
+    }
+
+}
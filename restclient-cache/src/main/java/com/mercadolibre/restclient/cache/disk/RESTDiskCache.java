@@ -0,0 +1,502 @@
+package com.mercadolibre.restclient.cache.disk;
+
+import com.mercadolibre.restclient.Response;
+import com.mercadolibre.restclient.cache.RESTCache;
+import com.mercadolibre.restclient.cache.codec.ResponseCodec;
+import com.mercadolibre.restclient.util.Clocks;
+
+import java.io.File;
+import java.io.FilenameFilter;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.zip.CRC32;
+
+import static com.mercadolibre.restclient.log.LogUtil.log;
+
+/**
+ * Cache persisted to disk, so its entries survive restarts and a new process starts warm.
+ * <p>
+ * Entries are appended to a log of memory mapped segment files, indexed in memory by key. Evictions append a tombstone.
+ * When a new segment would exceed the size bound, the oldest one is compacted, rewriting its live entries at the end
+ * of the log, or dropped altogether if most of it is still live. On startup all segments are replayed
+ * to rebuild the index, skipping expired entries and any record left incomplete by a crash.
+ * <p>
+ * Entries expire at their response {@link com.mercadolibre.restclient.cache.CacheControl CacheControl} stale expiration,
+ * which is kept along with creation time, so reloaded responses are exactly as fresh as when they were written. A directory
+ * must be used by a single cache instance at a time.
+ */
+public class RESTDiskCache extends RESTCache {
+
+	public static final long DEFAULT_MAX_BYTES = 1024 * 1024 * 1024;
+	public static final int DEFAULT_SEGMENT_BYTES = 64 * 1024 * 1024;
+
+	private static final String SEGMENT_PREFIX = "segment-";
+	private static final String SEGMENT_SUFFIX = ".log";
+
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+	private static final byte PUT = 0;
+	private static final byte TOMBSTONE = 1;
+
+	// record length and checksum
+	private static final int RECORD_HEADER = 8;
+
+	private final File directory;
+	private final int segmentBytes;
+	private final int maxSegments;
+	private final ResponseCodec codec;
+
+	private final List<Segment> segments = new ArrayList<>();
+	private final ConcurrentMap<String, Location> index = new ConcurrentHashMap<>();
+	private final Object writeLock = new Object();
+
+	private Segment current;
+	private long nextSegment;
+
+	private static class Segment {
+
+		private final long number;
+		private final File file;
+		private final FileChannel channel;
+		private final MappedByteBuffer buffer;
+		private int position;
+		private long liveBytes;
+
+		private Segment(long number, File file, int size) throws IOException {
+			this.number = number;
+			this.file = file;
+
+			RandomAccessFile raf = new RandomAccessFile(file, "rw");
+			try {
+				this.channel = raf.getChannel();
+				this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(size, raf.length()));
+			} catch (IOException e) {
+				raf.close();
+				throw e;
+			}
+		}
+
+		private int capacity() {
+			return buffer.capacity();
+		}
+
+		private void close() {
+			try {
+				buffer.force();
+				channel.close();
+			} catch (IOException e) {
+				log.error("Could not close cache segment: " + file, e);
+			}
+		}
+
+		private void delete() {
+			close();
+
+			if (!file.delete())
+				log.error("Could not delete cache segment: " + file);
+		}
+
+	}
+
+	private static class Location {
+
+		private final Segment segment;
+		private final int offset;
+		private final int length;
+		private final int recordLength;
+		private final long expiration;
+
+		private Location(Segment segment, int offset, int length, int recordLength, long expiration) {
+			this.segment = segment;
+			this.offset = offset;
+			this.length = length;
+			this.recordLength = recordLength;
+			this.expiration = expiration;
+		}
+
+	}
+
+	private RESTDiskCache(Builder builder) throws IOException {
+		super(builder.name);
+		this.nextLevel = builder.nextLevel;
+		this.directory = builder.directory;
+		this.segmentBytes = builder.segmentBytes;
+		this.codec = builder.codec;
+		this.maxSegments = (int) Math.max(2, (builder.maxBytes + segmentBytes - 1) / segmentBytes);
+
+		if (!directory.isDirectory() && !directory.mkdirs())
+			throw new IOException("Could not create cache directory: " + directory);
+
+		load();
+
+		log.debug("Init disk cache: " + name + " at " + directory + " with " + index.size() + " entries");
+	}
+
+	public static class Builder {
+
+		private final String name;
+		private final File directory;
+		private RESTCache nextLevel;
+		private long maxBytes = DEFAULT_MAX_BYTES;
+		private int segmentBytes = DEFAULT_SEGMENT_BYTES;
+		private ResponseCodec codec = ResponseCodec.getDefault();
+
+		private Builder(String name, File directory) {
+			if (directory == null) throw new IllegalArgumentException("Cache directory should not be null");
+
+			this.name = name;
+			this.directory = directory;
+		}
+
+		/**
+		 * Specifies the disk space this cache may use, rounded up to whole segments. Default is {@value #DEFAULT_MAX_BYTES}
+		 * @param maxBytes the size in bytes
+		 * @return this builder
+		 */
+		public Builder withMaxBytes(long maxBytes) {
+			if (maxBytes <= 0) throw new IllegalArgumentException("Max bytes should be positive");
+			this.maxBytes = maxBytes;
+			return this;
+		}
+
+		/**
+		 * Specifies the size of each segment file, which is also the largest response that can be cached.
+		 * Default is {@value #DEFAULT_SEGMENT_BYTES}
+		 * @param segmentBytes the segment size in bytes
+		 * @return this builder
+		 */
+		public Builder withSegmentBytes(int segmentBytes) {
+			if (segmentBytes <= RECORD_HEADER) throw new IllegalArgumentException("Segment bytes should be larger than " + RECORD_HEADER);
+			this.segmentBytes = segmentBytes;
+			return this;
+		}
+
+		/**
+		 * Specifies the codec responses are stored with. Default is {@link ResponseCodec#getDefault()}
+		 * @param codec the response codec
+		 * @return this builder
+		 */
+		public Builder withCodec(ResponseCodec codec) {
+			if (codec == null) throw new IllegalArgumentException("Codec should not be null");
+			this.codec = codec;
+			return this;
+		}
+
+		/**
+		 * Specifies the cache to look into on misses, and to write through on puts. Default is none
+		 * @param nextLevel the next level cache
+		 * @return this builder
+		 */
+		public Builder withNextLevel(RESTCache nextLevel) {
+			if (nextLevel == null) throw new IllegalArgumentException("Next level cache should not be null");
+			this.nextLevel = nextLevel;
+			return this;
+		}
+
+		/**
+		 * Builds the cache, loading every entry still fresh from its directory
+		 * @return the cache
+		 * @throws IOException if its directory could not be created or read
+		 */
+		public RESTDiskCache build() throws IOException {
+			return new RESTDiskCache(this);
+		}
+
+	}
+
+	public static Builder builder(String name, File directory) {
+		return new Builder(name, directory);
+	}
+
+	/**
+	 * @return the number of entries currently indexed, including expired ones not evicted yet
+	 */
+	public int size() {
+		return index.size();
+	}
+
+	private File segmentFile(long number) {
+		return new File(directory, String.format("%s%016d%s", SEGMENT_PREFIX, number, SEGMENT_SUFFIX));
+	}
+
+	private static long segmentNumber(File file) {
+		String name = file.getName();
+		return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+	}
+
+	private void load() throws IOException {
+		File[] files = directory.listFiles(new FilenameFilter() {
+			public boolean accept(File dir, String name) {
+				return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+			}
+		});
+
+		List<File> sorted = new ArrayList<>();
+		if (files != null) Collections.addAll(sorted, files);
+
+		Collections.sort(sorted, new Comparator<File>() {
+			public int compare(File a, File b) {
+				long x = segmentNumber(a), y = segmentNumber(b);
+				return x < y ? -1 : x == y ? 0 : 1;
+			}
+		});
+
+		long now = Clocks.currentTimeMillis();
+
+		for (File file : sorted) {
+			Segment segment = new Segment(segmentNumber(file), file, segmentBytes);
+			replay(segment, now);
+			segments.add(segment);
+			nextSegment = segment.number + 1;
+		}
+
+		for (Location location : index.values())
+			location.segment.liveBytes += location.recordLength;
+
+		if (segments.isEmpty())
+			current = newSegment();
+		else
+			current = segments.get(segments.size() - 1);
+	}
+
+	private void replay(Segment segment, long now) {
+		ByteBuffer buffer = segment.buffer.duplicate();
+		CRC32 crc = new CRC32();
+
+		int position = 0;
+		while (position + RECORD_HEADER <= buffer.capacity()) {
+			((Buffer) buffer).position(position);
+			int length = buffer.getInt();
+			int checksum = buffer.getInt();
+
+			if (length <= 0 || position + RECORD_HEADER + length > buffer.capacity()) break;
+
+			byte[] payload = new byte[length];
+			buffer.get(payload);
+
+			crc.reset();
+			crc.update(payload, 0, length);
+			if ((int) crc.getValue() != checksum) {
+				log.error("Found corrupt record in cache segment: " + segment.file + ", discarding rest of it");
+				break;
+			}
+
+			ByteBuffer record = ByteBuffer.wrap(payload);
+			byte[] key = new byte[record.getShort() & 0xFFFF];
+			record.get(key);
+			byte type = record.get();
+			long expiration = record.getLong();
+
+			String url = new String(key, UTF_8);
+			int recordLength = RECORD_HEADER + length;
+
+			if (type == PUT && expiration > now)
+				index.put(url, new Location(segment, position + RECORD_HEADER + record.position(), record.remaining(), recordLength, expiration));
+			else
+				index.remove(url);
+
+			position += recordLength;
+		}
+
+		segment.position = position;
+	}
+
+	private Segment newSegment() throws IOException {
+		Segment segment = new Segment(nextSegment, segmentFile(nextSegment), segmentBytes);
+		nextSegment++;
+		segments.add(segment);
+
+		return segment;
+	}
+
+	public Response get(String url) {
+		Location location = index.get(url);
+		if (location == null) return null;
+
+		if (location.expiration <= Clocks.currentTimeMillis()) {
+			index.remove(url, location);
+			return null;
+		}
+
+		byte[] data = new byte[location.length];
+		ByteBuffer buffer = location.segment.buffer.duplicate();
+		((Buffer) buffer).position(location.offset);
+		buffer.get(data);
+
+		try {
+			return codec.decode(data);
+		} catch (IOException e) {
+			log.error("Could not decode disk cache entry for: " + url, e);
+			index.remove(url, location);
+			return null;
+		}
+	}
+
+	public void put(String url, Response response) {
+		long expiration = response.getCacheControl().getStaleExpiration();
+
+		if (expiration <= Clocks.currentTimeMillis()) {
+			evict(url);
+			return;
+		}
+
+		try {
+			append(url, PUT, expiration, codec.encode(response));
+		} catch (IOException e) {
+			log.error("Could not write disk cache entry for: " + url, e);
+			index.remove(url);
+		}
+	}
+
+	public void evict(String url) {
+		if (!index.containsKey(url)) return;
+
+		try {
+			append(url, TOMBSTONE, 0, new byte[0]);
+		} catch (IOException e) {
+			log.error("Could not write disk cache tombstone for: " + url, e);
+			index.remove(url);
+		}
+	}
+
+	private void append(String url, byte type, long expiration, byte[] data) throws IOException {
+		byte[] key = url.getBytes(UTF_8);
+		if (key.length > 0xFFFF) throw new IOException("Key too long");
+
+		int length = 2 + key.length + 1 + 8 + data.length;
+		int recordLength = RECORD_HEADER + length;
+		if (recordLength > segmentBytes) throw new IOException("Entry larger than segment size: " + recordLength);
+
+		ByteBuffer payload = ByteBuffer.allocate(length);
+		payload.putShort((short) key.length).put(key).put(type).putLong(expiration).put(data);
+
+		CRC32 crc = new CRC32();
+		crc.update(payload.array(), 0, length);
+
+		synchronized (writeLock) {
+			Segment victim = null;
+			if (current.position + recordLength > current.capacity())
+				victim = roll();
+
+			Segment segment = current;
+			int position = segment.position;
+
+			ByteBuffer buffer = segment.buffer.duplicate();
+			((Buffer) buffer).position(position + 4);
+			buffer.putInt((int) crc.getValue());
+			buffer.put(payload.array(), 0, length);
+			// length goes last, so a record is never replayed before being fully written
+			buffer.putInt(position, length);
+
+			segment.position += recordLength;
+
+			Location previous;
+			if (type == PUT) {
+				segment.liveBytes += recordLength;
+				previous = index.put(url, new Location(segment, position + RECORD_HEADER + length - data.length, data.length, recordLength, expiration));
+			} else
+				previous = index.remove(url);
+
+			if (previous != null)
+				previous.segment.liveBytes -= previous.recordLength;
+
+			// compacted only after the pending record is written, as the new segment may not fit both
+			if (victim != null)
+				retire(victim);
+		}
+	}
+
+	/**
+	 * Starts a new segment
+	 * @return the oldest segment, already out of the segment list, if the size bound was exceeded; null otherwise
+	 */
+	private Segment roll() throws IOException {
+		current = newSegment();
+
+		if (segments.size() <= maxSegments) return null;
+
+		// always the oldest one, so tombstones never outlive the entries they delete
+		return segments.remove(0);
+	}
+
+	private void retire(Segment victim) {
+		if (victim.liveBytes <= segmentBytes / 2)
+			compact(victim);
+
+		for (Map.Entry<String, Location> entry : index.entrySet())
+			if (entry.getValue().segment == victim)
+				index.remove(entry.getKey(), entry.getValue());
+
+		victim.delete();
+	}
+
+	private void compact(Segment victim) {
+		long now = Clocks.currentTimeMillis();
+
+		for (Map.Entry<String, Location> entry : index.entrySet()) {
+			Location location = entry.getValue();
+			if (location.segment != victim || location.expiration <= now) continue;
+
+			int length = location.recordLength - RECORD_HEADER;
+			if (current.position + location.recordLength > current.capacity()) break;
+
+			byte[] record = new byte[location.recordLength];
+			ByteBuffer source = victim.buffer.duplicate();
+			((Buffer) source).position(location.offset - (location.recordLength - location.length));
+			source.get(record);
+
+			ByteBuffer target = current.buffer.duplicate();
+			((Buffer) target).position(current.position + 4);
+			target.put(record, 4, location.recordLength - 4);
+			target.putInt(current.position, length);
+
+			Location moved = new Location(current, current.position + location.recordLength - location.length, location.length, location.recordLength, location.expiration);
+			if (index.replace(entry.getKey(), location, moved)) {
+				current.position += location.recordLength;
+				current.liveBytes += location.recordLength;
+			}
+		}
+	}
+
+	public void evictAll() {
+		synchronized (writeLock) {
+			index.clear();
+
+			for (Segment segment : segments)
+				segment.delete();
+
+			segments.clear();
+
+			try {
+				current = newSegment();
+			} catch (IOException e) {
+				throw new IllegalStateException("Could not create disk cache segment", e);
+			}
+		}
+	}
+
+	/**
+	 * Flushes all segments to disk and releases their files. Cache can't be used afterwards.
+	 * @throws IOException never, failures are logged instead
+	 */
+	@Override
+	public void close() throws IOException {
+		synchronized (writeLock) {
+			for (Segment segment : segments)
+				segment.close();
+		}
+	}
+
+}
@@ -0,0 +1,70 @@
+package com.mercadolibre.restclient.cache.kvs;
+
+import com.mercadolibre.restclient.Response;
+import com.mercadolibre.restclient.cache.codec.ResponseCodec;
+import com.mercadolibre.restclient.util.Clocks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static com.mercadolibre.restclient.log.LogUtil.log;
+
+/**
+ * Base {@link RESTKvsClient} storing responses as {@link ResponseCodec} encoded bytes, much smaller and cheaper to
+ * build than Java serialization. Implementations only move bytes to and from KVS.
+ * <p>
+ * Values are stored with a time to live matching the response stale expiration, so KVS drops them once useless.
+ * Values that can't be decoded, as those written by older formats, are treated as misses.
+ */
+public abstract class BinaryRESTKvsClient implements RESTKvsClient {
+
+	private final ResponseCodec codec;
+
+	protected BinaryRESTKvsClient() {
+		this(ResponseCodec.getDefault());
+	}
+
+	protected BinaryRESTKvsClient(ResponseCodec codec) {
+		if (codec == null) throw new IllegalArgumentException("Codec should not be null");
+		this.codec = codec;
+	}
+
+	/**
+	 * Retrieves a value from KVS
+	 * @param key the entry key
+	 * @return the stored bytes, or null if there are none
+	 */
+	protected abstract byte[] getBytes(String key);
+
+	/**
+	 * Stores a value in KVS
+	 * @param key the entry key
+	 * @param value the bytes to be stored
+	 * @param ttl the time to live for this entry, in seconds
+	 */
+	protected abstract void putBytes(String key, byte[] value, int ttl);
+
+	public ResponseCodec getCodec() {
+		return codec;
+	}
+
+	public Response get(String url) {
+		byte[] value = getBytes(url);
+		if (value == null) return null;
+
+		try {
+			return codec.decode(value);
+		} catch (IOException e) {
+			log.error("Could not decode cached response for: " + url, e);
+			return null;
+		}
+	}
+
+	public void put(String url, Response response) {
+		long ttl = response.getCacheControl().getStaleExpiration() - Clocks.currentTimeMillis();
+		if (ttl <= 0) return;
+
+		putBytes(url, codec.encode(response), (int) Math.min(Integer.MAX_VALUE, Math.max(1, TimeUnit.MILLISECONDS.toSeconds(ttl + 999))));
+	}
+
+}
@@ -2,27 +2,72 @@ package com.mercadolibre.restclient.cache.local;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.Weigher;
 import com.mercadolibre.restclient.Response;
 import com.mercadolibre.restclient.cache.RESTCache;
+import com.mercadolibre.restclient.http.Header;
+import com.mercadolibre.restclient.util.Clocks;
 
 import java.io.IOException;
+import java.util.Iterator;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static com.mercadolibre.restclient.log.LogUtil.log;
 
 /**
+ * In memory cache, bounded by entry count or, when specified, by the estimated heap size of its responses.
+ * <p>
+ * Each entry is kept until its response {@link com.mercadolibre.restclient.cache.CacheControl CacheControl} expires,
+ * including stale windows. Expired entries are never returned. They're also purged as new ones are put, a few at a
+ * time, so no put pays for a scan of the whole cache.
+ * <p>
+ * Compressed bodies are stored as they came, and every hit returns a copy of its own, so each read of a hit body decodes
+ * it again. That keeps the cache small at the cost of some CPU on hot entries: bound it by bytes rather than entry count
+ * when that trade off matters, or read hot bodies once and keep them.
+ *
  * @author mlabarinas
  */
 public class RESTLocalCache extends RESTCache {
 
-	private Cache<String, Response> cache;
+	public static final long DEFAULT_MAX_SIZE = 10000;
+	private static final long PURGE_INTERVAL = TimeUnit.SECONDS.toMillis(5);
+	private static final int PURGE_BATCH = 32;
+	private static final int ENTRY_OVERHEAD = 128;
+
+	private Cache<String, Entry> cache;
 	
 	protected long maxSize;
-	
+	protected long maxBytes;
+	protected long maxEntryBytes;
+
+	private final ReentrantLock purgeLock = new ReentrantLock();
+	private Iterator<Entry> purgeCursor;
+	private long nextPurge;
+
+	private static class Entry {
+
+		private final Response response;
+		private final long expiration;
+		private final int weight;
+
+		private Entry(Response response, int weight) {
+			this.response = response;
+			this.expiration = response.getCacheControl().getStaleExpiration();
+			this.weight = weight;
+		}
+
+		private boolean isExpired(long now) {
+			return expiration <= now;
+		}
+
+	}
+
 	public RESTLocalCache(String name, long maxSize) {
 		super(name);
-	
-		this.cache = CacheBuilder.newBuilder().maximumSize(maxSize).build();
+		this.maxSize = maxSize;
+		this.cache = CacheBuilder.newBuilder().maximumSize(maxSize).<String, Entry>build();
 		
 		log.debug("Init local cache: " + name + " with max size: " + maxSize);
 	}
@@ -30,6 +75,120 @@ public class RESTLocalCache extends RESTCache {
 	public RESTLocalCache(String name, long maxSize, RESTCache nextLevel) {
 		super(name, nextLevel);
 		this.maxSize = maxSize;
+		this.cache = CacheBuilder.newBuilder().maximumSize(maxSize).<String, Entry>build();
+
+		log.debug("Init local cache: " + name + " with max size: " + maxSize);
+	}
+
+	private RESTLocalCache(Builder builder) {
+		super(builder.name);
+		this.nextLevel = builder.nextLevel;
+		this.maxSize = builder.maxSize;
+		this.maxBytes = builder.maxBytes;
+		this.maxEntryBytes = builder.maxEntryBytes;
+
+		if (maxBytes > 0) {
+			this.cache = CacheBuilder.newBuilder()
+					.maximumWeight(maxBytes)
+					.weigher(new Weigher<String, Entry>() {
+						public int weigh(String key, Entry entry) {
+							return entry.weight + 2 * key.length();
+						}
+					})
+					.build();
+
+			log.debug("Init local cache: " + name + " with max bytes: " + maxBytes);
+		} else {
+			this.cache = CacheBuilder.newBuilder().maximumSize(maxSize).<String, Entry>build();
+
+			log.debug("Init local cache: " + name + " with max size: " + maxSize);
+		}
+	}
+
+	public static class Builder {
+
+		private final String name;
+		private RESTCache nextLevel;
+		private long maxSize = DEFAULT_MAX_SIZE;
+		private long maxBytes;
+		private long maxEntryBytes;
+
+		private Builder(String name) {
+			this.name = name;
+		}
+
+		/**
+		 * Specifies the maximum number of entries, ignored when a byte bound is given. Default is {@value #DEFAULT_MAX_SIZE}
+		 * @param maxSize the maximum entry count
+		 * @return this builder
+		 */
+		public Builder withMaxSize(long maxSize) {
+			if (maxSize <= 0) throw new IllegalArgumentException("Max size should be positive");
+			this.maxSize = maxSize;
+			return this;
+		}
+
+		/**
+		 * Specifies the maximum estimated heap size of all cached responses, counting their body and headers. Least recently
+		 * used entries are evicted beyond it. Default is unbounded, with the cache bounded by entry count instead
+		 * @param maxBytes the maximum size in bytes
+		 * @return this builder
+		 */
+		public Builder withMaxBytes(long maxBytes) {
+			if (maxBytes <= 0) throw new IllegalArgumentException("Max bytes should be positive");
+			this.maxBytes = maxBytes;
+			return this;
+		}
+
+		/**
+		 * Specifies the maximum estimated size of a single response. Larger responses are not cached. Default is unbounded
+		 * @param maxEntryBytes the maximum entry size in bytes
+		 * @return this builder
+		 */
+		public Builder withMaxEntryBytes(long maxEntryBytes) {
+			if (maxEntryBytes <= 0) throw new IllegalArgumentException("Max entry bytes should be positive");
+			this.maxEntryBytes = maxEntryBytes;
+			return this;
+		}
+
+		/**
+		 * Specifies the cache to look into on misses, and to write through on puts. Default is none
+		 * @param nextLevel the next level cache
+		 * @return this builder
+		 */
+		public Builder withNextLevel(RESTCache nextLevel) {
+			if (nextLevel == null) throw new IllegalArgumentException("Next level cache should not be null");
+			this.nextLevel = nextLevel;
+			return this;
+		}
+
+		public RESTLocalCache build() {
+			return new RESTLocalCache(this);
+		}
+
+	}
+
+	public static Builder builder(String name) {
+		return new Builder(name);
+	}
+
+	/**
+	 * Estimates the heap taken by a response, as its body bytes, still encoded if it was not read, plus its header chars
+	 * and a fixed overhead
+	 * @param response a response
+	 * @return the estimated size in bytes
+	 */
+	protected static int weigh(Response response) {
+		long weight = ENTRY_OVERHEAD;
+
+		byte[] body = response.getEncodedBytes();
+		if (body != null)
+			weight += body.length;
+
+		for (Header header : response.getHeaders())
+			weight += 2 * (header.getName().length() + header.getValue().length());
+
+		return (int) Math.min(weight, Integer.MAX_VALUE);
 	}
 
 	public long getMaxSize() {
@@ -40,12 +199,84 @@ public class RESTLocalCache extends RESTCache {
 		this.maxSize = maxSize;
 	}
 
+	public long getMaxBytes() {
+		return maxBytes;
+	}
+
+	public long getMaxEntryBytes() {
+		return maxEntryBytes;
+	}
+
+	/**
+	 * @return the number of entries currently held, including expired ones not purged yet
+	 */
+	public long size() {
+		return cache.size();
+	}
+
+	/**
+	 * @return the estimated heap size of the entries currently held
+	 */
+	public long weight() {
+		long weight = 0;
+		for (Entry entry : cache.asMap().values())
+			weight += entry.weight;
+
+		return weight;
+	}
+
 	public Response get(String url) {
-		return cache.getIfPresent(url);
+		Entry entry = cache.getIfPresent(url);
+		if (entry == null) return null;
+
+		if (entry.isExpired(Clocks.currentTimeMillis())) {
+			cache.asMap().remove(url, entry);
+			return null;
+		}
+
+		// Every hit decodes its own copy, so the stored body stays compressed, at the cost of decoding it on each read
+		return entry.response.encodedCopy();
 	}
 
 	public void put(String url, Response response) {
-		cache.put(url, response);
+		long now = Clocks.currentTimeMillis();
+		purgeExpired(now);
+
+		Response stored = response.encodedCopy();
+		Entry entry = new Entry(stored, weigh(stored));
+
+		if (entry.isExpired(now) || maxEntryBytes > 0 && entry.weight > maxEntryBytes) {
+			cache.invalidate(url);
+			return;
+		}
+
+		cache.put(url, entry);
+	}
+
+	/**
+	 * Checks up to {@link #PURGE_BATCH} entries for expiration, resuming where the last put left off. A new sweep starts
+	 * {@link #PURGE_INTERVAL} milliseconds after the previous one, and puts racing with a purge just skip it.
+	 */
+	private void purgeExpired(long now) {
+		if (!purgeLock.tryLock()) return;
+
+		try {
+			if (purgeCursor == null) {
+				if (now < nextPurge) return;
+
+				purgeCursor = cache.asMap().values().iterator();
+				nextPurge = now + PURGE_INTERVAL;
+			}
+
+			for (int i = 0; i < PURGE_BATCH && purgeCursor.hasNext(); i++) {
+				if (purgeCursor.next().isExpired(now))
+					purgeCursor.remove();
+			}
+
+			if (!purgeCursor.hasNext()) purgeCursor = null;
+		} finally {
+			purgeLock.unlock();
+		}
 	}
 	
 	public Future<Response> asyncGet(String url) {
@@ -67,4 +298,4 @@ public class RESTLocalCache extends RESTCache {
 	@Override
 	public void close() throws IOException {
 	}
-}
\ No newline at end of file
+}
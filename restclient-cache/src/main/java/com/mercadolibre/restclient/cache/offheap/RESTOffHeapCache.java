@@ -0,0 +1,262 @@
+package com.mercadolibre.restclient.cache.offheap;
+
+import com.mercadolibre.restclient.Response;
+import com.mercadolibre.restclient.cache.RESTCache;
+import com.mercadolibre.restclient.cache.codec.ResponseCodec;
+import com.mercadolibre.restclient.util.Clocks;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static com.mercadolibre.restclient.log.LogUtil.log;
+
+/**
+ * Cache storing responses out of the heap, in direct {@link ByteBuffer} slabs, so it can hold gigabytes without adding
+ * garbage collection work. Only a small index of keys stays on the heap.
+ * <p>
+ * Responses are appended to the current slab, moving on to the next one when it's full. Once all slabs were used the
+ * oldest one is recycled, evicting every entry it held. Entries expire at their response
+ * {@link com.mercadolibre.restclient.cache.CacheControl CacheControl} stale expiration, and responses larger than a slab are not cached.
+ * <p>
+ * It's meant to sit between an on heap {@link com.mercadolibre.restclient.cache.local.RESTLocalCache RESTLocalCache} and a remote cache:
+ * <pre>
+ * RESTCache offHeap = RESTOffHeapCache.builder("items_l2").withMaxBytes(4L &lt;&lt; 30).withNextLevel(memcached).build();
+ * RESTCache cache = RESTLocalCache.builder("items").withMaxBytes(64 &lt;&lt; 20).withNextLevel(offHeap).build();
+ * </pre>
+ */
+public class RESTOffHeapCache extends RESTCache {
+
+	public static final long DEFAULT_MAX_BYTES = 256 * 1024 * 1024;
+	public static final int DEFAULT_SLAB_BYTES = 32 * 1024 * 1024;
+
+	private final Slab[] slabs;
+	private final ResponseCodec codec;
+	private final ConcurrentMap<String, Location> index = new ConcurrentHashMap<>();
+	private final Object writeLock = new Object();
+
+	private int current;
+
+	private static class Slab {
+
+		private final ByteBuffer buffer;
+		private final ReadWriteLock lock = new ReentrantReadWriteLock();
+		private final Set<String> keys = new HashSet<>();
+		private volatile int generation;
+		private int position;
+
+		private Slab(int size) {
+			this.buffer = ByteBuffer.allocateDirect(size);
+		}
+
+	}
+
+	private static class Location {
+
+		private final int slab;
+		private final int generation;
+		private final int offset;
+		private final int length;
+		private final long expiration;
+
+		private Location(int slab, int generation, int offset, int length, long expiration) {
+			this.slab = slab;
+			this.generation = generation;
+			this.offset = offset;
+			this.length = length;
+			this.expiration = expiration;
+		}
+
+	}
+
+	private RESTOffHeapCache(Builder builder) {
+		super(builder.name);
+		this.nextLevel = builder.nextLevel;
+		this.codec = builder.codec;
+
+		int count = (int) Math.max(1, (builder.maxBytes + builder.slabBytes - 1) / builder.slabBytes);
+		this.slabs = new Slab[count];
+		for (int i = 0; i < count; i++)
+			slabs[i] = new Slab(builder.slabBytes);
+
+		log.debug("Init off heap cache: " + name + " with " + count + " slabs of " + builder.slabBytes + " bytes");
+	}
+
+	public static class Builder {
+
+		private final String name;
+		private RESTCache nextLevel;
+		private long maxBytes = DEFAULT_MAX_BYTES;
+		private int slabBytes = DEFAULT_SLAB_BYTES;
+		private ResponseCodec codec = ResponseCodec.builder().withoutCompression().build();
+
+		private Builder(String name) {
+			this.name = name;
+		}
+
+		/**
+		 * Specifies the off heap memory reserved for this cache, rounded up to whole slabs. Default is {@value #DEFAULT_MAX_BYTES}
+		 * @param maxBytes the size in bytes
+		 * @return this builder
+		 */
+		public Builder withMaxBytes(long maxBytes) {
+			if (maxBytes <= 0) throw new IllegalArgumentException("Max bytes should be positive");
+			this.maxBytes = maxBytes;
+			return this;
+		}
+
+		/**
+		 * Specifies the size of each slab, which is both the largest response that can be cached and the amount of entries
+		 * evicted at once. Default is {@value #DEFAULT_SLAB_BYTES}
+		 * @param slabBytes the slab size in bytes
+		 * @return this builder
+		 */
+		public Builder withSlabBytes(int slabBytes) {
+			if (slabBytes <= 0) throw new IllegalArgumentException("Slab bytes should be positive");
+			this.slabBytes = slabBytes;
+			return this;
+		}
+
+		/**
+		 * Specifies the codec responses are stored with. Default is one keeping all headers, without compression
+		 * @param codec the response codec
+		 * @return this builder
+		 */
+		public Builder withCodec(ResponseCodec codec) {
+			if (codec == null) throw new IllegalArgumentException("Codec should not be null");
+			this.codec = codec;
+			return this;
+		}
+
+		/**
+		 * Specifies the cache to look into on misses, and to write through on puts. Default is none
+		 * @param nextLevel the next level cache
+		 * @return this builder
+		 */
+		public Builder withNextLevel(RESTCache nextLevel) {
+			if (nextLevel == null) throw new IllegalArgumentException("Next level cache should not be null");
+			this.nextLevel = nextLevel;
+			return this;
+		}
+
+		public RESTOffHeapCache build() {
+			return new RESTOffHeapCache(this);
+		}
+
+	}
+
+	public static Builder builder(String name) {
+		return new Builder(name);
+	}
+
+	/**
+	 * @return the number of entries currently indexed, including expired ones not evicted yet
+	 */
+	public int size() {
+		return index.size();
+	}
+
+	public Response get(String url) {
+		Location location = index.get(url);
+		if (location == null) return null;
+
+		if (location.expiration <= Clocks.currentTimeMillis()) {
+			index.remove(url, location);
+			return null;
+		}
+
+		Slab slab = slabs[location.slab];
+		byte[] data = new byte[location.length];
+
+		slab.lock.readLock().lock();
+		try {
+			if (slab.generation != location.generation) return null;
+
+			ByteBuffer buffer = slab.buffer.duplicate();
+			((Buffer) buffer).position(location.offset);
+			buffer.get(data);
+		} finally {
+			slab.lock.readLock().unlock();
+		}
+
+		try {
+			return codec.decode(data);
+		} catch (IOException e) {
+			log.error("Could not decode off heap entry for: " + url, e);
+			index.remove(url, location);
+			return null;
+		}
+	}
+
+	public void put(String url, Response response) {
+		long expiration = response.getCacheControl().getStaleExpiration();
+		byte[] data = expiration > Clocks.currentTimeMillis() ? codec.encode(response) : null;
+
+		if (data == null || data.length > slabs[0].buffer.capacity()) {
+			index.remove(url);
+			return;
+		}
+
+		synchronized (writeLock) {
+			Slab slab = slabs[current];
+
+			if (slab.position + data.length > slab.buffer.capacity()) {
+				current = (current + 1) % slabs.length;
+				slab = slabs[current];
+				recycle(current, slab);
+			}
+
+			ByteBuffer buffer = slab.buffer.duplicate();
+			((Buffer) buffer).position(slab.position);
+			buffer.put(data);
+
+			index.put(url, new Location(current, slab.generation, slab.position, data.length, expiration));
+			slab.keys.add(url);
+			slab.position += data.length;
+		}
+	}
+
+	private void recycle(int number, Slab slab) {
+		slab.lock.writeLock().lock();
+		try {
+			slab.generation++;
+			slab.position = 0;
+		} finally {
+			slab.lock.writeLock().unlock();
+		}
+
+		for (String key : slab.keys) {
+			Location location = index.get(key);
+			if (location != null && location.slab == number)
+				index.remove(key, location);
+		}
+
+		slab.keys.clear();
+	}
+
+	public void evict(String url) {
+		index.remove(url);
+	}
+
+	public void evictAll() {
+		synchronized (writeLock) {
+			for (int i = 0; i < slabs.length; i++)
+				recycle(i, slabs[i]);
+
+			index.clear();
+			current = 0;
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		evictAll();
+	}
+
+}
@@ -0,0 +1,28 @@
+package com.mercadolibre.restclient.cache;
+
+import com.mercadolibre.restclient.util.Clock;
+
+import java.util.concurrent.TimeUnit;
+
+
+public class SimulatedClock implements Clock {
+
+    private volatile long millis = 1000000L;
+
+    public void advance(long millis) {
+        this.millis += millis;
+    }
+
+    public long currentTimeMillis() {
+        return millis;
+    }
+
+    public long nanoTime() {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    public void sleep(long millis) {
+        advance(millis);
+    }
+
+}
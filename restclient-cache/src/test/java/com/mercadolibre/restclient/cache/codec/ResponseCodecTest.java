@@ -0,0 +1,193 @@
+package com.mercadolibre.restclient.cache.codec;
+
+import com.mercadolibre.restclient.Response;
+import com.mercadolibre.restclient.cache.SimulatedClock;
+import com.mercadolibre.restclient.http.ContentType;
+import com.mercadolibre.restclient.http.Headers;
+import com.mercadolibre.restclient.util.Clocks;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.Assert.*;
+
+public class ResponseCodecTest {
+
+    private SimulatedClock clock;
+
+    @Before
+    public void setClock() {
+        clock = new SimulatedClock();
+        Clocks.set(clock);
+    }
+
+    @After
+    public void restoreClock() {
+        Clocks.set(null);
+    }
+
+    private static String repeat(String s, int times) {
+        StringBuilder builder = new StringBuilder(s.length() * times);
+        for (int i = 0; i < times; i++)
+            builder.append(s);
+
+        return builder.toString();
+    }
+
+    private static byte[] gzip(String s) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (OutputStream gzip = new GZIPOutputStream(output)) {
+            gzip.write(s.getBytes());
+        }
+
+        return output.toByteArray();
+    }
+
+    @Test
+    public void shouldRoundTripHeaders() throws IOException {
+        Headers headers = new Headers()
+                .add(ContentType.HEADER_NAME, ContentType.APPLICATION_JSON.toString())
+                .add("Cache-Control", "max-age=60")
+                .add("ETag", "\"abc\"")
+                .add("X-Custom", "ñandú")
+                .append("Set-Cookie", "a=1")
+                .append("Set-Cookie", "b=2");
+
+        Response response = ResponseCodec.getDefault().decode(ResponseCodec.getDefault().encode(new Response(201, headers, "{}".getBytes())));
+
+        assertEquals(201, response.getStatus());
+        assertEquals(headers, response.getHeaders());
+        assertEquals("ñandú", response.getHeader("x-custom").getValue());
+        assertEquals(2, response.getHeaders().getAll("Set-Cookie").size());
+        assertEquals("{}", response.getString());
+    }
+
+    @Test
+    public void shouldKeepWhitelistedHeaders() throws IOException {
+        ResponseCodec codec = ResponseCodec.builder().withHeaderWhitelist("content-type", "Cache-Control").build();
+        Headers headers = new Headers()
+                .add(ContentType.HEADER_NAME, ContentType.TEXT_PLAIN.toString())
+                .add("Cache-Control", "max-age=60")
+                .add("Server", "nginx")
+                .add("X-Custom", "value");
+
+        Response response = codec.decode(codec.encode(new Response(200, headers, "ok".getBytes())));
+
+        assertEquals(2, response.getHeaders().size());
+        assertEquals(ContentType.TEXT_PLAIN.toString(), response.getHeader(ContentType.HEADER_NAME).getValue());
+        assertEquals("max-age=60", response.getHeader("Cache-Control").getValue());
+        assertNull(response.getHeader("Server"));
+    }
+
+    @Test
+    public void shouldRoundTripMissingBody() throws IOException {
+        Response response = ResponseCodec.getDefault().decode(ResponseCodec.getDefault().encode(new Response(304, new Headers(), null)));
+
+        assertEquals(304, response.getStatus());
+        assertNull(response.getBytes());
+        assertEquals(0, response.getHeaders().size());
+    }
+
+    @Test
+    public void shouldDeflateLargeBody() throws IOException {
+        String body = repeat("{\"id\":\"MLA1\"}", 200);
+        Response original = new Response(200, new Headers().add(ContentType.HEADER_NAME, ContentType.APPLICATION_JSON.toString()), body.getBytes());
+
+        byte[] deflated = ResponseCodec.getDefault().encode(original);
+        byte[] plain = ResponseCodec.builder().withoutCompression().build().encode(original);
+
+        assertTrue(deflated.length < body.length() / 4);
+        assertTrue(plain.length > body.length());
+
+        assertEquals(body, ResponseCodec.getDefault().decode(deflated).getString());
+        assertEquals(body, ResponseCodec.getDefault().decode(plain).getString());
+    }
+
+    @Test
+    public void shouldNotDeflateBodyBelowThreshold() {
+        Response original = new Response(200, new Headers(), repeat("a", 100).getBytes());
+
+        assertTrue(ResponseCodec.getDefault().encode(original).length > 100);
+        assertTrue(ResponseCodec.builder().withCompressionThreshold(10).build().encode(original).length < 100);
+    }
+
+    @Test
+    public void shouldKeepEncodedBodyUntilRead() throws IOException {
+        String body = repeat("encoded", 500);
+        byte[] gzipped = gzip(body);
+
+        Response original = new Response(200, new Headers().add(ContentType.HEADER_NAME, ContentType.TEXT_PLAIN.toString()).add("Content-Encoding", "gzip"), gzipped);
+        original.setBodyEncoding(original.getHeader("Content-Encoding"));
+
+        byte[] encoded = ResponseCodec.getDefault().encode(original);
+        assertTrue(encoded.length < gzipped.length + 64);
+
+        Response response = ResponseCodec.getDefault().decode(encoded);
+
+        assertEquals("gzip", response.getBodyEncoding().getValue());
+        assertTrue(Arrays.equals(gzipped, response.getEncodedBytes()));
+        assertEquals(body, response.getString());
+        assertNull(response.getBodyEncoding());
+    }
+
+    @Test
+    public void shouldKeepAgeAndExpiration() throws IOException {
+        Response original = new Response(200, new Headers().add("Cache-Control", "max-age=60, stale-while-revalidate=30"), "ok".getBytes());
+        long expiration = original.getCacheControl().getExpiration();
+
+        clock.advance(20000);
+        byte[] encoded = ResponseCodec.getDefault().encode(original);
+        clock.advance(10000);
+
+        Response response = ResponseCodec.getDefault().decode(encoded);
+
+        assertEquals(30, response.getCacheControl().getCurrentAge());
+        assertEquals(expiration, response.getCacheControl().getExpiration());
+        assertEquals(original.getCacheControl().getStaleExpiration(), response.getCacheControl().getStaleExpiration());
+        assertFalse(response.getCacheControl().isExpired());
+
+        clock.advance(30000);
+        assertTrue(response.getCacheControl().isExpired());
+        assertTrue(response.getCacheControl().isFreshForRevalidate());
+    }
+
+    @Test
+    public void shouldRejectNewerVersion() {
+        byte[] encoded = ResponseCodec.getDefault().encode(new Response(200, new Headers(), "ok".getBytes()));
+        encoded[1] = ResponseCodec.VERSION + 1;
+
+        try {
+            ResponseCodec.getDefault().decode(encoded);
+            fail("Newer version should be rejected");
+        } catch (IOException e) {
+            assertTrue(e.getMessage().contains("version"));
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void shouldRejectUnknownData() throws IOException {
+        ResponseCodec.getDefault().decode("not a response".getBytes());
+    }
+
+    @Test
+    public void shouldRejectTruncatedData() {
+        Response original = new Response(200, new Headers().add(ContentType.HEADER_NAME, ContentType.TEXT_PLAIN.toString()).add("X-Custom", "value"), repeat("truncated", 200).getBytes());
+        byte[] encoded = ResponseCodec.getDefault().encode(original);
+
+        for (int length = 0; length < encoded.length; length++) {
+            try {
+                ResponseCodec.getDefault().decode(Arrays.copyOf(encoded, length));
+                fail("Truncated data should be rejected at length " + length);
+            } catch (IOException e) {
+                // expected
+            }
+        }
+    }
+
+}
@@ -0,0 +1,316 @@
+package com.mercadolibre.restclient.cache.disk;
+
+import com.mercadolibre.restclient.Response;
+import com.mercadolibre.restclient.cache.SimulatedClock;
+import com.mercadolibre.restclient.cache.codec.ResponseCodec;
+import com.mercadolibre.restclient.http.ContentType;
+import com.mercadolibre.restclient.http.Headers;
+import com.mercadolibre.restclient.util.Clocks;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+public class RESTDiskCacheTest {
+
+    private static final int SEGMENT_BYTES = 4096;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private SimulatedClock clock;
+    private File directory;
+
+    @Before
+    public void before() throws IOException {
+        clock = new SimulatedClock();
+        Clocks.set(clock);
+        directory = folder.newFolder("cache");
+    }
+
+    @After
+    public void restoreClock() {
+        Clocks.set(null);
+    }
+
+    private RESTDiskCache open(long maxBytes) throws IOException {
+        return RESTDiskCache.builder("disk", directory)
+                .withMaxBytes(maxBytes)
+                .withSegmentBytes(SEGMENT_BYTES)
+                .withCodec(ResponseCodec.builder().withoutCompression().build())
+                .build();
+    }
+
+    private RESTDiskCache open() throws IOException {
+        return open(1024 * 1024);
+    }
+
+    private static Response response(String cacheControl, String body) {
+        return new Response(200, new Headers().add(ContentType.HEADER_NAME, ContentType.TEXT_PLAIN.toString()).add("Cache-Control", cacheControl), body.getBytes());
+    }
+
+    private static Response response(int size) {
+        char[] body = new char[size];
+        Arrays.fill(body, 'a');
+
+        return response("max-age=60", new String(body));
+    }
+
+    private File segment(long number) {
+        return new File(directory, String.format("segment-%016d.log", number));
+    }
+
+    /**
+     * @return the offset right after the last record of a segment file, and the offset of every record before it
+     */
+    private static int[] records(File file) throws IOException {
+        int[] offsets = new int[0];
+
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            int position = 0;
+            while (position + 8 <= raf.length()) {
+                raf.seek(position);
+                int length = raf.readInt();
+                if (length <= 0) break;
+
+                offsets = Arrays.copyOf(offsets, offsets.length + 1);
+                offsets[offsets.length - 1] = position;
+                position += 8 + length;
+            }
+
+            offsets = Arrays.copyOf(offsets, offsets.length + 1);
+            offsets[offsets.length - 1] = position;
+        }
+
+        return offsets;
+    }
+
+    @Test
+    public void shouldReloadAfterClose() throws IOException {
+        RESTDiskCache cache = open();
+        cache.put("http://dummy.com/a", response("max-age=60", "first"));
+        cache.put("http://dummy.com/b", response("max-age=60", "second"));
+        cache.put("http://dummy.com/a", response("max-age=60", "third"));
+        cache.close();
+
+        cache = open();
+        try {
+            assertEquals(2, cache.size());
+            assertEquals("third", cache.get("http://dummy.com/a").getString());
+            assertEquals("second", cache.get("http://dummy.com/b").getString());
+            assertEquals(ContentType.TEXT_PLAIN.toString(), cache.get("http://dummy.com/b").getHeader(ContentType.HEADER_NAME).getValue());
+        } finally {
+            cache.close();
+        }
+    }
+
+    @Test
+    public void shouldKeepFreshnessAcrossRestart() throws IOException {
+        RESTDiskCache cache = open();
+        cache.put("http://dummy.com/a", response("max-age=60", "value"));
+        cache.put("http://dummy.com/b", response("max-age=10", "value"));
+        cache.close();
+
+        clock.advance(30000);
+
+        cache = open();
+        try {
+            assertNull(cache.get("http://dummy.com/b"));
+
+            Response response = cache.get("http://dummy.com/a");
+            assertEquals(30, response.getCacheControl().getCurrentAge());
+            assertFalse(response.getCacheControl().isExpired());
+
+            clock.advance(30000);
+            assertTrue(response.getCacheControl().isExpired());
+            assertNull(cache.get("http://dummy.com/a"));
+        } finally {
+            cache.close();
+        }
+    }
+
+    @Test
+    public void shouldKeepTombstonesAcrossRestart() throws IOException {
+        RESTDiskCache cache = open();
+        cache.put("http://dummy.com/a", response("max-age=60", "value"));
+        cache.put("http://dummy.com/b", response("max-age=60", "value"));
+        cache.evict("http://dummy.com/a");
+        assertNull(cache.get("http://dummy.com/a"));
+        cache.close();
+
+        cache = open();
+        try {
+            assertEquals(1, cache.size());
+            assertNull(cache.get("http://dummy.com/a"));
+            assertEquals("value", cache.get("http://dummy.com/b").getString());
+        } finally {
+            cache.close();
+        }
+    }
+
+    @Test
+    public void shouldSkipTornRecord() throws IOException {
+        RESTDiskCache cache = open();
+        cache.put("http://dummy.com/a", response("max-age=60", "first"));
+        cache.put("http://dummy.com/b", response("max-age=60", "second"));
+        cache.close();
+
+        int[] records = records(segment(0));
+        int end = records[records.length - 1];
+
+        // a length was written, but the crash came before the rest of the record
+        try (RandomAccessFile raf = new RandomAccessFile(segment(0), "rw")) {
+            raf.seek(end);
+            raf.writeInt(100);
+            raf.writeInt(12345);
+            raf.write("http://dummy.com/c".getBytes());
+        }
+
+        cache = open();
+        assertEquals(2, cache.size());
+        assertEquals("first", cache.get("http://dummy.com/a").getString());
+        assertEquals("second", cache.get("http://dummy.com/b").getString());
+
+        // new records overwrite the torn one
+        cache.put("http://dummy.com/c", response("max-age=60", "third"));
+        cache.close();
+
+        assertEquals(end, records(segment(0))[2]);
+
+        cache = open();
+        try {
+            assertEquals(3, cache.size());
+            assertEquals("third", cache.get("http://dummy.com/c").getString());
+        } finally {
+            cache.close();
+        }
+    }
+
+    @Test
+    public void shouldSkipRecordsFromCorruptOne() throws IOException {
+        RESTDiskCache cache = open();
+        cache.put("http://dummy.com/a", response("max-age=60", "first"));
+        cache.put("http://dummy.com/b", response("max-age=60", "second"));
+        cache.put("http://dummy.com/c", response("max-age=60", "third"));
+        cache.close();
+
+        int[] records = records(segment(0));
+
+        // flips the last body byte of the second record
+        try (RandomAccessFile raf = new RandomAccessFile(segment(0), "rw")) {
+            raf.seek(records[2] - 1);
+            raf.write('X');
+        }
+
+        cache = open();
+        try {
+            assertEquals(1, cache.size());
+            assertEquals("first", cache.get("http://dummy.com/a").getString());
+            assertNull(cache.get("http://dummy.com/b"));
+            assertNull(cache.get("http://dummy.com/c"));
+        } finally {
+            cache.close();
+        }
+    }
+
+    @Test
+    public void shouldCompactOldestSegment() throws IOException {
+        RESTDiskCache cache = open(2 * SEGMENT_BYTES);
+        cache.put("http://dummy.com/live", response(500));
+        cache.put("http://dummy.com/dead", response(2500));
+        cache.evict("http://dummy.com/dead");
+
+        cache.put("http://dummy.com/first", response(3000));
+        assertTrue(segment(0).exists());
+
+        // starts a third segment, so the first one is compacted into it
+        cache.put("http://dummy.com/second", response(1000));
+
+        assertFalse(segment(0).exists());
+        assertEquals(3, cache.size());
+        assertEquals(500, cache.get("http://dummy.com/live").getBytes().length);
+        assertNull(cache.get("http://dummy.com/dead"));
+        cache.close();
+
+        cache = open(2 * SEGMENT_BYTES);
+        try {
+            assertEquals(3, cache.size());
+            assertEquals(500, cache.get("http://dummy.com/live").getBytes().length);
+            assertEquals(3000, cache.get("http://dummy.com/first").getBytes().length);
+            assertEquals(1000, cache.get("http://dummy.com/second").getBytes().length);
+            assertNull(cache.get("http://dummy.com/dead"));
+        } finally {
+            cache.close();
+        }
+    }
+
+    @Test
+    public void shouldWriteLargeRecordBeforeCompacting() throws IOException {
+        RESTDiskCache cache = open(2 * SEGMENT_BYTES);
+        cache.put("http://dummy.com/live", response(1000));
+        cache.put("http://dummy.com/dead", response(2500));
+        cache.evict("http://dummy.com/dead");
+        cache.put("http://dummy.com/first", response(3000));
+
+        // fills the new segment on its own, leaving no room for the live entry of the compacted one
+        cache.put("http://dummy.com/large", response(3800));
+
+        assertFalse(segment(0).exists());
+        assertEquals(3800, cache.get("http://dummy.com/large").getBytes().length);
+        assertEquals(3000, cache.get("http://dummy.com/first").getBytes().length);
+        assertNull(cache.get("http://dummy.com/live"));
+        cache.close();
+
+        cache = open(2 * SEGMENT_BYTES);
+        try {
+            assertEquals(2, cache.size());
+            assertEquals(3800, cache.get("http://dummy.com/large").getBytes().length);
+        } finally {
+            cache.close();
+        }
+    }
+
+    @Test
+    public void shouldNotCacheEntryLargerThanSegment() throws IOException {
+        RESTDiskCache cache = open();
+        try {
+            cache.put("http://dummy.com/large", response(SEGMENT_BYTES));
+
+            assertEquals(0, cache.size());
+            assertNull(cache.get("http://dummy.com/large"));
+        } finally {
+            cache.close();
+        }
+    }
+
+    @Test
+    public void shouldEvictAll() throws IOException {
+        RESTDiskCache cache = open();
+        cache.put("http://dummy.com/a", response("max-age=60", "value"));
+        cache.evictAll();
+
+        assertEquals(0, cache.size());
+        assertFalse(segment(0).exists());
+
+        cache.put("http://dummy.com/b", response("max-age=60", "value"));
+        cache.close();
+
+        cache = open();
+        try {
+            assertEquals(1, cache.size());
+            assertNull(cache.get("http://dummy.com/a"));
+            assertEquals("value", cache.get("http://dummy.com/b").getString());
+        } finally {
+            cache.close();
+        }
+    }
+
+}
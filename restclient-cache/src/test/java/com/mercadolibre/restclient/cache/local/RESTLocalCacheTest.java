@@ -0,0 +1,135 @@
+package com.mercadolibre.restclient.cache.local;
+
+import com.mercadolibre.restclient.Response;
+import com.mercadolibre.restclient.cache.SimulatedClock;
+import com.mercadolibre.restclient.http.ContentType;
+import com.mercadolibre.restclient.http.Headers;
+import com.mercadolibre.restclient.util.Clocks;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+public class RESTLocalCacheTest {
+
+    private SimulatedClock clock;
+
+    @Before
+    public void setClock() {
+        clock = new SimulatedClock();
+        Clocks.set(clock);
+    }
+
+    @After
+    public void restoreClock() {
+        Clocks.set(null);
+    }
+
+    private static Response response(String cacheControl, int size) {
+        byte[] body = new byte[size];
+        Arrays.fill(body, (byte) 'a');
+
+        return new Response(200, new Headers().add(ContentType.HEADER_NAME, ContentType.TEXT_PLAIN.toString()).add("Cache-Control", cacheControl), body);
+    }
+
+    @Test
+    public void shouldBoundByEntryCount() {
+        RESTLocalCache cache = RESTLocalCache.builder("local").withMaxSize(10).build();
+
+        for (int i = 0; i < 100; i++)
+            cache.put("http://dummy.com/" + i, response("max-age=60", 10));
+
+        assertTrue(cache.size() <= 10);
+        assertNotNull(cache.get("http://dummy.com/99"));
+    }
+
+    @Test
+    public void shouldBoundByWeight() {
+        RESTLocalCache cache = RESTLocalCache.builder("local").withMaxBytes(64 * 1024).build();
+
+        for (int i = 0; i < 1000; i++)
+            cache.put("http://dummy.com/" + i, response("max-age=60", 100));
+
+        assertTrue(cache.size() < 1000);
+        assertTrue(cache.weight() <= 64 * 1024);
+        assertEquals(100, cache.get("http://dummy.com/999").getBytes().length);
+    }
+
+    @Test
+    public void shouldNotCacheEntryOverMaxEntryBytes() {
+        RESTLocalCache cache = RESTLocalCache.builder("local").withMaxEntryBytes(1024).build();
+        String url = "http://dummy.com/large";
+
+        cache.put(url, response("max-age=60", 100));
+        assertNotNull(cache.get(url));
+
+        cache.put(url, response("max-age=60", 2048));
+        assertNull(cache.get(url));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void shouldExpireAtStaleExpiration() {
+        RESTLocalCache cache = RESTLocalCache.builder("local").build();
+        String url = "http://dummy.com/stale";
+
+        cache.put(url, response("max-age=10, stale-while-revalidate=20", 10));
+
+        clock.advance(29000);
+        assertNotNull(cache.get(url));
+
+        clock.advance(1000);
+        assertNull(cache.get(url));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void shouldNotCacheExpiredResponse() {
+        RESTLocalCache cache = RESTLocalCache.builder("local").build();
+
+        cache.put("http://dummy.com/expired", response("max-age=0", 10));
+
+        assertNull(cache.get("http://dummy.com/expired"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void shouldPurgeExpiredEntriesOnPut() {
+        RESTLocalCache cache = RESTLocalCache.builder("local").build();
+
+        cache.put("http://dummy.com/a", response("max-age=10", 10));
+        cache.put("http://dummy.com/b", response("max-age=10", 10));
+        cache.put("http://dummy.com/c", response("max-age=1000", 10));
+        assertEquals(3, cache.size());
+
+        clock.advance(11000);
+        cache.put("http://dummy.com/d", response("max-age=1000", 10));
+
+        assertEquals(2, cache.size());
+        assertNotNull(cache.get("http://dummy.com/c"));
+        assertNotNull(cache.get("http://dummy.com/d"));
+    }
+
+    @Test
+    public void shouldPurgeExpiredEntriesInBatches() {
+        RESTLocalCache cache = RESTLocalCache.builder("local").build();
+
+        for (int i = 0; i < 100; i++)
+            cache.put("http://dummy.com/" + i, response("max-age=10", 10));
+
+        clock.advance(11000);
+
+        // a single put only checks a batch of entries
+        cache.put("http://dummy.com/fresh", response("max-age=1000", 10));
+        assertTrue(cache.size() > 50);
+
+        for (int i = 0; i < 4; i++)
+            cache.put("http://dummy.com/fresh" + i, response("max-age=1000", 10));
+
+        assertEquals(5, cache.size());
+    }
+
+}
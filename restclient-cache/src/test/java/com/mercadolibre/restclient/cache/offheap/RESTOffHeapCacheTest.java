@@ -0,0 +1,137 @@
+package com.mercadolibre.restclient.cache.offheap;
+
+import com.mercadolibre.restclient.Response;
+import com.mercadolibre.restclient.cache.SimulatedClock;
+import com.mercadolibre.restclient.cache.codec.ResponseCodec;
+import com.mercadolibre.restclient.http.ContentType;
+import com.mercadolibre.restclient.http.Headers;
+import com.mercadolibre.restclient.util.Clocks;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class RESTOffHeapCacheTest {
+
+    private SimulatedClock clock;
+
+    @Before
+    public void setClock() {
+        clock = new SimulatedClock();
+        Clocks.set(clock);
+    }
+
+    @After
+    public void restoreClock() {
+        Clocks.set(null);
+    }
+
+    private static Response response(String body) {
+        return new Response(200, new Headers().add(ContentType.HEADER_NAME, ContentType.TEXT_PLAIN.toString()).add("Cache-Control", "max-age=60"), body.getBytes());
+    }
+
+    private static int recordBytes() {
+        return ResponseCodec.builder().withoutCompression().build().encode(response("value")).length;
+    }
+
+    @Test
+    public void shouldGetStoredResponse() {
+        RESTOffHeapCache cache = RESTOffHeapCache.builder("offheap").withMaxBytes(4096).withSlabBytes(1024).build();
+        String url = "http://dummy.com/item";
+
+        cache.put(url, response("value"));
+        Response response = cache.get(url);
+
+        assertEquals(200, response.getStatus());
+        assertEquals("value", response.getString());
+        assertEquals("max-age=60", response.getHeader("Cache-Control").getValue());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void shouldRecycleOldestSlab() {
+        int record = recordBytes();
+        RESTOffHeapCache cache = RESTOffHeapCache.builder("offheap").withMaxBytes(8 * record).withSlabBytes(4 * record).build();
+
+        for (int i = 0; i < 8; i++)
+            cache.put("http://dummy.com/" + i, response("value"));
+
+        assertEquals(8, cache.size());
+
+        // wraps around to the first slab, evicting all four entries it held
+        cache.put("http://dummy.com/8", response("value"));
+
+        assertEquals(5, cache.size());
+        for (int i = 0; i < 4; i++)
+            assertNull(cache.get("http://dummy.com/" + i));
+        for (int i = 4; i < 9; i++)
+            assertEquals("value", cache.get("http://dummy.com/" + i).getString());
+    }
+
+    @Test
+    public void shouldKeepEntryRewrittenToAnotherSlab() {
+        int record = recordBytes();
+        RESTOffHeapCache cache = RESTOffHeapCache.builder("offheap").withMaxBytes(8 * record).withSlabBytes(4 * record).build();
+        String url = "http://dummy.com/moved";
+
+        cache.put(url, response("value"));
+        for (int i = 0; i < 3; i++)
+            cache.put("http://dummy.com/" + i, response("value"));
+
+        // first slab is full, so it's written again at the start of the second one
+        cache.put(url, response("again"));
+        for (int i = 3; i < 6; i++)
+            cache.put("http://dummy.com/" + i, response("value"));
+
+        // recycles the first slab, which still lists the entry among its keys
+        cache.put("http://dummy.com/6", response("value"));
+
+        assertEquals("again", cache.get(url).getString());
+        assertNull(cache.get("http://dummy.com/0"));
+        assertEquals("value", cache.get("http://dummy.com/6").getString());
+    }
+
+    @Test
+    public void shouldNotCacheResponseLargerThanSlab() {
+        RESTOffHeapCache cache = RESTOffHeapCache.builder("offheap").withMaxBytes(1024).withSlabBytes(1024).build();
+        String url = "http://dummy.com/large";
+
+        cache.put(url, response("value"));
+        cache.put(url, response(new String(new char[2048]).replace('\0', 'a')));
+
+        assertNull(cache.get(url));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void shouldExpireAtStaleExpiration() {
+        RESTOffHeapCache cache = RESTOffHeapCache.builder("offheap").withMaxBytes(4096).withSlabBytes(1024).build();
+        String url = "http://dummy.com/item";
+
+        cache.put(url, response("value"));
+
+        clock.advance(59999);
+        assertNotNull(cache.get(url));
+
+        clock.advance(1);
+        assertNull(cache.get(url));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void shouldEvictAll() {
+        RESTOffHeapCache cache = RESTOffHeapCache.builder("offheap").withMaxBytes(4096).withSlabBytes(1024).build();
+
+        cache.put("http://dummy.com/a", response("a"));
+        cache.put("http://dummy.com/b", response("b"));
+        cache.evictAll();
+
+        assertEquals(0, cache.size());
+        assertNull(cache.get("http://dummy.com/a"));
+
+        cache.put("http://dummy.com/a", response("again"));
+        assertEquals("again", cache.get("http://dummy.com/a").getString());
+    }
+
+}
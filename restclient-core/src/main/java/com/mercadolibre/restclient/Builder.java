@@ -14,6 +14,9 @@ public abstract class Builder<T extends Builder<T,R>, R> {
     
 	private RestClient restClient;
 	private boolean disableDefault = false;
+	private boolean sharedReactor = false;
+	private int reactorThreadCount = RESTPool.DEFAULT_REACTOR_THREAD_COUNT;
+	private int maxTotalConnections = -1;
 
     private Set<RESTPool> pools;
 
@@ -55,21 +58,73 @@ public abstract class Builder<T extends Builder<T,R>, R> {
         return disableDefault(true);
     }
 
+    /**
+     * Instructs this builder to run async requests of every pool over a single IO reactor and connection pool, instead of
+     * one for each pool. Pool settings such as timeouts and proxy are still honored for each request, but
+     * {@link RESTPool#getReactorThreadCount()} is replaced by {@link #withReactorThreadCount(int)} and connections are
+     * bounded by {@link #withMaxTotalConnections(int)}. Default is false
+     * <p>
+     * Connection pool settings are no longer enforced for each pool, as connections are pooled together:
+     * <ul>
+     * <li>{@link RESTPool#getMaxTotal()} of a single pool is not enforced, only the global cap is, so one pool may take every connection</li>
+     * <li>{@link RESTPool#getMaxPerRoute()} becomes the highest one among pools, for every route</li>
+     * <li>{@link RESTPool#getMaxIdleTime()} becomes the highest one among pools, and idle connections are checked as often as the
+     * pool with the lowest {@link RESTPool#getEvictorSleep()} requires</li>
+     * </ul>
+     * Keep pools with different limits on their own reactor if those limits are meant to isolate them from each other.
+     * @param sharedReactor a boolean flag indicating to share IO reactor across pools
+     * @return this builder
+     */
+    public Builder<T,R> withSharedReactor(boolean sharedReactor) {
+        this.sharedReactor = sharedReactor;
+        return this;
+    }
+
+    /**
+     * Specifies how many threads should the shared IO reactor run. Default is the number of available processors
+     * @param reactorThreadCount number of IO threads
+     * @return this builder
+     * @see #withSharedReactor(boolean)
+     */
+    public Builder<T,R> withReactorThreadCount(int reactorThreadCount) {
+        if (reactorThreadCount <= 0) throw new IllegalArgumentException("Reactor thread count must be positive");
+
+        this.reactorThreadCount = reactorThreadCount;
+        return this;
+    }
+
+    /**
+     * Specifies maximum number of connections opened by the shared IO reactor across all pools. Default is the sum of
+     * pools max total
+     * @param maxTotalConnections maximum number of connections
+     * @return this builder
+     * @see #withSharedReactor(boolean)
+     */
+    public Builder<T,R> withMaxTotalConnections(int maxTotalConnections) {
+        if (maxTotalConnections <= 0) throw new IllegalArgumentException("Max total connections must be positive");
+
+        this.maxTotalConnections = maxTotalConnections;
+        return this;
+    }
+
     /**
      * Builds a RestClient according to builder instance specifications
      * @return a {@link RestClient} instance
      * @throws IOException if RestClient could not be built
+     * @throws IllegalStateException if a pool shares its connection pool and this engine does not support it
      */
     public RestClient build() throws IOException {
         if (!disableDefault) pools.add(RESTPool.DEFAULT);
 
         if (pools.isEmpty()) throw new IllegalStateException("RestClient should have al least one pool");
 
-        for (RESTPool pool : pools) {
-            ExecREST client = resolveClient(pool);
-            ExecAsyncREST<R> asyncClient = resolveAsyncClient(pool);
+        // Clients are built lazily, so unsupported settings must be rejected now rather than on first request
+        for (RESTPool pool : pools)
+            if (pool.sharedConnectionPool() && !supportsSharedConnectionPool())
+                throw new IllegalStateException("Shared connection pool of pool " + pool.getName() + " is not supported by " + getClass().getSimpleName());
 
-            restClient.getHolder().registerPool(pool, client, asyncClient);
+        for (RESTPool pool : pools) {
+            restClient.getHolder().registerPool(pool, new PoolClientFactory(pool));
 
             if (pool.getCache() != null) restClient.getHolder().registerCache(pool.getCache());
         }
@@ -77,14 +132,69 @@ public abstract class Builder<T extends Builder<T,R>, R> {
         return restClient;
     }
 
-    private ExecREST resolveClient(RESTPool pool) throws IOException {
-        ExecREST client = buildClient(pool);
-        return new WrappingExecREST(client);
+    /**
+     * Builds engine clients of a pool when they are first requested. Engine async client is built once, as it backs
+     * sync client as well when pool shares its connections.
+     */
+    private class PoolClientFactory implements ClientFactory<R> {
+
+        private final RESTPool pool;
+
+        private ExecCallbackAsyncREST<R> engineAsyncClient;
+        private boolean asyncClientBuilt;
+
+        PoolClientFactory(RESTPool pool) {
+            this.pool = pool;
+        }
+
+        private synchronized ExecCallbackAsyncREST<R> engineAsyncClient() throws IOException {
+            if (engineAsyncClient == null) engineAsyncClient = Builder.this.buildAsyncClient(pool);
+            return engineAsyncClient;
+        }
+
+        @Override
+        public ExecREST buildClient() throws IOException {
+            return new WrappingExecREST(pool.sharedConnectionPool() ? buildSharedClient(pool, engineAsyncClient()) : Builder.this.buildClient(pool));
+        }
+
+        @Override
+        public synchronized ExecAsyncREST<R> buildAsyncClient() throws IOException {
+            ExecAsyncREST<R> client = new WrappingExecAsyncREST<>(engineAsyncClient());
+            asyncClientBuilt = true;
+
+            return client;
+        }
+
+        @Override
+        public synchronized void close() throws IOException {
+            // Engine async client built only for a shared sync client is not closed by any wrapper
+            if (engineAsyncClient != null && !asyncClientBuilt) engineAsyncClient.close();
+        }
+    }
+
+    protected Set<RESTPool> getPools() {
+        return Collections.unmodifiableSet(pools);
     }
 
-    private ExecAsyncREST<R> resolveAsyncClient(RESTPool pool) throws IOException {
-        ExecCallbackAsyncREST<R> client = buildAsyncClient(pool);
-        return new WrappingExecAsyncREST<>(client);
+    protected boolean isSharedReactor() {
+        return sharedReactor;
+    }
+
+    protected int getReactorThreadCount() {
+        return reactorThreadCount;
+    }
+
+    /**
+     * @return maximum number of connections for the shared IO reactor
+     * @see #withMaxTotalConnections(int)
+     */
+    protected int getMaxTotalConnections() {
+        if (maxTotalConnections > 0) return maxTotalConnections;
+
+        int total = 0;
+        for (RESTPool pool : pools) total += pool.getMaxTotal();
+
+        return total;
     }
 
     public abstract T newInstance(RestClient client);
@@ -93,4 +203,28 @@ public abstract class Builder<T extends Builder<T,R>, R> {
 
     protected abstract ExecCallbackAsyncREST<R> buildAsyncClient(RESTPool pool) throws IOException;
 
+    /**
+     * Tells whether this engine can run sync requests over async client connections. Engines supporting it override
+     * {@link #buildSharedClient(RESTPool, ExecCallbackAsyncREST)} as well. Default is false
+     * @return true if pools may share their connection pool
+     * @see RESTPool.Builder#withSharedConnectionPool(boolean)
+     */
+    protected boolean supportsSharedConnectionPool() {
+        return false;
+    }
+
+    /**
+     * Builds a sync client running over given async client connections, for pools with a shared connection pool.
+     * Closing it must leave async client open, as both are closed separately. Only called when
+     * {@link #supportsSharedConnectionPool()} is true.
+     * @param pool the pool to build client for
+     * @param asyncClient the async client already built for this pool
+     * @return a sync client
+     * @throws IOException if client could not be built
+     * @see RESTPool.Builder#withSharedConnectionPool(boolean)
+     */
+    protected ExecREST buildSharedClient(RESTPool pool, ExecCallbackAsyncREST<R> asyncClient) throws IOException {
+        throw new IOException(getClass().getSimpleName() + " declares shared connection pool support but does not build shared clients");
+    }
+
 }
@@ -0,0 +1,31 @@
+package com.mercadolibre.restclient;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Builds clients of a pool on demand, so a pool only pays for the clients it actually uses.
+ * @param <R> Concrete response type for implementation
+ */
+public interface ClientFactory<R> extends Closeable {
+
+    /**
+     * @return a new sync client for the pool
+     * @throws IOException if client could not be built
+     */
+    ExecREST buildClient() throws IOException;
+
+    /**
+     * @return a new async client for the pool
+     * @throws IOException if client could not be built
+     */
+    ExecAsyncREST<R> buildAsyncClient() throws IOException;
+
+    /**
+     * Releases resources built along with a client, which are not closed by closing the clients themselves.
+     * @throws IOException if resources could not be released
+     */
+    @Override
+    void close() throws IOException;
+
+}
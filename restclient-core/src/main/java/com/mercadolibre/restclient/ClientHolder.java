@@ -20,9 +20,11 @@ public class ClientHolder implements Closeable {
 	
     public static class Clients<R> implements Closeable {
     	
-        private ExecREST syncClient;
-        private ExecAsyncREST<R> asyncClient;
+        private volatile ExecREST syncClient;
+        private volatile ExecAsyncREST<R> asyncClient;
         private RESTPool pool;
+        private ClientFactory<R> factory;
+        private boolean closed;
 
         public Clients(ExecREST syncClient, ExecAsyncREST<R> asyncClient, RESTPool pool) {
             this.syncClient = syncClient;
@@ -30,22 +32,87 @@ public class ClientHolder implements Closeable {
             this.pool = pool;
         }
 
-        public ExecREST getSyncClient() {
-            return syncClient;
+        /**
+         * Creates a holder whose clients are built on first use
+         * @param factory the factory building pool clients
+         * @param pool the pool
+         */
+        public Clients(ClientFactory<R> factory, RESTPool pool) {
+            this.factory = factory;
+            this.pool = pool;
+        }
+
+        /**
+         * @return the sync client, built on first call for holders created from a {@link ClientFactory}
+         * @throws RestException if client could not be built
+         * @throws IllegalStateException if clients are already closed
+         */
+        public ExecREST getSyncClient() throws RestException {
+            ExecREST client = syncClient;
+            if (client != null || factory == null) return client;
+
+            synchronized (this) {
+                if (syncClient == null) {
+                    checkOpen();
+                    try {
+                        syncClient = factory.buildClient();
+                    } catch (IOException e) {
+                        throw new RestException("Could not build sync client for pool " + pool.getName(), e, null);
+                    }
+                }
+
+                return syncClient;
+            }
         }
 
-        public ExecAsyncREST<R> getAsyncClient() {
-            return asyncClient;
+        /**
+         * @return the async client, built on first call for holders created from a {@link ClientFactory}
+         * @throws RestException if client could not be built
+         * @throws IllegalStateException if clients are already closed
+         */
+        public ExecAsyncREST<R> getAsyncClient() throws RestException {
+            ExecAsyncREST<R> client = asyncClient;
+            if (client != null || factory == null) return client;
+
+            synchronized (this) {
+                if (asyncClient == null) {
+                    checkOpen();
+                    try {
+                        asyncClient = factory.buildAsyncClient();
+                    } catch (IOException e) {
+                        throw new RestException("Could not build async client for pool " + pool.getName(), e, null);
+                    }
+                }
+
+                return asyncClient;
+            }
+        }
+
+        private void checkOpen() {
+            if (closed) throw new IllegalStateException("Clients for pool " + pool.getName() + " are already closed");
         }
 
         public RESTPool getPool() {
             return pool;
         }
 
+        /**
+         * Builds any client not built yet, so first requests do not pay for it
+         * @throws RestException if a client could not be built
+         */
+        public void warmUp() throws RestException {
+            getSyncClient();
+            getAsyncClient();
+        }
+
         @Override
-        public void close() throws IOException {
-            syncClient.close();
-            asyncClient.close();
+        public synchronized void close() throws IOException {
+            if (closed) return;
+            closed = true;
+
+            if (syncClient != null) syncClient.close();
+            if (asyncClient != null) asyncClient.close();
+            if (factory != null) factory.close();
         }
     }
     
@@ -66,12 +133,20 @@ public class ClientHolder implements Closeable {
     }
 
     public ExecREST getDefaultClient() {
-        return getDefaultClients().getSyncClient();
+        try {
+            return getDefaultClients().getSyncClient();
+        } catch (RestException e) {
+            throw new RuntimeException(e);
+        }
     }
 
     @SuppressWarnings("unchecked")
     public <R> ExecAsyncREST<R> getDefaultAsyncClient() {
-        return (ExecAsyncREST<R>) getDefaultClients().getAsyncClient();
+        try {
+            return (ExecAsyncREST<R>) getDefaultClients().getAsyncClient();
+        } catch (RestException e) {
+            throw new RuntimeException(e);
+        }
     }
 
 	public <R> Clients<R> getDefaultClients() {
@@ -86,9 +161,29 @@ public class ClientHolder implements Closeable {
         if (sync == null || async == null)
             throw new IllegalArgumentException("Clients should not be null");
 
-        if (clients.putIfAbsent(pool.getName(), new Clients<>(sync,async,pool)) != null)
+        registerPool(pool, new Clients<>(sync,async,pool));
+    }
+
+    protected <R> void registerPool(RESTPool pool, ClientFactory<R> factory) {
+        if (factory == null)
+            throw new IllegalArgumentException("Client factory should not be null");
+
+        registerPool(pool, new Clients<>(factory,pool));
+    }
+
+    private void registerPool(RESTPool pool, Clients<?> poolClients) {
+        if (clients.putIfAbsent(pool.getName(), poolClients) != null)
             throw new RuntimeException("Rest client already registered for pool " + pool);
     }
+
+    /**
+     * Builds every pool client not built yet
+     * @throws RestException if a client could not be built
+     */
+    public void warmUp() throws RestException {
+        for (Clients<?> c : clients.values())
+            c.warmUp();
+    }
     
     protected void registerCache(RESTCache cache) {
         if (cache == null)
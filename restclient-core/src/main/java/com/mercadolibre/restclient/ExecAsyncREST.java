@@ -1,26 +1,25 @@
 package com.mercadolibre.restclient;
 
+import com.google.common.util.concurrent.ListenableFuture;
 import com.mercadolibre.restclient.async.Callback;
 import com.mercadolibre.restclient.exception.RestException;
 
-import java.util.concurrent.Future;
-
 
 public interface ExecAsyncREST<R> extends ExecCallbackAsyncREST<R> {
 
-    Future<Response> asyncGet(Request r) throws RestException;
+    ListenableFuture<Response> asyncGet(Request r) throws RestException;
 
-    Future<Response> asyncPost(Request r) throws RestException;
+    ListenableFuture<Response> asyncPost(Request r) throws RestException;
 
-    Future<Response> asyncPut(Request r) throws RestException;
+    ListenableFuture<Response> asyncPut(Request r) throws RestException;
 
-    Future<Response> asyncDelete(Request r) throws RestException;
+    ListenableFuture<Response> asyncDelete(Request r) throws RestException;
 
-    Future<Response> asyncHead(Request r) throws RestException;
+    ListenableFuture<Response> asyncHead(Request r) throws RestException;
 
-    Future<Response> asyncOptions(Request r) throws RestException;
+    ListenableFuture<Response> asyncOptions(Request r) throws RestException;
 
-    Future<Response> asyncPurge(Request r) throws RestException;
+    ListenableFuture<Response> asyncPurge(Request r) throws RestException;
 
     void asyncGet(Request r, Callback<Response> callback) throws RestException;
 
@@ -1,25 +1,25 @@
 package com.mercadolibre.restclient;
 
+import com.google.common.util.concurrent.ListenableFuture;
 import com.mercadolibre.restclient.async.HTTPCallback;
 
 import java.io.Closeable;
-import java.util.concurrent.Future;
 
 
 public interface ExecCallbackAsyncREST<R> extends Closeable {
 
-    Future<Response> asyncGet(Request r, HTTPCallback<R> callback);
+    ListenableFuture<Response> asyncGet(Request r, HTTPCallback<R> callback);
 
-    Future<Response> asyncPost(Request r, HTTPCallback<R> callback);
+    ListenableFuture<Response> asyncPost(Request r, HTTPCallback<R> callback);
 
-    Future<Response> asyncPut(Request r, HTTPCallback<R> callback);
+    ListenableFuture<Response> asyncPut(Request r, HTTPCallback<R> callback);
 
-    Future<Response> asyncDelete(Request r, HTTPCallback<R> callback);
+    ListenableFuture<Response> asyncDelete(Request r, HTTPCallback<R> callback);
 
-    Future<Response> asyncHead(Request r, HTTPCallback<R> callback);
+    ListenableFuture<Response> asyncHead(Request r, HTTPCallback<R> callback);
 
-    Future<Response> asyncOptions(Request r, HTTPCallback<R> callback);
+    ListenableFuture<Response> asyncOptions(Request r, HTTPCallback<R> callback);
 
-    Future<Response> asyncPurge(Request r, HTTPCallback<R> callback);
+    ListenableFuture<Response> asyncPurge(Request r, HTTPCallback<R> callback);
 
 }
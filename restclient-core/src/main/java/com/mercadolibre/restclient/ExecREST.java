@@ -21,4 +21,12 @@ public interface ExecREST extends Closeable {
 
     Response purge(Request r) throws RestException;
 
+    /**
+     * Executes request according to its method, returning as soon as response headers are received.
+     * @param r the request to execute
+     * @return a {@link StreamingResponse} which must be closed by the caller
+     * @throws RestException if request couldn't be made
+     */
+    StreamingResponse stream(Request r) throws RestException;
+
 }
@@ -3,8 +3,16 @@ package com.mercadolibre.restclient;
 import java.util.Arrays;
 import java.util.Deque;
 import java.util.LinkedList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.mercadolibre.restclient.util.CoberturaIgnore;
+import com.mercadolibre.restclient.util.PoolMonitoring;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 
@@ -36,8 +44,13 @@ public class RESTPool {
     public static final long DEFAULT_EVICTOR_SLEEP = (long) (1000*10);
     public static final boolean DEFAULT_FOLLOW_REDIRECTS = false;
     public static final boolean DEFAULT_COMPRESSION = false;
+    public static final boolean DEFAULT_SHARED_CONNECTION_POOL = false;
+    public static final boolean DEFAULT_REQUEST_COALESCING = false;
     public static final int DEFAULT_VALIDATION_ON_INACTIVITY = -1;
     public static final int DEFAULT_REACTOR_THREAD_COUNT = Runtime.getRuntime().availableProcessors();
+    public static final int DEFAULT_CALLBACK_THREAD_COUNT = Runtime.getRuntime().availableProcessors();
+    public static final int DEFAULT_CALLBACK_QUEUE_SIZE = 1000;
+    public static final long DEFAULT_CALLBACK_KEEP_ALIVE = 60000L;
 
     private int maxTotal = DEFAULT_MAX_TOTAL;
     private int maxPerRoute = DEFAULT_MAX_PER_ROUTE;
@@ -56,11 +69,14 @@ public class RESTPool {
     private Proxy proxy;
     private Authentication authentication;
     private RetryStrategy retryStrategy = NoopRetryStrategy.INSTANCE;
-    private Deque<RequestInterceptor> requestInterceptors = new LinkedList<>();
-    private Deque<ResponseInterceptor> responseInterceptors = new LinkedList<>();
+    private InterceptorDeque<RequestInterceptor> requestInterceptors = new InterceptorDeque<>(new RequestInterceptor[0]);
+    private InterceptorDeque<ResponseInterceptor> responseInterceptors = new InterceptorDeque<>(new ResponseInterceptor[0]);
     private RESTCache cache;
     private boolean connectionMetrics = false;
     private boolean expectContinue = true;
+    private boolean sharedConnectionPool = DEFAULT_SHARED_CONNECTION_POOL;
+    private RequestCoalescer requestCoalescer;
+    private Executor callbackExecutor;
 
     /**
      * Builder implementation for {@link RESTPool}
@@ -292,6 +308,42 @@ public class RESTPool {
             return this;
         }
 
+        /**
+         * Specifies whether sync requests should run over the async client connection pool, blocking until response is received.
+         * Pool then owns a single set of connections, bounded by its max total, instead of one set for each API. Engines not
+         * supporting it reject this pool when RestClient is built. Default is false
+         * @param sharedConnectionPool a boolean flag
+         * @return this builder
+         */
+        public Builder withSharedConnectionPool(boolean sharedConnectionPool) {
+            pool.sharedConnectionPool = sharedConnectionPool;
+            return this;
+        }
+
+        /**
+         * Specifies whether identical concurrent GET requests should be coalesced, so only one of them goes upstream and
+         * the rest get a copy of its response. Requests are identical when their cache key, authentication, proxy and
+         * {@link RequestCoalescer#DEFAULT_HEADERS} match. Default is false
+         * @param requestCoalescing a boolean flag
+         * @return this builder
+         * @see RequestCoalescer
+         */
+        public Builder withRequestCoalescing(boolean requestCoalescing) {
+            pool.requestCoalescer = requestCoalescing ? new RequestCoalescer() : null;
+            return this;
+        }
+
+        /**
+         * Enables request coalescing as {@link #withRequestCoalescing(boolean)} does, comparing given request headers
+         * instead of the default ones. Conditional headers are always compared, and any other one is ignored
+         * @param headers the names of the headers responses depend on
+         * @return this builder
+         */
+        public Builder withRequestCoalescing(String... headers) {
+            pool.requestCoalescer = new RequestCoalescer(Arrays.asList(headers));
+            return this;
+        }
+
         /**
          * Specifies an amount of time after which an inactive connection should be rechecked upon lease
          * @param validationOnInactivity maximum inactive time without validation in seconds. A negative value disables this feature.
@@ -314,6 +366,24 @@ public class RESTPool {
             return this;
         }
 
+        /**
+         * Specifies an executor to run async response handling on: response building, decompression, response interceptors,
+         * retries and user callbacks. This keeps that work off IO reactor threads.
+         * Default is a bounded pool of {@link #DEFAULT_CALLBACK_THREAD_COUNT} threads and {@link #DEFAULT_CALLBACK_QUEUE_SIZE}
+         * queued tasks, shared by all pools that don't specify one, whose size and queue depth are reported as metrics.
+         * A task this executor rejects is counted as {@code restclient.async.callback.rejected} and handed to a small bounded
+         * overflow executor. Only when that one is saturated too is it run on the reactor thread, which slows down reads
+         * until handling catches up.
+         * @param callbackExecutor an executor for async response handling
+         * @return this builder
+         */
+        public Builder withCallbackExecutor(Executor callbackExecutor) {
+            if (callbackExecutor == null) throw new IllegalArgumentException("Callback executor should not be null");
+
+            pool.callbackExecutor = callbackExecutor;
+            return this;
+        }
+
         /**
          * Builds a {@link RESTPool} with all parameters specified by this builder
          * @return a RESTPool instance
@@ -322,6 +392,9 @@ public class RESTPool {
             if (StringUtils.isBlank(pool.name))
                 throw new IllegalArgumentException("Pool name should not be blank");
 
+            if (pool.callbackExecutor instanceof ExecutorService)
+                PoolMonitoring.INSTANCE.register(pool.callbackExecutorName(), (ExecutorService) pool.callbackExecutor);
+
             return pool;
         }
 
@@ -432,6 +505,7 @@ public class RESTPool {
     }
 
     /**
+     * Changes made to this deque apply to requests built afterwards
      * @see com.mercadolibre.restclient.RESTPool.Builder#addInterceptorFirst(RequestInterceptor)
      * @see com.mercadolibre.restclient.RESTPool.Builder#addInterceptorLast(RequestInterceptor)
      * @return a Deque of {@link RequestInterceptor}
@@ -441,6 +515,7 @@ public class RESTPool {
     }
 
     /**
+     * Changes made to this deque apply to requests built afterwards
      * @see com.mercadolibre.restclient.RESTPool.Builder#addInterceptorFirst(ResponseInterceptor)
      * @see com.mercadolibre.restclient.RESTPool.Builder#addInterceptorLast(ResponseInterceptor)
      * @return a Deque of {@link ResponseInterceptor}
@@ -449,6 +524,63 @@ public class RESTPool {
         return responseInterceptors;
     }
 
+    /**
+     * @return request interceptors as an array shared by all of pool requests, rebuilt only when interceptors change
+     */
+    RequestInterceptor[] getRequestInterceptorChain() {
+        return requestInterceptors.chain();
+    }
+
+    /**
+     * @return response interceptors as an array shared by all of pool requests, rebuilt only when interceptors change
+     */
+    ResponseInterceptor[] getResponseInterceptorChain() {
+        return responseInterceptors.chain();
+    }
+
+    /**
+     * Pool interceptors, along with an array copy of them for requests to share. Every structural change counts as a
+     * modification of the list, so the copy is rebuilt by the first request after it.
+     */
+    private static class InterceptorDeque<E> extends LinkedList<E> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final E[] empty;
+        private transient volatile Chain<E> chain;
+
+        InterceptorDeque(E[] empty) {
+            this.empty = empty;
+        }
+
+        @Override
+        public E set(int index, E element) {
+            modCount++;
+            return super.set(index, element);
+        }
+
+        E[] chain() {
+            Chain<E> current = chain;
+            int modification = modCount;
+
+            if (current == null || current.modification != modification)
+                chain = current = new Chain<>(modification, toArray(empty));
+
+            return current.interceptors;
+        }
+    }
+
+    private static class Chain<E> {
+
+        private final int modification;
+        private final E[] interceptors;
+
+        Chain(int modification, E[] interceptors) {
+            this.modification = modification;
+            this.interceptors = interceptors;
+        }
+    }
+
     /**
      * @see com.mercadolibre.restclient.RESTPool.Builder#withFollowRedirects(boolean)
      * @return a boolean flag indicating whether redirects should be handled automatically
@@ -497,6 +629,30 @@ public class RESTPool {
         return expectContinue;
     }
 
+    /**
+     * @see com.mercadolibre.restclient.RESTPool.Builder#withSharedConnectionPool(boolean)
+     * @return a boolean flag indicating whether sync requests run over the async client connection pool
+     */
+    public boolean sharedConnectionPool() {
+        return sharedConnectionPool;
+    }
+
+    /**
+     * @see com.mercadolibre.restclient.RESTPool.Builder#withRequestCoalescing(boolean)
+     * @return a boolean flag indicating whether identical concurrent GET requests are coalesced
+     */
+    public boolean requestCoalescing() {
+        return requestCoalescer != null;
+    }
+
+    /**
+     * @see com.mercadolibre.restclient.RESTPool.Builder#withRequestCoalescing(boolean)
+     * @return the coalescer for this pool requests, or null if coalescing is disabled
+     */
+    public RequestCoalescer getRequestCoalescer() {
+        return requestCoalescer;
+    }
+
     /**
      * @see com.mercadolibre.restclient.RESTPool.Builder#withValidationOnInactivity(int)
      * @return seconds after which an inactive connection should be rechecked upon lease
@@ -513,6 +669,51 @@ public class RESTPool {
         return reactorThreadCount;
     }
 
+    /**
+     * Pools without an executor of their own share a default one, created upon first call.
+     * @see RESTPool.Builder#withCallbackExecutor(Executor)
+     * @return executor running async response handling
+     */
+    public Executor getCallbackExecutor() {
+        return callbackExecutor != null ? callbackExecutor : DefaultCallbackExecutor.INSTANCE;
+    }
+
+    /**
+     * Holds the callback executor shared by all pools that don't specify one, so thread count doesn't grow with pools
+     */
+    private static class DefaultCallbackExecutor {
+
+        private static final ThreadPoolExecutor INSTANCE = makeExecutor();
+
+        static {
+            PoolMonitoring.INSTANCE.register("callback-default", INSTANCE);
+        }
+
+        private static ThreadPoolExecutor makeExecutor() {
+            final AtomicInteger count = new AtomicInteger();
+
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(DEFAULT_CALLBACK_THREAD_COUNT, DEFAULT_CALLBACK_THREAD_COUNT,
+                    DEFAULT_CALLBACK_KEEP_ALIVE, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>(DEFAULT_CALLBACK_QUEUE_SIZE),
+                    new ThreadFactory() {
+                        @Override
+                        public Thread newThread(Runnable r) {
+                            Thread t = new Thread(r, "Callback worker-" + count.incrementAndGet());
+                            t.setDaemon(true);
+                            return t;
+                        }
+                    }, new ThreadPoolExecutor.AbortPolicy());
+
+            executor.allowCoreThreadTimeOut(true);
+
+            return executor;
+        }
+
+    }
+
+    private String callbackExecutorName() {
+        return "callback-" + name;
+    }
+
     @Override @CoberturaIgnore
     public boolean equals(Object o) {
         return this == o || o instanceof RESTPool && name.equals(((RESTPool) o).name);
@@ -1,11 +1,17 @@
 package com.mercadolibre.restclient;
 
+import java.io.FilterOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import com.mercadolibre.restclient.body.Body;
+import com.mercadolibre.restclient.body.ByteArrayBody;
+import com.mercadolibre.restclient.cache.CacheKey;
 import com.mercadolibre.restclient.cache.RESTCache;
 import com.mercadolibre.restclient.exception.RestException;
 import com.mercadolibre.restclient.http.Authentication;
@@ -13,11 +19,13 @@ import com.mercadolibre.restclient.http.Header;
 import com.mercadolibre.restclient.http.Headers;
 import com.mercadolibre.restclient.http.HttpMethod;
 import com.mercadolibre.restclient.http.Proxy;
+import com.mercadolibre.restclient.interceptor.AddTimeInterceptor;
 import com.mercadolibre.restclient.interceptor.RequestInterceptor;
 import com.mercadolibre.restclient.interceptor.ResponseInterceptor;
 import com.mercadolibre.restclient.multipart.MultipartMode;
 import com.mercadolibre.restclient.multipart.Part;
 import com.mercadolibre.restclient.retry.RetryStrategy;
+import com.mercadolibre.restclient.util.Clocks;
 import com.mercadolibre.restclient.util.HttpCompressionHandler;
 import org.apache.commons.lang3.StringUtils;
 
@@ -25,50 +33,78 @@ public class Request {
 
     private static final Pattern URI_PATTERN = Pattern.compile("^https?://[^/]+([^?]*).*$");
 
+    private static final RequestInterceptor[] NO_REQUEST_INTERCEPTORS = new RequestInterceptor[0];
+    private static final ResponseInterceptor[] NO_RESPONSE_INTERCEPTORS = new ResponseInterceptor[0];
+    private static final int ATTRIBUTES_CAPACITY = 4;
+
     private String url;
+    private int queryStart = -1;
+    private boolean prepared;
     private Map<String, String> parameters;
     private Headers headers;
-    private byte[] body;
+    private Body<?> body;
     private HttpMethod method;
     private Proxy proxy;
     private Authentication authentication;
 	private ClientHolder.Clients<?> clients;
     private Cache cache;
     private RetryStrategy retryStrategy;
+    private RequestInterceptor[] poolRequestInterceptors = NO_REQUEST_INTERCEPTORS;
+    private ResponseInterceptor[] poolResponseInterceptors = NO_RESPONSE_INTERCEPTORS;
     private Deque<RequestInterceptor> requestInterceptors;
     private Deque<ResponseInterceptor> responseInterceptors;
     private Map<String,Object> attributes;
+    private long startTime;
+    private long startNanos;
     private Download download;
     private Set<Part<?>> parts;
     private MultipartMode multipartMode;
+    private CacheKey cacheKey;
+    private volatile boolean coalesced;
 
+    /**
+     * Builds an empty request. Parameters, attributes and interceptor deques are only created once needed, and pool
+     * interceptors are applied straight from the pool, so a plain request allocates little besides its headers.
+     */
     protected Request() {
     	this.headers = new Headers();
-    	this.parameters = new HashMap<>();
-        this.attributes = new HashMap<>();
-        this.cache = new Cache();
-        this.download = new Download();
-        this.requestInterceptors = new LinkedList<>();
-        this.responseInterceptors = new LinkedList<>();
     }
 
     public String getURL() {
-        StringBuilder url = new StringBuilder(this.url);
-    	
-        if (!parameters.isEmpty()) {
-            url.append("?");
+        if (parameters == null || parameters.isEmpty()) return url;
 
-        	for (Map.Entry<String, String> parameter : parameters.entrySet())
-                url.append(parameter.getKey()).append("=").append(parameter.getValue()).append("&");
+        StringBuilder url = new StringBuilder(this.url).append(queryStart < 0 ? '?' : '&');
 
-            url.setLength(url.length() - 1);
-        }
+        for (Map.Entry<String, String> parameter : parameters.entrySet())
+            url.append(parameter.getKey()).append("=").append(parameter.getValue()).append("&");
+
+        url.setLength(url.length() - 1);
 
         return url.toString();
     }
 
+    /**
+     * @return the key this request is cached by, computed once from its URL and parameters
+     */
+    public CacheKey getCacheKey() {
+        if (cacheKey == null)
+            cacheKey = CacheKey.of(this);
+
+        return cacheKey;
+    }
+
+    /**
+     * @return the URL without its query, which is kept apart as parameters unless set by a {@link RequestTemplate}
+     */
     public String getPlainURL() {
-        return url;
+        return queryStart < 0 ? url : url.substring(0, queryStart);
+    }
+
+    /**
+     * @return the encoded query of an URL set by a {@link RequestTemplate}, or null if there is none
+     */
+    public String getQuery() {
+        return queryStart < 0 ? null : url.substring(queryStart + 1);
     }
 
     public String getURI() {
@@ -77,21 +113,46 @@ public class Request {
     }
 
     public Map<String, String> getParameters() {
+        if (parameters == null) parameters = new HashMap<>();
+
         return parameters;
     }
 
+    /**
+     * @return whether any parameter was set, without creating the parameter map
+     */
+    public boolean hasParameters() {
+        return parameters != null && !parameters.isEmpty();
+    }
+
     public String getParameter(String key) {
-        return parameters.get(key);
+        return parameters != null ? parameters.get(key) : null;
     }
     
     public Headers getHeaders() {
         return headers;
     }
 
+    /**
+     * @return request body content when it was given as a byte array, null otherwise
+     * @see #getBodySource()
+     */
     public byte[] getBody() {
+        return body instanceof ByteArrayBody ? ((ByteArrayBody) body).getContent() : null;
+    }
+
+    public Body<?> getBodySource() {
         return body;
     }
 
+    /**
+     * @return true unless request body can only be sent once, or download content was already written to its output
+     * stream, in which case request is not retried
+     */
+    public boolean isRepeatable() {
+        return (body == null || body.isRepeatable()) && (download == null || !download.isStarted());
+    }
+
     public Proxy getProxy() {
         return proxy;
     }
@@ -101,15 +162,28 @@ public class Request {
     }
 
     public RESTCache getCache() {
-    	return cache.getRaw();
+    	return cache != null ? cache.getRaw() : null;
     }
 
     public boolean isCacheable() {
-    	return !isDownload() && cache.getRaw() != null && !cache.isByPass();
+    	return !isDownload() && getCache() != null && !cache.isByPass();
     }
     
     public boolean hasCache() {
-    	return cache.getRaw() != null;
+    	return getCache() != null;
+    }
+
+    /**
+     * @return whether this request joined an identical one already in flight, and got a copy of its response instead of
+     * being executed. Such responses are not written back to cache, as the request that was executed already did.
+     * @see RequestCoalescer
+     */
+    public boolean isCoalesced() {
+        return coalesced;
+    }
+
+    void setCoalesced(boolean coalesced) {
+        this.coalesced = coalesced;
     }
     
     public HttpMethod getMethod() {
@@ -129,28 +203,98 @@ public class Request {
         return retryStrategy;
     }
 
+    /**
+     * Retrieves all request interceptors, pool ones first. The deque is only built when requested, and changes to it
+     * apply to this request only.
+     * @return a mutable deque of {@link RequestInterceptor}
+     */
     public Deque<RequestInterceptor> getRequestInterceptors() {
+        if (requestInterceptors == null || poolRequestInterceptors.length > 0) {
+            Deque<RequestInterceptor> all = new LinkedList<>(Arrays.asList(poolRequestInterceptors));
+            if (requestInterceptors != null) all.addAll(requestInterceptors);
+
+            requestInterceptors = all;
+            poolRequestInterceptors = NO_REQUEST_INTERCEPTORS;
+        }
+
         return requestInterceptors;
     }
 
+    /**
+     * Retrieves all response interceptors, pool ones first. The deque is only built when requested, and changes to it
+     * apply to this request only.
+     * @return a mutable deque of {@link ResponseInterceptor}
+     */
     public Deque<ResponseInterceptor> getResponseInterceptors() {
+        if (responseInterceptors == null || poolResponseInterceptors.length > 0) {
+            Deque<ResponseInterceptor> all = new LinkedList<>(Arrays.asList(poolResponseInterceptors));
+            if (responseInterceptors != null) all.addAll(responseInterceptors);
+
+            responseInterceptors = all;
+            poolResponseInterceptors = NO_RESPONSE_INTERCEPTORS;
+        }
+
         return responseInterceptors;
     }
 
     public Map<String, Object> getAttributes() {
+        if (attributes == null) attributes = new HashMap<>(ATTRIBUTES_CAPACITY);
+
         return attributes;
     }
 
+    /**
+     * Retrieves an attribute. {@link AddTimeInterceptor#NAME} is kept as {@link #getStartTime()}, and boxed on read
+     * @param key attribute name
+     * @return the attribute value, or null if it was not set
+     */
     public Object getAttribute(String key) {
-        return attributes.get(key);
+        if (AddTimeInterceptor.NAME.equals(key)) return startTime != 0 ? startTime : null;
+
+        return attributes != null ? attributes.get(key) : null;
+    }
+
+    /**
+     * @return the time this request started in milliseconds since epoch, as set by {@link AddTimeInterceptor}, or 0
+     */
+    public long getStartTime() {
+        return startTime;
+    }
+
+    /**
+     * Sets the time this request started, when only wall clock time is known. Elapsed time is then measured from its
+     * equivalent in monotonic time
+     * @param startTime milliseconds since epoch
+     */
+    public void setStartTime(long startTime) {
+        setStartTime(startTime, Clocks.nanoTime() - TimeUnit.MILLISECONDS.toNanos(Clocks.currentTimeMillis() - startTime));
+    }
+
+    /**
+     * Sets the time this request started
+     * @param startTime milliseconds since epoch, as told by {@link Clocks#currentTimeMillis()}
+     * @param startNanos monotonic time in nanoseconds, as told by {@link Clocks#nanoTime()}
+     */
+    public void setStartTime(long startTime, long startNanos) {
+        this.startTime = startTime;
+        this.startNanos = startNanos;
+    }
+
+    /**
+     * @return milliseconds elapsed since this request started, measured in monotonic time, or -1 if it never started
+     */
+    public long getElapsedTime() {
+        if (startTime == 0) return -1;
+
+        return TimeUnit.NANOSECONDS.toMillis(Clocks.nanoTime() - startNanos);
     }
 
     public OutputStream getOutputStream() {
-        return this.download.getOutputStream();
+        return download != null ? download.getOutputStream() : null;
     }
     
     public boolean isDownload() {
-    	return this.download.getOutputStream() != null;
+    	return getOutputStream() != null;
     }
 
 	public Set<Part<?>> getParts() {
@@ -162,6 +306,10 @@ public class Request {
     }
 
     protected void setURL(String url) {
+        cacheKey = null;
+        queryStart = -1;
+        prepared = false;
+
         if (url.contains("?")) {
             String[] split = url.split("\\?");
             if (split.length == 2) fillParameters(split[1]);
@@ -171,16 +319,32 @@ public class Request {
             this.url = url;
     }
 
+    /**
+     * Sets a full URL already expanded and encoded by a {@link RequestTemplate}, so it is sent as is, with no parsing
+     * @param url a full URL, which may include an encoded query
+     */
+    void setPreparedURL(String url) {
+        this.cacheKey = null;
+        this.url = url;
+        this.queryStart = url.indexOf('?');
+        this.prepared = true;
+    }
+
+    boolean isPrepared() {
+        return prepared;
+    }
+
     private void fillParameters(String raw) {
         for (String pair : raw.split("&")) {
             String[] p = pair.split("=");
             if (StringUtils.isNotBlank(p[0]))
-                parameters.put(p[0], p.length == 2 ? p[1] : "");
+                getParameters().put(p[0], p.length == 2 ? p[1] : "");
         }
     }
     
     public void setParameter(String key, String value) {
-        parameters.put(key, value);
+        cacheKey = null;
+        getParameters().put(key, value);
     }
 
     protected void setHeaders(Headers headers) {
@@ -188,6 +352,10 @@ public class Request {
     }
 
     protected void setBody(byte[] body) {
+        setBody(body != null ? new ByteArrayBody(body) : null);
+    }
+
+    protected void setBody(Body<?> body) {
         if (this.parts != null)
             throw new IllegalArgumentException("Parts have already been defined for this request");
 
@@ -203,11 +371,19 @@ public class Request {
     }
 
     protected void setCache(RESTCache cache) {
-    	this.cache.setRaw(cache);
+    	if (cache == null && this.cache == null) return;
+
+    	getCacheHolder().setRaw(cache);
     }
     
     public void byPassCache(boolean byPass) {
-    	this.cache.setByPass(byPass);
+    	getCacheHolder().setByPass(byPass);
+    }
+
+    private Cache getCacheHolder() {
+        if (cache == null) cache = new Cache();
+
+        return cache;
     }
     
     protected void setMethod(HttpMethod method) {
@@ -224,10 +400,22 @@ public class Request {
 
     protected void setRequestInterceptors(Deque<RequestInterceptor> requestInterceptors) {
         this.requestInterceptors = requestInterceptors;
+        this.poolRequestInterceptors = NO_REQUEST_INTERCEPTORS;
     }
 
     protected void setResponseInterceptors(Deque<ResponseInterceptor> responseInterceptors) {
         this.responseInterceptors = responseInterceptors;
+        this.poolResponseInterceptors = NO_RESPONSE_INTERCEPTORS;
+    }
+
+    /**
+     * Sets the interceptors of this request pool, which run before the ones given to this request
+     * @param requestInterceptors pool request interceptors, shared and never modified
+     * @param responseInterceptors pool response interceptors, shared and never modified
+     */
+    void setPoolInterceptors(RequestInterceptor[] requestInterceptors, ResponseInterceptor[] responseInterceptors) {
+        this.poolRequestInterceptors = requestInterceptors;
+        this.poolResponseInterceptors = responseInterceptors;
     }
 
     protected void setAttributes(Map<String,Object> attributes) {
@@ -235,19 +423,33 @@ public class Request {
     }
 
     public void setAttribute(String key, Object value) {
-        attributes.put(key, value);
+        if (AddTimeInterceptor.NAME.equals(key) && value instanceof Number) {
+            setStartTime(((Number) value).longValue());
+            return;
+        }
+
+        getAttributes().put(key, value);
     }
 
     public void setOutputStream(OutputStream outputStream) {
-        if (download.getOutputStream() != null)
+        if (getOutputStream() != null)
             throw new IllegalArgumentException("Output stream already defined");
 
+        if (download == null) download = new Download();
         download.setOutputStream(outputStream);
     }
     
     public void populateOutputStream(InputStream inputStream, Header contentEncoding) throws RestException {
     	download.populate(inputStream, contentEncoding, clients.getPool().compression());
     }
+
+    /**
+     * Flags download content as partially written to the output stream, so this request is no longer repeatable.
+     * Engines streaming content on their own must call this before writing to {@link #getOutputStream()}.
+     */
+    public void startDownload() {
+        if (download != null) download.setStarted(true);
+    }
     
 	protected void setParts(Set<Part<?>> parts) {
         if (body != null)
@@ -268,47 +470,61 @@ public class Request {
     }
 
     protected void addInterceptorFirst(RequestInterceptor i) {
-        requestInterceptors.addFirst(i);
+        getRequestInterceptors().addFirst(i);
     }
 
     protected void addInterceptorLast(RequestInterceptor i) {
-        requestInterceptors.addLast(i);
+        getRequestInterceptors().addLast(i);
     }
 
     protected void addInterceptorFirst(ResponseInterceptor i) {
-        responseInterceptors.addFirst(i);
+        getResponseInterceptors().addFirst(i);
     }
 
     protected void addInterceptorLast(ResponseInterceptor i) {
-        responseInterceptors.addLast(i);
+        getResponseInterceptors().addLast(i);
     }
 
     public void applyRequestInterceptors() {
-        for (RequestInterceptor i : requestInterceptors)
+        for (RequestInterceptor i : poolRequestInterceptors)
             i.intercept(this);
+
+        if (requestInterceptors != null)
+            for (RequestInterceptor i : requestInterceptors)
+                i.intercept(this);
     }
 
     public void applyResponseInterceptors(Response r) {
-        for (ResponseInterceptor i : responseInterceptors)
+        for (ResponseInterceptor i : poolResponseInterceptors)
             i.intercept(r);
+
+        if (responseInterceptors != null)
+            for (ResponseInterceptor i : responseInterceptors)
+                i.intercept(r);
     }
 
     public Request clone() {
         Request r = new Request();
 
         r.url = this.url;
-        r.parameters = new HashMap<>(parameters);
+        r.queryStart = queryStart;
+        r.prepared = prepared;
+        r.parameters = parameters != null ? new HashMap<>(parameters) : null;
         r.headers = headers.clone();
-        r.body = body != null ? Arrays.copyOf(body, body.length) : null;
+        r.body = body;
         r.method = method;
         r.proxy = proxy != null ? new Proxy(proxy.getHostname(), proxy.getPort(), proxy.getUsername(), proxy.getPassword()) : null;
         r.authentication = authentication != null ? new Authentication(authentication.getHostname(), authentication.getPort(), authentication.getUsername(), authentication.getPassword()) : null;
         r.clients = clients;
-        r.cache = cache;
+        r.cache = cache != null ? cache.copy() : null;
         r.retryStrategy = retryStrategy;
-        r.requestInterceptors = new LinkedList<>(requestInterceptors);
-        r.responseInterceptors = new LinkedList<>(responseInterceptors);
-        r.attributes = new HashMap<>(attributes);
+        r.poolRequestInterceptors = poolRequestInterceptors;
+        r.poolResponseInterceptors = poolResponseInterceptors;
+        r.requestInterceptors = requestInterceptors != null ? new LinkedList<>(requestInterceptors) : null;
+        r.responseInterceptors = responseInterceptors != null ? new LinkedList<>(responseInterceptors) : null;
+        r.attributes = attributes != null ? new HashMap<>(attributes) : null;
+        r.startTime = startTime;
+        r.startNanos = startNanos;
         r.download = download;
         r.parts = parts != null ? new HashSet<>(parts) : null;
         r.multipartMode = multipartMode;
@@ -340,12 +556,21 @@ public class Request {
 		public void setByPass(boolean byPass) {
 			this.byPass = byPass;
 		}
+
+		public Cache copy() {
+			Cache copy = new Cache();
+			copy.raw = raw;
+			copy.byPass = byPass;
+
+			return copy;
+		}
     	
     }
     
     private static class Download {
     	
     	private OutputStream outputStream;
+    	private volatile boolean started;
     	
     	public Download() {
     		super();
@@ -359,8 +584,28 @@ public class Request {
 			this.outputStream = outputStream;
 		}
 
+		public boolean isStarted() {
+			return started;
+		}
+
+		public void setStarted(boolean started) {
+			this.started = started;
+		}
+
 		public void populate(InputStream inputStream, Header contentEncoding, boolean compression) throws RestException {
-			HttpCompressionHandler.handleContent(inputStream, outputStream, contentEncoding, compression);
+			HttpCompressionHandler.handleContent(inputStream, new FilterOutputStream(outputStream) {
+				@Override
+				public void write(int b) throws IOException {
+					started = true;
+					out.write(b);
+				}
+
+				@Override
+				public void write(byte[] b, int off, int len) throws IOException {
+					if (len > 0) started = true;
+					out.write(b, off, len);
+				}
+			}, contentEncoding, compression);
 		}
 		
     }
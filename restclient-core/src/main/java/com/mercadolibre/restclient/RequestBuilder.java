@@ -1,6 +1,11 @@
 package com.mercadolibre.restclient;
 
+import com.google.common.util.concurrent.ListenableFuture;
 import com.mercadolibre.restclient.async.Callback;
+import com.mercadolibre.restclient.body.Body;
+import com.mercadolibre.restclient.body.ByteBufferBody;
+import com.mercadolibre.restclient.body.FileBody;
+import com.mercadolibre.restclient.body.InputStreamBody;
 import com.mercadolibre.restclient.cache.RESTCache;
 import com.mercadolibre.restclient.exception.RestException;
 import com.mercadolibre.restclient.http.*;
@@ -13,9 +18,12 @@ import com.mercadolibre.restclient.retry.RetryStrategy;
 import com.mercadolibre.restclient.util.URLUtils;
 import org.apache.commons.lang3.StringUtils;
 
+import java.io.File;
+import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.util.*;
-import java.util.concurrent.Future;
 
 import static com.mercadolibre.restclient.http.HttpMethod.*;
 
@@ -24,6 +32,7 @@ public final class RequestBuilder implements REST, StreamREST, AsyncREST, Stream
 
     private RestClient restClient;
     private Request request;
+    private boolean prepared;
 
     protected RequestBuilder() {
     	this.request = new Request();
@@ -34,6 +43,16 @@ public final class RequestBuilder implements REST, StreamREST, AsyncREST, Stream
         this.restClient = restClient;
     }
 
+    /**
+     * Builds upon a request bound by a {@link RequestTemplate}, whose URL, pool, interceptors and retry strategy are
+     * already resolved
+     */
+    RequestBuilder(RestClient restClient, Request request) {
+        this.request = request;
+        this.restClient = restClient;
+        this.prepared = true;
+    }
+
     /**
      * Sets the URL (or URI in case there's a base URL configured) for current request
      * @param url a string with a valid URL (or URI)
@@ -132,6 +151,64 @@ public final class RequestBuilder implements REST, StreamREST, AsyncREST, Stream
         return this;
     }
 
+    /**
+     * Adds a body to current request, sent from given source by the engine
+     * @param body a {@link Body} instance
+     * @return this builder
+     */
+    public RequestBuilder withBody(Body<?> body) {
+        request.setBody(body);
+        return this;
+    }
+
+    /**
+     * Adds a body to current request, streamed from given input stream with chunked encoding. Request won't be retried.
+     * @param body an input stream containing request body
+     * @return this builder
+     * @see InputStreamBody
+     */
+    public RequestBuilder withBody(InputStream body) {
+        return withBody(new InputStreamBody(body));
+    }
+
+    /**
+     * Adds a body to current request, streamed from given input stream. Request won't be retried.
+     * @param body an input stream containing request body
+     * @param length body length in bytes
+     * @return this builder
+     * @see InputStreamBody
+     */
+    public RequestBuilder withBody(InputStream body, long length) {
+        return withBody(new InputStreamBody(body, length));
+    }
+
+    /**
+     * Adds a body to current request, streamed from given file
+     * @param body the file containing request body
+     * @return this builder
+     */
+    public RequestBuilder withBody(File body) {
+        return withBody(new FileBody(body));
+    }
+
+    /**
+     * Adds a body to current request, streamed from given file
+     * @param body the path of the file containing request body
+     * @return this builder
+     */
+    public RequestBuilder withBody(Path body) {
+        return withBody(new FileBody(body));
+    }
+
+    /**
+     * Adds a body to current request, sent from given buffer remaining content
+     * @param body a heap or direct buffer containing request body
+     * @return this builder
+     */
+    public RequestBuilder withBody(ByteBuffer body) {
+        return withBody(new ByteBufferBody(body));
+    }
+
     /**
      * Specifies a pool for current request
      * @param pool a {@link RESTPool} instance
@@ -304,27 +381,17 @@ public final class RequestBuilder implements REST, StreamREST, AsyncREST, Stream
         return withCache(restClient.getHolder().getCache(cache));
     }
 
-    private <T> Deque<T> join(Deque<T> first, Deque<T> last) {
-        if (last == null || last.isEmpty()) return new LinkedList<>(first);
-
-        Iterator<T> it = first.descendingIterator();
-        while (it.hasNext())
-            last.addFirst(it.next());
-
-        return last;
-    }
-
     protected Request build() {
         validateURL();
 
         if (request.getClients() == null)
             request.setClients(restClient.getHolder().getDefaultClients());
 
-        request.setURL(URLUtils.completeURL(request.getPool().getBaseURL(), request.getPlainURL()));
+        if (!request.isPrepared())
+            request.setURL(URLUtils.completeURL(request.getPool().getBaseURL(), request.getPlainURL()));
 
-        request.setRequestInterceptors(join(request.getPool().getRequestInterceptors(), request.getRequestInterceptors()));
-
-        request.setResponseInterceptors(join(request.getPool().getResponseInterceptors(), request.getResponseInterceptors()));
+        if (!prepared)
+            request.setPoolInterceptors(request.getPool().getRequestInterceptorChain(), request.getPool().getResponseInterceptorChain());
 
         if (request.getRetryStrategy() == null)
             request.setRetryStrategy(request.getPool().getRetryStrategy());
@@ -357,12 +424,12 @@ public final class RequestBuilder implements REST, StreamREST, AsyncREST, Stream
     /**
      * Async implementation of HTTP GET
      * @param url a full formed URL (o a URI if a base URL applies)
-     * @return a Future wrapping a {@link Response}
+     * @return a ListenableFuture wrapping a {@link Response}
      * @throws RestException if request couldn't be made
      * @see RestClient#asyncGet(String)
      */
     @Override
-    public Future<Response> asyncGet(String url) throws RestException {
+    public ListenableFuture<Response> asyncGet(String url) throws RestException {
         withURL(url);
         withMethod(GET);
         build();
@@ -373,12 +440,12 @@ public final class RequestBuilder implements REST, StreamREST, AsyncREST, Stream
      * Async implementation of HTTP GET
      * @param url a full formed URL (o a URI if a base URL applies)
      * @param headers a {@link Headers} instance
-     * @return a Future wrapping a {@link Response}
+     * @return a ListenableFuture wrapping a {@link Response}
      * @throws RestException if request couldn't be made
      * @see RestClient#asyncGet(String, Headers)
      */
     @Override
-    public Future<Response> asyncGet(String url, Headers headers) throws RestException {
+    public ListenableFuture<Response> asyncGet(String url, Headers headers) throws RestException {
         withURL(url);
         withMethod(GET);
         withHeaders(headers);
@@ -390,12 +457,12 @@ public final class RequestBuilder implements REST, StreamREST, AsyncREST, Stream
      * Async implementation of HTTP POST
      * @param url a full formed URL (o a URI if a base URL applies)
      * @param body a byte[] containing request body
-     * @return a Future wrapping a {@link Response}
+     * @return a ListenableFuture wrapping a {@link Response}
      * @throws RestException if request couldn't be made
      * @see RestClient#asyncPost(String, byte[])
      */
     @Override
-    public Future<Response> asyncPost(String url, byte[] body) throws RestException {
+    public ListenableFuture<Response> asyncPost(String url, byte[] body) throws RestException {
         withURL(url);
         withMethod(POST);
         withBody(body);
@@ -408,12 +475,12 @@ public final class RequestBuilder implements REST, StreamREST, AsyncREST, Stream
      * @param url a full formed URL (o a URI if a base URL applies)
      * @param headers a {@link Headers} instance
      * @param body a byte[] containing request body
-     * @return a Future wrapping a {@link Response}
+     * @return a ListenableFuture wrapping a {@link Response}
      * @throws RestException if request couldn't be made
      * @see RestClient#asyncPost(String, Headers, byte[])
      */
     @Override
-    public Future<Response> asyncPost(String url, Headers headers, byte[] body) throws RestException {
+    public ListenableFuture<Response> asyncPost(String url, Headers headers, byte[] body) throws RestException {
         withURL(url);
         withHeaders(headers);
         withMethod(POST);
@@ -426,12 +493,12 @@ public final class RequestBuilder implements REST, StreamREST, AsyncREST, Stream
      * Async implementation of HTTP PUT
      * @param url a full formed URL (o a URI if a base URL applies)
      * @param body a byte[] containing request body
-     * @return a Future wrapping a {@link Response}
+     * @return a ListenableFuture wrapping a {@link Response}
      * @throws RestException if request couldn't be made
      * @see RestClient#asyncPut(String, byte[])
      */
     @Override
-    public Future<Response> asyncPut(String url, byte[] body) throws RestException {
+    public ListenableFuture<Response> asyncPut(String url, byte[] body) throws RestException {
         withURL(url);
         withMethod(PUT);
         withBody(body);
@@ -444,12 +511,12 @@ public final class RequestBuilder implements REST, StreamREST, AsyncREST, Stream
      * @param url a full formed URL (o a URI if a base URL applies)
      * @param headers a {@link Headers} instance
      * @param body a byte[] containing request body
-     * @return a Future wrapping a {@link Response}
+     * @return a ListenableFuture wrapping a {@link Response}
      * @throws RestException if request couldn't be made
      * @see RestClient#asyncPut(String, Headers, byte[])
      */
     @Override
-    public Future<Response> asyncPut(String url, Headers headers, byte[] body) throws RestException {
+    public ListenableFuture<Response> asyncPut(String url, Headers headers, byte[] body) throws RestException {
         withURL(url);
         withHeaders(headers);
         withMethod(PUT);
@@ -461,12 +528,12 @@ public final class RequestBuilder implements REST, StreamREST, AsyncREST, Stream
     /**
      * Async implementation of HTTP DELETE
      * @param url a full formed URL (o a URI if a base URL applies)
-     * @return a Future wrapping a {@link Response}
+     * @return a ListenableFuture wrapping a {@link Response}
      * @throws RestException if request couldn't be made
      * @see RestClient#asyncDelete(String)
      */
     @Override
-    public Future<Response> asyncDelete(String url) throws RestException {
+    public ListenableFuture<Response> asyncDelete(String url) throws RestException {
         withURL(url);
         withMethod(DELETE);
         build();
@@ -477,12 +544,12 @@ public final class RequestBuilder implements REST, StreamREST, AsyncREST, Stream
      * Async implementation of HTTP DELETE
      * @param url a full formed URL (o a URI if a base URL applies)
      * @param headers a {@link Headers} instance
-     * @return a Future wrapping a {@link Response}
+     * @return a ListenableFuture wrapping a {@link Response}
      * @throws RestException if request couldn't be made
      * @see RestClient#asyncDelete(String, Headers)
      */
     @Override
-    public Future<Response> asyncDelete(String url, Headers headers) throws RestException {
+    public ListenableFuture<Response> asyncDelete(String url, Headers headers) throws RestException {
         withURL(url);
         withHeaders(headers);
         withMethod(DELETE);
@@ -493,12 +560,12 @@ public final class RequestBuilder implements REST, StreamREST, AsyncREST, Stream
     /**
      * Async implementation of HTTP HEAD
      * @param url a full formed URL (o a URI if a base URL applies)
-     * @return a Future wrapping a {@link Response}
+     * @return a ListenableFuture wrapping a {@link Response}
      * @throws RestException if request couldn't be made
      * @see RestClient#asyncHead(String)
      */
     @Override
-    public Future<Response> asyncHead(String url) throws RestException {
+    public ListenableFuture<Response> asyncHead(String url) throws RestException {
         withURL(url);
         withMethod(HEAD);
         build();
@@ -509,12 +576,12 @@ public final class RequestBuilder implements REST, StreamREST, AsyncREST, Stream
      * Async implementation of HTTP HEAD
      * @param url a full formed URL (o a URI if a base URL applies)
      * @param headers a {@link Headers} instance
-     * @return a Future wrapping a {@link Response}
+     * @return a ListenableFuture wrapping a {@link Response}
      * @throws RestException if request couldn't be made
      * @see RestClient#asyncHead(String, Headers)
      */
     @Override
-    public Future<Response> asyncHead(String url, Headers headers) throws RestException {
+    public ListenableFuture<Response> asyncHead(String url, Headers headers) throws RestException {
         withURL(url);
         withHeaders(headers);
         withMethod(HEAD);
@@ -525,12 +592,12 @@ public final class RequestBuilder implements REST, StreamREST, AsyncREST, Stream
     /**
      * Async implementation of HTTP OPTIONS
      * @param url a full formed URL (o a URI if a base URL applies)
-     * @return a Future wrapping a {@link Response}
+     * @return a ListenableFuture wrapping a {@link Response}
      * @throws RestException if request couldn't be made
      * @see RestClient#asyncOptions(String)
      */
     @Override
-    public Future<Response> asyncOptions(String url) throws RestException {
+    public ListenableFuture<Response> asyncOptions(String url) throws RestException {
         withURL(url);
         withMethod(OPTIONS);
         build();
@@ -541,12 +608,12 @@ public final class RequestBuilder implements REST, StreamREST, AsyncREST, Stream
      * Async implementation of HTTP OPTIONS
      * @param url a full formed URL (o a URI if a base URL applies)
      * @param headers a {@link Headers} instance
-     * @return a Future wrapping a {@link Response}
+     * @return a ListenableFuture wrapping a {@link Response}
      * @throws RestException if request couldn't be made
      * @see RestClient#asyncOptions(String, Headers)
      */
     @Override
-    public Future<Response> asyncOptions(String url, Headers headers) throws RestException {
+    public ListenableFuture<Response> asyncOptions(String url, Headers headers) throws RestException {
         withURL(url);
         withHeaders(headers);
         withMethod(OPTIONS);
@@ -557,12 +624,12 @@ public final class RequestBuilder implements REST, StreamREST, AsyncREST, Stream
     /**
      * Async implementation of HTTP PURGE
      * @param url a full formed URL (o a URI if a base URL applies)
-     * @return a Future wrapping a {@link Response}
+     * @return a ListenableFuture wrapping a {@link Response}
      * @throws RestException if request couldn't be made
      * @see RestClient#asyncPurge(String, Headers)
      */
     @Override
-    public Future<Response> asyncPurge(String url) throws RestException {
+    public ListenableFuture<Response> asyncPurge(String url) throws RestException {
         withURL(url);
         withMethod(PURGE);
         build();
@@ -573,12 +640,12 @@ public final class RequestBuilder implements REST, StreamREST, AsyncREST, Stream
      * Async implementation of HTTP PURGE
      * @param url a full formed URL (o a URI if a base URL applies)
      * @param headers a {@link Headers} instance
-     * @return a Future wrapping a {@link Response}
+     * @return a ListenableFuture wrapping a {@link Response}
      * @throws RestException if request couldn't be made
      * @see RestClient#asyncPurge(String, Headers)
      */
     @Override
-    public Future<Response> asyncPurge(String url, Headers headers) throws RestException {
+    public ListenableFuture<Response> asyncPurge(String url, Headers headers) throws RestException {
         withURL(url);
         withHeaders(headers);
         withMethod(PURGE);
@@ -908,10 +975,10 @@ public final class RequestBuilder implements REST, StreamREST, AsyncREST, Stream
 
     /**
      * Async implementation of HTTP GET. Assumes that URL has been set for this request.
-     * @return a Future wrapping a {@link Response}
+     * @return a ListenableFuture wrapping a {@link Response}
      * @throws RestException if request couldn't be made
      */
-    public Future<Response> asyncGet() throws RestException {
+    public ListenableFuture<Response> asyncGet() throws RestException {
         withMethod(GET);
         build();
         return request.getClients().getAsyncClient().asyncGet(request);
@@ -919,10 +986,10 @@ public final class RequestBuilder implements REST, StreamREST, AsyncREST, Stream
 
     /**
      * Async implementation of HTTP POST. Assumes that URL has been set for this request.
-     * @return a Future wrapping a {@link Response}
+     * @return a ListenableFuture wrapping a {@link Response}
      * @throws RestException if request couldn't be made
      */
-    public Future<Response> asyncPost() throws RestException {
+    public ListenableFuture<Response> asyncPost() throws RestException {
         withMethod(POST);
         build();
         return request.getClients().getAsyncClient().asyncPost(request);
@@ -930,10 +997,10 @@ public final class RequestBuilder implements REST, StreamREST, AsyncREST, Stream
 
     /**
      * Async implementation of HTTP PUT. Assumes that URL has been set for this request.
-     * @return a Future wrapping a {@link Response}
+     * @return a ListenableFuture wrapping a {@link Response}
      * @throws RestException if request couldn't be made
      */
-    public Future<Response> asyncPut() throws RestException {
+    public ListenableFuture<Response> asyncPut() throws RestException {
         withMethod(PUT);
         build();
         return request.getClients().getAsyncClient().asyncPut(request);
@@ -941,10 +1008,10 @@ public final class RequestBuilder implements REST, StreamREST, AsyncREST, Stream
 
     /**
      * Async implementation of HTTP DELETE. Assumes that URL has been set for this request.
-     * @return a Future wrapping a {@link Response}
+     * @return a ListenableFuture wrapping a {@link Response}
      * @throws RestException if request couldn't be made
      */
-    public Future<Response> asyncDelete() throws RestException {
+    public ListenableFuture<Response> asyncDelete() throws RestException {
         withMethod(DELETE);
         build();
         return request.getClients().getAsyncClient().asyncDelete(request);
@@ -952,10 +1019,10 @@ public final class RequestBuilder implements REST, StreamREST, AsyncREST, Stream
 
     /**
      * Async implementation of HTTP HEAD. Assumes that URL has been set for this request.
-     * @return a Future wrapping a {@link Response}
+     * @return a ListenableFuture wrapping a {@link Response}
      * @throws RestException if request couldn't be made
      */
-    public Future<Response> asyncHead() throws RestException {
+    public ListenableFuture<Response> asyncHead() throws RestException {
         withMethod(HEAD);
         build();
         return request.getClients().getAsyncClient().asyncHead(request);
@@ -963,10 +1030,10 @@ public final class RequestBuilder implements REST, StreamREST, AsyncREST, Stream
 
     /**
      * Async implementation of HTTP OPTIONS. Assumes that URL has been set for this request.
-     * @return a Future wrapping a {@link Response}
+     * @return a ListenableFuture wrapping a {@link Response}
      * @throws RestException if request couldn't be made
      */
-    public Future<Response> asyncOptions() throws RestException {
+    public ListenableFuture<Response> asyncOptions() throws RestException {
         withMethod(OPTIONS);
         build();
         return request.getClients().getAsyncClient().asyncOptions(request);
@@ -974,10 +1041,10 @@ public final class RequestBuilder implements REST, StreamREST, AsyncREST, Stream
 
     /**
      * Async implementation of HTTP PURGE. Assumes that URL has been set for this request.
-     * @return a Future wrapping a {@link Response}
+     * @return a ListenableFuture wrapping a {@link Response}
      * @throws RestException if request couldn't be made
      */
-    public Future<Response> asyncPurge() throws RestException {
+    public ListenableFuture<Response> asyncPurge() throws RestException {
         withMethod(PURGE);
         build();
         return request.getClients().getAsyncClient().asyncPurge(request);
@@ -1105,16 +1172,165 @@ public final class RequestBuilder implements REST, StreamREST, AsyncREST, Stream
         return request.getClients().getSyncClient().put(request);
     }
 
+    /**
+     * Implementation of HTTP GET returning as soon as response headers are received
+     * @param url a full formed URL (o a URI if a base URL applies)
+     * @return a {@link StreamingResponse} instance, which must be closed
+     * @throws RestException if request couldn't be made
+     * @see RestClient#getStream(String)
+     */
+    @Override
+    public StreamingResponse getStream(String url) throws RestException {
+        withURL(url);
+        withMethod(GET);
+        build();
+
+        return request.getClients().getSyncClient().stream(request);
+    }
+
+    /**
+     * Implementation of HTTP GET returning as soon as response headers are received
+     * @param url a full formed URL (o a URI if a base URL applies)
+     * @param headers a {@link Headers} instance
+     * @return a {@link StreamingResponse} instance, which must be closed
+     * @throws RestException if request couldn't be made
+     * @see RestClient#getStream(String, Headers)
+     */
+    @Override
+    public StreamingResponse getStream(String url, Headers headers) throws RestException {
+        withURL(url);
+        withMethod(GET);
+        withHeaders(headers);
+        build();
+
+        return request.getClients().getSyncClient().stream(request);
+    }
+
+    /**
+     * Implementation of HTTP POST returning as soon as response headers are received
+     * @param url a full formed URL (o a URI if a base URL applies)
+     * @param body a byte[] containing request body
+     * @return a {@link StreamingResponse} instance, which must be closed
+     * @throws RestException if request couldn't be made
+     * @see RestClient#postStream(String, byte[])
+     */
+    @Override
+    public StreamingResponse postStream(String url, byte[] body) throws RestException {
+        withURL(url);
+        withMethod(POST);
+        withBody(body);
+        build();
+
+        return request.getClients().getSyncClient().stream(request);
+    }
+
+    /**
+     * Implementation of HTTP POST returning as soon as response headers are received
+     * @param url a full formed URL (o a URI if a base URL applies)
+     * @param headers a {@link Headers} instance
+     * @param body a byte[] containing request body
+     * @return a {@link StreamingResponse} instance, which must be closed
+     * @throws RestException if request couldn't be made
+     * @see RestClient#postStream(String, Headers, byte[])
+     */
+    @Override
+    public StreamingResponse postStream(String url, Headers headers, byte[] body) throws RestException {
+        withURL(url);
+        withMethod(POST);
+        withHeaders(headers);
+        withBody(body);
+        build();
+
+        return request.getClients().getSyncClient().stream(request);
+    }
+
+    /**
+     * Implementation of HTTP PUT returning as soon as response headers are received
+     * @param url a full formed URL (o a URI if a base URL applies)
+     * @param body a byte[] containing request body
+     * @return a {@link StreamingResponse} instance, which must be closed
+     * @throws RestException if request couldn't be made
+     * @see RestClient#putStream(String, byte[])
+     */
+    @Override
+    public StreamingResponse putStream(String url, byte[] body) throws RestException {
+        withURL(url);
+        withMethod(PUT);
+        withBody(body);
+        build();
+
+        return request.getClients().getSyncClient().stream(request);
+    }
+
+    /**
+     * Implementation of HTTP PUT returning as soon as response headers are received
+     * @param url a full formed URL (o a URI if a base URL applies)
+     * @param headers a {@link Headers} instance
+     * @param body a byte[] containing request body
+     * @return a {@link StreamingResponse} instance, which must be closed
+     * @throws RestException if request couldn't be made
+     * @see RestClient#putStream(String, Headers, byte[])
+     */
+    @Override
+    public StreamingResponse putStream(String url, Headers headers, byte[] body) throws RestException {
+        withURL(url);
+        withMethod(PUT);
+        withHeaders(headers);
+        withBody(body);
+        build();
+
+        return request.getClients().getSyncClient().stream(request);
+    }
+
+    /**
+     * Implementation of HTTP GET returning as soon as response headers are received. At least URL must be already defined.
+     * @return a {@link StreamingResponse} instance, which must be closed
+     * @throws RestException if request couldn't be made
+     * @see #withURL(String)
+     */
+    public StreamingResponse getStream() throws RestException {
+        withMethod(GET);
+        build();
+
+        return request.getClients().getSyncClient().stream(request);
+    }
+
+    /**
+     * Implementation of HTTP POST returning as soon as response headers are received. At least URL must be already defined.
+     * @return a {@link StreamingResponse} instance, which must be closed
+     * @throws RestException if request couldn't be made
+     * @see #withURL(String)
+     */
+    public StreamingResponse postStream() throws RestException {
+        withMethod(POST);
+        build();
+
+        return request.getClients().getSyncClient().stream(request);
+    }
+
+    /**
+     * Implementation of HTTP PUT returning as soon as response headers are received. At least URL must be already defined.
+     * @return a {@link StreamingResponse} instance, which must be closed
+     * @throws RestException if request couldn't be made
+     * @see #withURL(String)
+     */
+    public StreamingResponse putStream() throws RestException {
+        withMethod(PUT);
+        build();
+
+        return request.getClients().getSyncClient().stream(request);
+    }
+
     /**
      * Async implementation of HTTP GET for data download
      * @param url a full formed URL (o a URI if a base URL applies)
      * @param outputStream an output stream where data will be streamed
-     * @return a Future wrapping a {@link Response}. Its body will be null.
+     * @return a ListenableFuture wrapping a {@link Response}. Its body will be null.
      * @throws RestException if request couldn't be made
      * @see RestClient#asyncGet(String, OutputStream)
      */
     @Override
-    public Future<Response> asyncGet(String url, OutputStream outputStream) throws RestException {
+    public ListenableFuture<Response> asyncGet(String url, OutputStream outputStream) throws RestException {
         withURL(url);
         withMethod(GET);
         withOutputStream(outputStream);
@@ -1128,12 +1344,12 @@ public final class RequestBuilder implements REST, StreamREST, AsyncREST, Stream
      * @param url a full formed URL (o a URI if a base URL applies)
      * @param headers a {@link Headers} instance
      * @param outputStream an output stream where data will be streamed
-     * @return a Future wrapping a {@link Response}. Its body will be null.
+     * @return a ListenableFuture wrapping a {@link Response}. Its body will be null.
      * @throws RestException if request couldn't be made
      * @see RestClient#asyncGet(String, Headers, OutputStream)
      */
     @Override
-    public Future<Response> asyncGet(String url, Headers headers, OutputStream outputStream) throws RestException {
+    public ListenableFuture<Response> asyncGet(String url, Headers headers, OutputStream outputStream) throws RestException {
         withURL(url);
         withMethod(GET);
         withHeaders(headers);
@@ -1148,12 +1364,12 @@ public final class RequestBuilder implements REST, StreamREST, AsyncREST, Stream
      * @param url a full formed URL (o a URI if a base URL applies)
      * @param body a byte[] containing request body
      * @param outputStream an output stream where data will be streamed
-     * @return a Future wrapping a {@link Response}. Its body will be null.
+     * @return a ListenableFuture wrapping a {@link Response}. Its body will be null.
      * @throws RestException if request couldn't be made
      * @see RestClient#asyncPost(String, byte[], OutputStream)
      */
     @Override
-    public Future<Response> asyncPost(String url, byte[] body, OutputStream outputStream) throws RestException {
+    public ListenableFuture<Response> asyncPost(String url, byte[] body, OutputStream outputStream) throws RestException {
         withURL(url);
         withMethod(POST);
         withBody(body);
@@ -1169,12 +1385,12 @@ public final class RequestBuilder implements REST, StreamREST, AsyncREST, Stream
      * @param headers a {@link Headers} instance
      * @param body a byte[] containing request body
      * @param outputStream an output stream where data will be streamed
-     * @return a Future wrapping a {@link Response}. Its body will be null.
+     * @return a ListenableFuture wrapping a {@link Response}. Its body will be null.
      * @throws RestException if request couldn't be made
      * @see RestClient#asyncPost(String, Headers, byte[], OutputStream)
      */
     @Override
-    public Future<Response> asyncPost(String url, Headers headers, byte[] body, OutputStream outputStream) throws RestException {
+    public ListenableFuture<Response> asyncPost(String url, Headers headers, byte[] body, OutputStream outputStream) throws RestException {
         withURL(url);
         withMethod(POST);
         withHeaders(headers);
@@ -1190,12 +1406,12 @@ public final class RequestBuilder implements REST, StreamREST, AsyncREST, Stream
      * @param url a full formed URL (o a URI if a base URL applies)
      * @param body a byte[] containing request body
      * @param outputStream an output stream where data will be streamed
-     * @return a Future wrapping a {@link Response}. Its body will be null.
+     * @return a ListenableFuture wrapping a {@link Response}. Its body will be null.
      * @throws RestException if request couldn't be made
      * @see RestClient#asyncPut(String, byte[], OutputStream)
      */
     @Override
-    public Future<Response> asyncPut(String url, byte[] body, OutputStream outputStream) throws RestException {
+    public ListenableFuture<Response> asyncPut(String url, byte[] body, OutputStream outputStream) throws RestException {
         withURL(url);
         withMethod(PUT);
         withBody(body);
@@ -1211,12 +1427,12 @@ public final class RequestBuilder implements REST, StreamREST, AsyncREST, Stream
      * @param headers a {@link Headers} instance
      * @param body a byte[] containing request body
      * @param outputStream an output stream where data will be streamed
-     * @return a Future wrapping a {@link Response}. Its body will be null.
+     * @return a ListenableFuture wrapping a {@link Response}. Its body will be null.
      * @throws RestException if request couldn't be made
      * @see RestClient#asyncPut(String, Headers, byte[], OutputStream)
      */
     @Override
-    public Future<Response> asyncPut(String url, Headers headers, byte[] body, OutputStream outputStream) throws RestException {
+    public ListenableFuture<Response> asyncPut(String url, Headers headers, byte[] body, OutputStream outputStream) throws RestException {
         withURL(url);
         withMethod(PUT);
         withHeaders(headers);
@@ -1230,12 +1446,12 @@ public final class RequestBuilder implements REST, StreamREST, AsyncREST, Stream
     /**
      * Async implementation of HTTP POST
      * @param url a full formed URL (o a URI if a base URL applies)
-     * @return a Future wrapping a {@link Response}
+     * @return a ListenableFuture wrapping a {@link Response}
      * @throws RestException if request couldn't be made
      * @see RestClient#asyncPost(String)
      */
     @Override
-    public Future<Response> asyncPost(String url) throws RestException {
+    public ListenableFuture<Response> asyncPost(String url) throws RestException {
         withURL(url);
         withMethod(POST);
         build();
@@ -1247,12 +1463,12 @@ public final class RequestBuilder implements REST, StreamREST, AsyncREST, Stream
      * Async implementation of HTTP POST
      * @param url a full formed URL (o a URI if a base URL applies)
      * @param headers a {@link Headers} instance
-     * @return a Future wrapping a {@link Response}
+     * @return a ListenableFuture wrapping a {@link Response}
      * @throws RestException if request couldn't be made
      * @see RestClient#asyncPost(String, Headers)
      */
     @Override
-    public Future<Response> asyncPost(String url, Headers headers) throws RestException {
+    public ListenableFuture<Response> asyncPost(String url, Headers headers) throws RestException {
         withURL(url);
         withMethod(POST);
         withHeaders(headers);
@@ -1264,12 +1480,12 @@ public final class RequestBuilder implements REST, StreamREST, AsyncREST, Stream
     /**
      * Async implementation of HTTP PUT
      * @param url a full formed URL (o a URI if a base URL applies)
-     * @return a Future wrapping a {@link Response}
+     * @return a ListenableFuture wrapping a {@link Response}
      * @throws RestException if request couldn't be made
      * @see RestClient#asyncPut(String)
      */
     @Override
-    public Future<Response> asyncPut(String url) throws RestException {
+    public ListenableFuture<Response> asyncPut(String url) throws RestException {
         withURL(url);
         withMethod(PUT);
         build();
@@ -1281,12 +1497,12 @@ public final class RequestBuilder implements REST, StreamREST, AsyncREST, Stream
      * Async implementation of HTTP PUT
      * @param url a full formed URL (o a URI if a base URL applies)
      * @param headers a {@link Headers} instance
-     * @return a Future wrapping a {@link Response}
+     * @return a ListenableFuture wrapping a {@link Response}
      * @throws RestException if request couldn't be made
      * @see RestClient#asyncPut(String, Headers)
      */
     @Override
-    public Future<Response> asyncPut(String url, Headers headers) throws RestException {
+    public ListenableFuture<Response> asyncPut(String url, Headers headers) throws RestException {
         withURL(url);
         withMethod(PUT);
         withHeaders(headers);
@@ -1367,12 +1583,12 @@ public final class RequestBuilder implements REST, StreamREST, AsyncREST, Stream
      * Async implementation of HTTP POST for data download
      * @param url a full formed URL (o a URI if a base URL applies)
      * @param outputStream an output stream where data will be streamed
-     * @return a Future wrapping a {@link Response}. Its body will be null.
+     * @return a ListenableFuture wrapping a {@link Response}. Its body will be null.
      * @throws RestException if request couldn't be made
      * @see RestClient#asyncPost(String, OutputStream)
      */
     @Override
-    public Future<Response> asyncPost(String url, OutputStream outputStream) throws RestException {
+    public ListenableFuture<Response> asyncPost(String url, OutputStream outputStream) throws RestException {
         withURL(url);
         withMethod(POST);
         withOutputStream(outputStream);
@@ -1386,12 +1602,12 @@ public final class RequestBuilder implements REST, StreamREST, AsyncREST, Stream
      * @param url a full formed URL (o a URI if a base URL applies)
      * @param headers a {@link Headers} instance
      * @param outputStream an output stream where data will be streamed
-     * @return a Future wrapping a {@link Response}. Its body will be null.
+     * @return a ListenableFuture wrapping a {@link Response}. Its body will be null.
      * @throws RestException if request couldn't be made
      * @see RestClient#asyncPost(String, Headers, OutputStream)
      */
     @Override
-    public Future<Response> asyncPost(String url, Headers headers, OutputStream outputStream) throws RestException {
+    public ListenableFuture<Response> asyncPost(String url, Headers headers, OutputStream outputStream) throws RestException {
         withURL(url);
         withMethod(POST);
         withHeaders(headers);
@@ -1405,12 +1621,12 @@ public final class RequestBuilder implements REST, StreamREST, AsyncREST, Stream
      * Async implementation of HTTP PUT for data download
      * @param url a full formed URL (o a URI if a base URL applies)
      * @param outputStream an output stream where data will be streamed
-     * @return a Future wrapping a {@link Response}. Its body will be null.
+     * @return a ListenableFuture wrapping a {@link Response}. Its body will be null.
      * @throws RestException if request couldn't be made
      * @see RestClient#asyncPut(String, OutputStream)
      */
     @Override
-    public Future<Response> asyncPut(String url, OutputStream outputStream) throws RestException {
+    public ListenableFuture<Response> asyncPut(String url, OutputStream outputStream) throws RestException {
         withURL(url);
         withMethod(PUT);
         withOutputStream(outputStream);
@@ -1424,12 +1640,12 @@ public final class RequestBuilder implements REST, StreamREST, AsyncREST, Stream
      * @param url a full formed URL (o a URI if a base URL applies)
      * @param headers a {@link Headers} instance
      * @param outputStream an output stream where data will be streamed
-     * @return a Future wrapping a {@link Response}. Its body will be null.
+     * @return a ListenableFuture wrapping a {@link Response}. Its body will be null.
      * @throws RestException if request couldn't be made
      * @see RestClient#asyncPut(String, Headers, OutputStream)
      */
     @Override
-    public Future<Response> asyncPut(String url, Headers headers, OutputStream outputStream) throws RestException {
+    public ListenableFuture<Response> asyncPut(String url, Headers headers, OutputStream outputStream) throws RestException {
         withURL(url);
         withMethod(PUT);
         withHeaders(headers);
@@ -0,0 +1,207 @@
+package com.mercadolibre.restclient;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import com.mercadolibre.metrics.Metrics;
+import com.mercadolibre.restclient.exception.RestException;
+import com.mercadolibre.restclient.http.Authentication;
+import com.mercadolibre.restclient.http.Header;
+import com.mercadolibre.restclient.http.HttpMethod;
+import com.mercadolibre.restclient.http.Proxy;
+import com.mercadolibre.restclient.metrics.MetricUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Single-flight layer for identical concurrent GET requests of a pool. The first request for a given resource goes
+ * upstream, while every other request arriving before it completes waits for the same outcome. Each of them gets a
+ * {@link Response#copy() copy} of the response, which its own response interceptors are applied to.
+ * <p>
+ * Requests are identical when their {@link com.mercadolibre.restclient.cache.CacheKey CacheKey}, authentication, proxy
+ * and the values of a set of headers match, so parameter order doesn't matter. Those headers are by default the ones in
+ * {@link #DEFAULT_HEADERS}, which usually change the response, while the rest, as tracing or request ids, are ignored.
+ * Conditional headers are always compared, as they may turn a response into a 304.
+ * <p>
+ * Downloads and requests with other methods are never coalesced.
+ */
+public class RequestCoalescer {
+
+    /**
+     * Headers compared by default to tell whether two requests are identical
+     */
+    public static final List<String> DEFAULT_HEADERS = Collections.unmodifiableList(Arrays.asList("Accept", "Accept-Encoding", "Accept-Language", "Authorization", "Cookie"));
+
+    private static final List<String> CONDITIONAL_HEADERS = Arrays.asList("If-None-Match", "If-Modified-Since");
+
+    private final ConcurrentMap<Key, SettableFuture<Response>> flights = new ConcurrentHashMap<>();
+    private final String[] headers;
+
+    /**
+     * Builds a coalescer comparing {@link #DEFAULT_HEADERS}
+     */
+    public RequestCoalescer() {
+        this(DEFAULT_HEADERS);
+    }
+
+    /**
+     * Builds a coalescer comparing given headers, besides conditional ones. Any other header is ignored.
+     * @param headers the names of the headers to compare, case insensitive
+     */
+    public RequestCoalescer(Collection<String> headers) {
+        SortedSet<String> names = new TreeSet<>();
+        for (String name : headers)
+            names.add(name.toLowerCase(Locale.ROOT));
+        for (String name : CONDITIONAL_HEADERS)
+            names.add(name.toLowerCase(Locale.ROOT));
+
+        this.headers = names.toArray(new String[names.size()]);
+    }
+
+    /**
+     * A flight joined by a request. Only its leader executes the request and completes it.
+     */
+    public static final class Flight {
+
+        private final RequestCoalescer coalescer;
+        private final Key key;
+        private final SettableFuture<Response> future;
+        private final boolean leader;
+
+        private Flight(RequestCoalescer coalescer, Key key, SettableFuture<Response> future, boolean leader) {
+            this.coalescer = coalescer;
+            this.key = key;
+            this.future = future;
+            this.leader = leader;
+        }
+
+        /**
+         * @return true if this request should be executed, and the flight completed with its outcome
+         */
+        public boolean isLeader() {
+            return leader;
+        }
+
+        /**
+         * @return a future completed with the leader outcome
+         */
+        public ListenableFuture<Response> getFuture() {
+            return future;
+        }
+
+        /**
+         * Completes this flight, releasing every waiting request. Only meant for leaders, which keep their own response,
+         * as the flight holds a copy of it.
+         * @param response the response, or null if request failed
+         * @param exception the failure, or null if request succeeded
+         */
+        public void complete(Response response, Throwable exception) {
+            coalescer.flights.remove(key, future);
+
+            if (exception != null)
+                future.setException(exception);
+            else
+                future.set(response != null ? response.copy() : null);
+        }
+
+        /**
+         * Blocks until leader completes this flight. Only meant for followers.
+         * @return a copy of the leader response, for the caller alone
+         * @throws RestException if leader failed, or current thread was interrupted
+         */
+        public Response await() throws RestException {
+            try {
+                Response response = future.get();
+                return response != null ? response.copy() : null;
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RestException(e, "Interrupted while waiting for coalesced request");
+
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                throw cause instanceof RestException ? (RestException) cause : new RestException(cause, cause.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Joins the flight for given request, starting a new one if there is none in progress.
+     * @param r the request
+     * @return a flight, or null if request cannot be coalesced
+     */
+    public Flight join(Request r) {
+        r.setCoalesced(false);
+        if (r.getMethod() != HttpMethod.GET || r.isDownload()) return null;
+
+        Key key = new Key(r, headers);
+        SettableFuture<Response> future = SettableFuture.create();
+        SettableFuture<Response> current = flights.putIfAbsent(key, future);
+
+        if (current == null) return new Flight(this, key, future, true);
+
+        r.setCoalesced(true);
+
+        Metrics.INSTANCE.incrementCounter("restclient.http.coalesced", MetricUtil.getRequestTags(r).toArray());
+
+        return new Flight(this, key, current, false);
+    }
+
+    /**
+     * @return number of requests currently in flight
+     */
+    public int size() {
+        return flights.size();
+    }
+
+    private static final class Key {
+
+        private final String url;
+        private final List<String> headers;
+        private final Authentication authentication;
+        private final Proxy proxy;
+        private final int hash;
+
+        private Key(Request r, String[] names) {
+            this.url = r.getCacheKey().toString();
+            this.authentication = r.getAuthentication();
+            this.proxy = r.getProxy();
+
+            List<String> headers = new ArrayList<>(names.length);
+            if (r.getHeaders() != null)
+                for (String name : names)
+                    for (Header h : r.getHeaders().getAll(name))
+                        headers.add(name + ":" + h.getValue());
+
+            this.headers = headers;
+
+            this.hash = Objects.hash(url, headers, authentication, proxy);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+
+            Key other = (Key) o;
+            return hash == other.hash && url.equals(other.url) && headers.equals(other.headers)
+                    && Objects.equals(authentication, other.authentication) && Objects.equals(proxy, other.proxy);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+}
@@ -0,0 +1,402 @@
+package com.mercadolibre.restclient;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import com.mercadolibre.restclient.http.Header;
+import com.mercadolibre.restclient.http.Headers;
+import com.mercadolibre.restclient.interceptor.RequestInterceptor;
+import com.mercadolibre.restclient.interceptor.ResponseInterceptor;
+import com.mercadolibre.restclient.retry.RetryStrategy;
+import com.mercadolibre.restclient.util.URLUtils;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * A request compiled once for an endpoint called many times, as {@code /items/{id}}. Base URL, query parameters,
+ * headers, interceptors and retry strategy are resolved when the template is built, so binding it only expands its
+ * variables, percent-encoding them in a single pass over one buffer.
+ * <p>
+ * Variables are expanded as RFC 6570 simple strings: every character but unreserved ones is percent-encoded as UTF-8,
+ * so a value can never change the structure of the URL. Literal parts of the template are kept as given.
+ * <pre>
+ * RequestTemplate items = restClient.prepare("/items/{id}", pool)
+ *         .withParameter("attributes", "id,title")
+ *         .build();
+ *
+ * Response response = items.bind("MLA123").get();
+ * </pre>
+ * Templates are immutable and can be shared among threads.
+ * @see <a href="https://tools.ietf.org/html/rfc6570#section-3.2.2">RFC 6570: Simple String Expansion</a>
+ */
+public final class RequestTemplate {
+
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+    private static final int VARIABLE_CAPACITY = 16;
+
+    private final RestClient restClient;
+    private final ClientHolder.Clients<?> clients;
+    private final String template;
+    private final String[] literals;
+    private final String[] names;
+    private final int[] slots;
+    private final int length;
+    private final Headers headers;
+    private final RetryStrategy retryStrategy;
+    private final RequestInterceptor[] requestInterceptors;
+    private final ResponseInterceptor[] responseInterceptors;
+
+    private RequestTemplate(Builder builder) {
+        this.restClient = builder.restClient;
+        this.clients = builder.clients;
+        this.template = builder.template;
+
+        RESTPool pool = clients.getPool();
+        String url = URLUtils.completeURL(pool.getBaseURL(), template);
+
+        List<String> literals = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+
+        int start = 0;
+        for (int open = url.indexOf('{'); open >= 0; open = url.indexOf('{', start)) {
+            int close = url.indexOf('}', open);
+            if (close < 0) throw new IllegalArgumentException("Unclosed variable in template " + template);
+
+            String name = url.substring(open + 1, close).trim();
+            if (name.isEmpty() || name.indexOf('{') >= 0)
+                throw new IllegalArgumentException("Invalid variable in template " + template);
+
+            String literal = url.substring(start, open);
+            if (literal.indexOf('}') >= 0) throw new IllegalArgumentException("Unopened variable in template " + template);
+
+            if (!names.contains(name)) names.add(name);
+
+            literals.add(literal);
+            slots.add(names.indexOf(name));
+            start = close + 1;
+        }
+
+        String last = url.substring(start);
+        if (last.indexOf('}') >= 0) throw new IllegalArgumentException("Unopened variable in template " + template);
+
+        literals.add(last + query(url.indexOf('?') >= 0, builder.parameters));
+
+        this.literals = literals.toArray(new String[literals.size()]);
+        this.names = names.toArray(new String[names.size()]);
+        this.slots = new int[slots.size()];
+
+        int length = 0;
+        for (int i = 0; i < this.slots.length; i++)
+            this.slots[i] = slots.get(i);
+
+        for (String literal : this.literals)
+            length += literal.length();
+
+        this.length = length;
+        this.headers = new Headers(builder.headers);
+        this.retryStrategy = builder.retryStrategy != null ? builder.retryStrategy : pool.getRetryStrategy();
+        this.requestInterceptors = chain(pool.getRequestInterceptorChain(), builder.requestInterceptors, new RequestInterceptor[0]);
+        this.responseInterceptors = chain(pool.getResponseInterceptorChain(), builder.responseInterceptors, new ResponseInterceptor[0]);
+    }
+
+    private static String query(boolean hasQuery, SortedMap<String, String> parameters) {
+        if (parameters.isEmpty()) return "";
+
+        StringBuilder query = new StringBuilder();
+        char separator = hasQuery ? '&' : '?';
+        for (Map.Entry<String, String> parameter : parameters.entrySet()) {
+            query.append(separator);
+            encode(parameter.getKey(), query);
+            query.append('=');
+            encode(parameter.getValue(), query);
+            separator = '&';
+        }
+
+        return query.toString();
+    }
+
+    private static <T> T[] chain(T[] pool, Deque<T> own, T[] empty) {
+        if (own.isEmpty()) return pool;
+
+        List<T> chain = new ArrayList<>(Arrays.asList(pool));
+        chain.addAll(own);
+
+        return chain.toArray(empty);
+    }
+
+    /**
+     * Percent-encodes every character but unreserved ones, as UTF-8, straight into given buffer
+     * @param value the value to encode
+     * @param output the buffer to append to
+     */
+    static void encode(String value, StringBuilder output) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+
+            if (isUnreserved(c)) {
+                output.append(c);
+            } else if (c < 0x80) {
+                escape(c, output);
+            } else if (c < 0x800) {
+                escape(0xC0 | (c >> 6), output);
+                escape(0x80 | (c & 0x3F), output);
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int cp = Character.toCodePoint(c, value.charAt(++i));
+                escape(0xF0 | (cp >> 18), output);
+                escape(0x80 | ((cp >> 12) & 0x3F), output);
+                escape(0x80 | ((cp >> 6) & 0x3F), output);
+                escape(0x80 | (cp & 0x3F), output);
+            } else if (Character.isSurrogate(c)) {
+                // An unpaired surrogate can't be encoded, so it's replaced as String.getBytes would do
+                escape('?', output);
+            } else {
+                escape(0xE0 | (c >> 12), output);
+                escape(0x80 | ((c >> 6) & 0x3F), output);
+                escape(0x80 | (c & 0x3F), output);
+            }
+        }
+    }
+
+    private static boolean isUnreserved(char c) {
+        return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9'
+                || c == '-' || c == '.' || c == '_' || c == '~';
+    }
+
+    private static void escape(int b, StringBuilder output) {
+        output.append('%').append(HEX[(b >> 4) & 0xF]).append(HEX[b & 0xF]);
+    }
+
+    /**
+     * @return the template this instance was compiled from
+     */
+    public String getTemplate() {
+        return template;
+    }
+
+    /**
+     * @return the distinct variable names of this template, in order of appearance
+     */
+    public List<String> getVariables() {
+        return Arrays.asList(names.clone());
+    }
+
+    /**
+     * Expands this template to a full URL, including base URL and query parameters
+     * @param values variable values, in order of appearance. A variable used many times takes a single value
+     * @return the encoded URL
+     * @throws IllegalArgumentException if values don't match template variables
+     */
+    public String expand(Object... values) {
+        if (values.length != names.length)
+            throw new IllegalArgumentException("Template " + template + " expects " + names.length + " values, got " + values.length);
+
+        StringBuilder url = new StringBuilder(length + VARIABLE_CAPACITY * slots.length);
+
+        for (int i = 0; i < slots.length; i++) {
+            Object value = values[slots[i]];
+            if (value == null) throw new IllegalArgumentException("Value for " + names[slots[i]] + " should not be null");
+
+            url.append(literals[i]);
+            encode(value.toString(), url);
+        }
+
+        return url.append(literals[slots.length]).toString();
+    }
+
+    /**
+     * Expands this template to a full URL, including base URL and query parameters
+     * @param values variable values, by name
+     * @return the encoded URL
+     * @throws IllegalArgumentException if a variable has no value
+     */
+    public String expand(Map<String, ?> values) {
+        Object[] ordered = new Object[names.length];
+        for (int i = 0; i < names.length; i++)
+            ordered[i] = values.get(names[i]);
+
+        return expand(ordered);
+    }
+
+    /**
+     * Binds this template to given values, building a request ready to be sent by any of the no URL methods of
+     * {@link RequestBuilder}, as {@link RequestBuilder#get()}. It can still be customized before sending it.
+     * @param values variable values, in order of appearance
+     * @return a builder for the bound request
+     * @throws IllegalArgumentException if values don't match template variables
+     */
+    public RequestBuilder bind(Object... values) {
+        return bind(expand(values));
+    }
+
+    /**
+     * Binds this template to given values, building a request ready to be sent by any of the no URL methods of
+     * {@link RequestBuilder}, as {@link RequestBuilder#get()}. It can still be customized before sending it.
+     * @param values variable values, by name
+     * @return a builder for the bound request
+     * @throws IllegalArgumentException if a variable has no value
+     */
+    public RequestBuilder bind(Map<String, ?> values) {
+        return bind(expand(values));
+    }
+
+    private RequestBuilder bind(String url) {
+        Request request = new Request();
+
+        request.setPreparedURL(url);
+        request.setClients(clients);
+        request.setRetryStrategy(retryStrategy);
+        request.setPoolInterceptors(requestInterceptors, responseInterceptors);
+
+        if (!headers.isEmpty())
+            request.setHeaders(new Headers(headers));
+
+        return new RequestBuilder(restClient, request);
+    }
+
+    /**
+     * Builder implementation for {@link RequestTemplate}
+     */
+    public static final class Builder {
+
+        private final RestClient restClient;
+        private final ClientHolder.Clients<?> clients;
+        private final String template;
+        private final SortedMap<String, String> parameters = new TreeMap<>();
+        private final Headers headers = new Headers();
+        private final Deque<RequestInterceptor> requestInterceptors = new LinkedList<>();
+        private final Deque<ResponseInterceptor> responseInterceptors = new LinkedList<>();
+        private RetryStrategy retryStrategy;
+
+        Builder(RestClient restClient, ClientHolder.Clients<?> clients, String template) {
+            if (template == null) throw new IllegalArgumentException("Template should not be null");
+
+            this.restClient = restClient;
+            this.clients = clients;
+            this.template = template;
+        }
+
+        /**
+         * Adds a query parameter to every request of this template. Parameters are sorted by name and encoded once
+         * @param name parameter name
+         * @param value parameter value
+         * @return this builder
+         */
+        public Builder withParameter(String name, String value) {
+            if (StringUtils.isNotBlank(name))
+                parameters.put(name, value != null ? value : "");
+
+            return this;
+        }
+
+        /**
+         * Adds query parameters to every request of this template
+         * @param parameters a map with name,value entries
+         * @return this builder
+         */
+        public Builder withParameters(Map<String, String> parameters) {
+            for (Map.Entry<String, String> e : parameters.entrySet())
+                withParameter(e.getKey(), e.getValue());
+
+            return this;
+        }
+
+        /**
+         * Adds a header to every request of this template
+         * @param header a {@link Header} instance
+         * @return this builder
+         */
+        public Builder withHeader(Header header) {
+            headers.add(header);
+            return this;
+        }
+
+        /**
+         * Adds a header to every request of this template
+         * @param name header name
+         * @param value header value
+         * @return this builder
+         */
+        public Builder withHeader(String name, String value) {
+            return withHeader(new Header(name, value));
+        }
+
+        /**
+         * Adds headers to every request of this template
+         * @param headers a {@link Headers} instance
+         * @return this builder
+         */
+        public Builder withHeaders(Headers headers) {
+            for (Header h : headers)
+                this.headers.add(h);
+
+            return this;
+        }
+
+        /**
+         * Specifies a retry strategy for this template, instead of the pool one
+         * @param retryStrategy a {@link RetryStrategy} instance
+         * @return this builder
+         */
+        public Builder withRetryStrategy(RetryStrategy retryStrategy) {
+            this.retryStrategy = retryStrategy;
+            return this;
+        }
+
+        /**
+         * Adds a request interceptor as the first one of this template, which still runs after pool interceptors
+         * @param i a {@link RequestInterceptor} instance
+         * @return this builder
+         */
+        public Builder withInterceptorFirst(RequestInterceptor i) {
+            requestInterceptors.addFirst(i);
+            return this;
+        }
+
+        /**
+         * Adds a request interceptor as the last one of this template
+         * @param i a {@link RequestInterceptor} instance
+         * @return this builder
+         */
+        public Builder withInterceptorLast(RequestInterceptor i) {
+            requestInterceptors.addLast(i);
+            return this;
+        }
+
+        /**
+         * Adds a response interceptor as the first one of this template, which still runs after pool interceptors
+         * @param i a {@link ResponseInterceptor} instance
+         * @return this builder
+         */
+        public Builder withInterceptorFirst(ResponseInterceptor i) {
+            responseInterceptors.addFirst(i);
+            return this;
+        }
+
+        /**
+         * Adds a response interceptor as the last one of this template
+         * @param i a {@link ResponseInterceptor} instance
+         * @return this builder
+         */
+        public Builder withInterceptorLast(ResponseInterceptor i) {
+            responseInterceptors.addLast(i);
+            return this;
+        }
+
+        /**
+         * Compiles the template
+         * @return a new {@link RequestTemplate}
+         * @throws IllegalArgumentException if the template is malformed
+         */
+        public RequestTemplate build() {
+            return new RequestTemplate(this);
+        }
+
+    }
+
+}
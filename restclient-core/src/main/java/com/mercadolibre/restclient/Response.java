@@ -7,9 +7,14 @@ import com.mercadolibre.restclient.http.Header;
 import com.mercadolibre.restclient.http.Headers;
 import com.mercadolibre.restclient.serialization.Serializer;
 import com.mercadolibre.restclient.serialization.Serializers;
+import com.mercadolibre.restclient.util.Clocks;
+import com.mercadolibre.restclient.util.HttpCompressionHandler;
 
+import java.io.IOException;
 import java.io.Serializable;
 
+import static com.mercadolibre.restclient.log.LogUtil.log;
+
 /**
  * A representation of an HTTP response, returned by all {@link RestClient} HTTP calls.
  */
@@ -19,16 +24,26 @@ public class Response implements Serializable {
 	
     private int status;
     private Headers headers;
-    private byte[] bytes;
+    private volatile byte[] bytes;
+    private volatile byte[] encodedBytes;
+    private volatile Header bodyEncoding;
     
-    private CacheControl cacheControl;
+    private final long received;
+    private volatile CacheControl cacheControl;
 
     public Response(int status, Headers headers, byte[] bytes) {
         this.status = status;
         this.headers = headers;
         this.bytes = bytes;
-        
-        this.cacheControl = CacheControl.builder(headers).build();
+        this.received = Clocks.currentTimeMillis();
+    }
+
+    private Response(int status, Headers headers, byte[] bytes, long received, CacheControl cacheControl) {
+        this.status = status;
+        this.headers = headers;
+        this.bytes = bytes;
+        this.received = received;
+        this.cacheControl = cacheControl;
     }
 
     /**
@@ -58,32 +73,132 @@ public class Response implements Serializable {
     }
 
     /**
-     * Retrieves raw response body
-     * @return a byte array or null if response has no body
+     * Retrieves response body, decoding it first if it's still encoded. Bodies received by this client are checked when
+     * the request completes, so decoding can only fail for a response built with a corrupt encoded body. In that case
+     * the failure is logged and null is returned, while {@link #getEncodedBytes()} still returns it.
+     * @return a byte array or null if response has no body, or it could not be decoded
      * @see #getString()
      */
     public byte[] getBytes() {
-        return bytes;
+        try {
+            return decodedBytes();
+        } catch (ParseException e) {
+            log.error(e.getMessage(), e.getCause());
+            return null;
+        }
     }
 
     public void setBytes(byte[] bytes) {
         this.bytes = bytes;
+        this.encodedBytes = null;
+        this.bodyEncoding = null;
+    }
+
+    private synchronized void decodeBody() throws IOException {
+        if (bodyEncoding == null) return;
+
+        bytes = HttpCompressionHandler.decode(encodedBytes, bodyEncoding);
+        encodedBytes = null;
+        bodyEncoding = null;
     }
 
     /**
-     * Retrieves the Cache-Control header information
+     * Declares current body is still encoded as given Content-Encoding. It's kept as it is, and decoded only the first time
+     * it's accessed. Nothing is done if body was already declared as encoded.
+     * @param contentEncoding the encoding of current body
+     * @see #getEncodedBytes()
+     */
+    public synchronized void setBodyEncoding(Header contentEncoding) {
+        if (bodyEncoding != null || contentEncoding == null || bytes == null) return;
+
+        this.encodedBytes = bytes;
+        this.bytes = null;
+        this.bodyEncoding = contentEncoding;
+    }
+
+    /**
+     * Retrieves the Content-Encoding body is still encoded with, if it was not accessed yet
+     * @return the encoding, or null if body is not encoded
+     */
+    public Header getBodyEncoding() {
+        return bodyEncoding;
+    }
+
+    /**
+     * Retrieves the raw response body, without decoding it. Caches store this form, which is usually much smaller.
+     * @return the encoded body if it's pending to be decoded, the same as {@link #getBytes()} otherwise
+     * @see #getBodyEncoding()
+     */
+    public synchronized byte[] getEncodedBytes() {
+        return bodyEncoding != null ? encodedBytes : bytes;
+    }
+
+    /**
+     * Creates a response sharing this one's status, headers and {@link CacheControl}, with a body still encoded if this
+     * one is. Caches hand out these copies, so decoding a body never keeps its decoded form stored in them.
+     * @return a new response if body is encoded, this one otherwise
+     */
+    public synchronized Response encodedCopy() {
+        if (bodyEncoding == null) return this;
+
+        Response copy = new Response(status, headers, encodedBytes, received, getCacheControl());
+        copy.setBodyEncoding(bodyEncoding);
+
+        return copy;
+    }
+
+    /**
+     * Creates a response with this one's status, body and receive time, and headers of its own, so it can be changed by
+     * response interceptors without affecting this one. Body is still encoded if this one's is, and Cache-Control is
+     * parsed again from the copied headers.
+     * @return a new response
+     */
+    public synchronized Response copy() {
+        Response copy = new Response(status, headers != null ? headers.clone() : null, getEncodedBytes(), received, null);
+        copy.setBodyEncoding(bodyEncoding);
+
+        return copy;
+    }
+
+    /**
+     * Retrieves the Cache-Control header information. It's parsed on first call, as only cache paths need it, and the
+     * same instance is returned afterwards. Its age is counted from the time this response was built.
      * @return a {@link CacheControl} instance
      */
     public CacheControl getCacheControl() {
-    	return cacheControl;
+        CacheControl result = cacheControl;
+
+        if (result == null) {
+            synchronized (this) {
+                result = cacheControl;
+
+                if (result == null)
+                    cacheControl = result = CacheControl.builder(headers).withResponseTime(received).build();
+            }
+        }
+
+        return result;
+    }
+
+    private byte[] decodedBytes() throws ParseException {
+        if (bodyEncoding != null) {
+            try {
+                decodeBody();
+            } catch (IOException e) {
+                throw new ParseException("Could not decode response body with Content-Encoding: " + bodyEncoding.getValue(), e);
+            }
+        }
+
+        return bytes;
     }
 
     /**
      * Returns the response body, parsed according to Content-Type header, using registered {@link Serializer serializers}
      * @return An object representing the request body, it should be casted accordingly
-     * @throws ParseException if data could not be parsed for this Content-Type
+     * @throws ParseException if body could not be decoded, or data could not be parsed for this Content-Type
      */
     public Object getData() throws ParseException {
+        byte[] bytes = decodedBytes();
         if (bytes == null) return null;
 
         ContentType type = ContentType.get(headers);
@@ -100,9 +215,10 @@ public class Response implements Serializable {
      * @param model a class for the model where response data should be marshalled
      * @param <T> The type of the object to be parsed according to corresponding {@link Serializer}, based on Content-Type
      * @return An instance of the class specified in model
-     * @throws ParseException if data could not be parsed for this Content-Type
+     * @throws ParseException if body could not be decoded, or data could not be parsed for this Content-Type
      */
     public <T> T getData(Class<T> model) throws ParseException {
+        byte[] bytes = decodedBytes();
         if (bytes == null) return null;
 
         ContentType type = ContentType.get(headers);
@@ -116,10 +232,11 @@ public class Response implements Serializable {
 
     /**
      * Returns a string representation of the response body
-     * @return a string for the response body or null if it is empty
+     * @return a string for the response body or null if it is empty, or it could not be decoded
      * @see #getBytes()
      */
     public String getString() {
+        byte[] bytes = getBytes();
         if (bytes == null) return null;
 
         ContentType type = ContentType.get(headers);
@@ -1,62 +1,61 @@
 package com.mercadolibre.restclient;
 
+import com.google.common.util.concurrent.AbstractFuture;
 import com.mercadolibre.restclient.exception.RestException;
 
-import java.util.concurrent.*;
+import java.util.concurrent.Future;
 
-public class ResponseCallbackFuture implements Future<Response> {
+/**
+ * Future completed by async callbacks. Being a {@link com.google.common.util.concurrent.ListenableFuture}, it can be composed
+ * with {@link com.google.common.util.concurrent.Futures} utilities or get listeners attached, with no thread parked waiting on it.
+ * <p>
+ * Cancelling it aborts the engine execution bound through {@link #setExecution(Future)}, if any, so its connection is released
+ * right away instead of waiting for the response or a timeout.
+ */
+public class ResponseCallbackFuture extends AbstractFuture<Response> {
 
-    private final CountDownLatch latch;
-    private Response response;
-    private RestException exception;
-    private volatile boolean cancelled;
-    
-    public ResponseCallbackFuture() {
-    	this.latch = new CountDownLatch(1);
-    }
+    private volatile Future<?> execution;
 
     @Override
     public boolean cancel(boolean mayInterruptIfRunning) {
-        throw new UnsupportedOperationException("Cancelling not allowed");
-    }
+        if (!super.cancel(mayInterruptIfRunning)) return false;
 
-    @Override
-    public boolean isCancelled() {
-        return cancelled;
-    }
+        Future<?> current = execution;
+        if (current != null)
+            current.cancel(true);
 
-    @Override
-    public boolean isDone() {
-        return latch.getCount() == 0;
+        return true;
     }
 
-    @Override
-    public Response get() throws InterruptedException, ExecutionException {
-        latch.await();
-        return getOutput();
-    }
+    /**
+     * Binds the engine execution currently serving this future. It's replaced on every retry.
+     * If this future was already cancelled, given execution is aborted immediately.
+     * @param execution the engine in-flight execution
+     */
+    public void setExecution(Future<?> execution) {
+        this.execution = execution;
 
-    @Override
-    public Response get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
-        latch.await(timeout, unit);
-        return getOutput();
+        if (isCancelled())
+            execution.cancel(true);
     }
 
-    private Response getOutput() throws ExecutionException {
-        if (exception != null)
-            throw new ExecutionException(exception);
-
-        return response;
+    /**
+     * @return the engine execution currently bound, or null if none was
+     */
+    Future<?> getExecution() {
+        return execution;
     }
 
     public void setDone(Response response, RestException exception) {
-        this.response = response;
-        this.exception = exception;
-        latch.countDown();
+        if (exception != null)
+            setException(exception);
+        else
+            set(response);
     }
 
     public void setCancelled(boolean cancelled) {
-        this.cancelled = cancelled;
+        if (cancelled)
+            cancel(false);
     }
 
-}
\ No newline at end of file
+}
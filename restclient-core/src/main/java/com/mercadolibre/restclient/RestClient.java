@@ -1,6 +1,8 @@
 package com.mercadolibre.restclient;
 
+import com.google.common.util.concurrent.ListenableFuture;
 import com.mercadolibre.restclient.async.Callback;
+import com.mercadolibre.restclient.body.Body;
 import com.mercadolibre.restclient.cache.RESTCache;
 import com.mercadolibre.restclient.exception.RestException;
 import com.mercadolibre.restclient.http.Authentication;
@@ -13,11 +15,14 @@ import com.mercadolibre.restclient.multipart.Part;
 import com.mercadolibre.restclient.retry.RetryStrategy;
 
 import java.io.Closeable;
+import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.Future;
 
 import static com.mercadolibre.restclient.http.HttpMethod.*;
 
@@ -62,6 +67,17 @@ public final class RestClient implements REST, StreamREST, AsyncREST, StreamAsyn
         return holder;
     }
 
+    /**
+     * Builds clients of every pool right away. Otherwise each sync or async client is built by the first request
+     * using it, so clients of pools which are never called cost no threads nor connections.
+     * @return this RestClient
+     * @throws RestException if a client could not be built
+     */
+    public RestClient warmUp() throws RestException {
+        holder.warmUp();
+        return this;
+    }
+
     /**
      * Returns a builder for constructing a RestClient based on {@link RESTPool} definitions.
      * @return an instance of {@link Builder}
@@ -90,6 +106,30 @@ public final class RestClient implements REST, StreamREST, AsyncREST, StreamAsyn
         return new RequestBuilder(this).withPool(pool);
     }
 
+    /**
+     * Prepares a template for an endpoint called many times, as {@code /items/{id}}, to be compiled once and then bound
+     * to each request values
+     * @param template a full URL or a URI in case given pool has baseURL defined, with variables between braces
+     * @param pool an instance of the RESTPool
+     * @return an instance of {@link RequestTemplate.Builder}
+     * @throws RestException if the pool doesn't exist in current Rest Client definition
+     */
+    public RequestTemplate.Builder prepare(String template, RESTPool pool) throws RestException {
+        return prepare(template, pool.getName());
+    }
+
+    /**
+     * Prepares a template for an endpoint called many times, as {@code /items/{id}}, to be compiled once and then bound
+     * to each request values
+     * @param template a full URL or a URI in case given pool has baseURL defined, with variables between braces
+     * @param pool the name of the RESTPool
+     * @return an instance of {@link RequestTemplate.Builder}
+     * @throws RestException if the pool doesn't exist in current Rest Client definition
+     */
+    public RequestTemplate.Builder prepare(String template, String pool) throws RestException {
+        return new RequestTemplate.Builder(this, holder.getClients(pool), template);
+    }
+
     /**
      * Specifies a {@link Proxy} for the current request
      * @param proxy the proxy definition
@@ -229,6 +269,61 @@ public final class RestClient implements REST, StreamREST, AsyncREST, StreamAsyn
     }
 
 
+    /**
+     * Adds a body to current request, sent from given source by the engine
+     * @param body a {@link Body} instance
+     * @return an instance of RequestBuilder
+     */
+    public RequestBuilder withBody(Body<?> body) {
+        return new RequestBuilder(this).withBody(body);
+    }
+
+    /**
+     * Adds a body to current request, streamed from given input stream with chunked encoding. Request won't be retried.
+     * @param body an input stream containing request body
+     * @return an instance of RequestBuilder
+     */
+    public RequestBuilder withBody(InputStream body) {
+        return new RequestBuilder(this).withBody(body);
+    }
+
+    /**
+     * Adds a body to current request, streamed from given input stream. Request won't be retried.
+     * @param body an input stream containing request body
+     * @param length body length in bytes
+     * @return an instance of RequestBuilder
+     */
+    public RequestBuilder withBody(InputStream body, long length) {
+        return new RequestBuilder(this).withBody(body, length);
+    }
+
+    /**
+     * Adds a body to current request, streamed from given file
+     * @param body the file containing request body
+     * @return an instance of RequestBuilder
+     */
+    public RequestBuilder withBody(File body) {
+        return new RequestBuilder(this).withBody(body);
+    }
+
+    /**
+     * Adds a body to current request, streamed from given file
+     * @param body the path of the file containing request body
+     * @return an instance of RequestBuilder
+     */
+    public RequestBuilder withBody(Path body) {
+        return new RequestBuilder(this).withBody(body);
+    }
+
+    /**
+     * Adds a body to current request, sent from given buffer remaining content
+     * @param body a heap or direct buffer containing request body
+     * @return an instance of RequestBuilder
+     */
+    public RequestBuilder withBody(ByteBuffer body) {
+        return new RequestBuilder(this).withBody(body);
+    }
+
     /**
      * Specifies a multipart mode for this request
      * @param mode a {@link MultipartMode}
@@ -371,7 +466,7 @@ public final class RestClient implements REST, StreamREST, AsyncREST, StreamAsyn
      * @throws RestException when request could not be made
      */
     @Override
-    public Future<Response> asyncGet(String url) throws RestException {
+    public ListenableFuture<Response> asyncGet(String url) throws RestException {
         Request r = requestBuilder().withURL(url).withMethod(GET).build();
         return holder.getDefaultAsyncClient().asyncGet(r);
     }
@@ -384,7 +479,7 @@ public final class RestClient implements REST, StreamREST, AsyncREST, StreamAsyn
      * @throws RestException when request could not be made
      */
     @Override
-    public Future<Response> asyncGet(String url, Headers headers) throws RestException {
+    public ListenableFuture<Response> asyncGet(String url, Headers headers) throws RestException {
         Request r = requestBuilder().withURL(url).withMethod(GET).withHeaders(headers).build();
         return holder.getDefaultAsyncClient().asyncGet(r);
     }
@@ -397,7 +492,7 @@ public final class RestClient implements REST, StreamREST, AsyncREST, StreamAsyn
      * @throws RestException when request could not be made
      */
     @Override
-    public Future<Response> asyncPost(String url, byte[] body) throws RestException {
+    public ListenableFuture<Response> asyncPost(String url, byte[] body) throws RestException {
         Request r = requestBuilder().withURL(url).withMethod(POST).withBody(body).build();
         return holder.getDefaultAsyncClient().asyncPost(r);
     }
@@ -411,7 +506,7 @@ public final class RestClient implements REST, StreamREST, AsyncREST, StreamAsyn
      * @throws RestException when request could not be made
      */
     @Override
-    public Future<Response> asyncPost(String url, Headers headers, byte[] body) throws RestException {
+    public ListenableFuture<Response> asyncPost(String url, Headers headers, byte[] body) throws RestException {
         Request r = requestBuilder().withURL(url).withMethod(POST).withHeaders(headers).withBody(body).build();
         return holder.getDefaultAsyncClient().asyncPost(r);
     }
@@ -424,7 +519,7 @@ public final class RestClient implements REST, StreamREST, AsyncREST, StreamAsyn
      * @throws RestException when request could not be made
      */
     @Override
-    public Future<Response> asyncPut(String url, byte[] body) throws RestException {
+    public ListenableFuture<Response> asyncPut(String url, byte[] body) throws RestException {
         Request r = requestBuilder().withURL(url).withMethod(PUT).withBody(body).build();
         return holder.getDefaultAsyncClient().asyncPut(r);
     }
@@ -438,7 +533,7 @@ public final class RestClient implements REST, StreamREST, AsyncREST, StreamAsyn
      * @throws RestException when request could not be made
      */
     @Override
-    public Future<Response> asyncPut(String url, Headers headers, byte[] body) throws RestException {
+    public ListenableFuture<Response> asyncPut(String url, Headers headers, byte[] body) throws RestException {
         Request r = requestBuilder().withURL(url).withMethod(PUT).withHeaders(headers).withBody(body).build();
         return holder.getDefaultAsyncClient().asyncPut(r);
     }
@@ -450,7 +545,7 @@ public final class RestClient implements REST, StreamREST, AsyncREST, StreamAsyn
      * @throws RestException when request could not be made
      */
     @Override
-    public Future<Response> asyncDelete(String url) throws RestException {
+    public ListenableFuture<Response> asyncDelete(String url) throws RestException {
         Request r = requestBuilder().withMethod(DELETE).withURL(url).build();
         return holder.getDefaultAsyncClient().asyncDelete(r);
     }
@@ -463,7 +558,7 @@ public final class RestClient implements REST, StreamREST, AsyncREST, StreamAsyn
      * @throws RestException when request could not be made
      */
     @Override
-    public Future<Response> asyncDelete(String url, Headers headers) throws RestException {
+    public ListenableFuture<Response> asyncDelete(String url, Headers headers) throws RestException {
         Request r = requestBuilder().withMethod(DELETE).withURL(url).withHeaders(headers).build();
         return holder.getDefaultAsyncClient().asyncDelete(r);
     }
@@ -550,7 +645,7 @@ public final class RestClient implements REST, StreamREST, AsyncREST, StreamAsyn
      * @throws RestException when request could not be made
      */
     @Override
-    public Future<Response> asyncHead(String url) throws RestException {
+    public ListenableFuture<Response> asyncHead(String url) throws RestException {
         Request r = requestBuilder().withMethod(HEAD).withURL(url).build();
         return holder.getDefaultAsyncClient().asyncHead(r);
     }
@@ -563,7 +658,7 @@ public final class RestClient implements REST, StreamREST, AsyncREST, StreamAsyn
      * @throws RestException when request could not be made
      */
     @Override
-    public Future<Response> asyncHead(String url, Headers headers) throws RestException {
+    public ListenableFuture<Response> asyncHead(String url, Headers headers) throws RestException {
         Request r = requestBuilder().withMethod(HEAD).withURL(url).withHeaders(headers).build();
         return holder.getDefaultAsyncClient().asyncHead(r);
     }
@@ -575,7 +670,7 @@ public final class RestClient implements REST, StreamREST, AsyncREST, StreamAsyn
      * @throws RestException when request could not be made
      */
     @Override
-    public Future<Response> asyncOptions(String url) throws RestException {
+    public ListenableFuture<Response> asyncOptions(String url) throws RestException {
         Request r = requestBuilder().withMethod(OPTIONS).withURL(url).build();
         return holder.getDefaultAsyncClient().asyncOptions(r);
     }
@@ -588,7 +683,7 @@ public final class RestClient implements REST, StreamREST, AsyncREST, StreamAsyn
      * @throws RestException when request could not be made
      */
     @Override
-    public Future<Response> asyncOptions(String url, Headers headers) throws RestException {
+    public ListenableFuture<Response> asyncOptions(String url, Headers headers) throws RestException {
         Request r = requestBuilder().withMethod(OPTIONS).withURL(url).withHeaders(headers).build();
         return holder.getDefaultAsyncClient().asyncOptions(r);
     }
@@ -600,7 +695,7 @@ public final class RestClient implements REST, StreamREST, AsyncREST, StreamAsyn
      * @throws RestException when request could not be made
      */
     @Override
-    public Future<Response> asyncPurge(String url) throws RestException {
+    public ListenableFuture<Response> asyncPurge(String url) throws RestException {
         Request r = requestBuilder().withMethod(PURGE).withURL(url).build();
         return holder.getDefaultAsyncClient().asyncPurge(r);
     }
@@ -613,7 +708,7 @@ public final class RestClient implements REST, StreamREST, AsyncREST, StreamAsyn
      * @throws RestException when request could not be made
      */
     @Override
-    public Future<Response> asyncPurge(String url, Headers headers) throws RestException {
+    public ListenableFuture<Response> asyncPurge(String url, Headers headers) throws RestException {
         Request r = requestBuilder().withMethod(PURGE).withURL(url).withHeaders(headers).build();
         return holder.getDefaultAsyncClient().asyncPurge(r);
     }
@@ -703,6 +798,91 @@ public final class RestClient implements REST, StreamREST, AsyncREST, StreamAsyn
         return holder.getDefaultClient().put(r);
     }
 
+    /**
+     * Implementation of HTTP GET returning as soon as response headers are received. Body is read from returned response,
+     * which must be closed. Cache and response interceptors do not apply to this call.
+     * @param url a full URL or a URI in case current {@link RESTPool} has baseURL defined
+     * @return server response, with its body pending
+     * @throws RestException when request sending or receiving has failed
+     */
+    @Override
+    public StreamingResponse getStream(String url) throws RestException {
+        Request r = requestBuilder().withURL(url).withMethod(GET).build();
+        return holder.getDefaultClient().stream(r);
+    }
+
+    /**
+     * Implementation of HTTP GET returning as soon as response headers are received. Body is read from returned response,
+     * which must be closed. Cache and response interceptors do not apply to this call.
+     * @param url a full URL or a URI in case current {@link RESTPool} has baseURL defined
+     * @param headers an instance of {@link Headers} to be sent with the request
+     * @return server response, with its body pending
+     * @throws RestException when request sending or receiving has failed
+     */
+    @Override
+    public StreamingResponse getStream(String url, Headers headers) throws RestException {
+        Request r = requestBuilder().withURL(url).withMethod(GET).withHeaders(headers).build();
+        return holder.getDefaultClient().stream(r);
+    }
+
+    /**
+     * Implementation of HTTP POST returning as soon as response headers are received. Body is read from returned response,
+     * which must be closed. Cache and response interceptors do not apply to this call.
+     * @param url a full URL or a URI in case current {@link RESTPool} has baseURL defined
+     * @param body body to be sent with the request
+     * @return server response, with its body pending
+     * @throws RestException when request sending or receiving has failed
+     */
+    @Override
+    public StreamingResponse postStream(String url, byte[] body) throws RestException {
+        Request r = requestBuilder().withURL(url).withMethod(POST).withBody(body).build();
+        return holder.getDefaultClient().stream(r);
+    }
+
+    /**
+     * Implementation of HTTP POST returning as soon as response headers are received. Body is read from returned response,
+     * which must be closed. Cache and response interceptors do not apply to this call.
+     * @param url a full URL or a URI in case current {@link RESTPool} has baseURL defined
+     * @param headers an instance of {@link Headers} to be sent with the request
+     * @param body body to be sent with the request
+     * @return server response, with its body pending
+     * @throws RestException when request sending or receiving has failed
+     */
+    @Override
+    public StreamingResponse postStream(String url, Headers headers, byte[] body) throws RestException {
+        Request r = requestBuilder().withURL(url).withMethod(POST).withBody(body).withHeaders(headers).build();
+        return holder.getDefaultClient().stream(r);
+    }
+
+    /**
+     * Implementation of HTTP PUT returning as soon as response headers are received. Body is read from returned response,
+     * which must be closed. Cache and response interceptors do not apply to this call.
+     * @param url a full URL or a URI in case current {@link RESTPool} has baseURL defined
+     * @param body body to be sent with the request
+     * @return server response, with its body pending
+     * @throws RestException when request sending or receiving has failed
+     */
+    @Override
+    public StreamingResponse putStream(String url, byte[] body) throws RestException {
+        Request r = requestBuilder().withURL(url).withMethod(PUT).withBody(body).build();
+        return holder.getDefaultClient().stream(r);
+    }
+
+    /**
+     * Implementation of HTTP PUT returning as soon as response headers are received. Body is read from returned response,
+     * which must be closed. Cache and response interceptors do not apply to this call.
+     * @param url a full URL or a URI in case current {@link RESTPool} has baseURL defined
+     * @param headers an instance of {@link Headers} to be sent with the request
+     * @param body body to be sent with the request
+     * @return server response, with its body pending
+     * @throws RestException when request sending or receiving has failed
+     */
+    @Override
+    public StreamingResponse putStream(String url, Headers headers, byte[] body) throws RestException {
+        Request r = requestBuilder().withURL(url).withMethod(PUT).withBody(body).withHeaders(headers).build();
+        return holder.getDefaultClient().stream(r);
+    }
+
     /**
      * Async implementation of HTTP GET for data download
      * @param url a full URL or a URI in case current {@link RESTPool} has baseURL defined
@@ -711,7 +891,7 @@ public final class RestClient implements REST, StreamREST, AsyncREST, StreamAsyn
      * @throws RestException when request could not be made
      */
     @Override
-    public Future<Response> asyncGet(String url, OutputStream outputStream) throws RestException {
+    public ListenableFuture<Response> asyncGet(String url, OutputStream outputStream) throws RestException {
         Request r = requestBuilder().withMethod(GET).withURL(url).withOutputStream(outputStream).build();
         return holder.getDefaultAsyncClient().asyncGet(r);
     }
@@ -725,7 +905,7 @@ public final class RestClient implements REST, StreamREST, AsyncREST, StreamAsyn
      * @throws RestException when request could not be made
      */
     @Override
-    public Future<Response> asyncGet(String url, Headers headers, OutputStream outputStream) throws RestException {
+    public ListenableFuture<Response> asyncGet(String url, Headers headers, OutputStream outputStream) throws RestException {
         Request r = requestBuilder().withMethod(GET).withURL(url).withHeaders(headers).withOutputStream(outputStream).build();
         return holder.getDefaultAsyncClient().asyncGet(r);
     }
@@ -739,7 +919,7 @@ public final class RestClient implements REST, StreamREST, AsyncREST, StreamAsyn
      * @throws RestException when request could not be made
      */
     @Override
-    public Future<Response> asyncPost(String url, byte[] body, OutputStream outputStream) throws RestException {
+    public ListenableFuture<Response> asyncPost(String url, byte[] body, OutputStream outputStream) throws RestException {
         Request r = requestBuilder().withMethod(POST).withURL(url).withBody(body).withOutputStream(outputStream).build();
         return holder.getDefaultAsyncClient().asyncPost(r);
     }
@@ -754,7 +934,7 @@ public final class RestClient implements REST, StreamREST, AsyncREST, StreamAsyn
      * @throws RestException when request could not be made
      */
     @Override
-    public Future<Response> asyncPost(String url, Headers headers, byte[] body, OutputStream outputStream) throws RestException {
+    public ListenableFuture<Response> asyncPost(String url, Headers headers, byte[] body, OutputStream outputStream) throws RestException {
         Request r = requestBuilder().withMethod(POST).withURL(url).withHeaders(headers).withBody(body).withOutputStream(outputStream).build();
         return holder.getDefaultAsyncClient().asyncPost(r);
     }
@@ -768,7 +948,7 @@ public final class RestClient implements REST, StreamREST, AsyncREST, StreamAsyn
      * @throws RestException when request could not be made
      */
     @Override
-    public Future<Response> asyncPut(String url, byte[] body, OutputStream outputStream) throws RestException {
+    public ListenableFuture<Response> asyncPut(String url, byte[] body, OutputStream outputStream) throws RestException {
         Request r = requestBuilder().withMethod(PUT).withURL(url).withBody(body).withOutputStream(outputStream).build();
         return holder.getDefaultAsyncClient().asyncPut(r);
     }
@@ -783,7 +963,7 @@ public final class RestClient implements REST, StreamREST, AsyncREST, StreamAsyn
      * @throws RestException when request could not be made
      */
     @Override
-    public Future<Response> asyncPut(String url, Headers headers, byte[] body, OutputStream outputStream) throws RestException {
+    public ListenableFuture<Response> asyncPut(String url, Headers headers, byte[] body, OutputStream outputStream) throws RestException {
         Request r = requestBuilder().withMethod(PUT).withURL(url).withHeaders(headers).withBody(body).withOutputStream(outputStream).build();
         return holder.getDefaultAsyncClient().asyncPut(r);
     }
@@ -845,7 +1025,7 @@ public final class RestClient implements REST, StreamREST, AsyncREST, StreamAsyn
      * @throws RestException when request could not be made
      */
     @Override
-    public Future<Response> asyncPost(String url) throws RestException {
+    public ListenableFuture<Response> asyncPost(String url) throws RestException {
         Request r = requestBuilder().withURL(url).withMethod(POST).build();
         return holder.getDefaultAsyncClient().asyncPost(r);
     }
@@ -858,7 +1038,7 @@ public final class RestClient implements REST, StreamREST, AsyncREST, StreamAsyn
      * @throws RestException when request could not be made
      */
     @Override
-    public Future<Response> asyncPost(String url, Headers headers) throws RestException {
+    public ListenableFuture<Response> asyncPost(String url, Headers headers) throws RestException {
         Request r = requestBuilder().withURL(url).withMethod(POST).withHeaders(headers).build();
         return holder.getDefaultAsyncClient().asyncPost(r);
     }
@@ -870,7 +1050,7 @@ public final class RestClient implements REST, StreamREST, AsyncREST, StreamAsyn
      * @throws RestException when request could not be made
      */
     @Override
-    public Future<Response> asyncPut(String url) throws RestException {
+    public ListenableFuture<Response> asyncPut(String url) throws RestException {
         Request r = requestBuilder().withURL(url).withMethod(PUT).build();
         return holder.getDefaultAsyncClient().asyncPut(r);
     }
@@ -883,7 +1063,7 @@ public final class RestClient implements REST, StreamREST, AsyncREST, StreamAsyn
      * @throws RestException when request could not be made
      */
     @Override
-    public Future<Response> asyncPut(String url, Headers headers) throws RestException {
+    public ListenableFuture<Response> asyncPut(String url, Headers headers) throws RestException {
         Request r = requestBuilder().withURL(url).withMethod(PUT).withHeaders(headers).build();
         return holder.getDefaultAsyncClient().asyncPut(r);
     }
@@ -896,7 +1076,7 @@ public final class RestClient implements REST, StreamREST, AsyncREST, StreamAsyn
      * @throws RestException when request could not be made
      */
     @Override
-    public Future<Response> asyncPost(String url, OutputStream outputStream) throws RestException {
+    public ListenableFuture<Response> asyncPost(String url, OutputStream outputStream) throws RestException {
         Request r = requestBuilder().withURL(url).withMethod(POST).withOutputStream(outputStream).build();
         return holder.getDefaultAsyncClient().asyncPost(r);
     }
@@ -910,7 +1090,7 @@ public final class RestClient implements REST, StreamREST, AsyncREST, StreamAsyn
      * @throws RestException when request could not be made
      */
     @Override
-    public Future<Response> asyncPost(String url, Headers headers, OutputStream outputStream) throws RestException {
+    public ListenableFuture<Response> asyncPost(String url, Headers headers, OutputStream outputStream) throws RestException {
         Request r = requestBuilder().withURL(url).withMethod(POST).withHeaders(headers).withOutputStream(outputStream).build();
         return holder.getDefaultAsyncClient().asyncPost(r);
     }
@@ -923,7 +1103,7 @@ public final class RestClient implements REST, StreamREST, AsyncREST, StreamAsyn
      * @throws RestException when request could not be made
      */
     @Override
-    public Future<Response> asyncPut(String url, OutputStream outputStream) throws RestException {
+    public ListenableFuture<Response> asyncPut(String url, OutputStream outputStream) throws RestException {
         Request r = requestBuilder().withURL(url).withMethod(PUT).withOutputStream(outputStream).build();
         return holder.getDefaultAsyncClient().asyncPut(r);
     }
@@ -937,7 +1117,7 @@ public final class RestClient implements REST, StreamREST, AsyncREST, StreamAsyn
      * @throws RestException when request could not be made
      */
     @Override
-    public Future<Response> asyncPut(String url, Headers headers, OutputStream outputStream) throws RestException {
+    public ListenableFuture<Response> asyncPut(String url, Headers headers, OutputStream outputStream) throws RestException {
         Request r = requestBuilder().withURL(url).withMethod(PUT).withHeaders(headers).withOutputStream(outputStream).build();
         return holder.getDefaultAsyncClient().asyncPut(r);
     }
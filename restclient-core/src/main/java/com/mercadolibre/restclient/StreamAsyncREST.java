@@ -1,26 +1,26 @@
 package com.mercadolibre.restclient;
 
+import com.google.common.util.concurrent.ListenableFuture;
 import com.mercadolibre.restclient.async.Callback;
 import com.mercadolibre.restclient.exception.RestException;
 import com.mercadolibre.restclient.http.Headers;
 
 import java.io.OutputStream;
-import java.util.concurrent.Future;
 
 public interface StreamAsyncREST {
 
-    Future<Response> asyncGet(String url, OutputStream outputStream) throws RestException;
-    Future<Response> asyncGet(String url, Headers headers, OutputStream outputStream) throws RestException;
+    ListenableFuture<Response> asyncGet(String url, OutputStream outputStream) throws RestException;
+    ListenableFuture<Response> asyncGet(String url, Headers headers, OutputStream outputStream) throws RestException;
 
-    Future<Response> asyncPost(String url, OutputStream outputStream) throws RestException;
-    Future<Response> asyncPost(String url, Headers headers, OutputStream outputStream) throws RestException;
-    Future<Response> asyncPost(String url, byte[] body, OutputStream outputStream) throws RestException;
-    Future<Response> asyncPost(String url, Headers headers, byte[] body, OutputStream outputStream) throws RestException;
+    ListenableFuture<Response> asyncPost(String url, OutputStream outputStream) throws RestException;
+    ListenableFuture<Response> asyncPost(String url, Headers headers, OutputStream outputStream) throws RestException;
+    ListenableFuture<Response> asyncPost(String url, byte[] body, OutputStream outputStream) throws RestException;
+    ListenableFuture<Response> asyncPost(String url, Headers headers, byte[] body, OutputStream outputStream) throws RestException;
 
-    Future<Response> asyncPut(String url, OutputStream outputStream) throws RestException;
-    Future<Response> asyncPut(String url, Headers headers, OutputStream outputStream) throws RestException;
-    Future<Response> asyncPut(String url, byte[] body, OutputStream outputStream) throws RestException;
-    Future<Response> asyncPut(String url, Headers headers, byte[] body, OutputStream outputStream) throws RestException;
+    ListenableFuture<Response> asyncPut(String url, OutputStream outputStream) throws RestException;
+    ListenableFuture<Response> asyncPut(String url, Headers headers, OutputStream outputStream) throws RestException;
+    ListenableFuture<Response> asyncPut(String url, byte[] body, OutputStream outputStream) throws RestException;
+    ListenableFuture<Response> asyncPut(String url, Headers headers, byte[] body, OutputStream outputStream) throws RestException;
 
     void asyncGet(String url, OutputStream outputStream, Callback<Response> callback) throws RestException;
     void asyncGet(String url, Headers headers, OutputStream outputStream, Callback<Response> callback) throws RestException;
@@ -20,4 +20,13 @@ public interface StreamREST {
     Response put(String url, byte[] body, OutputStream stream) throws RestException;
     Response put(String url, Headers headers, byte[] body, OutputStream stream) throws RestException;
 
+    StreamingResponse getStream(String url) throws RestException;
+    StreamingResponse getStream(String url, Headers headers) throws RestException;
+
+    StreamingResponse postStream(String url, byte[] body) throws RestException;
+    StreamingResponse postStream(String url, Headers headers, byte[] body) throws RestException;
+
+    StreamingResponse putStream(String url, byte[] body) throws RestException;
+    StreamingResponse putStream(String url, Headers headers, byte[] body) throws RestException;
+
 }
@@ -0,0 +1,90 @@
+package com.mercadolibre.restclient;
+
+import com.mercadolibre.restclient.http.Header;
+import com.mercadolibre.restclient.http.Headers;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * An HTTP response whose body has not been read yet. Status and headers are available as soon as they are received,
+ * while the body is exposed as a stream tied to the underlying connection, so it can be consumed incrementally.
+ * <p>
+ * Instances must always be closed. A fully read body releases its connection back to the pool, while closing before
+ * reaching the end of the body discards the connection, so the remaining content is never transferred.
+ */
+public class StreamingResponse implements Closeable {
+
+    private final int status;
+    private final Headers headers;
+    private final Closeable connection;
+
+    private InputStream body;
+
+    public StreamingResponse(int status, Headers headers, InputStream body, Closeable connection) {
+        this.status = status;
+        this.headers = headers;
+        this.body = body != null ? body : new ByteArrayInputStream(new byte[0]);
+        this.connection = connection;
+    }
+
+    /**
+     * Retrieves the HTTP status code for the request
+     * @return an int for the status code
+     */
+    public int getStatus() {
+        return status;
+    }
+
+    /**
+     * Retrieves the HTTP headers associated with the response
+     * @return a {@link Headers} instance
+     */
+    public Headers getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Retrieves a header contained in this response by name.
+     * @param name header name
+     * @return the {@link Header} instance representing the particular header, or null if it doesn't exist
+     */
+    public Header getHeader(String name) {
+        return headers.getHeader(name);
+    }
+
+    /**
+     * Retrieves response body as a stream. Content is already decoded if it was compressed and compression is
+     * not handled manually.
+     * @return an InputStream, empty if response has no body
+     */
+    public InputStream getBody() {
+        return body;
+    }
+
+    /**
+     * Retrieves response body as a channel, for reading it in {@link java.nio.ByteBuffer} chunks.
+     * @return a channel reading from {@link #getBody()}
+     */
+    public ReadableByteChannel getChannel() {
+        return Channels.newChannel(body);
+    }
+
+    public void setBody(InputStream body) {
+        this.body = body;
+    }
+
+    /**
+     * Releases the underlying connection.
+     * @throws IOException if connection couldn't be released
+     */
+    @Override
+    public void close() throws IOException {
+        if (connection != null) connection.close();
+    }
+
+}
@@ -1,30 +1,135 @@
 package com.mercadolibre.restclient;
 
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.mercadolibre.restclient.async.Callback;
 import com.mercadolibre.restclient.async.DirectCallback;
 import com.mercadolibre.restclient.async.HTTPCallback;
 import com.mercadolibre.restclient.cache.CacheCallback;
 import com.mercadolibre.restclient.cache.DirectCacheCallback;
 import com.mercadolibre.restclient.exception.RestException;
+import com.mercadolibre.restclient.util.HttpCompressionHandler;
 
 import java.io.IOException;
-import java.util.concurrent.Future;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
 
 
 public class WrappingExecAsyncREST<R> implements ExecAsyncREST<R> {
 
-    private ExecCallbackAsyncREST<R> client;
-
-    public WrappingExecAsyncREST(ExecCallbackAsyncREST<R> client) {
+    private final ExecCallbackAsyncREST<R> client;
+
+    // Operations not bound to a caller callback hold no request state, so they're built once per client
+    private final Operation get;
+    private final Operation post;
+    private final Operation put;
+    private final Operation delete;
+    private final Operation head;
+    private final Operation options;
+    private final Operation purge;
+    private final CallbackOperation<R> getWithCallback;
+    private final CallbackOperation<R> postWithCallback;
+    private final CallbackOperation<R> putWithCallback;
+    private final CallbackOperation<R> deleteWithCallback;
+    private final CallbackOperation<R> headWithCallback;
+    private final CallbackOperation<R> optionsWithCallback;
+    private final CallbackOperation<R> purgeWithCallback;
+
+    public WrappingExecAsyncREST(final ExecCallbackAsyncREST<R> client) {
         this.client = client;
+
+        this.get = new CacheableOperation(new Operation() {
+            public ListenableFuture<Response> execute(Request r) throws RestException {
+                return coalescedGet(r, new HTTPCallback<R>(r));
+            }
+        });
+
+        this.getWithCallback = new CacheableCallbackOperation<>(new CallbackOperation<R>() {
+            public ListenableFuture<Response> execute(Request r, HTTPCallback<R> callback) {
+                return coalescedGet(r, callback);
+            }
+        });
+
+        this.post = new Operation() {
+            public ListenableFuture<Response> execute(Request r) throws RestException {
+                return client.asyncPost(r, new HTTPCallback<R>(r));
+            }
+        };
+
+        this.postWithCallback = new CallbackOperation<R>() {
+            public ListenableFuture<Response> execute(Request r, HTTPCallback<R> callback) {
+                return client.asyncPost(r, callback);
+            }
+        };
+
+        this.put = new Operation() {
+            public ListenableFuture<Response> execute(Request r) throws RestException {
+                return client.asyncPut(r, new HTTPCallback<R>(r));
+            }
+        };
+
+        this.putWithCallback = new CallbackOperation<R>() {
+            public ListenableFuture<Response> execute(Request r, HTTPCallback<R> callback) {
+                return client.asyncPut(r, callback);
+            }
+        };
+
+        this.delete = new Operation() {
+            public ListenableFuture<Response> execute(Request r) throws RestException {
+                return client.asyncDelete(r, new HTTPCallback<R>(r));
+            }
+        };
+
+        this.deleteWithCallback = new CallbackOperation<R>() {
+            public ListenableFuture<Response> execute(Request r, HTTPCallback<R> callback) {
+                return client.asyncDelete(r, callback);
+            }
+        };
+
+        this.head = new Operation() {
+            public ListenableFuture<Response> execute(Request r) throws RestException {
+                return client.asyncHead(r, new HTTPCallback<R>(r));
+            }
+        };
+
+        this.headWithCallback = new CallbackOperation<R>() {
+            public ListenableFuture<Response> execute(Request r, HTTPCallback<R> callback) {
+                return client.asyncHead(r, callback);
+            }
+        };
+
+        this.options = new Operation() {
+            public ListenableFuture<Response> execute(Request r) throws RestException {
+                return client.asyncOptions(r, new HTTPCallback<R>(r));
+            }
+        };
+
+        this.optionsWithCallback = new CallbackOperation<R>() {
+            public ListenableFuture<Response> execute(Request r, HTTPCallback<R> callback) {
+                return client.asyncOptions(r, callback);
+            }
+        };
+
+        this.purge = new Operation() {
+            public ListenableFuture<Response> execute(Request r) throws RestException {
+                return client.asyncPurge(r, new HTTPCallback<R>(r));
+            }
+        };
+
+        this.purgeWithCallback = new CallbackOperation<R>() {
+            public ListenableFuture<Response> execute(Request r, HTTPCallback<R> callback) {
+                return client.asyncPurge(r, callback);
+            }
+        };
     }
 
     protected interface Operation {
-        Future<Response> execute(Request r) throws RestException;
+        ListenableFuture<Response> execute(Request r) throws RestException;
     }
 
     protected interface CallbackOperation<T> {
-        Future<Response> execute(Request r, HTTPCallback<T> callback);
+        ListenableFuture<Response> execute(Request r, HTTPCallback<T> callback);
     }
 
     private class CacheableOperation implements Operation {
@@ -40,8 +145,12 @@ public class WrappingExecAsyncREST<R> implements ExecAsyncREST<R> {
         }
 
 		@Override
-		public Future<Response> execute(final Request r) throws RestException {
-			return r.isCacheable() ? r.getCache().internalAsyncGet(r.getURL(), getCallback(r)) : task.execute(r);
+		public ListenableFuture<Response> execute(final Request r) throws RestException {
+			if (!r.isCacheable()) return task.execute(r);
+
+			// Variant keys are computed from the headers as sent, so they must be complete before the lookup
+			HttpCompressionHandler.handleRequest(r);
+			return r.getCache().internalAsyncGet(r.getCacheKey(), getCallback(r));
 		}
     }
 
@@ -69,8 +178,11 @@ public class WrappingExecAsyncREST<R> implements ExecAsyncREST<R> {
         }
 
         @Override
-        public Future<Response> execute(final Request r, final HTTPCallback<S> callback) {
-            return r.isCacheable() ? r.getCache().internalAsyncGet(r.getURL(), new CacheCallback<>(r)) : task.execute(r, callback);
+        public ListenableFuture<Response> execute(final Request r, final HTTPCallback<S> callback) {
+            if (!r.isCacheable()) return task.execute(r, callback);
+
+            HttpCompressionHandler.handleRequest(r);
+            return r.getCache().internalAsyncGet(r.getCacheKey(), new CacheCallback<>(r));
         }
 
     }
@@ -80,147 +192,154 @@ public class WrappingExecAsyncREST<R> implements ExecAsyncREST<R> {
         client.close();
     }
 
-    protected Future<Response> execute(Request r, Operation task) throws RestException {
+    /**
+     * Executes a GET, or joins an identical one already in flight when pool coalesces requests. A coalesced request
+     * runs with a callback of its own, so cancelling any caller future never aborts it for the rest of them. Response
+     * interceptors run once it completes, on the leader response and on the copy each follower gets, as sync ones do.
+     */
+    private ListenableFuture<Response> coalescedGet(final Request r, final HTTPCallback<R> callback) {
+        RequestCoalescer coalescer = r.getPool() != null ? r.getPool().getRequestCoalescer() : null;
+        final RequestCoalescer.Flight flight = coalescer != null ? coalescer.join(r) : null;
+
+        if (flight == null) return client.asyncGet(r, callback);
+
+        if (flight.isLeader()) {
+            // Interceptors are left for later, so the flight keeps the response as received
+            final ListenableFuture<Response> execution = client.asyncGet(r, new HTTPCallback<R>(r) {
+                @Override
+                protected void intercept(Response response) {
+                }
+            });
+
+            execution.addListener(new Runnable() {
+                public void run() {
+                    try {
+                        Response response = Futures.getDone(execution);
+                        flight.complete(response, null);
+
+                        if (response != null) r.applyResponseInterceptors(response);
+                        callback.complete(response, null);
+                    } catch (ExecutionException e) {
+                        flight.complete(null, e.getCause());
+                        callback.complete(null, asRestException(e.getCause()));
+                    } catch (CancellationException e) {
+                        RestException exception = new RestException(e, "Coalesced request cancelled");
+                        flight.complete(null, exception);
+                        callback.complete(null, exception);
+                    }
+                }
+            }, MoreExecutors.directExecutor());
+
+            return callback.getFuture();
+        }
+
+        flight.getFuture().addListener(new Runnable() {
+            public void run() {
+                Response response;
+                try {
+                    response = flight.await();
+                } catch (RestException e) {
+                    callback.complete(null, e);
+                    return;
+                }
+
+                if (response != null) r.applyResponseInterceptors(response);
+                callback.complete(response, null);
+            }
+        }, MoreExecutors.directExecutor());
+
+        return callback.getFuture();
+    }
+
+    private static RestException asRestException(Throwable cause) {
+        return cause instanceof RestException ? (RestException) cause : new RestException(cause, cause.getMessage());
+    }
+
+    protected ListenableFuture<Response> execute(Request r, Operation task) throws RestException {
         r.applyRequestInterceptors();
         return task.execute(r);
     }
 
-	protected Future<Response> execute(Request r, HTTPCallback<R> callback, CallbackOperation<R> task) {
+	protected ListenableFuture<Response> execute(Request r, HTTPCallback<R> callback, CallbackOperation<R> task) {
         r.applyRequestInterceptors();
         return task.execute(r, callback);
     }
 
     @Override
-    public Future<Response> asyncGet(Request r) throws RestException {
-        return execute(r, new CacheableOperation(new Operation() {
-            public Future<Response> execute(Request r) throws RestException {
-                return client.asyncGet(r, new HTTPCallback<R>(r));
-            }
-        }));
+    public ListenableFuture<Response> asyncGet(Request r) throws RestException {
+        return execute(r, get);
     }
 
     @Override
-    public Future<Response> asyncPost(Request r) throws RestException {
-        return execute(r, new Operation() {
-            public Future<Response> execute(Request r) throws RestException {
-                return client.asyncPost(r, new HTTPCallback<R>(r));
-            }
-        });
+    public ListenableFuture<Response> asyncPost(Request r) throws RestException {
+        return execute(r, post);
     }
 
     @Override
-    public Future<Response> asyncPut(Request r) throws RestException {
-        return execute(r, new Operation() {
-            public Future<Response> execute(Request r) throws RestException {
-                return client.asyncPut(r, new HTTPCallback<R>(r));
-            }
-        });
+    public ListenableFuture<Response> asyncPut(Request r) throws RestException {
+        return execute(r, put);
     }
 
     @Override
-    public Future<Response> asyncDelete(Request r) throws RestException {
-        return execute(r, new Operation() {
-            public Future<Response> execute(Request r) throws RestException {
-                return client.asyncDelete(r, new HTTPCallback<R>(r));
-            }
-        });
+    public ListenableFuture<Response> asyncDelete(Request r) throws RestException {
+        return execute(r, delete);
     }
 
     @Override
-    public Future<Response> asyncHead(Request r) throws RestException {
-        return execute(r, new Operation() {
-            public Future<Response> execute(Request r) throws RestException {
-                return client.asyncHead(r, new HTTPCallback<R>(r));
-            }
-        });
+    public ListenableFuture<Response> asyncHead(Request r) throws RestException {
+        return execute(r, head);
     }
 
     @Override
-    public Future<Response> asyncOptions(Request r) throws RestException {
-        return execute(r, new Operation() {
-            public Future<Response> execute(Request r) throws RestException {
-                return client.asyncOptions(r, new HTTPCallback<R>(r));
-            }
-        });
+    public ListenableFuture<Response> asyncOptions(Request r) throws RestException {
+        return execute(r, options);
     }
 
     @Override
-    public Future<Response> asyncPurge(Request r) throws RestException {
-        return execute(r, new Operation() {
-            public Future<Response> execute(Request r) throws RestException {
-                return client.asyncPurge(r, new HTTPCallback<R>(r));
-            }
-        });
+    public ListenableFuture<Response> asyncPurge(Request r) throws RestException {
+        return execute(r, purge);
     }
 
     @Override
-    public Future<Response> asyncGet(Request r, HTTPCallback<R> callback) {
-        return execute(r, callback, new CacheableCallbackOperation<>(new CallbackOperation<R>() {
-            public Future<Response> execute(Request r, HTTPCallback<R> callback) {
-                return client.asyncGet(r, callback);
-            }
-        }));
+    public ListenableFuture<Response> asyncGet(Request r, HTTPCallback<R> callback) {
+        return execute(r, callback, getWithCallback);
     }
 
     @Override
-    public Future<Response> asyncPost(Request r, HTTPCallback<R> callback) {
-        return execute(r, callback, new CallbackOperation<R>() {
-            public Future<Response> execute(Request r, HTTPCallback<R> callback) {
-                return client.asyncPost(r, callback);
-            }
-        });
+    public ListenableFuture<Response> asyncPost(Request r, HTTPCallback<R> callback) {
+        return execute(r, callback, postWithCallback);
     }
 
     @Override
-    public Future<Response> asyncPut(Request r, HTTPCallback<R> callback) {
-        return execute(r, callback, new CallbackOperation<R>() {
-            public Future<Response> execute(Request r, HTTPCallback<R> callback) {
-                return client.asyncPut(r, callback);
-            }
-        });
+    public ListenableFuture<Response> asyncPut(Request r, HTTPCallback<R> callback) {
+        return execute(r, callback, putWithCallback);
     }
 
     @Override
-    public Future<Response> asyncDelete(Request r, HTTPCallback<R> callback) {
-        return execute(r, callback, new CallbackOperation<R>() {
-            public Future<Response> execute(Request r, HTTPCallback<R> callback) {
-                return client.asyncDelete(r, callback);
-            }
-        });
+    public ListenableFuture<Response> asyncDelete(Request r, HTTPCallback<R> callback) {
+        return execute(r, callback, deleteWithCallback);
     }
 
     @Override
-    public Future<Response> asyncHead(Request r, HTTPCallback<R> callback) {
-        return execute(r, callback, new CallbackOperation<R>() {
-            public Future<Response> execute(Request r, HTTPCallback<R> callback) {
-                return client.asyncHead(r, callback);
-            }
-        });
+    public ListenableFuture<Response> asyncHead(Request r, HTTPCallback<R> callback) {
+        return execute(r, callback, headWithCallback);
     }
 
     @Override
-    public Future<Response> asyncOptions(Request r, HTTPCallback<R> callback) {
-        return execute(r, callback, new CallbackOperation<R>() {
-            public Future<Response> execute(Request r, HTTPCallback<R> callback) {
-                return client.asyncOptions(r, callback);
-            }
-        });
+    public ListenableFuture<Response> asyncOptions(Request r, HTTPCallback<R> callback) {
+        return execute(r, callback, optionsWithCallback);
     }
 
     @Override
-    public Future<Response> asyncPurge(Request r, HTTPCallback<R> callback) {
-        return execute(r, callback, new CallbackOperation<R>() {
-            public Future<Response> execute(Request r, HTTPCallback<R> callback) {
-                return client.asyncPurge(r, callback);
-            }
-        });
+    public ListenableFuture<Response> asyncPurge(Request r, HTTPCallback<R> callback) {
+        return execute(r, callback, purgeWithCallback);
     }
 
     @Override
     public void asyncGet(Request r, final Callback<Response> callback) throws RestException {
         execute(r, new DirectCacheableOperation(new Operation() {
-            public Future<Response> execute(Request r) throws RestException {
-                return client.asyncGet(r, new DirectCallback<R>(r, callback));
+            public ListenableFuture<Response> execute(Request r) throws RestException {
+                return coalescedGet(r, new DirectCallback<R>(r, callback));
             }
         }, callback));
     }
@@ -228,7 +347,7 @@ public class WrappingExecAsyncREST<R> implements ExecAsyncREST<R> {
     @Override
     public void asyncPost(Request r, final Callback<Response> callback) throws RestException {
         execute(r, new Operation() {
-            public Future<Response> execute(Request r) throws RestException {
+            public ListenableFuture<Response> execute(Request r) throws RestException {
                 return client.asyncPost(r, new DirectCallback<R>(r, callback));
             }
         });
@@ -237,7 +356,7 @@ public class WrappingExecAsyncREST<R> implements ExecAsyncREST<R> {
     @Override
     public void asyncPut(Request r, final Callback<Response> callback) throws RestException {
         execute(r, new Operation() {
-            public Future<Response> execute(Request r) throws RestException {
+            public ListenableFuture<Response> execute(Request r) throws RestException {
                 return client.asyncPut(r, new DirectCallback<R>(r, callback));
             }
         });
@@ -246,7 +365,7 @@ public class WrappingExecAsyncREST<R> implements ExecAsyncREST<R> {
     @Override
     public void asyncDelete(Request r, final Callback<Response> callback) throws RestException {
         execute(r, new Operation() {
-            public Future<Response> execute(Request r) throws RestException {
+            public ListenableFuture<Response> execute(Request r) throws RestException {
                 return client.asyncDelete(r, new DirectCallback<R>(r, callback));
             }
         });
@@ -255,7 +374,7 @@ public class WrappingExecAsyncREST<R> implements ExecAsyncREST<R> {
     @Override
     public void asyncHead(Request r, final Callback<Response> callback) throws RestException {
         execute(r, new Operation() {
-            public Future<Response> execute(Request r) throws RestException {
+            public ListenableFuture<Response> execute(Request r) throws RestException {
                 return client.asyncHead(r, new DirectCallback<R>(r, callback));
             }
         });
@@ -264,7 +383,7 @@ public class WrappingExecAsyncREST<R> implements ExecAsyncREST<R> {
     @Override
     public void asyncOptions(Request r, final Callback<Response> callback) throws RestException {
         execute(r, new Operation() {
-            public Future<Response> execute(Request r) throws RestException {
+            public ListenableFuture<Response> execute(Request r) throws RestException {
                 return client.asyncOptions(r, new DirectCallback<R>(r, callback));
             }
         });
@@ -273,7 +392,7 @@ public class WrappingExecAsyncREST<R> implements ExecAsyncREST<R> {
     @Override
     public void asyncPurge(Request r, final Callback<Response> callback) throws RestException {
         execute(r, new Operation() {
-            public Future<Response> execute(Request r) throws RestException {
+            public ListenableFuture<Response> execute(Request r) throws RestException {
                 return client.asyncPurge(r, new DirectCallback<R>(r, callback));
             }
         });
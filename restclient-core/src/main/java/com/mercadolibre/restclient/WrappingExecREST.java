@@ -1,13 +1,13 @@
 package com.mercadolibre.restclient;
 
 import com.mercadolibre.metrics.Metrics;
-import com.mercadolibre.restclient.cache.StaleRequestQueue;
+import com.mercadolibre.restclient.cache.CacheValidator;
 import com.mercadolibre.restclient.exception.RestException;
-import com.mercadolibre.restclient.interceptor.AddTimeInterceptor;
 import com.mercadolibre.restclient.log.LogUtil;
 import com.mercadolibre.restclient.metrics.MetricUtil;
 import com.mercadolibre.restclient.retry.RetryResponse;
 import com.mercadolibre.restclient.retry.RetryStrategy;
+import com.mercadolibre.restclient.util.Clocks;
 import com.mercadolibre.restclient.util.HttpCompressionHandler;
 
 import java.io.IOException;
@@ -19,8 +19,63 @@ public class WrappingExecREST implements ExecREST {
 	
 	private final ExecREST client;
 
-    public WrappingExecREST(ExecREST client) {
+    // Operations hold no request state, so chains are built once per client and shared by all requests
+    private final Operation get;
+    private final Operation post;
+    private final Operation put;
+    private final Operation delete;
+    private final Operation head;
+    private final Operation options;
+    private final Operation purge;
+
+    public WrappingExecREST(final ExecREST client) {
         this.client = client;
+
+        this.get = new LoggingOperation(new MetricOperation(new CacheableOperation(new CoalescingOperation(new ResponseHandlerOperation(new Operation() {
+        	public Response execute(Request r) throws RestException {
+        		return client.get(r);
+        	}
+        })))));
+
+        this.post = measured(new Operation() {
+        	public Response execute(Request r) throws RestException {
+        		return client.post(r);
+        	}
+        });
+
+        this.put = measured(new Operation() {
+        	public Response execute(Request r) throws RestException {
+        		return client.put(r);
+        	}
+        });
+
+        this.delete = measured(new Operation() {
+        	public Response execute(Request r) throws RestException {
+        		return client.delete(r);
+        	}
+        });
+
+        this.head = measured(new Operation() {
+        	public Response execute(Request r) throws RestException {
+        		return client.head(r);
+        	}
+        });
+
+        this.options = measured(new Operation() {
+        	public Response execute(Request r) throws RestException {
+        		return client.options(r);
+        	}
+        });
+
+        this.purge = measured(new Operation() {
+        	public Response execute(Request r) throws RestException {
+        		return client.purge(r);
+        	}
+        });
+    }
+
+    private Operation measured(Operation task) {
+        return new LoggingOperation(new MetricOperation(new ResponseHandlerOperation(task)));
     }
 
     protected interface Operation {
@@ -57,8 +112,10 @@ public class WrappingExecREST implements ExecREST {
         public Response execute(Request r) throws RestException {
             Response output = task.execute(r);
             
-            if(log.isTraceEnabled()) {
-            	log.trace(LogUtil.makeTimeLogLine(r, output, System.currentTimeMillis() - (long) r.getAttribute(AddTimeInterceptor.NAME)));
+            long delta = r.getElapsedTime();
+
+            if(log.isTraceEnabled() && delta >= 0) {
+            	log.trace(LogUtil.makeTimeLogLine(r, output, delta));
             }
             	
             return output;
@@ -77,13 +134,53 @@ public class WrappingExecREST implements ExecREST {
         @Override
         public Response execute(Request r) throws RestException {
             Response output = task.execute(r);
-            Metrics.INSTANCE.recordExecutionTime("restclient.http.time", System.currentTimeMillis() - (long) r.getAttribute(AddTimeInterceptor.NAME), MetricUtil.getExecutionTags(r, output).toArray());
+            long delta = r.getElapsedTime();
+
+            // Requests that never started have no latency to record
+            if (delta >= 0)
+                Metrics.INSTANCE.recordExecutionTime("restclient.http.time", delta, MetricUtil.getExecutionTags(r, output).toArray());
 
             return output;
         }
 
     }
     
+    private class CoalescingOperation implements Operation {
+
+        private Operation task;
+
+        public CoalescingOperation(Operation task) {
+            this.task = task;
+        }
+
+        @Override
+        public Response execute(Request r) throws RestException {
+            RequestCoalescer coalescer = r.getPool() != null ? r.getPool().getRequestCoalescer() : null;
+            if (coalescer == null) return task.execute(r);
+
+            // Keyed on headers as sent, as async requests are
+            HttpCompressionHandler.handleRequest(r);
+            RequestCoalescer.Flight flight = coalescer.join(r);
+
+            if (flight == null) return task.execute(r);
+            if (!flight.isLeader()) return flight.await();
+
+            Response response = null;
+            Throwable exception = null;
+
+            try {
+                response = task.execute(r);
+                return response;
+            } catch (Throwable e) {
+                exception = e;
+                throw e;
+            } finally {
+                flight.complete(response, exception);
+            }
+        }
+
+    }
+
     private class CacheableOperation implements Operation {
         
     	private Operation task;
@@ -98,16 +195,30 @@ public class WrappingExecREST implements ExecREST {
         		return task.execute(r);
         	}
 
-        	Response response;
-        	Response cachedResponse = r.getCache().internalGet(r.getURL());
+        	// Variant keys are computed from the headers as sent, so they must be complete before the lookup
+        	HttpCompressionHandler.handleRequest(r);
+        	Response cachedResponse = r.getCache().internalGet(r.getCacheKey());
 
             r.byPassCache(true);
-        	
+
+            try {
+                return execute(r, cachedResponse);
+            } finally {
+                // A retry goes through cache again, revalidating from scratch instead of resending these validators
+                CacheValidator.clear(r);
+                r.byPassCache(false);
+            }
+        }
+
+        private Response execute(Request r, Response cachedResponse) throws RestException {
+        	Response response;
+
         	if (cachedResponse == null) {
         		response = task.execute(r);
         		
-        		if(!response.getCacheControl().isExpired() || r.getCache().allowStaleResponse() && response.getCacheControl().isFreshForRevalidate()) {
-        			r.getCache().internalPut(r.getURL(), response);
+        		// A coalesced response was already stored by the request that was executed
+        		if(!r.isCoalesced() && (!response.getCacheControl().isExpired() || r.getCache().allowStaleResponse() && response.getCacheControl().isFreshForRevalidate())) {
+        			r.getCache().internalPut(r.getCacheKey(), response);
         		}
         		
         		return response;
@@ -118,15 +229,16 @@ public class WrappingExecREST implements ExecREST {
         	}
 
         	if (r.getCache().allowStaleResponse() && cachedResponse.getCacheControl().isFreshForRevalidate()) {
-        		StaleRequestQueue.enqueue(r);
+        		r.getCache().getRevalidationScheduler().revalidate(r, cachedResponse);
         		return cachedResponse;
         	}
         	
         	try {
-        		response = task.execute(r);
+        		CacheValidator.prepare(r, cachedResponse);
+        		response = CacheValidator.resolve(r, cachedResponse, task.execute(r));
         		
-        		if (!response.getCacheControl().isExpired() || r.getCache().allowStaleResponse() && response.getCacheControl().isFreshForRevalidate()) {
-        			r.getCache().internalPut(r.getURL(), response);
+        		if (!r.isCoalesced() && (!response.getCacheControl().isExpired() || r.getCache().allowStaleResponse() && response.getCacheControl().isFreshForRevalidate())) {
+        			r.getCache().internalPut(r.getCacheKey(), response);
         		}
         		
         		if (response.getStatus() / 100 == 5 && r.getCache().allowStaleResponse() && cachedResponse.getCacheControl().isFreshForError() && cachedResponse.getStatus() / 100 != 5) {
@@ -170,6 +282,7 @@ public class WrappingExecREST implements ExecREST {
             }
 
             rr = retryStrategy.shouldRetry(r, response, exception, retry++);
+            if (rr.retry() && !r.isRepeatable()) rr = new RetryResponse(false);
             if (rr.retry()) retryAction(r, rr);
 
         } while (rr.retry());
@@ -179,6 +292,78 @@ public class WrappingExecREST implements ExecREST {
         throw exception;
     }
 
+    /**
+     * Streaming execution bypasses cache and response interceptors, as body is not available when it returns.
+     * Retry strategy decides on status and headers only, and discarded responses are closed before retrying.
+     */
+    @Override
+    public StreamingResponse stream(Request r) throws RestException {
+        r.applyRequestInterceptors();
+        HttpCompressionHandler.handleRequest(r);
+
+        RetryStrategy retryStrategy = r.getRetryStrategy();
+
+        int retry = 0;
+        StreamingResponse response;
+        RestException exception;
+        RetryResponse rr = null;
+
+        do {
+            response = null;
+            exception = null;
+
+            try {
+                response = client.stream(r);
+            } catch (RestException e) {
+                exception = e;
+                exceptionAction(r,e);
+            }
+
+            if (retryStrategy == null) break;
+
+            rr = retryStrategy.shouldRetry(r, response != null ? headersOf(response) : null, exception, retry++);
+            if (rr.retry() && !r.isRepeatable()) rr = new RetryResponse(false);
+            if (rr.retry()) {
+                closeQuietly(response);
+                retryAction(r, rr);
+            }
+
+        } while (rr.retry());
+
+        if (response == null) throw exception;
+
+        Response headers = headersOf(response);
+        long delta = r.getElapsedTime();
+
+        if (delta >= 0) {
+            Metrics.INSTANCE.recordExecutionTime("restclient.http.time", delta, MetricUtil.getExecutionTags(r, headers).toArray());
+            if (log.isTraceEnabled()) log.trace(LogUtil.makeTimeLogLine(r, headers, delta));
+        }
+
+        try {
+            HttpCompressionHandler.handleResponse(r, response);
+        } catch (RestException e) {
+            closeQuietly(response);
+            throw e;
+        }
+
+        return response;
+    }
+
+    private static Response headersOf(StreamingResponse response) {
+        return new EmptyResponse(response.getStatus(), response.getHeaders());
+    }
+
+    private static void closeQuietly(StreamingResponse response) {
+        if (response == null) return;
+
+        try {
+            response.close();
+        } catch (IOException e) {
+            log.warn("Could not close streaming response", e);
+        }
+    }
+
     @Override
     public void close() throws IOException {
         client.close();
@@ -189,7 +374,7 @@ public class WrappingExecREST implements ExecREST {
         Metrics.INSTANCE.incrementCounter("restclient.http.retry", MetricUtil.getRequestTags(r).toArray());
 
         try {
-            Thread.sleep(rr.getDelay());
+            Clocks.sleep(rr.getDelay());
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new RuntimeException(e);
@@ -203,65 +388,37 @@ public class WrappingExecREST implements ExecREST {
 
     @Override
     public Response get(Request r) throws RestException {
-        return execute(r, new LoggingOperation(new MetricOperation(new CacheableOperation(new ResponseHandlerOperation(new Operation() {
-        	public Response execute(Request r) throws RestException {
-        		return client.get(r);
-        	}
-        })))));
+        return execute(r, get);
     }
 
     @Override
     public Response post(Request r) throws RestException {
-    	return execute(r, new LoggingOperation(new MetricOperation(new ResponseHandlerOperation(new Operation() {
-        	public Response execute(Request r) throws RestException {
-        		return client.post(r);
-        	}
-        }))));
+        return execute(r, post);
     }
 
     @Override
     public Response put(Request r) throws RestException {
-    	return execute(r, new LoggingOperation(new MetricOperation(new ResponseHandlerOperation(new Operation() {
-        	public Response execute(Request r) throws RestException {
-        		return client.put(r);
-        	}
-        }))));
+        return execute(r, put);
     }
 
     @Override
     public Response delete(Request r) throws RestException {
-    	return execute(r, new LoggingOperation(new MetricOperation(new ResponseHandlerOperation(new Operation() {
-        	public Response execute(Request r) throws RestException {
-        		return client.delete(r);
-        	}
-        }))));
+        return execute(r, delete);
     }
 
     @Override
     public Response head(Request r) throws RestException {
-    	return execute(r, new LoggingOperation(new MetricOperation(new ResponseHandlerOperation(new Operation() {
-        	public Response execute(Request r) throws RestException {
-        		return client.head(r);
-        	}
-        }))));
+        return execute(r, head);
     }
 
     @Override
     public Response options(Request r) throws RestException {
-    	return execute(r, new LoggingOperation(new MetricOperation(new ResponseHandlerOperation(new Operation() {
-        	public Response execute(Request r) throws RestException {
-        		return client.options(r);
-        	}
-        }))));
+        return execute(r, options);
     }
 
     @Override
     public Response purge(Request r) throws RestException {
-    	return execute(r, new LoggingOperation(new MetricOperation(new ResponseHandlerOperation(new Operation() {
-        	public Response execute(Request r) throws RestException {
-        		return client.purge(r);
-        	}
-        }))));
+        return execute(r, purge);
     }
 
 }
\ No newline at end of file
@@ -1,18 +1,29 @@
 package com.mercadolibre.restclient.async;
 
+import com.mercadolibre.restclient.ExecAsyncREST;
 import com.mercadolibre.restclient.Request;
+import com.mercadolibre.restclient.exception.RestException;
 
 public class Action {
 
     public static <R> void resend(Request request, HTTPCallback<R> callback) {
+        ExecAsyncREST<R> client;
+
+        try {
+            client = request.<R>getClients().getAsyncClient();
+        } catch (RestException e) {
+            callback.complete(null, e);
+            return;
+        }
+
         switch (request.getMethod()) {
-            case GET: request.<R>getClients().getAsyncClient().asyncGet(request, callback); break;
-            case POST: request.<R>getClients().getAsyncClient().asyncPost(request, callback); break;
-            case PUT: request.<R>getClients().getAsyncClient().asyncPut(request, callback); break;
-            case DELETE: request.<R>getClients().getAsyncClient().asyncDelete(request, callback); break;
-            case HEAD: request.<R>getClients().getAsyncClient().asyncHead(request, callback); break;
-            case OPTIONS: request.<R>getClients().getAsyncClient().asyncOptions(request, callback); break;
-            case PURGE: request.<R>getClients().getAsyncClient().asyncPurge(request, callback); break;
+            case GET: client.asyncGet(request, callback); break;
+            case POST: client.asyncPost(request, callback); break;
+            case PUT: client.asyncPut(request, callback); break;
+            case DELETE: client.asyncDelete(request, callback); break;
+            case HEAD: client.asyncHead(request, callback); break;
+            case OPTIONS: client.asyncOptions(request, callback); break;
+            case PURGE: client.asyncPurge(request, callback); break;
             default: throw new IllegalStateException("Unknown method for retry");
         }
     }
@@ -15,8 +15,9 @@ public class DirectWriteBackHTTPCallback<T> extends HTTPCallback<T> {
     }
 
     protected void cacheResult(Response response, RestException exception) {
-        if (exception == null && response.getStatus() / 100 == 2) {
-            request.getCache().internalAsyncPut(request.getURL(), response);
+        // a coalesced response was already stored by the request that was executed
+        if (exception == null && response.getStatus() / 100 == 2 && !request.isCoalesced()) {
+            request.getCache().internalAsyncPut(request.getCacheKey(), response);
         }
     }
 
@@ -3,6 +3,7 @@ package com.mercadolibre.restclient.async;
 import com.mercadolibre.restclient.Request;
 import com.mercadolibre.restclient.Response;
 import com.mercadolibre.restclient.ResponseCallbackFuture;
+import com.mercadolibre.restclient.cache.CacheValidator;
 import com.mercadolibre.restclient.exception.RestException;
 
 
@@ -16,8 +17,9 @@ public class ErrorWriteBackHTTPCallback<T> extends HTTPCallback<T>  {
     }
 
     private void cacheResult(Response response, RestException exception) {
-        if (exception == null)
-            request.getCache().internalAsyncPut(request.getURL(), response);
+        // a coalesced response was already stored by the request that was executed
+        if (exception == null && !request.isCoalesced())
+            request.getCache().internalAsyncPut(request.getCacheKey(), response);
     }
 
     protected void doCallback(Response response, RestException exception) {
@@ -30,6 +32,8 @@ public class ErrorWriteBackHTTPCallback<T> extends HTTPCallback<T>  {
 
     @Override
     protected void successAction(Response response, RestException exception) {
+        response = CacheValidator.resolve(request, cachedResponse, response);
+
     	if (!response.getCacheControl().isExpired() || request.getCache().allowStaleResponse() && response.getCacheControl().isFreshForRevalidate()) {
             cacheResult(response, exception);
             doCallback(response, exception);
@@ -6,7 +6,6 @@ import com.mercadolibre.restclient.Request;
 import com.mercadolibre.restclient.Response;
 import com.mercadolibre.restclient.ResponseCallbackFuture;
 import com.mercadolibre.restclient.exception.RestException;
-import com.mercadolibre.restclient.interceptor.AddTimeInterceptor;
 import com.mercadolibre.restclient.log.LogUtil;
 import com.mercadolibre.restclient.metrics.MetricUtil;
 import com.mercadolibre.restclient.retry.RetryResponse;
@@ -36,7 +35,8 @@ public class HTTPCallback<T> implements Callback<T> {
     }
 
     private void logTime(Response r) {
-        long delta = System.currentTimeMillis() - (long) request.getAttribute(AddTimeInterceptor.NAME);
+        long delta = request.getElapsedTime();
+        if (delta < 0) return;
 
         Metrics.INSTANCE.recordExecutionTime("restclient.async.http.time", delta, MetricUtil.getExecutionTags(request, r).toArray());
 
@@ -51,7 +51,7 @@ public class HTTPCallback<T> implements Callback<T> {
         try {
             r = Engine.<T>callbackProcessor().makeResponse(request, response);
             logTime(r);
-            request.applyResponseInterceptors(r);
+            intercept(r);
 
             retryResponse = request.getRetryStrategy().shouldRetry(request, r, null, retries++);
         } catch (RestException e) {
@@ -59,16 +59,10 @@ public class HTTPCallback<T> implements Callback<T> {
             retryResponse = request.getRetryStrategy().shouldRetry(request, null, e, retries++);
         }
 
-        if (futureRunning() && retryResponse.retry()) {
+        if (futureRunning() && retryResponse.retry() && request.isRepeatable()) {
             Metrics.INSTANCE.incrementCounter("restclient.async.http.retry", MetricUtil.getRequestTags(request).toArray());
 
-            try {
-                Thread.sleep(retryResponse.getDelay());
-            } catch (InterruptedException e) {
-                throw new RuntimeException(e);
-            }
-
-            Action.resend(request, this);
+            RetryScheduler.schedule(request, this, retryResponse.getDelay());
         
         } else {
         	try {
@@ -80,7 +74,15 @@ public class HTTPCallback<T> implements Callback<T> {
 	    }
     }
 
-    
+
+    /**
+     * Applies request response interceptors to a response just received, before deciding on retries
+     * @param r the response
+     */
+    protected void intercept(Response r) {
+        request.applyResponseInterceptors(r);
+    }
+
     protected void successAction(Response r, RestException e) {
         future.setDone(r,e);
     }
@@ -93,20 +95,27 @@ public class HTTPCallback<T> implements Callback<T> {
         Metrics.INSTANCE.incrementCounter("restclient.async.http.error", MetricUtil.getRequestTags(request).toArray());
 
         RetryResponse retryResponse = request.getRetryStrategy().shouldRetry(request, null, new Exception(e), retries++);
-        if (futureRunning() && retryResponse.retry()) {
+        if (futureRunning() && retryResponse.retry() && request.isRepeatable()) {
             Metrics.INSTANCE.incrementCounter("restclient.async.http.retry", MetricUtil.getRequestTags(request).toArray());
-            try {
-                Thread.sleep(retryResponse.getDelay());
-            } catch (InterruptedException i) {
-                Thread.currentThread().interrupt();
-                throw new RuntimeException(i);
-            }
-
-            Action.resend(request,this);
+
+            RetryScheduler.schedule(request, this, retryResponse.getDelay());
         } else
             failureAction(new RestException(e, e.getMessage()));
     }
 
+    /**
+     * Completes this callback with an outcome processed elsewhere, as when its request was coalesced with an
+     * identical one. Response processing and retries are skipped, as they already took place.
+     * @param r the response, or null if request failed
+     * @param e the failure, or null if request succeeded
+     */
+    public final void complete(Response r, RestException e) {
+        if (e != null)
+            failureAction(e);
+        else
+            successAction(r, null);
+    }
+
     public void cancel() {
         future.setCancelled(true);
     }
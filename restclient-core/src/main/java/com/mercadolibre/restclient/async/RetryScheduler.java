@@ -0,0 +1,69 @@
+package com.mercadolibre.restclient.async;
+
+import com.mercadolibre.restclient.Request;
+import com.mercadolibre.restclient.exception.RestException;
+import com.mercadolibre.restclient.util.PoolMonitoring;
+
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import static com.mercadolibre.restclient.log.LogUtil.log;
+
+/**
+ * Shared timer for async retries. A delayed resend is scheduled here, so the thread that completed the failed attempt
+ * (usually an I/O reactor thread) is released right away instead of sleeping through the backoff.
+ */
+public class RetryScheduler {
+
+    private static final ScheduledThreadPoolExecutor pool = makePool();
+
+    static {
+        PoolMonitoring.INSTANCE.register("retry-scheduler", pool);
+    }
+
+    private static ScheduledThreadPoolExecutor makePool() {
+        ScheduledThreadPoolExecutor pool = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread t = new Thread(r, "Retry scheduler");
+                t.setDaemon(true);
+                return t;
+            }
+        });
+
+        pool.setRemoveOnCancelPolicy(true);
+
+        return pool;
+    }
+
+    /**
+     * Resends request through given callback after delay milliseconds. Request is resent in place when there's no delay.
+     * Resend is skipped if callback's future was cancelled in between.
+     * @param request the request to resend
+     * @param callback the callback handling current request
+     * @param delay milliseconds to wait before resending
+     * @param <R> engine response type
+     */
+    public static <R> void schedule(final Request request, final HTTPCallback<R> callback, long delay) {
+        if (delay <= 0) {
+            Action.resend(request, callback);
+            return;
+        }
+
+        pool.schedule(new Runnable() {
+            @Override
+            public void run() {
+                if (!callback.futureRunning()) return;
+
+                try {
+                    Action.resend(request, callback);
+                } catch (RuntimeException e) {
+                    log.error("Could not resend request: " + request.getURL(), e);
+                    callback.failureAction(new RestException(e, e.getMessage()));
+                }
+            }
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+}
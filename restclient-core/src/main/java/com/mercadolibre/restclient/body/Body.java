@@ -0,0 +1,23 @@
+package com.mercadolibre.restclient.body;
+
+/**
+ * Request body abstraction, letting engines send content from its source without copying it into a byte[] first
+ * @param <T> the type of this body content
+ */
+public interface Body<T> {
+
+    T getContent();
+
+    /**
+     * @return content length in bytes, or -1 if it's unknown and content is to be sent chunked
+     */
+    long getContentLength();
+
+    /**
+     * @return true if content can be sent more than once, as retries do
+     */
+    boolean isRepeatable();
+
+    void accept(BodyVisitor v);
+
+}
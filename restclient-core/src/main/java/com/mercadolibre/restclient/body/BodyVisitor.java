@@ -0,0 +1,10 @@
+package com.mercadolibre.restclient.body;
+
+public interface BodyVisitor {
+
+    void visitByteArrayBody(ByteArrayBody body);
+    void visitByteBufferBody(ByteBufferBody body);
+    void visitFileBody(FileBody body);
+    void visitInputStreamBody(InputStreamBody body);
+
+}
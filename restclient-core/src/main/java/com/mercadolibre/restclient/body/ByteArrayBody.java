@@ -0,0 +1,34 @@
+package com.mercadolibre.restclient.body;
+
+/**
+ * A {@link Body} backed by a byte array, which is sent as is
+ */
+public class ByteArrayBody implements Body<byte[]> {
+
+    private final byte[] content;
+
+    public ByteArrayBody(byte[] content) {
+        this.content = content;
+    }
+
+    @Override
+    public byte[] getContent() {
+        return content;
+    }
+
+    @Override
+    public long getContentLength() {
+        return content.length;
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    @Override
+    public void accept(BodyVisitor v) {
+        v.visitByteArrayBody(this);
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.mercadolibre.restclient.body;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A {@link Body} backed by a heap or direct {@link ByteBuffer}. Content between buffer position and limit is sent, and
+ * buffer position is never modified, so each attempt reads it from the start.
+ */
+public class ByteBufferBody implements Body<ByteBuffer> {
+
+    private final ByteBuffer content;
+
+    public ByteBufferBody(ByteBuffer content) {
+        this.content = content.duplicate();
+    }
+
+    /**
+     * @return an independent view of content, positioned at its start, so engines can still reach the array of a heap
+     * buffer and send it without copying
+     */
+    @Override
+    public ByteBuffer getContent() {
+        return content.duplicate();
+    }
+
+    @Override
+    public long getContentLength() {
+        return content.remaining();
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    @Override
+    public void accept(BodyVisitor v) {
+        v.visitByteBufferBody(this);
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.mercadolibre.restclient.body;
+
+import java.io.File;
+import java.nio.file.Path;
+
+/**
+ * A {@link Body} backed by a file, which is opened again on each attempt and never loaded in memory
+ */
+public class FileBody implements Body<File> {
+
+    private final File content;
+
+    public FileBody(File content) {
+        this.content = content;
+    }
+
+    public FileBody(Path content) {
+        this.content = content.toFile();
+    }
+
+    @Override
+    public File getContent() {
+        return content;
+    }
+
+    @Override
+    public long getContentLength() {
+        return content.length();
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    @Override
+    public void accept(BodyVisitor v) {
+        v.visitFileBody(this);
+    }
+
+}
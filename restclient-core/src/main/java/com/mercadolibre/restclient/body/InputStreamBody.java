@@ -0,0 +1,45 @@
+package com.mercadolibre.restclient.body;
+
+import java.io.InputStream;
+
+/**
+ * A {@link Body} read from an input stream. Content is sent chunked unless its length is given.
+ * <p>
+ * A stream can only be read once, so requests with this body are never retried. Use a {@link FileBody} or a
+ * {@link ByteBufferBody} when retries are needed.
+ */
+public class InputStreamBody implements Body<InputStream> {
+
+    private final InputStream content;
+    private final long length;
+
+    public InputStreamBody(InputStream content) {
+        this(content, -1L);
+    }
+
+    public InputStreamBody(InputStream content, long length) {
+        this.content = content;
+        this.length = length;
+    }
+
+    @Override
+    public InputStream getContent() {
+        return content;
+    }
+
+    @Override
+    public long getContentLength() {
+        return length;
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return false;
+    }
+
+    @Override
+    public void accept(BodyVisitor v) {
+        v.visitInputStreamBody(this);
+    }
+
+}
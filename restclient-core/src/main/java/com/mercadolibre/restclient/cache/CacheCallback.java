@@ -32,10 +32,11 @@ public class CacheCallback<T extends Response> implements Callback<T> {
 			successAction(response);
 		} else if (request.getCache().allowStaleResponse() && response.getCacheControl().isFreshForRevalidate()) {
 			request.byPassCache(true);
-			StaleRequestQueue.enqueue(request);
+			request.getCache().getRevalidationScheduler().revalidate(request, response);
     		successAction(response);
     	} else {
 			request.byPassCache(true);
+			CacheValidator.prepare(request, response);
 			Action.resend(request, errorWriteBackAction(response));
 		}
 	}
@@ -1,14 +1,13 @@
 package com.mercadolibre.restclient.cache;
 
+import com.mercadolibre.restclient.http.Header;
 import com.mercadolibre.restclient.http.Headers;
 import com.mercadolibre.restclient.log.LogUtil;
-import org.apache.commons.lang3.StringUtils;
+import com.mercadolibre.restclient.util.Clocks;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.concurrent.TimeUnit;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * @author mlabarinas
@@ -20,6 +19,11 @@ public class CacheControl {
 	private	int whileRevalidate;
 	private	int ifError;
 	
+	private int sharedMaxAge = -1;
+	private boolean noStore;
+	private boolean noCache;
+	private boolean privateResponse;
+	
 	private long expiration;
 	private long created;
 
@@ -40,52 +44,155 @@ public class CacheControl {
 	
 	public static class Builder {
 		
-		static final Pattern maxAge = buildPattern("max-age");
-		static final Pattern whileRevalidate  = buildPattern("stale-while-revalidate");
-		static final Pattern ifError = buildPattern("stale-if-error");
+		private static final String MAX_AGE = "max-age";
+		private static final String SHARED_MAX_AGE = "s-maxage";
+		private static final String WHILE_REVALIDATE = "stale-while-revalidate";
+		private static final String IF_ERROR = "stale-if-error";
+		private static final String NO_STORE = "no-store";
+		private static final String NO_CACHE = "no-cache";
+		private static final String PRIVATE = "private";
 		
 		private String cacheControlHeaderValue;
 		private String ageHeaderValue;
+		private long responseTime = -1;
 		
 		public Builder(Headers headers) {
-			this.cacheControlHeaderValue = headers.contains("Cache-Control") ? headers.getHeader("Cache-Control").getValue() : "";
-			this.ageHeaderValue = headers.contains("Age") ? headers.getHeader("Age").getValue() : "";
+			Header cacheControl = headers.getHeader("Cache-Control");
+			Header age = headers.getHeader("Age");
+			
+			this.cacheControlHeaderValue = cacheControl != null ? cacheControl.getValue() : "";
+			this.ageHeaderValue = age != null ? age.getValue() : "";
 		}
 		
-		private static Pattern buildPattern(String field) {
-			return Pattern.compile(String.format(".*\\b%s\\s*=\\s*(\\d+).*", field), Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+		/**
+		 * Specifies the time the response was received, from which its age is counted. Default is build time
+		 * @param responseTime the time in milliseconds since epoch
+		 * @return this builder
+		 */
+		public Builder withResponseTime(long responseTime) {
+			this.responseTime = responseTime;
+			return this;
 		}
 		
-		private int extract(Pattern pattern) {
-			Matcher matcher = pattern.matcher(cacheControlHeaderValue);
+		/**
+		 * Parses a non negative number from a header value region, without allocating
+		 * @return the number, or -1 if region is empty, is not a number or overflows
+		 */
+		private static int parseNumber(String value, int start, int end) {
+			if (start >= end) return -1;
 			
-			if (matcher.matches()) {
-				String value = matcher.group(1);
+			long number = 0;
+			for (int i = start; i < end; i++) {
+				char c = value.charAt(i);
+				if (c < '0' || c > '9') return -1;
 				
-				try {
-					return Integer.parseInt(value);
-				} catch(NumberFormatException e) {
-					log.error("Cache Control value is not a number: " + value);
-				}
+				number = number * 10 + (c - '0');
+				if (number > Integer.MAX_VALUE) return -1;
+			}
+			
+			return (int) number;
+		}
+		
+		private static boolean isDirective(String value, int start, int end, String directive) {
+			return end - start == directive.length() && value.regionMatches(true, start, directive, 0, directive.length());
+		}
+		
+		private static boolean isSpace(char c) {
+			return c == ' ' || c == '\t';
+		}
+		
+		private int number(String directive, int start, int end) {
+			int number = parseNumber(cacheControlHeaderValue, start, end);
+			
+			if (number < 0) {
+				log.error("Cache Control " + directive + " value is not a number: " + cacheControlHeaderValue);
+				return 0;
 			}
 			
-			return 0;
+			return number;
+		}
+		
+		/**
+		 * Reads every directive in a single pass over the header value: name, optional quoted or plain value, up to the
+		 * next comma. Unknown directives are skipped.
+		 */
+		private void parse(CacheControl cacheControl) {
+			String value = cacheControlHeaderValue;
+			int length = value.length();
+			int i = 0;
+			
+			while (i < length) {
+				while (i < length && (isSpace(value.charAt(i)) || value.charAt(i) == ',')) i++;
+				
+				int nameStart = i;
+				while (i < length && value.charAt(i) != '=' && value.charAt(i) != ',' && !isSpace(value.charAt(i))) i++;
+				int nameEnd = i;
+				
+				while (i < length && isSpace(value.charAt(i))) i++;
+				
+				int valueStart = -1;
+				int valueEnd = -1;
+				
+				if (i < length && value.charAt(i) == '=') {
+					i++;
+					while (i < length && isSpace(value.charAt(i))) i++;
+					
+					if (i < length && value.charAt(i) == '"') {
+						valueStart = ++i;
+						while (i < length && value.charAt(i) != '"') i++;
+						valueEnd = i;
+						if (i < length) i++;
+					} else {
+						valueStart = i;
+						while (i < length && value.charAt(i) != ',' && !isSpace(value.charAt(i))) i++;
+						valueEnd = i;
+					}
+				}
+				
+				while (i < length && value.charAt(i) != ',') i++;
+				
+				if (nameStart == nameEnd) continue;
+				
+				if (valueStart >= 0) {
+					if (isDirective(value, nameStart, nameEnd, MAX_AGE))
+						cacheControl.setMaxAge(number(MAX_AGE, valueStart, valueEnd));
+					else if (isDirective(value, nameStart, nameEnd, SHARED_MAX_AGE))
+						cacheControl.setSharedMaxAge(number(SHARED_MAX_AGE, valueStart, valueEnd));
+					else if (isDirective(value, nameStart, nameEnd, WHILE_REVALIDATE))
+						cacheControl.setWhileRevalidate(number(WHILE_REVALIDATE, valueStart, valueEnd));
+					else if (isDirective(value, nameStart, nameEnd, IF_ERROR))
+						cacheControl.setIfError(number(IF_ERROR, valueStart, valueEnd));
+				}
+				
+				// no-cache and private may list header names, still applying to the whole response
+				if (isDirective(value, nameStart, nameEnd, NO_STORE))
+					cacheControl.noStore = true;
+				else if (isDirective(value, nameStart, nameEnd, NO_CACHE))
+					cacheControl.noCache = true;
+				else if (isDirective(value, nameStart, nameEnd, PRIVATE))
+					cacheControl.privateResponse = true;
+			}
 		}
 		
 		public CacheControl build() {
 			CacheControl cacheControl = new CacheControl(0, 0, 0, 0);
 			
-			if (StringUtils.isNotBlank(ageHeaderValue) && StringUtils.isNumeric(ageHeaderValue)) {
-				cacheControl.setAge(Integer.parseInt(ageHeaderValue));
+			int age = parseNumber(ageHeaderValue, 0, ageHeaderValue.length());
+			if (age > 0) {
+				cacheControl.setAge(age);
 			}
 			
-			if (StringUtils.isNotBlank(cacheControlHeaderValue)) {
-				cacheControl.setMaxAge(extract(maxAge));
-				cacheControl.setWhileRevalidate(extract(whileRevalidate));
-				cacheControl.setIfError(extract(ifError));
+			if (!cacheControlHeaderValue.isEmpty()) {
+				parse(cacheControl);
 			}
 			
-			cacheControl.setExpiration();
+			// A response that must be revalidated is expired right away, though it may still be served on error
+			if (cacheControl.noCache) {
+				cacheControl.setMaxAge(0);
+				cacheControl.setWhileRevalidate(0);
+			}
+			
+			cacheControl.computeExpiration(responseTime >= 0 ? responseTime : Clocks.currentTimeMillis());
 			
 			return cacheControl;
 		}
@@ -101,7 +208,7 @@ public class CacheControl {
 	}
 	
 	public long getCurrentAge() {
-		long currentAge = System.currentTimeMillis() - created;
+		long currentAge = Clocks.currentTimeMillis() - created;
 		
 		return TimeUnit.MILLISECONDS.toSeconds(currentAge);
 	}
@@ -110,6 +217,40 @@ public class CacheControl {
 		this.maxAge = maxAge;
 	}
 
+	/**
+	 * Retrieves s-maxage, which overrides max-age for shared caches only. It's not applied to freshness, so it's up to
+	 * shared cache implementations to honor it.
+	 * @return the value in seconds, or -1 if absent
+	 */
+	public int getSharedMaxAge() {
+		return sharedMaxAge;
+	}
+	
+	public void setSharedMaxAge(int sharedMaxAge) {
+		this.sharedMaxAge = sharedMaxAge;
+	}
+	
+	/**
+	 * @return whether the response has no-store directive, and must not be cached
+	 */
+	public boolean isNoStore() {
+		return noStore;
+	}
+	
+	/**
+	 * @return whether the response has no-cache directive, and must be revalidated before being used from cache
+	 */
+	public boolean isNoCache() {
+		return noCache;
+	}
+	
+	/**
+	 * @return whether the response has private directive, and must not be stored in caches shared between users
+	 */
+	public boolean isPrivate() {
+		return privateResponse;
+	}
+	
 	public void setWhileRevalidate(int whileRevalidate) {
 		if (whileRevalidate >= 0) {
 			this.whileRevalidate = whileRevalidate;
@@ -127,11 +268,30 @@ public class CacheControl {
 	}
 	
 	public void setExpiration() {
-		created = System.currentTimeMillis() - TimeUnit.SECONDS.toMillis(age);
+		computeExpiration(Clocks.currentTimeMillis());
+	}
+	
+	private void computeExpiration(long now) {
+		created = now - TimeUnit.SECONDS.toMillis(age);
 		
 		expiration = maxAge <= age ? created : created + TimeUnit.SECONDS.toMillis(maxAge);
 	}
 
+	public long getExpiration() {
+		return expiration;
+	}
+
+	/**
+	 * Retrieves the instant after which this response is of no use anymore, not even as a stale response while
+	 * revalidating or on error
+	 * @return the time in milliseconds since epoch
+	 */
+	public long getStaleExpiration() {
+		long stale = created + TimeUnit.SECONDS.toMillis((long) maxAge + Math.max(whileRevalidate, ifError));
+
+		return Math.max(expiration, stale);
+	}
+
 	public boolean isFreshForRevalidate() {
 		return getCurrentAge() < maxAge + whileRevalidate;
 	}
@@ -141,7 +301,7 @@ public class CacheControl {
 	}
 	
 	public boolean isExpired() {
-		return expiration <= System.currentTimeMillis();
+		return expiration <= Clocks.currentTimeMillis();
 	}
 
 }
\ No newline at end of file
@@ -0,0 +1,136 @@
+package com.mercadolibre.restclient.cache;
+
+import com.mercadolibre.restclient.Request;
+import com.mercadolibre.restclient.Response;
+import com.mercadolibre.restclient.http.Header;
+import com.mercadolibre.restclient.http.HeaderElement;
+import com.mercadolibre.restclient.http.Headers;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+
+/**
+ * Canonical key a request is cached by. Query parameters are sorted, and scheme and host lowercased, so requests for the
+ * same resource always share an entry no matter how they were built.
+ * <p>
+ * Responses with a Vary header are also stored under a variant key, which includes the values the request had for each of
+ * the headers listed in it, as they are sent. That includes headers added by the client itself, as Accept-Encoding, which
+ * are set before a request is looked up. A Vary of * makes a response uncacheable.
+ * @see <a href="https://tools.ietf.org/html/rfc7234#section-4.1">RFC 7234: Calculating Secondary Keys with Vary</a>
+ */
+public final class CacheKey {
+
+    public static final String VARY = "Vary";
+
+    private static final String VARY_ANY = "*";
+    private static final String VARY_SEPARATOR = "#";
+
+    private final String value;
+    private final Headers headers;
+
+    private CacheKey(String value, Headers headers) {
+        this.value = value;
+        this.headers = headers;
+    }
+
+    /**
+     * Builds the key for a request, from its URL and parameters
+     * @param r the request
+     * @return the key for given request
+     */
+    public static CacheKey of(Request r) {
+        return new CacheKey(canonicalize(r.getPlainURL(), r.getQuery(), r.hasParameters() ? r.getParameters() : Collections.<String, String>emptyMap()), r.getHeaders());
+    }
+
+    private static String canonicalize(String url, String query, Map<String, String> parameters) {
+        StringBuilder key = new StringBuilder(url.length() + (query != null ? query.length() + 1 : 0) + 16 * parameters.size());
+
+        int authority = url.indexOf("://");
+        int path = authority < 0 ? -1 : url.indexOf('/', authority + 3);
+        if (authority < 0) {
+            key.append(url);
+        } else {
+            int end = path < 0 ? url.length() : path;
+
+            // Scheme and host are lowercased in place, instead of through substring copies
+            for (int i = 0; i < end; i++)
+                key.append(Character.toLowerCase(url.charAt(i)));
+
+            key.append(url, end, url.length());
+        }
+
+        // A template query is kept as expanded, which is the same for the same values
+        if (query != null)
+            key.append('?').append(query);
+
+        if (!parameters.isEmpty()) {
+            SortedMap<String, String> sorted = parameters instanceof SortedMap ? (SortedMap<String, String>) parameters : new TreeMap<>(parameters);
+
+            char separator = query != null ? '&' : '?';
+            for (Map.Entry<String, String> parameter : sorted.entrySet()) {
+                key.append(separator).append(parameter.getKey()).append('=').append(parameter.getValue());
+                separator = '&';
+            }
+        }
+
+        return key.toString();
+    }
+
+    /**
+     * Checks whether a response can be stored at all, based on its Vary and Cache-Control headers
+     * @param response the response to be cached
+     * @return false if response varies on * or has no-store directive
+     */
+    public static boolean isCacheable(Response response) {
+        if (response.getCacheControl().isNoStore()) return false;
+
+        Header vary = response.getHeader(VARY);
+        return vary == null || !vary.getValue().trim().equals(VARY_ANY);
+    }
+
+    /**
+     * Builds the variant key for a response, including the request values of every header it varies on
+     * @param response a response for this key
+     * @return the variant key, or null if response has no Vary header
+     */
+    public String variant(Response response) {
+        Header vary = response.getHeader(VARY);
+        if (vary == null) return null;
+
+        SortedMap<String, String> values = new TreeMap<>();
+        for (HeaderElement element : vary.getElements()) {
+            String name = element.getName().trim().toLowerCase();
+            if (name.isEmpty()) continue;
+
+            Header header = headers.getHeader(name);
+            values.put(name, header != null ? header.getValue().trim() : "");
+        }
+
+        if (values.isEmpty()) return null;
+
+        StringBuilder variant = new StringBuilder(value);
+        for (Map.Entry<String, String> entry : values.entrySet())
+            variant.append(VARY_SEPARATOR).append(entry.getKey()).append('=').append(entry.getValue());
+
+        return variant.toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof CacheKey && value.equals(((CacheKey) o).value);
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+
+}
@@ -0,0 +1,116 @@
+package com.mercadolibre.restclient.cache;
+
+import com.mercadolibre.restclient.Request;
+import com.mercadolibre.restclient.Response;
+import com.mercadolibre.restclient.http.Header;
+import com.mercadolibre.restclient.http.Headers;
+
+
+/**
+ * Conditional revalidation of cached responses. Requests refreshing an expired entry carry its validators, so the server
+ * may answer with a bodiless 304 Not Modified, which is then merged into the cached response.
+ * @see <a href="https://tools.ietf.org/html/rfc7232">RFC 7232: Conditional Requests</a>
+ */
+public final class CacheValidator {
+
+    public static final String ETAG = "ETag";
+    public static final String LAST_MODIFIED = "Last-Modified";
+    public static final String IF_NONE_MATCH = "If-None-Match";
+    public static final String IF_MODIFIED_SINCE = "If-Modified-Since";
+
+    public static final int NOT_MODIFIED = 304;
+
+    private static final String AGE = "Age";
+    private static final String CONDITIONAL_ATTRIBUTE = "cacheConditional";
+
+    private static final String[] ENTITY_HEADERS = {"Content-Length", "Content-Encoding", "Content-Type", "Content-Range", "Transfer-Encoding"};
+
+    private CacheValidator() {
+    }
+
+    /**
+     * Adds the validators of a cached response to a request revalidating it, unless request already has conditions of its own.
+     * @param r the request about to be sent
+     * @param cached the cached response, may be null
+     * @return true if request was made conditional
+     */
+    public static boolean prepare(Request r, Response cached) {
+        if (cached == null || cached.getStatus() / 100 != 2) return false;
+
+        Headers headers = r.getHeaders();
+        if (headers.contains(IF_NONE_MATCH) || headers.contains(IF_MODIFIED_SINCE)) return false;
+
+        Header etag = cached.getHeader(ETAG);
+        Header lastModified = cached.getHeader(LAST_MODIFIED);
+        if (etag == null && lastModified == null) return false;
+
+        if (etag != null) headers.add(IF_NONE_MATCH, etag.getValue());
+        if (lastModified != null) headers.add(IF_MODIFIED_SINCE, lastModified.getValue());
+
+        r.setAttribute(CONDITIONAL_ATTRIBUTE, Boolean.TRUE);
+
+        return true;
+    }
+
+    /**
+     * Removes the validators added by {@link #prepare(Request, Response)}, so the request can be sent again as it was.
+     * Conditions set by the caller are kept.
+     * @param r a request, which may have not been prepared
+     */
+    public static void clear(Request r) {
+        if (!Boolean.TRUE.equals(r.getAttribute(CONDITIONAL_ATTRIBUTE))) return;
+
+        r.getHeaders().remove(IF_NONE_MATCH);
+        r.getHeaders().remove(IF_MODIFIED_SINCE);
+        r.setAttribute(CONDITIONAL_ATTRIBUTE, Boolean.FALSE);
+    }
+
+    /**
+     * Resolves the response to a request prepared by {@link #prepare(Request, Response)}. A 304 Not Modified is merged into
+     * the cached response, so it's served with the new headers and freshness but with the cached body, which was not sent again.
+     * @param r the request sent
+     * @param cached the cached response, may be null
+     * @param response the response received
+     * @return the refreshed cached response if given one was a 304 for a conditional request, given response otherwise
+     */
+    public static Response resolve(Request r, Response cached, Response response) {
+        if (response == null || cached == null || response.getStatus() != NOT_MODIFIED || !Boolean.TRUE.equals(r.getAttribute(CONDITIONAL_ATTRIBUTE)))
+            return response;
+
+        return refresh(cached, response);
+    }
+
+    /**
+     * Builds a copy of a cached response, updated with the headers of a 304 Not Modified for it.
+     * Entity headers describe the cached body, so they're kept, while a stale Age is dropped.
+     * @param cached the cached response
+     * @param notModified the 304 response
+     * @return a new response, with a fresh {@link CacheControl}
+     */
+    public static Response refresh(Response cached, Response notModified) {
+        Headers headers = new Headers();
+
+        for (Header h : cached.getHeaders())
+            if (!AGE.equalsIgnoreCase(h.getName()))
+                headers.append(h);
+
+        for (Header h : notModified.getHeaders())
+            if (!isEntityHeader(h.getName()))
+                headers.add(h);
+
+        // Body is kept as the cached one, still encoded if it was not read yet
+        Response refreshed = new Response(cached.getStatus(), headers, cached.getEncodedBytes());
+        refreshed.setBodyEncoding(cached.getBodyEncoding());
+
+        return refreshed;
+    }
+
+    private static boolean isEntityHeader(String name) {
+        for (String header : ENTITY_HEADERS)
+            if (header.equalsIgnoreCase(name))
+                return true;
+
+        return false;
+    }
+
+}
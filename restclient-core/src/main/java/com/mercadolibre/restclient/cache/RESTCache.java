@@ -24,6 +24,8 @@ public abstract class RESTCache implements Closeable {
 	protected String name;
 	protected RESTCache nextLevel;
 	protected boolean allowStaleResponse;
+
+	private final RevalidationScheduler revalidationScheduler = new RevalidationScheduler(this);
 	
 	public RESTCache(String name) {
 		this.allowStaleResponse = true;
@@ -66,6 +68,13 @@ public abstract class RESTCache implements Closeable {
 		this.allowStaleResponse = allowStaleResponse;
 	}
 
+	/**
+	 * @return the scheduler revalidating stale entries served by this cache
+	 */
+	public RevalidationScheduler getRevalidationScheduler() {
+		return revalidationScheduler;
+	}
+
 	public Response internalGet(String url) {
 		Response response = get(url);
 
@@ -103,13 +112,55 @@ public abstract class RESTCache implements Closeable {
 		}
 	}
 	
-	public Future<Response> internalAsyncGet(final String url, final CacheCallback<Response> callback) {
+	/**
+	 * Retrieves the response cached for a request key. If it varies on some request headers, the variant matching
+	 * the request is retrieved instead.
+	 * @param key the request key
+	 * @return the cached response, or null if there is none
+	 */
+	public Response internalGet(CacheKey key) {
+		Response response = internalGet(key.toString());
+		if (response == null) return null;
+
+		String variant = key.variant(response);
+
+		return variant != null ? internalGet(variant) : response;
+	}
+
+	/**
+	 * Stores a response under a request key and, if it varies on some request headers, under its variant key as well.
+	 * Responses varying on * or marked as no-store are not stored.
+	 * @param key the request key
+	 * @param response the response to be cached
+	 */
+	public void internalPut(CacheKey key, Response response) {
+		if (!CacheKey.isCacheable(response)) return;
+
+		internalPut(key.toString(), response);
+
+		String variant = key.variant(response);
+		if (variant != null) internalPut(variant, response);
+	}
+
+	public ListenableFuture<Response> internalAsyncGet(final String url, final CacheCallback<Response> callback) {
+		return asyncGet(new Callable<Response>() {
+			public Response call() throws Exception {
+				return internalGet(url);
+			}
+		}, callback);
+	}
+
+	public ListenableFuture<Response> internalAsyncGet(final CacheKey key, final CacheCallback<Response> callback) {
+		return asyncGet(new Callable<Response>() {
+			public Response call() throws Exception {
+				return internalGet(key);
+			}
+		}, callback);
+	}
+
+	private ListenableFuture<Response> asyncGet(Callable<Response> get, final CacheCallback<Response> callback) {
 		try {
-			ListenableFuture<Response> future = pool.submit(new Callable<Response>() {
-				public Response call() throws Exception {
-					return internalGet(url);
-				}
-			});
+			ListenableFuture<Response> future = pool.submit(get);
 			
 			Futures.addCallback(future, new FutureCallback<Response>() {
 				public void onSuccess(Response response) {
@@ -141,6 +192,21 @@ public abstract class RESTCache implements Closeable {
 			}
 		});
 	}
+
+	/**
+	 * Stores a response as {@link #internalPut(CacheKey, Response)} does, on the cache pool.
+	 * @param key the request key
+	 * @param response the response to be cached
+	 * @return a future completed once the response is stored
+	 * @throws RejectedExecutionException if too many puts are pending
+	 */
+	public ListenableFuture<?> internalAsyncPut(final CacheKey key, final Response response) {
+		return pool.submit(new Runnable() {
+			public void run() {
+				internalPut(key, response);
+			}
+		});
+	}
 	
 	public abstract Response get(String url);
 	public abstract void put(String url, Response response);
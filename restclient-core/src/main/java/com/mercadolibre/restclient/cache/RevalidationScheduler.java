@@ -0,0 +1,183 @@
+package com.mercadolibre.restclient.cache;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.mercadolibre.metrics.Metrics;
+import com.mercadolibre.restclient.Request;
+import com.mercadolibre.restclient.Response;
+import com.mercadolibre.restclient.metrics.MetricUtil;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.mercadolibre.restclient.log.LogUtil.log;
+
+
+/**
+ * Revalidates stale cache entries in background, on behalf of a single {@link RESTCache}.
+ * <p>
+ * Each URL is revalidated only once at a time: stale hits arriving while it's being fetched and stored, or after it was
+ * already refreshed, are deduplicated. Fetches run on a copy of the stale request through the async engine, so no thread
+ * is held while waiting for the response. Pending revalidations are bounded, and those over the limit are dropped and
+ * counted, without affecting other caches.
+ */
+public class RevalidationScheduler {
+
+    public static final int DEFAULT_MAX_PENDING = 500;
+
+    private final RESTCache cache;
+    private final ConcurrentMap<String, Boolean> inFlight = new ConcurrentHashMap<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicLong deduplicated = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    private volatile int maxPending = DEFAULT_MAX_PENDING;
+
+    public RevalidationScheduler(RESTCache cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Schedules given request to refresh its cache entry, unless that entry is already being revalidated or too many
+     * revalidations are pending.
+     * @param r the request whose cached response is stale
+     * @return true if a revalidation was issued
+     */
+    public boolean revalidate(Request r) {
+        return revalidate(r, null);
+    }
+
+    /**
+     * Schedules given request to refresh its cache entry, as {@link #revalidate(Request)} does. If the stale response
+     * has validators the request is made conditional, so an unchanged entry is refreshed without fetching its body again.
+     * @param r the request whose cached response is stale
+     * @param cached the stale cached response, may be null
+     * @return true if a revalidation was issued
+     */
+    public boolean revalidate(final Request r, final Response cached) {
+        final CacheKey key = r.getCacheKey();
+        final String url = key.toString();
+
+        if (inFlight.putIfAbsent(url, Boolean.TRUE) != null) {
+            deduplicated.incrementAndGet();
+            Metrics.INSTANCE.incrementCounter("restclient.cache.revalidation.deduplicated", MetricUtil.getRequestTags(r).toArray());
+            return false;
+        }
+
+        if (pending.incrementAndGet() > maxPending) {
+            release(url);
+            dropped.incrementAndGet();
+            Metrics.INSTANCE.incrementCounter("restclient.cache.revalidation.dropped", MetricUtil.getRequestTags(r).toArray());
+            return false;
+        }
+
+        try {
+            // Entry may have been refreshed since this stale hit was served
+            if (isRefreshed(key)) {
+                release(url);
+                deduplicated.incrementAndGet();
+                Metrics.INSTANCE.incrementCounter("restclient.cache.revalidation.deduplicated", MetricUtil.getRequestTags(r).toArray());
+                return false;
+            }
+
+            // Caller keeps its request, which must not be left bypassing cache or carrying validators
+            final Request request = r.clone();
+            request.byPassCache(true);
+            CacheValidator.prepare(request, cached);
+
+            final ListenableFuture<Response> future = request.getClients().getAsyncClient().asyncGet(request);
+
+            future.addListener(new Runnable() {
+                public void run() {
+                    boolean storing = false;
+
+                    try {
+                        Response response = CacheValidator.resolve(request, cached, Futures.getDone(future));
+
+                        if (response.getStatus() / 100 == 2) {
+                            // URL is released once stored, so stale hits meanwhile don't fetch it again
+                            cache.internalAsyncPut(key, response).addListener(new Runnable() {
+                                public void run() {
+                                    release(url);
+                                }
+                            }, MoreExecutors.directExecutor());
+
+                            storing = true;
+                        }
+
+                    } catch (ExecutionException e) {
+                        log.error("Got exception for stale uri: " + url, e.getCause());
+                    } catch (RejectedExecutionException e) {
+                        log.error("Could not store revalidated uri: " + url, e);
+                    } finally {
+                        if (!storing) release(url);
+                    }
+                }
+            }, MoreExecutors.directExecutor());
+
+            return true;
+
+        } catch (Throwable e) {
+            release(url);
+            log.error("Could not revalidate stale uri: " + url, e);
+            return false;
+        }
+    }
+
+    private boolean isRefreshed(CacheKey key) {
+        Response current = cache.get(key.toString());
+
+        if (current != null) {
+            String variant = key.variant(current);
+            if (variant != null) current = cache.get(variant);
+        }
+
+        return current != null && !current.getCacheControl().isExpired();
+    }
+
+    private void release(String url) {
+        pending.decrementAndGet();
+        inFlight.remove(url);
+    }
+
+    /**
+     * Specifies the maximum number of revalidations this cache runs at once. Stale hits beyond it are served without
+     * being revalidated. Default is {@value #DEFAULT_MAX_PENDING}
+     * @param maxPending the maximum pending revalidations
+     */
+    public void setMaxPending(int maxPending) {
+        if (maxPending < 1) throw new IllegalArgumentException("Max pending revalidations should be positive");
+        this.maxPending = maxPending;
+    }
+
+    public int getMaxPending() {
+        return maxPending;
+    }
+
+    /**
+     * @return the number of revalidations currently in flight
+     */
+    public int getPendingCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * @return the number of stale hits skipped because its URL was already being revalidated, or was already refreshed
+     */
+    public long getDeduplicatedCount() {
+        return deduplicated.get();
+    }
+
+    /**
+     * @return the number of revalidations dropped because too many were pending
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+}
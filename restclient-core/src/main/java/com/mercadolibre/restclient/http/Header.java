@@ -5,22 +5,58 @@ import com.mercadolibre.restclient.util.CoberturaIgnore;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 
+import java.util.HashMap;
+import java.util.Map;
+
 public class Header {
 
+    // Shared instances for common names, so headers kept by caches don't each hold a copy
+    private static final String[] WELL_KNOWN_NAMES = {
+            "Accept", "Accept-Encoding", "Accept-Ranges", "Access-Control-Allow-Origin", "Age", "Authorization",
+            "Cache-Control", "Connection", "Content-Disposition", "Content-Encoding", "Content-Language",
+            "Content-Length", "Content-Type", "Date", "ETag", "Expires", "If-Modified-Since", "If-None-Match",
+            "Keep-Alive", "Last-Modified", "Location", "Pragma", "Server", "Set-Cookie", "Strict-Transport-Security",
+            "Transfer-Encoding", "User-Agent", "Vary", "Via", "X-Content-Type-Options", "X-Request-Id"
+    };
+
+    private static final Map<String,String> INTERNED = new HashMap<>();
+
+    static {
+        for (String name : WELL_KNOWN_NAMES) {
+            INTERNED.put(name, name);
+            INTERNED.put(name.toLowerCase(), name.toLowerCase());
+        }
+    }
+
+    // Name and value are final, so a header is safely seen by any thread even when published without locking, as lazy
+    // header views and cached responses do. Elements are parsed on demand and published through a volatile write
     private final String name;
-    private String value;
-    private HeaderElement[] elements;
+    private final String value;
+    private volatile HeaderElement[] elements;
 
     public Header(String name, HeaderElement[] elements) {
-        this.name = name;
+        this.name = intern(name);
         this.elements = elements;
+        this.value = formatValue(elements);
     }
 
     public Header(String name, String raw) {
-        this.name = name;
+        this.name = intern(name);
         this.value = raw;
     }
 
+    /**
+     * Retrieves the shared instance of a well known header name, keeping its case
+     * @param name a header name
+     * @return the shared instance, or the given name if it's not a well known one
+     */
+    public static String intern(String name) {
+        if (name == null) return null;
+
+        String interned = INTERNED.get(name);
+        return interned != null ? interned : name;
+    }
+
     public String getName() {
         return name;
     }
@@ -30,12 +66,15 @@ public class Header {
     }
 
     public HeaderElement[] getElements() {
-        if (elements == null) elements = HeaderParser.parse(value);
+        HeaderElement[] result = elements;
+        if (result == null) elements = result = HeaderParser.parse(value);
 
-        return elements;
+        return result;
     }
 
-    private String formatValue() {
+    private static String formatValue(HeaderElement[] elements) {
+        if (elements.length == 0) return "";
+
         StringBuilder sb = new StringBuilder();
         for (HeaderElement e : elements) {
             sb.append(e.toString());
@@ -49,8 +88,6 @@ public class Header {
     }
 
     public String getValue() {
-        if (value == null) value = formatValue();
-
         return value;
     }
 
@@ -69,7 +106,6 @@ public class Header {
         return new EqualsBuilder()
                 .append(name, header.name)
                 .append(value, header.value)
-                .append(elements, header.elements)
                 .isEquals();
     }
 
@@ -78,7 +114,6 @@ public class Header {
         return new HashCodeBuilder(17, 37)
                 .append(name)
                 .append(value)
-                .append(elements)
                 .toHashCode();
     }
 }
@@ -6,51 +6,110 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * Parses header values as comma separated elements, each one with optional semicolon separated parameters.
+ * It walks the value once, by index, only allocating the resulting names and values.
+ */
 public class HeaderParser {
 
     public static final String ELEM_DELIM = ",";
     public static final String PARAM_DELIM = ";";
     public static final String VALUE_DELIM = "=";
 
+    private static final char ELEM_CHAR = ',';
+    private static final char PARAM_CHAR = ';';
+    private static final char VALUE_CHAR = '=';
+
     public static HeaderElement[] parse(String s) {
         if (StringUtils.isBlank(s)) throw new IllegalArgumentException("Header should not be blank");
 
-        final String[] split = s.split(ELEM_DELIM);
-        HeaderElement[] output = new HeaderElement[split.length];
+        // Empty trailing elements are ignored
+        int end = stripTrailing(s, 0, s.length(), ELEM_CHAR);
+        if (end == 0) return new HeaderElement[0];
+
+        HeaderElement[] output = new HeaderElement[count(s, 0, end, ELEM_CHAR) + 1];
 
-        for (int i=0; i < split.length; i++) {
-            if (StringUtils.isBlank(split[i])) throw new IllegalArgumentException("Header element should not be blank");
+        int start = 0;
+        for (int i = 0; i < output.length; i++) {
+            int next = indexOf(s, start, end, ELEM_CHAR);
+            if (isBlank(s, start, next)) throw new IllegalArgumentException("Header element should not be blank");
 
-            final String[] elements = split[i].split(PARAM_DELIM);
-            output[i] = new HeaderElement(elements[0].trim(), parseParameters(elements));
+            output[i] = parseElement(s, start, next);
+            start = next + 1;
         }
 
         return output;
     }
 
-    private static Map<String,String> parseParameters(final String[] elements) {
-        if (elements.length == 1) return Collections.emptyMap();
+    private static HeaderElement parseElement(String s, int start, int end) {
+        end = stripTrailing(s, start, end, PARAM_CHAR);
+
+        int nameEnd = indexOf(s, start, end, PARAM_CHAR);
+        String name = trimmed(s, start, nameEnd);
 
-        Map<String,String> output = new HashMap<>(elements.length-1);
+        if (nameEnd == end) return new HeaderElement(name, Collections.<String,String>emptyMap());
 
-        for (int i=1; i < elements.length; i++) {
-            if (StringUtils.isBlank(elements[i])) throw new IllegalArgumentException("Header pair should not be blank");
+        Map<String,String> output = new HashMap<>(count(s, nameEnd, end, PARAM_CHAR) * 2);
 
-            String[] split = elements[i].split(VALUE_DELIM);
-            if (split.length == 0 || split.length > 2)
-                throw new IllegalArgumentException("Invalid header pair format");
-            else if (split.length == 2) {
-                if (StringUtils.isBlank(split[0]) || StringUtils.isBlank(split[1]))
-                    throw new IllegalArgumentException("Invalid header pair format");
-                else
-                    output.put(split[0].trim(), split[1].trim());
-            } else if (StringUtils.isBlank(split[0]) || elements[i].contains(VALUE_DELIM))
-                throw new IllegalArgumentException("Invalid header pair format");
-            else
-                output.put(split[0].trim(), null);
+        for (int pairStart = nameEnd + 1; pairStart <= end; ) {
+            int pairEnd = indexOf(s, pairStart, end, PARAM_CHAR);
+            parsePair(s, pairStart, pairEnd, output);
+            pairStart = pairEnd + 1;
         }
 
-        return output;
+        return new HeaderElement(name, output);
+    }
+
+    private static void parsePair(String s, int start, int end, Map<String,String> output) {
+        if (isBlank(s, start, end)) throw new IllegalArgumentException("Header pair should not be blank");
+
+        int delim = indexOf(s, start, end, VALUE_CHAR);
+        if (delim == end) {
+            output.put(trimmed(s, start, end), null);
+            return;
+        }
+
+        // Trailing delimiters are ignored, any other one is misplaced
+        int valueEnd = stripTrailing(s, delim + 1, end, VALUE_CHAR);
+        if (valueEnd == delim + 1 || indexOf(s, delim + 1, valueEnd, VALUE_CHAR) < valueEnd
+                || isBlank(s, start, delim) || isBlank(s, delim + 1, valueEnd))
+            throw new IllegalArgumentException("Invalid header pair format");
+
+        output.put(trimmed(s, start, delim), trimmed(s, delim + 1, valueEnd));
+    }
+
+    private static int indexOf(String s, int start, int end, char c) {
+        for (int i = start; i < end; i++)
+            if (s.charAt(i) == c) return i;
+
+        return end;
+    }
+
+    private static int count(String s, int start, int end, char c) {
+        int count = 0;
+        for (int i = start; i < end; i++)
+            if (s.charAt(i) == c) count++;
+
+        return count;
+    }
+
+    private static int stripTrailing(String s, int start, int end, char c) {
+        while (end > start && s.charAt(end - 1) == c) end--;
+        return end;
+    }
+
+    private static boolean isBlank(String s, int start, int end) {
+        for (int i = start; i < end; i++)
+            if (!Character.isWhitespace(s.charAt(i))) return false;
+
+        return true;
+    }
+
+    private static String trimmed(String s, int start, int end) {
+        while (start < end && s.charAt(start) <= ' ') start++;
+        while (end > start && s.charAt(end - 1) <= ' ') end--;
+
+        return s.substring(start, end);
     }
 
 }
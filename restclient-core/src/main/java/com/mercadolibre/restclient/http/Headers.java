@@ -2,15 +2,30 @@ package com.mercadolibre.restclient.http;
 
 import com.mercadolibre.restclient.util.CoberturaIgnore;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 
 /**
- * Iterable representation of HTTP headers
+ * Iterable representation of HTTP headers. Names are case insensitive, and are looked up without allocating.
+ * <p>
+ * {@link #add(Header)} replaces any header with the same name, while {@link #append(Header)} keeps them, for headers
+ * allowed to appear more than once, as Set-Cookie. Headers are iterated in the order they were added.
+ * <p>
+ * Engines may extend it to expose their own header representation lazily, so a {@link Header} is only built for the
+ * headers actually read.
  */
 public class Headers implements Iterable<Header> {
 
+    private static final int DEFAULT_CAPACITY = 8;
+
+    private Header[] headers;
+    private int size;
+
     /**
      * Constructs an empty Headers instance
      */
@@ -22,7 +37,8 @@ public class Headers implements Iterable<Header> {
      * @param from another Headers instance
      */
     public Headers(Headers from) {
-        for (Header h : from) add(h);
+        this.headers = from.toArray();
+        this.size = headers.length;
     }
 
     /**
@@ -30,24 +46,118 @@ public class Headers implements Iterable<Header> {
      * @param from a map containing header name and value
      */
     public Headers(Map<String,String> from) {
+        this.headers = new Header[Math.max(from.size(), 1)];
+
         for (Map.Entry<String,String> e : from.entrySet())
             add(e.getKey(), e.getValue());
     }
 
-    private Map<String,Header> headers = new HashMap<>();
+    /**
+     * Constructs a lazy view over an engine's headers. Every position starts empty, and is built on demand through
+     * {@link #nameAt(int)} and {@link #headerAt(int)}, which subclasses must override.
+     * @param count the number of engine headers
+     */
+    protected Headers(int count) {
+        this.headers = new Header[count];
+        this.size = count;
+    }
+
+    /**
+     * Retrieves the name of an engine header not built yet, without building it
+     * @param index the header position
+     * @return the header name
+     */
+    protected String nameAt(int index) {
+        throw new IllegalStateException("Missing header at " + index);
+    }
 
     /**
-     * Adds a header to this instance
+     * Builds an engine header
+     * @param index the header position
+     * @return the header
+     */
+    protected Header headerAt(int index) {
+        throw new IllegalStateException("Missing header at " + index);
+    }
+
+    private String name(int index) {
+        Header h = headers[index];
+        return h != null ? h.getName() : nameAt(index);
+    }
+
+    private Header get(int index) {
+        // Read without locking: a header is immutable once built, so a slot is either seen empty and loaded, or complete
+        Header h = headers[index];
+        return h != null ? h : load(index);
+    }
+
+    private synchronized Header load(int index) {
+        Header h = headers[index];
+        if (h == null) headers[index] = h = headerAt(index);
+
+        return h;
+    }
+
+    private Header[] toArray() {
+        Header[] output = new Header[size];
+        for (int i = 0; i < size; i++)
+            output[i] = get(i);
+
+        return output;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (headers == null)
+            headers = new Header[Math.max(capacity, DEFAULT_CAPACITY)];
+        else if (headers.length < capacity)
+            headers = Arrays.copyOf(headers, Math.max(capacity, headers.length * 2));
+    }
+
+    private int indexOf(String name, int from) {
+        for (int i = from; i < size; i++)
+            if (name.equalsIgnoreCase(name(i)))
+                return i;
+
+        return -1;
+    }
+
+    private int lastIndexOf(String name) {
+        for (int i = size - 1; i >= 0; i--)
+            if (name.equalsIgnoreCase(name(i)))
+                return i;
+
+        return -1;
+    }
+
+    /**
+     * Adds a header to this instance, replacing any other with the same name
      * @param h a {@link Header} instance
      * @return this instance
      */
     public Headers add(Header h) {
-        headers.put(h.getName().toLowerCase(), h);
+        int index = indexOf(h.getName(), 0);
+        if (index < 0) return append(h);
+
+        int next = indexOf(h.getName(), index + 1);
+        if (next >= 0) {
+            // Positions shift, so every header is built before removing repeated ones
+            headers = toArray();
+
+            int kept = next;
+            for (int i = next; i < size; i++)
+                if (!h.getName().equalsIgnoreCase(headers[i].getName()))
+                    headers[kept++] = headers[i];
+
+            Arrays.fill(headers, kept, size, null);
+            size = kept;
+        }
+
+        headers[index] = h;
         return this;
     }
 
     /**
-     * Adds a header to this instance
+     * Adds a header to this instance, replacing any other with the same name
      * @param name header name
      * @param value header value
      * @return this instance
@@ -56,21 +166,97 @@ public class Headers implements Iterable<Header> {
         return add(new Header(name,value));
     }
 
+    /**
+     * Adds a header to this instance, keeping any other with the same name
+     * @param h a {@link Header} instance
+     * @return this instance
+     */
+    public Headers append(Header h) {
+        ensureCapacity(size + 1);
+        headers[size++] = h;
+        return this;
+    }
+
+    /**
+     * Adds a header to this instance, keeping any other with the same name
+     * @param name header name
+     * @param value header value
+     * @return this instance
+     */
+    public Headers append(String name, String value) {
+        return append(new Header(name,value));
+    }
+
+    /**
+     * Removes all headers with a name
+     * @param name header name
+     * @return true if any header was removed
+     */
+    public boolean remove(String name) {
+        int index = indexOf(name, 0);
+        if (index < 0) return false;
+
+        // Positions shift, so every header is built before removing
+        headers = toArray();
+
+        int kept = index;
+        for (int i = index; i < size; i++)
+            if (!name.equalsIgnoreCase(headers[i].getName()))
+                headers[kept++] = headers[i];
+
+        Arrays.fill(headers, kept, size, null);
+        size = kept;
+
+        return true;
+    }
+
     /**
      * @return the iterator for this Iterable
      */
     @Override
     public Iterator<Header> iterator() {
-        return headers.values().iterator();
+        return new Iterator<Header>() {
+            private int next;
+
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            public Header next() {
+                if (next >= size) throw new NoSuchElementException();
+                return get(next++);
+            }
+
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
     }
 
     /**
-     * Retrieves a header by name
+     * Retrieves a header by name. If there are many, the last one is retrieved
      * @param name header name
      * @return a {@link Header} instance
      */
     public Header getHeader(String name) {
-        return headers.get(name.toLowerCase());
+        int index = lastIndexOf(name);
+        return index >= 0 ? get(index) : null;
+    }
+
+    /**
+     * Retrieves all headers with a name, in the order they were added
+     * @param name header name
+     * @return the headers, or an empty list if there is none
+     */
+    public List<Header> getAll(String name) {
+        int index = indexOf(name, 0);
+        if (index < 0) return Collections.emptyList();
+
+        List<Header> output = new ArrayList<>(2);
+        for (; index >= 0; index = indexOf(name, index + 1))
+            output.add(get(index));
+
+        return output;
     }
 
     /**
@@ -79,22 +265,45 @@ public class Headers implements Iterable<Header> {
      * @return Returns true only if this instance contains a header with specified name
      */
     public boolean contains(String name) {
-    	return headers.containsKey(name.toLowerCase());
+    	return indexOf(name, 0) >= 0;
     }
 
     @CoberturaIgnore
     public String toString() {
-        return headers.toString();
+        return Arrays.toString(toArray());
     }
 
     @CoberturaIgnore
     public boolean equals(Object o) {
-        return this == o || o instanceof Headers && headers.equals(((Headers) o).headers);
+        if (this == o) return true;
+        if (!(o instanceof Headers)) return false;
+
+        Headers other = (Headers) o;
+        if (size != other.size) return false;
+
+        // Order doesn't matter, though repeated headers must match as many times
+        boolean[] matched = new boolean[size];
+        for (Header h : this) {
+            boolean found = false;
+
+            for (int i = 0; i < size && !found; i++) {
+                if (!matched[i] && h.equals(other.get(i)))
+                    matched[i] = found = true;
+            }
+
+            if (!found) return false;
+        }
+
+        return true;
     }
 
     @CoberturaIgnore
     public int hashCode() {
-        return headers.hashCode();
+        int hash = 0;
+        for (Header h : this)
+            hash += h.hashCode();
+
+        return hash;
     }
 
     /**
@@ -102,11 +311,7 @@ public class Headers implements Iterable<Header> {
      * @return the new Headers instance
      */
     public Headers clone() {
-        Map<String,String> data = new HashMap<>();
-        for (Map.Entry<String,Header> e : headers.entrySet())
-            data.put(e.getKey(), e.getValue().getValue());
-
-        return new Headers(new HashMap<>(data));
+        return new Headers(this);
     }
 
     /**
@@ -114,15 +319,15 @@ public class Headers implements Iterable<Header> {
      * @return true if this instance contains no headers, false otherwise
      */
     public boolean isEmpty() {
-        return headers.isEmpty();
+        return size == 0;
     }
 
     /**
-     * Returns the amounts of {@link Header} instances contained in this instance
+     * Returns the amounts of {@link Header} instances contained in this instance, counting repeated ones
      * @return the header count
      */
     public int size() {
-        return headers.size();
+        return size;
     }
-    
-}
\ No newline at end of file
+
+}
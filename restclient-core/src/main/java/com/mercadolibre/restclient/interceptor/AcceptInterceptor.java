@@ -14,6 +14,7 @@ public class AcceptInterceptor implements RequestInterceptor {
 
     private String type;
     private boolean overwrite = false;
+    private Header header;
 
     public AcceptInterceptor(boolean overwrite, String... types) {
         this(types);
@@ -32,12 +33,13 @@ public class AcceptInterceptor implements RequestInterceptor {
         sb.setLength(sb.length() - 2);
 
         this.type = sb.toString();
+        this.header = new Header("Accept", type);
     }
 
     @Override
     public void intercept(Request r) {
         if (overwrite || !r.getHeaders().contains("Accept"))
-            r.getHeaders().add(new Header("Accept",type));
+            r.getHeaders().add(header);
     }
 
     @Override @CoberturaIgnore
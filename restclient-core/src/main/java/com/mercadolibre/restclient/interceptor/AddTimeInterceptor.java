@@ -1,9 +1,11 @@
 package com.mercadolibre.restclient.interceptor;
 
 import com.mercadolibre.restclient.Request;
+import com.mercadolibre.restclient.util.Clocks;
 
 /**
- * Adds a timestamp to a {@link Request}. It can be used for time profiling upon completion.
+ * Adds a timestamp to a {@link Request}, kept as {@link Request#getStartTime()}. Monotonic time is kept as well, so
+ * {@link Request#getElapsedTime()} can be used for time profiling upon completion.
  */
 public enum AddTimeInterceptor implements RequestInterceptor {
     INSTANCE;
@@ -12,7 +14,7 @@ public enum AddTimeInterceptor implements RequestInterceptor {
 
     @Override
     public void intercept(Request r) {
-        r.setAttribute(NAME, System.currentTimeMillis());
+        r.setStartTime(Clocks.currentTimeMillis(), Clocks.nanoTime());
     }
 
 }
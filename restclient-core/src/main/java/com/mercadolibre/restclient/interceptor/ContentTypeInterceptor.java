@@ -14,9 +14,11 @@ public class ContentTypeInterceptor implements RequestInterceptor {
 
     private ContentType type;
     private boolean overwrite = false;
+    private Header header;
 
     public ContentTypeInterceptor(ContentType type) {
         this.type = type;
+        this.header = new Header(ContentType.HEADER_NAME, type.toString());
     }
 
     public ContentTypeInterceptor(String type, String charset){
@@ -28,7 +30,7 @@ public class ContentTypeInterceptor implements RequestInterceptor {
     }
 
     public ContentTypeInterceptor(ContentType type, boolean overwrite) {
-        this.type = type;
+        this(type);
         this.overwrite = overwrite;
     }
 
@@ -43,7 +45,7 @@ public class ContentTypeInterceptor implements RequestInterceptor {
     @Override
     public void intercept(Request r) {
         if (overwrite || !r.getHeaders().contains(ContentType.HEADER_NAME))
-            r.getHeaders().add(new Header(ContentType.HEADER_NAME, type.toString()));
+            r.getHeaders().add(header);
     }
 
     @Override @CoberturaIgnore
@@ -0,0 +1,30 @@
+package com.mercadolibre.restclient.util;
+
+/**
+ * Source of time for the client. Wall clock time stamps requests and responses, and drives cache expiration, while
+ * monotonic time measures latency. Sync retries also wait through it, so a simulated clock can drive cache and backoff
+ * logic without actually waiting.
+ * <p>
+ * An implementation is registered by {@link Clocks#set(Clock)}, or found through {@link java.util.ServiceLoader} under
+ * {@code META-INF/services/com.mercadolibre.restclient.util.Clock}.
+ */
+public interface Clock {
+
+    /**
+     * @return current time in milliseconds since epoch
+     */
+    long currentTimeMillis();
+
+    /**
+     * @return current value of a monotonic time source in nanoseconds, only meaningful to compute elapsed time
+     */
+    long nanoTime();
+
+    /**
+     * Waits for given time
+     * @param millis milliseconds to wait
+     * @throws InterruptedException if current thread is interrupted while waiting
+     */
+    void sleep(long millis) throws InterruptedException;
+
+}
@@ -0,0 +1,68 @@
+package com.mercadolibre.restclient.util;
+
+import java.util.Iterator;
+import java.util.ServiceLoader;
+
+/**
+ * Registry of the {@link Clock} used by the client. It defaults to the first implementation found through
+ * {@link ServiceLoader}, or else to a shared {@link CoarseClock}, which is only started when first needed.
+ */
+public final class Clocks {
+
+    private static volatile Clock clock;
+
+    private Clocks() {
+    }
+
+    private static final class DefaultHolder {
+        public static final Clock INSTANCE = load();
+
+        private static Clock load() {
+            Iterator<Clock> it = ServiceLoader.load(Clock.class).iterator();
+            return it.hasNext() ? it.next() : new CoarseClock();
+        }
+    }
+
+    /**
+     * @return the clock in use
+     */
+    public static Clock get() {
+        Clock c = clock;
+        return c != null ? c : DefaultHolder.INSTANCE;
+    }
+
+    /**
+     * Replaces the clock in use, as a simulated one for tests
+     * @param clock a {@link Clock}, or null to restore the default one
+     */
+    public static void set(Clock clock) {
+        Clocks.clock = clock;
+    }
+
+    /**
+     * @return current time in milliseconds since epoch, as told by the clock in use
+     * @see Clock#currentTimeMillis()
+     */
+    public static long currentTimeMillis() {
+        return get().currentTimeMillis();
+    }
+
+    /**
+     * @return current value of the monotonic time source of the clock in use, in nanoseconds
+     * @see Clock#nanoTime()
+     */
+    public static long nanoTime() {
+        return get().nanoTime();
+    }
+
+    /**
+     * Waits for given time through the clock in use
+     * @param millis milliseconds to wait
+     * @throws InterruptedException if current thread is interrupted while waiting
+     * @see Clock#sleep(long)
+     */
+    public static void sleep(long millis) throws InterruptedException {
+        get().sleep(millis);
+    }
+
+}
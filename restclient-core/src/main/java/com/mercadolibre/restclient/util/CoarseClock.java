@@ -0,0 +1,73 @@
+package com.mercadolibre.restclient.util;
+
+import java.io.Closeable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link Clock} whose wall clock time is refreshed by a single background thread, so reading it is a volatile read
+ * instead of a system call. It lags system time by up to its resolution, which is negligible for cache expiration,
+ * stated in seconds. Monotonic time is always read from the system, as it measures latency.
+ */
+public class CoarseClock implements Clock, Closeable {
+
+    public static final long DEFAULT_RESOLUTION = 10L;
+
+    private final ScheduledExecutorService ticker;
+    private volatile long now = System.currentTimeMillis();
+
+    /**
+     * Builds a clock refreshed every {@link #DEFAULT_RESOLUTION} milliseconds
+     */
+    public CoarseClock() {
+        this(DEFAULT_RESOLUTION);
+    }
+
+    /**
+     * Builds a clock refreshed every given milliseconds
+     * @param resolution milliseconds between refreshes
+     */
+    public CoarseClock(long resolution) {
+        if (resolution <= 0) throw new IllegalArgumentException("Resolution should be positive");
+
+        ticker = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            public Thread newThread(Runnable r) {
+                Thread t = new Thread(r, "Coarse clock");
+                t.setDaemon(true);
+                return t;
+            }
+        });
+
+        ticker.scheduleAtFixedRate(new Runnable() {
+            public void run() {
+                now = System.currentTimeMillis();
+            }
+        }, resolution, resolution, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return now;
+    }
+
+    @Override
+    public long nanoTime() {
+        return System.nanoTime();
+    }
+
+    @Override
+    public void sleep(long millis) throws InterruptedException {
+        Thread.sleep(millis);
+    }
+
+    /**
+     * Stops refreshing this clock
+     */
+    @Override
+    public void close() {
+        ticker.shutdownNow();
+    }
+
+}
@@ -0,0 +1,251 @@
+package com.mercadolibre.restclient.util;
+
+import java.io.EOFException;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * Push-based decoder for gzip and deflate content. Compressed bytes written to this stream are inflated as they arrive
+ * and the plain content is forwarded to the wrapped stream, so a body can be decoded chunk by chunk without ever being
+ * held entirely in memory.
+ * <p>
+ * {@link #finish()} validates that the compressed content, if any, was complete and releases the inflater without
+ * closing the wrapped stream. {@link #close()} finishes and then closes the wrapped stream.
+ */
+public class DecompressingOutputStream extends FilterOutputStream {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final int GZIP_MAGIC_1 = 0x1f;
+    private static final int GZIP_MAGIC_2 = 0x8b;
+    private static final int GZIP_DEFLATE = 8;
+
+    private static final int FHCRC = 2;
+    private static final int FEXTRA = 4;
+    private static final int FNAME = 8;
+    private static final int FCOMMENT = 16;
+
+    private static final int GZIP_TRAILER_SIZE = 8;
+
+    private enum State {
+        HEADER, EXTRA_LENGTH, EXTRA, NAME, COMMENT, HEADER_CRC, BODY, TRAILER, DONE
+    }
+
+    private final boolean gzip;
+    private final Inflater inflater;
+    private final CRC32 crc = new CRC32();
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private final byte[] single = new byte[1];
+    private final byte[] trailer = new byte[GZIP_TRAILER_SIZE];
+
+    private State state;
+    private int flags;
+    private int pending;
+    private int read;
+    private int members;
+    private long inflated;
+    private boolean written;
+    private boolean finished;
+
+    private DecompressingOutputStream(OutputStream out, boolean gzip) {
+        super(out);
+        this.gzip = gzip;
+        this.inflater = new Inflater(gzip);
+        this.state = gzip ? State.HEADER : State.BODY;
+    }
+
+    /**
+     * @param out the stream receiving decoded content
+     * @return a stream decoding gzip content written to it
+     */
+    public static DecompressingOutputStream gzip(OutputStream out) {
+        return new DecompressingOutputStream(out, true);
+    }
+
+    /**
+     * @param out the stream receiving decoded content
+     * @return a stream decoding zlib deflate content written to it
+     */
+    public static DecompressingOutputStream deflate(OutputStream out) {
+        return new DecompressingOutputStream(out, false);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        single[0] = (byte) b;
+        write(single, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (finished) throw new IOException("Stream already finished");
+        if (len > 0) written = true;
+
+        int end = off + len;
+
+        while (off < end) {
+            switch (state) {
+                case BODY:
+                    off = inflate(b, off, end);
+                    break;
+                case TRAILER:
+                    int n = Math.min(GZIP_TRAILER_SIZE - read, end - off);
+                    System.arraycopy(b, off, trailer, read, n);
+                    read += n;
+                    off += n;
+
+                    if (read == GZIP_TRAILER_SIZE) checkTrailer();
+                    break;
+                case DONE:
+                    return;
+                default:
+                    header(b[off++] & 0xff);
+            }
+        }
+    }
+
+    private int inflate(byte[] b, int off, int end) throws IOException {
+        inflater.setInput(b, off, end - off);
+
+        try {
+            for (;;) {
+                int n = inflater.inflate(buffer, 0, buffer.length);
+
+                if (n > 0) {
+                    if (gzip) crc.update(buffer, 0, n);
+                    inflated += n;
+                    out.write(buffer, 0, n);
+                } else if (inflater.finished() || inflater.needsInput())
+                    break;
+                else if (inflater.needsDictionary())
+                    throw new ZipException("ZLIB dictionary missing");
+            }
+        } catch (DataFormatException e) {
+            throw new ZipException(e.getMessage());
+        }
+
+        if (!inflater.finished()) return end;
+
+        if (gzip) {
+            state = State.TRAILER;
+            read = 0;
+        } else
+            state = State.DONE;
+
+        return end - inflater.getRemaining();
+    }
+
+    private void header(int b) throws IOException {
+        switch (state) {
+            case HEADER:
+                if (read == 0 && b != GZIP_MAGIC_1 || read == 1 && b != GZIP_MAGIC_2) {
+                    // Bytes after a complete member which do not start a new one are ignored, as GZIPInputStream does
+                    if (members > 0) {
+                        state = State.DONE;
+                        return;
+                    }
+                    throw new ZipException("Not in GZIP format");
+                }
+
+                if (read == 2 && b != GZIP_DEFLATE) throw new ZipException("Unsupported compression method");
+                if (read == 3) flags = b;
+
+                if (++read == 10) {
+                    read = 0;
+                    pending = 0;
+                    nextHeaderField(State.EXTRA_LENGTH);
+                }
+                break;
+            case EXTRA_LENGTH:
+                pending |= b << (8 * read);
+
+                if (++read == 2) {
+                    read = 0;
+                    if (pending > 0) state = State.EXTRA;
+                    else nextHeaderField(State.NAME);
+                }
+                break;
+            case EXTRA:
+                if (--pending == 0) nextHeaderField(State.NAME);
+                break;
+            case NAME:
+                if (b == 0) nextHeaderField(State.COMMENT);
+                break;
+            case COMMENT:
+                if (b == 0) nextHeaderField(State.HEADER_CRC);
+                break;
+            case HEADER_CRC:
+                if (++read == 2) {
+                    read = 0;
+                    nextHeaderField(State.BODY);
+                }
+                break;
+            default:
+                throw new IllegalStateException(state.name());
+        }
+    }
+
+    private void nextHeaderField(State from) {
+        State next = from;
+
+        if (next == State.EXTRA_LENGTH && (flags & FEXTRA) == 0) next = State.NAME;
+        if (next == State.NAME && (flags & FNAME) == 0) next = State.COMMENT;
+        if (next == State.COMMENT && (flags & FCOMMENT) == 0) next = State.HEADER_CRC;
+        if (next == State.HEADER_CRC && (flags & FHCRC) == 0) next = State.BODY;
+
+        state = next;
+    }
+
+    private void checkTrailer() throws IOException {
+        if (readInt(trailer, 0) != crc.getValue()) throw new ZipException("Corrupt GZIP trailer");
+        if (readInt(trailer, 4) != (inflated & 0xffffffffL)) throw new ZipException("Corrupt GZIP trailer");
+
+        members++;
+        inflater.reset();
+        crc.reset();
+        inflated = 0;
+        read = 0;
+        state = State.HEADER;
+    }
+
+    private static long readInt(byte[] b, int off) {
+        return (b[off] & 0xffL) | (b[off + 1] & 0xffL) << 8 | (b[off + 2] & 0xffL) << 16 | (b[off + 3] & 0xffL) << 24;
+    }
+
+    /**
+     * Checks that compressed content is complete, flushes decoded content and releases the inflater.
+     * The wrapped stream is left open, but it is finished as well when it is a decoder itself.
+     * @throws IOException if content was truncated
+     */
+    public void finish() throws IOException {
+        if (finished) return;
+        finished = true;
+
+        inflater.end();
+
+        try {
+            boolean complete = !written || state == State.DONE || gzip && state == State.HEADER && read == 0 && members > 0;
+            if (!complete) throw new EOFException("Unexpected end of " + (gzip ? "GZIP" : "ZLIB") + " input stream");
+        } finally {
+            if (out instanceof DecompressingOutputStream)
+                ((DecompressingOutputStream) out).finish();
+            else
+                out.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            finish();
+        } finally {
+            out.close();
+        }
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.mercadolibre.restclient.util;
 
+import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -15,6 +16,7 @@ import com.google.common.base.Joiner;
 import com.google.common.io.ByteStreams;
 import com.mercadolibre.restclient.Request;
 import com.mercadolibre.restclient.Response;
+import com.mercadolibre.restclient.StreamingResponse;
 import com.mercadolibre.restclient.exception.RestException;
 import com.mercadolibre.restclient.http.Header;
 import com.mercadolibre.restclient.http.HeaderElement;
@@ -30,22 +32,26 @@ public class HttpCompressionHandler {
     private static final String CONTENT_ENCODING_GZIP = "gzip";
     private static final String CONTENT_ENCODING_DEFLATE = "deflate";
 	private static final List<String> DEFAULT_CONTENT_ENCODINGS = Arrays.asList(CONTENT_ENCODING_GZIP, CONTENT_ENCODING_DEFLATE);
+	private static final Header DEFAULT_ACCEPT_ENCODING = new Header(ACCEPT_ENCODING_HEADER, Joiner.on(",").join(DEFAULT_CONTENT_ENCODINGS));
 
 	private static final int GZIP_BUFFER_SIZE = 4096;
 	private static final int DEFLATE_BUFFER_SIZE = 4096;
 	
 	private static final String FORCE_CONTENT_ENCODING_ATTRIBUTE = "forceContentEncoding";
-	private static final String FORCE_RETRY_ATTRIBUTE = "force_retry";
 
+	/**
+	 * Adds the encodings this client decodes to the Accept-Encoding header of a request, unless its engine handles
+	 * compression. It's applied once per request, so it runs before cache lookups, whose variant keys must match the
+	 * headers as sent, and retries leave it as it is.
+	 * @param request the request about to be sent
+	 */
 	public static void handleRequest(Request request) {
-		if (request.getClients() != null && request.getClients().getPool().compression() || Boolean.TRUE.equals(request.getAttribute(FORCE_RETRY_ATTRIBUTE))) return;
+		if (request.getClients() != null && request.getClients().getPool().compression() || request.getAttribute(FORCE_CONTENT_ENCODING_ATTRIBUTE) != null) return;
 
     	boolean forceContentEncoding = true;
 
         if (!request.getHeaders().contains(ACCEPT_ENCODING_HEADER)) {
-        	request.getHeaders().add(new Header(ACCEPT_ENCODING_HEADER, Joiner.on(",").join(DEFAULT_CONTENT_ENCODINGS)));
-
-        	request.setAttribute(FORCE_RETRY_ATTRIBUTE, true);
+        	request.getHeaders().add(DEFAULT_ACCEPT_ENCODING);
         
         } else {
         	List<String> acceptEncodingCurrentElements = new ArrayList<>();
@@ -71,24 +77,119 @@ public class HttpCompressionHandler {
 	public static void handleResponse(Request request, Response response) throws RestException {
 		if (response == null || request.getClients() != null && request.getClients().getPool().compression()) return;
 
-		if (!request.isDownload() && request.getAttributes().containsKey(FORCE_CONTENT_ENCODING_ATTRIBUTE) && (Boolean) request.getAttribute(FORCE_CONTENT_ENCODING_ATTRIBUTE) && response.getHeaders().contains(CONTENT_ENCODING_HEADER)) {
-    		for (HeaderElement element : response.getHeaders().getHeader(CONTENT_ENCODING_HEADER).getElements()) {
-		        try {
-	    			if (CONTENT_ENCODING_GZIP.equalsIgnoreCase(element.getName())) {
-	                    handleGzip(response);
-	                }
-	
-	                if (CONTENT_ENCODING_DEFLATE.equalsIgnoreCase(element.getName())) {
-	                    handleDeflate(response);
-	                }
-		        
-		        } catch (Exception e) {
-		        	throw new RestException(e);
-		        }
-    		}
-    	}
+		if (!request.isDownload() && Boolean.TRUE.equals(request.getAttribute(FORCE_CONTENT_ENCODING_ATTRIBUTE)) && response.getHeaders().contains(CONTENT_ENCODING_HEADER)) {
+			Header contentEncoding = response.getHeaders().getHeader(CONTENT_ENCODING_HEADER);
+			byte[] bytes = response.getEncodedBytes();
+			if (!isDecodable(contentEncoding) || bytes == null || bytes.length == 0) return;
+
+			// Body is kept as it came, and decoded the first time it's read. It's checked now, so a corrupt one still fails
+			// the request, and is retried rather than cached
+			try {
+				verify(bytes, contentEncoding);
+			} catch (IOException e) {
+				throw new RestException(e, "Could not decode response body with Content-Encoding: " + contentEncoding.getValue());
+			}
+
+			response.setBodyEncoding(contentEncoding);
+		}
 	}
-	
+
+	/**
+	 * Checks a body decodes according to its Content-Encoding, including gzip checksums, without keeping decoded content
+	 * @param bytes the encoded body
+	 * @param contentEncoding the Content-Encoding header
+	 * @throws IOException if body is not properly encoded
+	 */
+	private static void verify(byte[] bytes, Header contentEncoding) throws IOException {
+		HeaderElement[] elements = contentEncoding.getElements();
+		InputStream in = new ByteArrayInputStream(bytes);
+
+		for (int i = elements.length - 1; i >= 0; i--) {
+			if (CONTENT_ENCODING_GZIP.equalsIgnoreCase(elements[i].getName()))
+				in = new GZIPInputStream(in, GZIP_BUFFER_SIZE);
+			else if (CONTENT_ENCODING_DEFLATE.equalsIgnoreCase(elements[i].getName()))
+				in = new InflaterInputStream(in);
+		}
+
+		try (InputStream decoded = in) {
+			byte[] buffer = new byte[GZIP_BUFFER_SIZE];
+			while (decoded.read(buffer) >= 0);
+		}
+	}
+
+	private static boolean isDecodable(Header contentEncoding) {
+		for (HeaderElement element : contentEncoding.getElements())
+			if (CONTENT_ENCODING_GZIP.equalsIgnoreCase(element.getName()) || CONTENT_ENCODING_DEFLATE.equalsIgnoreCase(element.getName()))
+				return true;
+
+		return false;
+	}
+
+	/**
+	 * Decodes a body according to its Content-Encoding. Encodings are undone in reverse order, and unknown ones are skipped.
+	 * @param bytes the encoded body, can be null
+	 * @param contentEncoding the Content-Encoding header
+	 * @return the decoded body
+	 * @throws IOException if body is not properly encoded
+	 */
+	public static byte[] decode(byte[] bytes, Header contentEncoding) throws IOException {
+		if (bytes == null || contentEncoding == null) return bytes;
+
+		HeaderElement[] elements = contentEncoding.getElements();
+
+		for (int i = elements.length - 1; i >= 0; i--) {
+			boolean gzip = CONTENT_ENCODING_GZIP.equalsIgnoreCase(elements[i].getName());
+			if (!gzip && !CONTENT_ENCODING_DEFLATE.equalsIgnoreCase(elements[i].getName())) continue;
+
+			try (InputStream in = new ByteArrayInputStream(bytes);
+				ByteArrayOutputStream out = new ByteArrayOutputStream((int) Math.max(32, Math.min(Integer.MAX_VALUE - 8, 4L * bytes.length)))) {
+				if (gzip)
+					handleGzip(in, out);
+				else
+					handleDeflate(in, out);
+
+				bytes = out.toByteArray();
+			}
+		}
+
+		return bytes;
+	}
+
+	public static void handleResponse(Request request, StreamingResponse response) throws RestException {
+		if (response == null || request.getClients() != null && request.getClients().getPool().compression()) return;
+
+		if (Boolean.TRUE.equals(request.getAttribute(FORCE_CONTENT_ENCODING_ATTRIBUTE)) && response.getHeaders().contains(CONTENT_ENCODING_HEADER)) {
+			HeaderElement[] elements = response.getHeaders().getHeader(CONTENT_ENCODING_HEADER).getElements();
+
+			try {
+				for (int i = elements.length - 1; i >= 0; i--) {
+					if (CONTENT_ENCODING_GZIP.equalsIgnoreCase(elements[i].getName())) {
+						response.setBody(gzipStream(response.getBody()));
+					}
+
+					if (CONTENT_ENCODING_DEFLATE.equalsIgnoreCase(elements[i].getName())) {
+						response.setBody(new InflaterInputStream(response.getBody()));
+					}
+				}
+
+			} catch (Exception e) {
+				throw new RestException(e);
+			}
+		}
+	}
+
+	private static InputStream gzipStream(InputStream in) throws IOException {
+		// GZIPInputStream reads gzip header right away, so an empty body must be left as is
+		BufferedInputStream buffered = new BufferedInputStream(in, GZIP_BUFFER_SIZE);
+		buffered.mark(1);
+
+		if (buffered.read() < 0) return buffered;
+
+		buffered.reset();
+
+		return new GZIPInputStream(buffered, GZIP_BUFFER_SIZE);
+	}
+
 	public static void handleContent(InputStream in, OutputStream out, Header contentEncoding, boolean compression) throws RestException {
 		boolean handled = false;
 		
@@ -123,6 +224,30 @@ public class HttpCompressionHandler {
 		}
 	}
 	
+	/**
+	 * Wraps given stream so that content written to it is decoded on the fly according to content encoding.
+	 * Encodings are undone in reverse order, so the first one listed is the last to be decoded.
+	 * @param out the stream receiving decoded content
+	 * @param contentEncoding the response Content-Encoding header, can be null
+	 * @param compression whether compression is handled manually, in which case content is left as is
+	 * @return a decoding stream, or out itself when there is nothing to decode
+	 */
+	public static OutputStream decodingStream(OutputStream out, Header contentEncoding, boolean compression) {
+		if (compression || contentEncoding == null) return out;
+
+		OutputStream stream = out;
+
+		for (HeaderElement element : contentEncoding.getElements()) {
+			if (CONTENT_ENCODING_GZIP.equalsIgnoreCase(element.getName()))
+				stream = DecompressingOutputStream.gzip(stream);
+
+			if (CONTENT_ENCODING_DEFLATE.equalsIgnoreCase(element.getName()))
+				stream = DecompressingOutputStream.deflate(stream);
+		}
+
+		return stream;
+	}
+
 	private static void handleGzip(InputStream in, OutputStream out) throws IOException {
 		if (in == null) return;
 		
@@ -149,26 +274,4 @@ public class HttpCompressionHandler {
 		}
 	}
 
-	private static void handleGzip(Response response) throws IOException {
-		if (response.getBytes() == null) return;
-		
-		try (InputStream in = new ByteArrayInputStream(response.getBytes());
-			ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-			handleGzip(in, out);
-		
-			response.setBytes(out.toByteArray());
-		}
-	}
-	
-	private static void handleDeflate(Response response) throws IOException {
-		if (response.getBytes() == null) return;
-		
-		try (InputStream in = new ByteArrayInputStream(response.getBytes());
-			ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-			handleDeflate(in, out);
-		
-			response.setBytes(out.toByteArray());
-		}
-	}
-	
 }
\ No newline at end of file
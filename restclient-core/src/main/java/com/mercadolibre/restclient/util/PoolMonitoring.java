@@ -18,7 +18,13 @@ public enum PoolMonitoring {
 	private ConcurrentMap<String, ExecutorService> pools = new ConcurrentHashMap<>();
 
 	PoolMonitoring() {
-    	Executors.newSingleThreadScheduledExecutor().scheduleAtFixedRate(new Runnable() {
+    	Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+			public Thread newThread(Runnable r) {
+				Thread t = new Thread(r, "Pool monitoring");
+				t.setDaemon(true);
+				return t;
+			}
+		}).scheduleAtFixedRate(new Runnable() {
 			public void run() {
 				sendMetrics();
 			}
@@ -0,0 +1,25 @@
+package com.mercadolibre.restclient.util;
+
+/**
+ * A {@link Clock} reading system time on every call.
+ */
+public enum SystemClock implements Clock {
+
+    INSTANCE;
+
+    @Override
+    public long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    @Override
+    public long nanoTime() {
+        return System.nanoTime();
+    }
+
+    @Override
+    public void sleep(long millis) throws InterruptedException {
+        Thread.sleep(millis);
+    }
+
+}
@@ -7,12 +7,14 @@ import com.mercadolibre.restclient.http.ContentType;
 import com.mercadolibre.restclient.http.HttpMethod;
 import com.mercadolibre.restclient.http.Proxy;
 import com.mercadolibre.restclient.interceptor.*;
+import com.mercadolibre.restclient.mock.DummyClient;
 import com.mercadolibre.restclient.mock.MockUtil;
 import com.mercadolibre.restclient.multipart.ByteArrayPart;
 import com.mercadolibre.restclient.multipart.Part;
 import com.mercadolibre.restclient.multipart.StringPart;
 import com.mercadolibre.restclient.retry.RetryStrategy;
 import com.mercadolibre.restclient.retry.SimpleRetryStrategy;
+import com.mercadolibre.restclient.util.Clocks;
 import org.junit.Test;
 
 import java.io.ByteArrayOutputStream;
@@ -142,6 +144,21 @@ public class RestClientConfigTest extends RestClientTestBase {
         assertEquals(third, request.getRequestInterceptors().pop());
     }
 
+    @Test
+    public void shouldApplyPoolInterceptorsChangedAfterBuild() throws RestException, IOException {
+        RequestInterceptor added = new AcceptInterceptor("1");
+        RESTPool pool = RESTPool.builder().withName("changed").build();
+        RestClient restClient = RestClient.builder().withPool(pool).disableDefault().build();
+
+        assertEquals(3, restClient.withPool(pool).withURL("http://test").build().getRequestInterceptors().size());
+
+        pool.getRequestInterceptors().addLast(added);
+        assertEquals(added, restClient.withPool(pool).withURL("http://test").build().getRequestInterceptors().peekLast());
+
+        pool.getRequestInterceptors().removeLast();
+        assertEquals(3, restClient.withPool(pool).withURL("http://test").build().getRequestInterceptors().size());
+    }
+
     @Test
     public void shouldAddResponseInterceptors() throws RestException {
         ResponseInterceptor first = new ResponseInterceptor() {
@@ -387,4 +404,174 @@ public class RestClientConfigTest extends RestClientTestBase {
         holder.getDefaultClients();
     }
 
+    private static class CountingFactory implements ClientFactory<Response> {
+        private final RESTPool pool;
+        private int sync;
+        private int async;
+        private boolean closed;
+
+        CountingFactory(RESTPool pool) {
+            this.pool = pool;
+        }
+
+        @Override
+        public ExecREST buildClient() {
+            sync++;
+            return new DummyClient(pool);
+        }
+
+        @Override
+        public ExecAsyncREST<Response> buildAsyncClient() {
+            async++;
+            return new WrappingExecAsyncREST<>(new DummyClient(pool));
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    @Test
+    public void shouldBuildClientsOnFirstUse() throws IOException, RestException {
+        RESTPool pool = RESTPool.builder().withName("lazy").build();
+        CountingFactory factory = new CountingFactory(pool);
+        ClientHolder.Clients<Response> clients = new ClientHolder.Clients<>(factory, pool);
+
+        assertEquals(0, factory.sync + factory.async);
+
+        ExecREST client = clients.getSyncClient();
+        assertSame(client, clients.getSyncClient());
+        assertEquals(1, factory.sync);
+        assertEquals(0, factory.async);
+
+        clients.close();
+        assertTrue(factory.closed);
+    }
+
+    @Test
+    public void shouldWarmUpClients() throws RestException {
+        RESTPool pool = RESTPool.builder().withName("warm").build();
+        CountingFactory factory = new CountingFactory(pool);
+        ClientHolder.Clients<Response> clients = new ClientHolder.Clients<>(factory, pool);
+
+        clients.warmUp();
+        clients.warmUp();
+
+        assertEquals(1, factory.sync);
+        assertEquals(1, factory.async);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldNotBuildClientsOnceClosed() throws IOException, RestException {
+        RESTPool pool = RESTPool.builder().withName("closed").build();
+        ClientHolder.Clients<Response> clients = new ClientHolder.Clients<>(new CountingFactory(pool), pool);
+
+        clients.close();
+        clients.getAsyncClient();
+    }
+
+    @Test
+    public void shouldReportClientBuildFailure() throws IOException {
+        RESTPool pool = RESTPool.builder().withName("failing").build();
+        ClientHolder.Clients<Response> clients = new ClientHolder.Clients<>(new ClientFactory<Response>() {
+            @Override
+            public ExecREST buildClient() throws IOException {
+                throw new IOException("Could not bind");
+            }
+
+            @Override
+            public ExecAsyncREST<Response> buildAsyncClient() throws IOException {
+                throw new IOException("Could not bind");
+            }
+
+            @Override
+            public void close() {
+            }
+        }, pool);
+
+        try {
+            clients.getSyncClient();
+            fail("Client should not be built");
+        } catch (RestException e) {
+            assertTrue(e.getCause() instanceof IOException);
+        }
+
+        try {
+            clients.getAsyncClient();
+            fail("Client should not be built");
+        } catch (RestException e) {
+            assertTrue(e.getCause() instanceof IOException);
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldRejectUnsupportedSharedConnectionPool() throws IOException {
+        RESTPool pool = RESTPool.builder().withName("shared").withSharedConnectionPool(true).build();
+
+        RestClient.builder().withPool(pool).disableDefault().build();
+    }
+
+    @Test
+    public void shouldKeepStartTimeAsAttribute() throws RestException, IOException {
+        RESTPool pool = RESTPool.builder().withName("time").build();
+        RestClient restClient = RestClient.builder().withPool(pool).disableDefault().build();
+        Request request = restClient.withPool(pool).withURL("http://test").build();
+
+        assertNull(request.getAttribute(AddTimeInterceptor.NAME));
+        assertEquals(-1L, request.getElapsedTime());
+
+        request.setAttribute(AddTimeInterceptor.NAME, 123L);
+        assertEquals(123L, request.getStartTime());
+        assertEquals(123L, request.getAttribute(AddTimeInterceptor.NAME));
+
+        AddTimeInterceptor.INSTANCE.intercept(request);
+        assertTrue(request.getStartTime() >= 123L);
+
+        request.setAttribute(AddTimeInterceptor.NAME, Clocks.currentTimeMillis() - 5000L);
+        assertTrue(request.getElapsedTime() >= 5000L);
+        assertTrue(request.getElapsedTime() < 60000L);
+    }
+
+    @Test
+    public void shouldApplyPoolInterceptorsBeforeRequestOnes() throws RestException, IOException {
+        final StringBuilder applied = new StringBuilder();
+
+        RESTPool pool = RESTPool.builder().withName("chain")
+                .addInterceptorLast(new RequestInterceptor() {
+                    public void intercept(Request r) {
+                        applied.append("pool,");
+                    }
+                })
+                .build();
+        RestClient restClient = RestClient.builder().withPool(pool).disableDefault().build();
+
+        Request request = restClient.withPool(pool).withURL("http://test")
+                .withInterceptorLast(new RequestInterceptor() {
+                    public void intercept(Request r) {
+                        applied.append("request");
+                    }
+                })
+                .build();
+
+        request.applyRequestInterceptors();
+
+        assertEquals("pool,request", applied.toString());
+    }
+
+    @Test
+    public void shouldKeepStableCacheKeysForTemplates() throws RestException, IOException {
+        RESTPool pool = RESTPool.builder().withName("template").withBaseURL("http://dummy.com").build();
+        RestClient restClient = RestClient.builder().withPool(pool).disableDefault().build();
+        RequestTemplate template = restClient.prepare("/items/{id}", pool).withParameter("attributes", "id").build();
+
+        Request first = template.bind("MLA1").withParameter("offset", "10").withParameter("limit", "5").withMethod(HttpMethod.GET).build();
+        Request second = template.bind("MLA1").withParameter("limit", "5").withParameter("offset", "10").withMethod(HttpMethod.GET).build();
+
+        assertEquals("http://dummy.com/items/MLA1", first.getPlainURL());
+        assertEquals("attributes=id", first.getQuery());
+        assertEquals("http://dummy.com/items/MLA1?attributes=id&limit=5&offset=10", first.getCacheKey().toString());
+        assertEquals(first.getCacheKey(), second.getCacheKey());
+    }
+
 }
@@ -1,9 +1,9 @@
 package com.mercadolibre.restclient.mock;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.util.concurrent.Callable;
 import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
@@ -70,7 +70,17 @@ public class DummyClient implements ExecREST, ExecCallbackAsyncREST<Response> {
         return holder.bestMatch(r);
     }
 
-    private Future<Response> executeAsync(ListenableFuture<Response> future, final HTTPCallback<Response> callback) {
+    @Override
+    public StreamingResponse stream(Request r) throws RestException {
+        Response response = holder.bestMatch(r);
+        if (response == null) return null;
+
+        byte[] body = response.getBytes() != null ? response.getBytes() : new byte[0];
+
+        return new StreamingResponse(response.getStatus(), response.getHeaders(), new ByteArrayInputStream(body), null);
+    }
+
+    private ListenableFuture<Response> executeAsync(ListenableFuture<Response> future, final HTTPCallback<Response> callback) {
         Futures.addCallback(future, new FutureCallback<Response>() {
             @Override
             public void onSuccess(Response response) {
@@ -87,7 +97,7 @@ public class DummyClient implements ExecREST, ExecCallbackAsyncREST<Response> {
     }
 
     @Override
-    public Future<Response> asyncGet(final Request r, final HTTPCallback<Response> callback) {
+    public ListenableFuture<Response> asyncGet(final Request r, final HTTPCallback<Response> callback) {
         ListenableFuture<Response> future = threadPool.submit(new Callable<Response>() {
             @Override
             public Response call() throws Exception {
@@ -99,7 +109,7 @@ public class DummyClient implements ExecREST, ExecCallbackAsyncREST<Response> {
     }
 
     @Override
-    public Future<Response> asyncPost(final Request r, final HTTPCallback<Response> callback) {
+    public ListenableFuture<Response> asyncPost(final Request r, final HTTPCallback<Response> callback) {
         ListenableFuture<Response> future = threadPool.submit(new Callable<Response>() {
             @Override
             public Response call() throws Exception {
@@ -111,7 +121,7 @@ public class DummyClient implements ExecREST, ExecCallbackAsyncREST<Response> {
     }
 
     @Override
-    public Future<Response> asyncPut(final Request r, final HTTPCallback<Response> callback) {
+    public ListenableFuture<Response> asyncPut(final Request r, final HTTPCallback<Response> callback) {
         ListenableFuture<Response> future = threadPool.submit(new Callable<Response>() {
             @Override
             public Response call() throws Exception {
@@ -123,7 +133,7 @@ public class DummyClient implements ExecREST, ExecCallbackAsyncREST<Response> {
     }
 
     @Override
-    public Future<Response> asyncDelete(final Request r, final HTTPCallback<Response> callback) {
+    public ListenableFuture<Response> asyncDelete(final Request r, final HTTPCallback<Response> callback) {
         ListenableFuture<Response> future = threadPool.submit(new Callable<Response>() {
             @Override
             public Response call() throws Exception {
@@ -135,7 +145,7 @@ public class DummyClient implements ExecREST, ExecCallbackAsyncREST<Response> {
     }
 
     @Override
-    public Future<Response> asyncHead(final Request r, final HTTPCallback<Response> callback) {
+    public ListenableFuture<Response> asyncHead(final Request r, final HTTPCallback<Response> callback) {
         ListenableFuture<Response> future = threadPool.submit(new Callable<Response>() {
             @Override
             public Response call() throws Exception {
@@ -147,7 +157,7 @@ public class DummyClient implements ExecREST, ExecCallbackAsyncREST<Response> {
     }
 
     @Override
-    public Future<Response> asyncOptions(final Request r, final HTTPCallback<Response> callback) {
+    public ListenableFuture<Response> asyncOptions(final Request r, final HTTPCallback<Response> callback) {
         ListenableFuture<Response> future = threadPool.submit(new Callable<Response>() {
             @Override
             public Response call() throws Exception {
@@ -159,7 +169,7 @@ public class DummyClient implements ExecREST, ExecCallbackAsyncREST<Response> {
     }
 
     @Override
-    public Future<Response> asyncPurge(final Request r, final HTTPCallback<Response> callback) {
+    public ListenableFuture<Response> asyncPurge(final Request r, final HTTPCallback<Response> callback) {
         ListenableFuture<Response> future = threadPool.submit(new Callable<Response>() {
             @Override
             public Response call() throws Exception {
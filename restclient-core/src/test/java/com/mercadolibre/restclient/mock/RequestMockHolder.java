@@ -99,7 +99,13 @@ public enum RequestMockHolder {
         }
 
         private boolean matchParams(Map<String,String> params) {
-            return Maps.difference(params, request.getParameters()).areEqual();
+            Map<String,String> actual = request.getParameters();
+            if (request.getQuery() != null) {
+                actual = new HashMap<>(actual);
+                actual.putAll(fillParameters(request.getQuery()));
+            }
+
+            return Maps.difference(params, actual).areEqual();
         }
 
         Map<String,String> fillParameters(String params) {
@@ -1,5 +1,6 @@
 package com.mercadolibre.restclient.test;
 
+import com.google.common.util.concurrent.ListenableFuture;
 import com.mercadolibre.restclient.*;
 import com.mercadolibre.restclient.async.Action;
 import com.mercadolibre.restclient.async.Callback;
@@ -11,7 +12,6 @@ import com.mercadolibre.restclient.mock.MockUtil;
 import org.junit.Test;
 
 import java.io.IOException;
-import java.util.concurrent.Future;
 
 
 public class ActionTest {
@@ -19,37 +19,37 @@ public class ActionTest {
     private ExecAsyncREST<String> dummyAsyncClient() {
         return new ExecAsyncREST<String>() {
             @Override
-            public Future<Response> asyncGet(Request r) throws RestException {
+            public ListenableFuture<Response> asyncGet(Request r) throws RestException {
                 return null;
             }
 
             @Override
-            public Future<Response> asyncPost(Request r) throws RestException {
+            public ListenableFuture<Response> asyncPost(Request r) throws RestException {
                 return null;
             }
 
             @Override
-            public Future<Response> asyncPut(Request r) throws RestException {
+            public ListenableFuture<Response> asyncPut(Request r) throws RestException {
                 return null;
             }
 
             @Override
-            public Future<Response> asyncDelete(Request r) throws RestException {
+            public ListenableFuture<Response> asyncDelete(Request r) throws RestException {
                 return null;
             }
 
             @Override
-            public Future<Response> asyncHead(Request r) throws RestException {
+            public ListenableFuture<Response> asyncHead(Request r) throws RestException {
                 return null;
             }
 
             @Override
-            public Future<Response> asyncOptions(Request r) throws RestException {
+            public ListenableFuture<Response> asyncOptions(Request r) throws RestException {
                 return null;
             }
 
             @Override
-            public Future<Response> asyncPurge(Request r) throws RestException {
+            public ListenableFuture<Response> asyncPurge(Request r) throws RestException {
                 return null;
             }
 
@@ -99,49 +99,49 @@ public class ActionTest {
             }
 
             @Override @SuppressWarnings("unchecked")
-            public Future<Response> asyncGet(Request r, HTTPCallback<String> callback) {
+            public ListenableFuture<Response> asyncGet(Request r, HTTPCallback<String> callback) {
                 echo(HttpMethod.GET, callback);
 
                 return callback.getFuture();
             }
 
             @Override
-            public Future<Response> asyncPost(Request r, HTTPCallback<String> callback) {
+            public ListenableFuture<Response> asyncPost(Request r, HTTPCallback<String> callback) {
                 echo(HttpMethod.POST, callback);
 
                 return callback.getFuture();
             }
 
             @Override
-            public Future<Response> asyncPut(Request r, HTTPCallback<String> callback) {
+            public ListenableFuture<Response> asyncPut(Request r, HTTPCallback<String> callback) {
                 echo(HttpMethod.PUT, callback);
 
                 return callback.getFuture();
             }
 
             @Override
-            public Future<Response> asyncDelete(Request r, HTTPCallback<String> callback) {
+            public ListenableFuture<Response> asyncDelete(Request r, HTTPCallback<String> callback) {
                 echo(HttpMethod.DELETE, callback);
 
                 return callback.getFuture();
             }
 
             @Override
-            public Future<Response> asyncHead(Request r, HTTPCallback<String> callback) {
+            public ListenableFuture<Response> asyncHead(Request r, HTTPCallback<String> callback) {
                 echo(HttpMethod.HEAD, callback);
 
                 return callback.getFuture();
             }
 
             @Override
-            public Future<Response> asyncOptions(Request r, HTTPCallback<String> callback) {
+            public ListenableFuture<Response> asyncOptions(Request r, HTTPCallback<String> callback) {
                 echo(HttpMethod.OPTIONS, callback);
 
                 return callback.getFuture();
             }
 
             @Override
-            public Future<Response> asyncPurge(Request r, HTTPCallback<String> callback) {
+            public ListenableFuture<Response> asyncPurge(Request r, HTTPCallback<String> callback) {
                 echo(HttpMethod.PURGE, callback);
 
                 return callback.getFuture();
@@ -0,0 +1,114 @@
+package com.mercadolibre.restclient.test;
+
+import com.mercadolibre.restclient.MockResponse;
+import com.mercadolibre.restclient.Response;
+import com.mercadolibre.restclient.RestClient;
+import com.mercadolibre.restclient.RestClientTestBase;
+import com.mercadolibre.restclient.cache.CacheControl;
+import com.mercadolibre.restclient.exception.RestException;
+import com.mercadolibre.restclient.http.ContentType;
+import com.mercadolibre.restclient.http.Headers;
+import com.mercadolibre.restclient.retry.SimpleRetryStrategy;
+import com.mercadolibre.restclient.util.Clock;
+import com.mercadolibre.restclient.util.Clocks;
+import com.mercadolibre.restclient.util.CoarseClock;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.mercadolibre.restclient.http.HttpMethod.GET;
+import static org.junit.Assert.*;
+
+public class ClockTest extends RestClientTestBase {
+
+    private static class SimulatedClock implements Clock {
+        private long millis = 1000000L;
+        private final List<Long> sleeps = new ArrayList<>();
+
+        void advance(long millis) {
+            this.millis += millis;
+        }
+
+        public long currentTimeMillis() {
+            return millis;
+        }
+
+        public long nanoTime() {
+            return TimeUnit.MILLISECONDS.toNanos(millis);
+        }
+
+        public void sleep(long millis) {
+            sleeps.add(millis);
+            advance(millis);
+        }
+    }
+
+    @After
+    public void restoreClock() {
+        Clocks.set(null);
+    }
+
+    @Test
+    public void shouldExpireInSimulatedTime() {
+        SimulatedClock clock = new SimulatedClock();
+        Clocks.set(clock);
+
+        Response response = new Response(200, new Headers().add("Cache-Control", "max-age=60, stale-while-revalidate=30"), new byte[0]);
+        CacheControl cacheControl = response.getCacheControl();
+
+        assertEquals(clock.currentTimeMillis() + 60000, cacheControl.getExpiration());
+
+        clock.advance(59999);
+        assertFalse(cacheControl.isExpired());
+
+        clock.advance(1);
+        assertTrue(cacheControl.isExpired());
+        assertTrue(cacheControl.isFreshForRevalidate());
+
+        clock.advance(30000);
+        assertFalse(cacheControl.isFreshForRevalidate());
+    }
+
+    @Test
+    public void shouldWaitRetriesThroughClock() throws RestException {
+        SimulatedClock clock = new SimulatedClock();
+        Clocks.set(clock);
+
+        String url = "http://dummy.com/test";
+
+        MockResponse.builder()
+                .withURL(url)
+                .withMethod(GET)
+                .withStatusCode(200)
+                .withResponseHeader(ContentType.HEADER_NAME, ContentType.TEXT_PLAIN.toString())
+                .withResponseBody("ok")
+                .shouldFailAt(1)
+                .build();
+
+        Response response = RestClient.getDefault().withRetryStrategy(new SimpleRetryStrategy(3, 60000)).get(url);
+
+        assertEquals(200, response.getStatus());
+        assertEquals(Collections.singletonList(60000L), clock.sleeps);
+    }
+
+    @Test
+    public void shouldTickCoarseClock() throws InterruptedException {
+        CoarseClock clock = new CoarseClock(1);
+
+        try {
+            long before = System.currentTimeMillis();
+            Thread.sleep(50);
+
+            long now = clock.currentTimeMillis();
+            assertTrue(now >= before);
+            assertTrue(now <= System.currentTimeMillis());
+        } finally {
+            clock.close();
+        }
+    }
+
+}
@@ -0,0 +1,116 @@
+package com.mercadolibre.restclient.test;
+
+import com.mercadolibre.restclient.util.DecompressingOutputStream;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
+
+import static org.junit.Assert.assertArrayEquals;
+
+
+public class DecompressingOutputStreamTest {
+
+    private static byte[] content() {
+        byte[] content = new byte[100000];
+        Random random = new Random(42);
+
+        for (int i = 0; i < content.length; i++)
+            content[i] = (byte) ('a' + random.nextInt(8));
+
+        return content;
+    }
+
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (OutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(content);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] deflate(byte[] content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (OutputStream deflate = new DeflaterOutputStream(out)) {
+            deflate.write(content);
+        }
+        return out.toByteArray();
+    }
+
+    private static void writeInChunks(OutputStream out, byte[] data, int chunk) throws IOException {
+        for (int i = 0; i < data.length; i += chunk)
+            out.write(data, i, Math.min(chunk, data.length - i));
+    }
+
+    @Test
+    public void shouldGunzipChunks() throws IOException {
+        byte[] content = content();
+        byte[] compressed = gzip(content);
+
+        for (int chunk : new int[]{1, 7, 512, compressed.length}) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            DecompressingOutputStream decoder = DecompressingOutputStream.gzip(out);
+
+            writeInChunks(decoder, compressed, chunk);
+            decoder.finish();
+
+            assertArrayEquals(content, out.toByteArray());
+        }
+    }
+
+    @Test
+    public void shouldGunzipConcatenatedMembers() throws IOException {
+        byte[] first = gzip("first".getBytes());
+        byte[] second = gzip("second".getBytes());
+        byte[] compressed = new byte[first.length + second.length];
+        System.arraycopy(first, 0, compressed, 0, first.length);
+        System.arraycopy(second, 0, compressed, first.length, second.length);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DecompressingOutputStream decoder = DecompressingOutputStream.gzip(out);
+
+        writeInChunks(decoder, compressed, 3);
+        decoder.finish();
+
+        assertArrayEquals("firstsecond".getBytes(), out.toByteArray());
+    }
+
+    @Test
+    public void shouldInflateChunks() throws IOException {
+        byte[] content = content();
+        byte[] compressed = deflate(content);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DecompressingOutputStream decoder = DecompressingOutputStream.deflate(out);
+
+        writeInChunks(decoder, compressed, 100);
+        decoder.finish();
+
+        assertArrayEquals(content, out.toByteArray());
+    }
+
+    @Test(expected = EOFException.class)
+    public void shouldFailOnTruncatedContent() throws IOException {
+        byte[] compressed = gzip(content());
+
+        DecompressingOutputStream decoder = DecompressingOutputStream.gzip(new ByteArrayOutputStream());
+        decoder.write(compressed, 0, compressed.length - 4);
+        decoder.finish();
+    }
+
+    @Test(expected = ZipException.class)
+    public void shouldFailOnCorruptTrailer() throws IOException {
+        byte[] compressed = gzip(content());
+        compressed[compressed.length - 1]++;
+
+        DecompressingOutputStream decoder = DecompressingOutputStream.gzip(new ByteArrayOutputStream());
+        decoder.write(compressed);
+    }
+
+}
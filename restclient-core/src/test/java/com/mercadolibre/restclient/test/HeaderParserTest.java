@@ -82,4 +82,35 @@ public class HeaderParserTest {
         assertEquals("Content-Type: application/json; charset=utf-8", h.toString());
     }
 
+    @Test
+    public void shouldMatchHeaderFromElementsAndValue() {
+        Header parsed = new Header("Content-Type", "application/json; charset=utf-8");
+        Header built = new Header("Content-Type", new HeaderElement[]{new HeaderElement("application/json", ImmutableMap.of("charset","utf-8"))});
+
+        assertEquals(parsed, built);
+        assertEquals(parsed.getElements().length, 1);
+        assertEquals(parsed, built);
+        assertEquals("", new Header("X-Empty", new HeaderElement[0]).getValue());
+    }
+
+    @Test
+    public void shouldIgnoreTrailingDelimiters() {
+        HeaderElement[] elements = HeaderParser.parse("e1;k1=v1==;, e2;,");
+
+        assertEquals(2, elements.length);
+        assertEquals("v1", elements[0].getValue("k1"));
+        assertEquals("e2", elements[1].getName());
+        assertTrue(elements[1].getValues().isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldFailOnMisplacedPairDelimiter() {
+        HeaderParser.parse("e1;k1==v1");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldFailOnBlankTrailingElement() {
+        HeaderParser.parse("e1, ");
+    }
+
 }
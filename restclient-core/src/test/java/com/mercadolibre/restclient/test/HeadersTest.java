@@ -0,0 +1,103 @@
+package com.mercadolibre.restclient.test;
+
+import com.mercadolibre.restclient.http.Header;
+import com.mercadolibre.restclient.http.Headers;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+
+public class HeadersTest {
+
+    private static class LazyHeaders extends Headers {
+
+        private final String[][] source;
+        private int built;
+
+        private LazyHeaders(String[]... source) {
+            super(source.length);
+            this.source = source;
+        }
+
+        @Override
+        protected String nameAt(int index) {
+            return source[index][0];
+        }
+
+        @Override
+        protected Header headerAt(int index) {
+            built++;
+            return new Header(source[index][0], source[index][1]);
+        }
+
+    }
+
+    @Test
+    public void shouldGetHeaderIgnoringCase() {
+        Headers headers = new Headers().add("Content-Type", "text/plain");
+
+        assertTrue(headers.contains("content-type"));
+        assertEquals("text/plain", headers.getHeader("CONTENT-TYPE").getValue());
+        assertNull(headers.getHeader("Content-Length"));
+    }
+
+    @Test
+    public void shouldReplaceOnAddAndKeepOnAppend() {
+        Headers headers = new Headers()
+                .append("Set-Cookie", "a=1")
+                .append("set-cookie", "b=2")
+                .add("Accept", "text/plain");
+
+        List<Header> cookies = headers.getAll("Set-Cookie");
+        assertEquals(2, cookies.size());
+        assertEquals("a=1", cookies.get(0).getValue());
+        assertEquals("b=2", headers.getHeader("Set-Cookie").getValue());
+
+        headers.add("Set-Cookie", "c=3");
+
+        assertEquals(2, headers.size());
+        assertEquals("c=3", headers.getHeader("Set-Cookie").getValue());
+
+        Iterator<Header> iterator = headers.iterator();
+        assertEquals("Set-Cookie", iterator.next().getName());
+        assertEquals("Accept", iterator.next().getName());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void shouldBuildOnlyReadHeaders() {
+        LazyHeaders headers = new LazyHeaders(new String[]{"Date", "now"}, new String[]{"Content-Type", "text/plain"}, new String[]{"Server", "dummy"});
+
+        assertTrue(headers.contains("server"));
+        assertEquals(0, headers.built);
+
+        Header contentType = headers.getHeader("Content-Type");
+        assertEquals("text/plain", contentType.getValue());
+        assertSame(contentType, headers.getHeader("content-type"));
+        assertEquals(1, headers.built);
+
+        headers.add("Date", "later");
+        assertEquals("later", headers.getHeader("Date").getValue());
+        assertEquals(1, headers.built);
+
+        assertEquals(headers, new Headers().add("Server", "dummy").add("Content-Type", "text/plain").add("Date", "later"));
+    }
+
+    @Test
+    public void shouldInternWellKnownNames() {
+        String name = new String("Content-Type");
+
+        assertSame("Content-Type", new Header(name, "text/plain").getName());
+
+        String custom = new String("X-Custom");
+        assertSame(custom, new Header(custom, "x").getName());
+    }
+
+}
@@ -0,0 +1,229 @@
+package com.mercadolibre.restclient.test;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.mercadolibre.restclient.MockResponse;
+import com.mercadolibre.restclient.RESTPool;
+import com.mercadolibre.restclient.Request;
+import com.mercadolibre.restclient.RequestProcessor;
+import com.mercadolibre.restclient.Response;
+import com.mercadolibre.restclient.RestClient;
+import com.mercadolibre.restclient.RestClientTestBase;
+import com.mercadolibre.restclient.cache.DummyCache;
+import com.mercadolibre.restclient.exception.RestException;
+import com.mercadolibre.restclient.http.ContentType;
+import com.mercadolibre.restclient.http.Headers;
+import com.mercadolibre.restclient.interceptor.ResponseInterceptor;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Pattern;
+
+import static com.mercadolibre.restclient.http.HttpMethod.GET;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+
+
+public class RequestCoalescingTest extends RestClientTestBase {
+
+    private static final String URL = "http://dummy.com/coalesced";
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private void mockSlowResponse() {
+        MockResponse.builder()
+                .withURL(Pattern.compile("http://dummy\\.com/coalesced(\\?.*)?"))
+                .withMethod(GET)
+                .withRequestProcessor(new RequestProcessor() {
+                    public Response makeResponse(Request request, int run) throws RestException {
+                        calls.incrementAndGet();
+                        try {
+                            release.await();
+                        } catch (InterruptedException e) {
+                            throw new RestException(e, e.getMessage());
+                        }
+                        return new Response(200, new Headers().add(ContentType.HEADER_NAME, ContentType.TEXT_PLAIN.toString()).add("Cache-Control", "max-age=60"), "ok".getBytes());
+                    }
+                })
+                .build();
+    }
+
+    private static RestClient coalescingClient(RESTPool pool) throws IOException {
+        return RestClient.builder().withPool(pool).build();
+    }
+
+    private static ResponseInterceptor tag(final String caller) {
+        return new ResponseInterceptor() {
+            public void intercept(Response r) {
+                r.getHeaders().append("X-Caller", caller);
+            }
+        };
+    }
+
+    private static void assertTaggedBy(String caller, Response response) {
+        assertEquals(1, response.getHeaders().getAll("X-Caller").size());
+        assertEquals(caller, response.getHeader("X-Caller").getValue());
+    }
+
+    /**
+     * Runs concurrent sync GETs, each one tagged by its own response interceptor, releasing the mock once all of them
+     * are waiting on it or on its flight
+     */
+    private List<Response> syncGets(final RestClient client, final RESTPool pool, int count) throws Exception {
+        final Response[] responses = new Response[count];
+        final AtomicReference<Exception> failure = new AtomicReference<>();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            final int caller = i;
+            Thread thread = new Thread(new Runnable() {
+                public void run() {
+                    try {
+                        responses[caller] = client.withPool(pool).withInterceptorLast(tag(String.valueOf(caller))).get(URL);
+                    } catch (Exception e) {
+                        failure.set(e);
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+
+        // Leader blocks on the mock and followers on its flight
+        for (Thread thread : threads)
+            while (thread.getState() != Thread.State.WAITING && thread.isAlive())
+                Thread.sleep(5);
+
+        release.countDown();
+        for (Thread thread : threads) thread.join();
+
+        if (failure.get() != null) throw failure.get();
+
+        return Arrays.asList(responses);
+    }
+
+    @Test
+    public void shouldCoalesceSyncGets() throws Exception {
+        mockSlowResponse();
+
+        RESTPool pool = RESTPool.builder().withName("coalescing_sync").withRequestCoalescing(true).build();
+        List<Response> responses = syncGets(coalescingClient(pool), pool, 5);
+
+        assertEquals(1, calls.get());
+
+        // each caller gets a response of its own, changed by its own interceptors only
+        for (int i = 0; i < responses.size(); i++) {
+            assertEquals("ok", responses.get(i).getString());
+            assertTaggedBy(String.valueOf(i), responses.get(i));
+
+            for (int j = 0; j < i; j++)
+                assertNotSame(responses.get(j), responses.get(i));
+        }
+
+        assertEquals(0, pool.getRequestCoalescer().size());
+    }
+
+    @Test
+    public void shouldWriteBackCoalescedGetOnce() throws Exception {
+        mockSlowResponse();
+
+        final AtomicInteger puts = new AtomicInteger();
+        DummyCache cache = new DummyCache("coalescing") {
+            @Override
+            public void put(String url, Response response) {
+                puts.incrementAndGet();
+                super.put(url, response);
+            }
+        };
+
+        RESTPool pool = RESTPool.builder().withName("coalescing_cache").withCache(cache).withRequestCoalescing(true).build();
+        syncGets(coalescingClient(pool), pool, 5);
+
+        assertEquals(1, calls.get());
+        assertEquals(1, puts.get());
+    }
+
+    @Test
+    public void shouldCoalesceAsyncGets() throws IOException, RestException, ExecutionException, InterruptedException {
+        mockSlowResponse();
+
+        RESTPool pool = RESTPool.builder().withName("coalescing_async").withRequestCoalescing(true).build();
+        RestClient client = coalescingClient(pool);
+
+        List<ListenableFuture<Response>> futures = new ArrayList<>();
+        for (int i = 0; i < 5; i++)
+            futures.add(client.withPool(pool).withInterceptorLast(tag(String.valueOf(i))).asyncGet(URL));
+
+        release.countDown();
+
+        for (int i = 0; i < futures.size(); i++) {
+            Response response = futures.get(i).get();
+
+            assertEquals("ok", response.getString());
+            assertTaggedBy(String.valueOf(i), response);
+        }
+
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void shouldIgnoreUnrelatedHeadersAndParameterOrder() throws IOException, RestException, ExecutionException, InterruptedException {
+        mockSlowResponse();
+
+        RESTPool pool = RESTPool.builder().withName("coalescing_ignored").withRequestCoalescing(true).build();
+        RestClient client = coalescingClient(pool);
+
+        ListenableFuture<Response> first = client.withPool(pool).withParameter("a", "1").withParameter("b", "2").asyncGet(URL, new Headers().add("X-Request-Id", "1"));
+        ListenableFuture<Response> second = client.withPool(pool).asyncGet(URL + "?b=2&a=1", new Headers().add("X-Request-Id", "2"));
+
+        release.countDown();
+
+        assertEquals(200, first.get().getStatus());
+        assertEquals(200, second.get().getStatus());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void shouldNotCoalesceDifferentHeaders() throws IOException, RestException, ExecutionException, InterruptedException {
+        mockSlowResponse();
+
+        RESTPool pool = RESTPool.builder().withName("coalescing_headers").withRequestCoalescing(true).build();
+        RestClient client = coalescingClient(pool);
+
+        ListenableFuture<Response> first = client.withPool(pool).asyncGet(URL, new Headers().add("Accept-Language", "es"));
+        ListenableFuture<Response> second = client.withPool(pool).asyncGet(URL, new Headers().add("Accept-Language", "pt"));
+
+        release.countDown();
+
+        assertEquals(200, first.get().getStatus());
+        assertEquals(200, second.get().getStatus());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void shouldCompareGivenHeaders() throws IOException, RestException, ExecutionException, InterruptedException {
+        mockSlowResponse();
+
+        RESTPool pool = RESTPool.builder().withName("coalescing_given").withRequestCoalescing("X-Site").build();
+        RestClient client = coalescingClient(pool);
+
+        ListenableFuture<Response> first = client.withPool(pool).asyncGet(URL, new Headers().add("X-Site", "MLA").add("Accept-Language", "es"));
+        ListenableFuture<Response> second = client.withPool(pool).asyncGet(URL, new Headers().add("X-Site", "MLB").add("Accept-Language", "es"));
+        ListenableFuture<Response> third = client.withPool(pool).asyncGet(URL, new Headers().add("X-Site", "MLA").add("Accept-Language", "pt"));
+
+        release.countDown();
+
+        assertEquals(200, first.get().getStatus());
+        assertEquals(200, second.get().getStatus());
+        assertEquals(200, third.get().getStatus());
+        assertEquals(2, calls.get());
+    }
+
+}
@@ -0,0 +1,108 @@
+package com.mercadolibre.restclient.test;
+
+import com.google.common.collect.ImmutableMap;
+import com.mercadolibre.restclient.*;
+import com.mercadolibre.restclient.exception.RestException;
+import com.mercadolibre.restclient.http.ContentType;
+import com.mercadolibre.restclient.interceptor.RequestInterceptor;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static com.mercadolibre.restclient.http.HttpMethod.GET;
+import static org.junit.Assert.*;
+
+public class RequestTemplateTest extends RestClientTestBase {
+
+    private static RESTPool pool;
+    private static RestClient restClient;
+
+    @BeforeClass
+    public static void beforeClass() throws Exception {
+        pool = RESTPool.builder().withName("template").withBaseURL("http://dummy.com").build();
+        restClient = RestClient.builder().withPool(pool).build();
+    }
+
+    @Test
+    public void shouldEncodeVariables() throws RestException {
+        RequestTemplate template = restClient.prepare("/items/{id}/{name}", pool).build();
+
+        assertEquals(Arrays.asList("id", "name"), template.getVariables());
+        assertEquals("http://dummy.com/items/MLA1/a%20b%2Fc%3Fd%26e", template.expand("MLA1", "a b/c?d&e"));
+        assertEquals("http://dummy.com/items/-._~/%C3%B1%E2%82%AC%F0%9F%98%80", template.expand("-._~", "ñ€😀"));
+    }
+
+    @Test
+    public void shouldReuseRepeatedVariables() throws RestException {
+        RequestTemplate template = restClient.prepare("/users/{id}/items?seller={id}&limit={limit}", pool).build();
+
+        assertEquals(Arrays.asList("id", "limit"), template.getVariables());
+        assertEquals("http://dummy.com/users/1/items?seller=1&limit=50", template.expand(1, 50));
+        assertEquals("http://dummy.com/users/1/items?seller=1&limit=50", template.expand(ImmutableMap.of("limit", 50, "id", 1)));
+    }
+
+    @Test
+    public void shouldSortAndEncodeParameters() throws RestException {
+        RequestTemplate template = restClient.prepare("/items/{id}", pool)
+                .withParameter("b", "x y")
+                .withParameter("a", "id,title")
+                .build();
+
+        assertEquals("http://dummy.com/items/1?a=id%2Ctitle&b=x%20y", template.expand(1));
+
+        template = restClient.prepare("/search?site=MLA&q={q}", pool).withParameter("limit", "10").build();
+
+        assertEquals("http://dummy.com/search?site=MLA&q=a%2Bb&limit=10", template.expand("a+b"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectUnclosedVariables() throws RestException {
+        restClient.prepare("/items/{id", pool).build();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectUnopenedVariables() throws RestException {
+        restClient.prepare("/items/id}", pool).build();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectMissingValues() throws RestException {
+        restClient.prepare("/items/{id}/{name}", pool).build().expand("MLA1");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectNullValues() throws RestException {
+        restClient.prepare("/items/{id}", pool).build().expand((Object) null);
+    }
+
+    @Test
+    public void shouldGetWithTemplate() throws RestException {
+        final StringBuilder intercepted = new StringBuilder();
+
+        RequestTemplate template = restClient.prepare("/items/{id}", pool)
+                .withParameter("attributes", "id")
+                .withHeader("X-Caller", "test")
+                .withInterceptorLast(new RequestInterceptor() {
+                    public void intercept(Request r) {
+                        intercepted.append(r.getHeaders().getHeader("X-Caller").getValue());
+                    }
+                })
+                .build();
+
+        MockResponse.builder()
+                .withURL("http://dummy.com/items/MLA%201?attributes=id&offset=10")
+                .withMethod(GET)
+                .withStatusCode(200)
+                .withResponseHeader(ContentType.HEADER_NAME, ContentType.TEXT_PLAIN.toString())
+                .withResponseBody("ok")
+                .build();
+
+        Response response = template.bind("MLA 1").withParameter("offset", "10").get();
+
+        assertEquals(200, response.getStatus());
+        assertEquals("ok", response.getString());
+        assertEquals("test", intercepted.toString());
+    }
+
+}
@@ -1,18 +1,27 @@
 package com.mercadolibre.restclient.test;
 
 import com.mercadolibre.restclient.Response;
+import com.mercadolibre.restclient.cache.CacheControl;
 import com.mercadolibre.restclient.exception.ParseException;
 import com.mercadolibre.restclient.http.ContentType;
+import com.mercadolibre.restclient.http.Header;
 import com.mercadolibre.restclient.http.Headers;
 import com.mercadolibre.restclient.serialization.Serializer;
 import com.mercadolibre.restclient.serialization.Serializers;
 import org.junit.After;
 import org.junit.Test;
 
+import java.io.IOException;
 import java.nio.charset.Charset;
 import java.util.Collections;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 
 public class ResponseTest {
@@ -89,4 +98,80 @@ public class ResponseTest {
         new Response(200, new Headers(Collections.singletonMap("Content-Type","text/plain")), "test".getBytes()).getData(String.class);
     }
 
+    @Test
+    public void shouldNotReadCorruptEncodedBody() {
+        Response response = new Response(200, new Headers(Collections.singletonMap("Content-Type","text/plain")), "not gzip".getBytes());
+        response.setBodyEncoding(new Header("Content-Encoding", "gzip"));
+
+        for (int i = 0; i < 2; i++) {
+            assertNull(response.getBytes());
+            assertNull(response.getString());
+        }
+
+        assertArrayEquals("not gzip".getBytes(), response.getEncodedBytes());
+
+        try {
+            response.getData();
+            fail("Corrupt body should not be parsed");
+        } catch (ParseException e) {
+            assertTrue(e.getCause() instanceof IOException);
+        }
+    }
+
+    private static Response withCacheControl(String value) {
+        return new Response(200, new Headers().add("Cache-Control", value), null);
+    }
+
+    @Test
+    public void shouldParseCacheControlOnce() {
+        Response response = withCacheControl("max-age=60");
+
+        CacheControl cacheControl = response.getCacheControl();
+        cacheControl.setAge(10);
+
+        assertSame(cacheControl, response.getCacheControl());
+    }
+
+    @Test
+    public void shouldParseCacheControlDirectives() {
+        CacheControl cacheControl = withCacheControl("Private, MAX-AGE = 60 ,s-maxage=120, stale-while-revalidate=30, stale-if-error=\"90\", community=\"UCI\"").getCacheControl();
+
+        assertTrue(cacheControl.isPrivate());
+        assertFalse(cacheControl.isNoStore());
+        assertFalse(cacheControl.isNoCache());
+        assertEquals(120, cacheControl.getSharedMaxAge());
+        assertFalse(cacheControl.isExpired());
+        assertTrue(cacheControl.isFreshForRevalidate());
+        assertEquals(cacheControl.getExpiration() + 90000, cacheControl.getStaleExpiration());
+    }
+
+    @Test
+    public void shouldParseNoStoreAndNoCache() {
+        CacheControl noStore = withCacheControl("no-store").getCacheControl();
+        assertTrue(noStore.isNoStore());
+        assertEquals(-1, noStore.getSharedMaxAge());
+
+        CacheControl noCache = withCacheControl("no-cache=\"Set-Cookie\", max-age=60, stale-while-revalidate=30").getCacheControl();
+        assertTrue(noCache.isNoCache());
+        assertTrue(noCache.isExpired());
+        assertFalse(noCache.isFreshForRevalidate());
+    }
+
+    @Test
+    public void shouldIgnoreInvalidCacheControlValues() {
+        CacheControl cacheControl = withCacheControl("max-age=abc, s-maxage=99999999999, x-max-age=60").getCacheControl();
+
+        assertTrue(cacheControl.isExpired());
+        assertEquals(0, cacheControl.getSharedMaxAge());
+    }
+
+    @Test
+    public void shouldCountAgeFromResponseTime() throws InterruptedException {
+        Response response = new Response(200, new Headers().add("Cache-Control", "max-age=60").add("Age", "20"), null);
+
+        Thread.sleep(1100);
+
+        assertEquals(21, response.getCacheControl().getCurrentAge());
+    }
+
 }
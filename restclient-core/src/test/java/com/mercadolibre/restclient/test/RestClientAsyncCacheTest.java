@@ -7,6 +7,7 @@ import com.mercadolibre.restclient.cache.DummyCache;
 import com.mercadolibre.restclient.cache.RESTCache;
 import com.mercadolibre.restclient.exception.RestException;
 import com.mercadolibre.restclient.http.ContentType;
+import com.mercadolibre.restclient.http.Headers;
 import com.mercadolibre.restclient.mock.MockUtil;
 import com.mercadolibre.restclient.mock.RequestMockHolder;
 import org.junit.Test;
@@ -15,10 +16,12 @@ import java.io.IOException;
 import java.util.Date;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.LockSupport;
 
 import static com.mercadolibre.restclient.http.HttpMethod.GET;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 
 
@@ -615,4 +618,71 @@ public class RestClientAsyncCacheTest extends RestClientTestBase {
         assertEquals("ok", cache.get(url).getString());
     }
 
+    @Test
+    public void shouldRefreshExpiredEntryOnNotModified() throws RestException, ExecutionException, InterruptedException {
+        String url = "http://dummy.com/conditional";
+        final String etag = "\"v1\"";
+        DummyCache cache = new DummyCache("conditional");
+
+        Response cached = new Response(200, new Headers().add(ContentType.HEADER_NAME, ContentType.TEXT_PLAIN.toString()).add("Cache-Control", "max-age=0").add("ETag", etag), "ok".getBytes());
+        cached.getCacheControl().setExpiration(new Date().getTime() - 100);
+        cache.put(url, cached);
+
+        MockResponse.builder()
+                .withURL(url)
+                .withMethod(GET)
+                .withRequestProcessor(new RequestProcessor() {
+                    public Response makeResponse(Request request, int run) {
+                        if (request.getHeaders().contains("If-None-Match") && etag.equals(request.getHeaders().getHeader("If-None-Match").getValue()))
+                            return new Response(304, new Headers().add("Cache-Control", "max-age=1000"), null);
+
+                        return new Response(200, new Headers().add(ContentType.HEADER_NAME, ContentType.TEXT_PLAIN.toString()), "changed".getBytes());
+                    }
+                })
+                .build();
+
+        Response response = RestClient.getDefault().withCache(cache).asyncGet(url).get();
+
+        assertEquals(200, response.getStatus());
+        assertEquals("ok", response.getString());
+
+        Thread.sleep(100);
+        assertFalse(cache.get(url).getCacheControl().isExpired());
+        assertEquals("ok", cache.get(url).getString());
+    }
+
+    @Test
+    public void shouldCacheVariantsByDefaultAcceptEncoding() throws RestException, ExecutionException, InterruptedException {
+        String url = "http://dummy.com/vary/encoding";
+        final AtomicInteger calls = new AtomicInteger();
+        DummyCache cache = new DummyCache("async_vary_encoding");
+
+        MockResponse.builder()
+                .withURL(url)
+                .withMethod(GET)
+                .withRequestProcessor(new RequestProcessor() {
+                    public Response makeResponse(Request request, int run) {
+                        Headers headers = new Headers()
+                                .add(ContentType.HEADER_NAME, ContentType.TEXT_PLAIN.toString())
+                                .add("Cache-Control", "max-age=60")
+                                .add("Vary", "Accept-Encoding");
+
+                        return new Response(200, headers, ("call " + calls.incrementAndGet()).getBytes());
+                    }
+                })
+                .build();
+
+        assertEquals("call 1", RestClient.getDefault().withCache(cache).asyncGet(url).get().getString());
+
+        // write back is asynchronous
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (cache.get(url + "#accept-encoding=gzip,deflate") == null && System.nanoTime() < deadline)
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+
+        for (int i = 0; i < 2; i++)
+            assertEquals("call 1", RestClient.getDefault().withCache(cache).asyncGet(url).get().getString());
+
+        assertEquals(1, calls.get());
+    }
+
 }
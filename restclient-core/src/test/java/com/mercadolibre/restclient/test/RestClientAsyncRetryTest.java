@@ -4,11 +4,14 @@ import com.mercadolibre.restclient.*;
 import com.mercadolibre.restclient.async.DummyCallbackProcessor;
 import com.mercadolibre.restclient.exception.RestException;
 import com.mercadolibre.restclient.http.ContentType;
+import com.mercadolibre.restclient.interceptor.RequestInterceptor;
 import com.mercadolibre.restclient.retry.RetryResponse;
 import com.mercadolibre.restclient.retry.RetryStrategy;
 import com.mercadolibre.restclient.retry.SimpleRetryStrategy;
 import org.junit.Test;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -17,6 +20,8 @@ import java.util.concurrent.locks.LockSupport;
 import static com.mercadolibre.restclient.http.HttpMethod.GET;
 import static com.mercadolibre.restclient.http.HttpMethod.POST;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 public class RestClientAsyncRetryTest extends RestClientTestBase {
 
@@ -105,4 +110,43 @@ public class RestClientAsyncRetryTest extends RestClientTestBase {
         assertEquals(body, response.getString());
     }
 
+    @Test
+    public void shouldScheduleDelayedRetry() throws RestException, ExecutionException, InterruptedException {
+        String url = "http://dummy.com/test";
+        String body = "ok";
+        long delay = 200;
+
+        MockResponse.builder()
+                .withURL(url)
+                .withMethod(GET)
+                .withStatusCode(200)
+                .withResponseHeader(ContentType.HEADER_NAME, ContentType.TEXT_PLAIN.toString())
+                .withResponseBody(body)
+                .shouldFailAt(1)
+                .build();
+
+        final List<String> threads = new CopyOnWriteArrayList<>();
+
+        long start = System.currentTimeMillis();
+
+        Future<Response> future = RestClient.getDefault()
+                .withRetryStrategy(new SimpleRetryStrategy(1, delay))
+                .withInterceptorLast(new RequestInterceptor() {
+                    @Override
+                    public void intercept(Request r) {
+                        threads.add(Thread.currentThread().getName());
+                    }
+                })
+                .asyncGet(url);
+
+        assertFalse(future.isDone());
+
+        Response response = future.get();
+
+        assertTrue(System.currentTimeMillis() - start >= delay);
+        assertEquals(200, response.getStatus());
+        assertEquals(2, threads.size());
+        assertEquals("Retry scheduler", threads.get(1));
+    }
+
 }
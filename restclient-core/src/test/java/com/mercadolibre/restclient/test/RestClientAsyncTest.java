@@ -9,14 +9,22 @@ import static com.mercadolibre.restclient.http.HttpMethod.PURGE;
 import static com.mercadolibre.restclient.http.HttpMethod.PUT;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Pattern;
 
+import com.google.common.base.Function;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.mercadolibre.restclient.*;
 import org.junit.Test;
 
@@ -697,4 +705,58 @@ public class RestClientAsyncTest extends RestClientTestBase {
         assertEquals("ok", output);
     }
 
+    @Test
+    public void shouldComposeAsyncGet() throws RestException, ExecutionException, InterruptedException {
+        String url = "http://dummy.com/test";
+        String body = "ok";
+
+        MockResponse.builder()
+                .withURL(url)
+                .withMethod(GET)
+                .withStatusCode(200)
+                .withResponseHeader(ContentType.HEADER_NAME, ContentType.TEXT_PLAIN.toString())
+                .withResponseBody(body)
+                .build();
+
+        ListenableFuture<String> future = Futures.transform(RestClient.getDefault().asyncGet(url), new Function<Response, String>() {
+            @Override
+            public String apply(Response response) {
+                return response.getStatus() + ":" + response.getString();
+            }
+        });
+
+        assertEquals("200:ok", future.get());
+    }
+
+    @Test
+    public void shouldNotifyListenerOnAsyncFailure() throws RestException, InterruptedException {
+        String url = "http://dummy.com/test";
+
+        MockResponse.builder()
+                .withURL(url)
+                .withMethod(GET)
+                .withStatusCode(200)
+                .shouldFail()
+                .build();
+
+        final CountDownLatch latch = new CountDownLatch(1);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        Futures.addCallback(RestClient.getDefault().asyncGet(url), new FutureCallback<Response>() {
+            @Override
+            public void onSuccess(Response response) {
+                latch.countDown();
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                failure.set(t);
+                latch.countDown();
+            }
+        });
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        assertTrue(failure.get() instanceof RestException);
+    }
+
 }
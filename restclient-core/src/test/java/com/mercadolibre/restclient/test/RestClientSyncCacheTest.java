@@ -5,11 +5,19 @@ import com.mercadolibre.restclient.cache.DummyCache;
 import com.mercadolibre.restclient.cache.RESTCache;
 import com.mercadolibre.restclient.exception.RestException;
 import com.mercadolibre.restclient.http.ContentType;
+import com.mercadolibre.restclient.http.Headers;
+import com.mercadolibre.restclient.interceptor.RequestInterceptor;
 import com.mercadolibre.restclient.mock.RequestMockHolder;
+import com.mercadolibre.restclient.retry.SimpleRetryStrategy;
 import org.junit.Test;
 
 import java.io.IOException;
 import java.util.Date;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Pattern;
 
 import static com.mercadolibre.restclient.http.HttpMethod.GET;
 import static org.junit.Assert.*;
@@ -249,4 +257,337 @@ public class RestClientSyncCacheTest extends RestClientTestBase {
         assertEquals("ok", DummyCache.getDefault().get(url).getString());
     }
 
+    private void mockRevalidation(String url, final AtomicInteger calls, final CountDownLatch release) {
+        MockResponse.builder()
+                .withURL(url)
+                .withMethod(GET)
+                .withRequestProcessor(new RequestProcessor() {
+                    public Response makeResponse(Request request, int run) throws RestException {
+                        calls.incrementAndGet();
+                        try {
+                            release.await();
+                        } catch (InterruptedException e) {
+                            throw new RestException(e, e.getMessage());
+                        }
+                        return new Response(200, new Headers().add(ContentType.HEADER_NAME, ContentType.TEXT_PLAIN.toString()).add("Cache-Control", "max-age=1000"), "second".getBytes());
+                    }
+                })
+                .build();
+    }
+
+    private Response staleResponse() {
+        Response response = new Response(200, new Headers().add(ContentType.HEADER_NAME, ContentType.TEXT_PLAIN.toString()).add("Cache-Control", "max-age=1, stale-while-revalidate=3600"), "ok".getBytes());
+        response.getCacheControl().setExpiration(new Date().getTime() - 100);
+        return response;
+    }
+
+    @Test
+    public void shouldRevalidateStaleEntryOnce() throws RestException, InterruptedException {
+        String url = "http://dummy.com/revalidate";
+        DummyCache cache = new DummyCache("revalidate");
+        cache.put(url, staleResponse());
+
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        mockRevalidation(url, calls, release);
+
+        for (int i = 0; i < 5; i++)
+            assertEquals("ok", RestClient.getDefault().withCache(cache).get(url).getString());
+
+        assertEquals(1, cache.getRevalidationScheduler().getPendingCount());
+        assertEquals(4, cache.getRevalidationScheduler().getDeduplicatedCount());
+
+        release.countDown();
+
+        for (int i = 0; i < 100 && cache.getRevalidationScheduler().getPendingCount() > 0; i++)
+            Thread.sleep(10);
+        Thread.sleep(100);
+
+        assertEquals(1, calls.get());
+        assertEquals("second", cache.get(url).getString());
+        assertEquals(0, cache.getRevalidationScheduler().getDroppedCount());
+    }
+
+    @Test
+    public void shouldRevalidateOnCopyOfRequest() throws RestException, InterruptedException {
+        String url = "http://dummy.com/revalidate/copy";
+        DummyCache cache = new DummyCache("revalidate_copy");
+        Response stale = staleResponse();
+        stale.getHeaders().add("ETag", "\"v1\"");
+        cache.put(url, stale);
+
+        final AtomicReference<Request> caller = new AtomicReference<>();
+        final AtomicReference<Request> revalidation = new AtomicReference<>();
+
+        MockResponse.builder()
+                .withURL(url)
+                .withMethod(GET)
+                .withRequestProcessor(new RequestProcessor() {
+                    public Response makeResponse(Request request, int run) throws RestException {
+                        revalidation.set(request);
+                        return new Response(304, new Headers().add("Cache-Control", "max-age=1000"), null);
+                    }
+                })
+                .build();
+
+        Response response = RestClient.getDefault().withCache(cache)
+                .withInterceptorLast(new RequestInterceptor() {
+                    public void intercept(Request r) {
+                        caller.compareAndSet(null, r);
+                    }
+                })
+                .get(url);
+
+        assertEquals("ok", response.getString());
+
+        for (int i = 0; i < 100 && cache.getRevalidationScheduler().getPendingCount() > 0; i++)
+            Thread.sleep(10);
+
+        assertNotNull(revalidation.get());
+        assertNotSame(caller.get(), revalidation.get());
+        assertEquals("\"v1\"", revalidation.get().getHeaders().getHeader("If-None-Match").getValue());
+        assertNull(caller.get().getHeaders().getHeader("If-None-Match"));
+        assertTrue(caller.get().isCacheable());
+
+        assertFalse(cache.get(url).getCacheControl().isExpired());
+        assertEquals("ok", cache.get(url).getString());
+    }
+
+    @Test
+    public void shouldNotRevalidateRefreshedEntry() throws RestException, InterruptedException {
+        String url = "http://dummy.com/revalidate/refreshed";
+        final AtomicBoolean served = new AtomicBoolean();
+
+        // Serves a stale entry once, as if it had been refreshed right after that hit
+        DummyCache cache = new DummyCache("revalidate_refreshed") {
+            @Override
+            public Response get(String url) {
+                return served.compareAndSet(false, true) ? staleResponse() : super.get(url);
+            }
+        };
+        cache.put(url, new Response(200, new Headers().add(ContentType.HEADER_NAME, ContentType.TEXT_PLAIN.toString()).add("Cache-Control", "max-age=1000"), "second".getBytes()));
+
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(0);
+        mockRevalidation(url, calls, release);
+
+        assertEquals("ok", RestClient.getDefault().withCache(cache).get(url).getString());
+
+        assertEquals(0, cache.getRevalidationScheduler().getPendingCount());
+        assertEquals(1, cache.getRevalidationScheduler().getDeduplicatedCount());
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    public void shouldDropRevalidationsOverLimit() throws RestException, InterruptedException {
+        String firstUrl = "http://dummy.com/revalidate/1";
+        String secondUrl = "http://dummy.com/revalidate/2";
+        DummyCache cache = new DummyCache("revalidate_limit");
+        cache.getRevalidationScheduler().setMaxPending(1);
+        cache.put(firstUrl, staleResponse());
+        cache.put(secondUrl, staleResponse());
+
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        mockRevalidation(firstUrl, calls, release);
+        mockRevalidation(secondUrl, calls, release);
+
+        assertEquals("ok", RestClient.getDefault().withCache(cache).get(firstUrl).getString());
+        assertEquals("ok", RestClient.getDefault().withCache(cache).get(secondUrl).getString());
+
+        assertEquals(1, cache.getRevalidationScheduler().getDroppedCount());
+        assertEquals(0, DummyCache.getDefault().getRevalidationScheduler().getDroppedCount());
+
+        release.countDown();
+
+        for (int i = 0; i < 100 && cache.getRevalidationScheduler().getPendingCount() > 0; i++)
+            Thread.sleep(10);
+
+        assertEquals(1, calls.get());
+    }
+
+    private void mockNotModified(String url, final String etag, final AtomicInteger calls) {
+        MockResponse.builder()
+                .withURL(url)
+                .withMethod(GET)
+                .withRequestProcessor(new RequestProcessor() {
+                    public Response makeResponse(Request request, int run) throws RestException {
+                        calls.incrementAndGet();
+                        if (request.getHeaders().contains("If-None-Match") && etag.equals(request.getHeaders().getHeader("If-None-Match").getValue()))
+                            return new Response(304, new Headers().add("Cache-Control", "max-age=1000").add("ETag", etag), null);
+
+                        return new Response(200, new Headers().add(ContentType.HEADER_NAME, ContentType.TEXT_PLAIN.toString()).add("Cache-Control", "max-age=1000"), "changed".getBytes());
+                    }
+                })
+                .build();
+    }
+
+    @Test
+    public void shouldRefreshExpiredEntryOnNotModified() throws RestException {
+        String url = "http://dummy.com/conditional";
+        DummyCache cache = new DummyCache("conditional");
+
+        Response cached = new Response(200, new Headers().add(ContentType.HEADER_NAME, ContentType.TEXT_PLAIN.toString()).add("Cache-Control", "max-age=0").add("ETag", "\"v1\""), "ok".getBytes());
+        cached.getCacheControl().setExpiration(new Date().getTime() - 100);
+        cache.put(url, cached);
+
+        AtomicInteger calls = new AtomicInteger();
+        mockNotModified(url, "\"v1\"", calls);
+
+        Response response = RestClient.getDefault().withCache(cache).get(url);
+
+        assertEquals(1, calls.get());
+        assertEquals(200, response.getStatus());
+        assertEquals("ok", response.getString());
+        assertEquals(ContentType.TEXT_PLAIN.toString(), response.getHeader(ContentType.HEADER_NAME).getValue());
+        assertFalse(cache.get(url).getCacheControl().isExpired());
+        assertEquals("ok", cache.get(url).getString());
+    }
+
+    @Test
+    public void shouldRevalidateAgainWhenRetryingExpiredEntry() throws RestException {
+        String url = "http://dummy.com/conditional";
+        DummyCache cache = new DummyCache("retried");
+
+        Response cached = new Response(200, new Headers().add(ContentType.HEADER_NAME, ContentType.TEXT_PLAIN.toString()).add("Cache-Control", "max-age=0").add("ETag", "\"v1\""), "ok".getBytes());
+        cached.getCacheControl().setExpiration(new Date().getTime() - 100);
+        cache.put(url, cached);
+
+        final AtomicInteger calls = new AtomicInteger();
+        MockResponse.builder()
+                .withURL(url)
+                .withMethod(GET)
+                .withRequestProcessor(new RequestProcessor() {
+                    public Response makeResponse(Request request, int run) throws RestException {
+                        if (calls.incrementAndGet() == 1)
+                            return new Response(503, new Headers(), null);
+
+                        assertTrue(request.getHeaders().contains("If-None-Match"));
+                        return new Response(304, new Headers().add("Cache-Control", "max-age=1000").add("ETag", "\"v1\""), null);
+                    }
+                })
+                .build();
+
+        Response response = RestClient.getDefault().withCache(cache).withRetryStrategy(new SimpleRetryStrategy(1, 0)).get(url);
+
+        assertEquals(2, calls.get());
+        assertEquals(200, response.getStatus());
+        assertEquals("ok", response.getString());
+        assertFalse(cache.get(url).getCacheControl().isExpired());
+    }
+
+    @Test
+    public void shouldNotSendConditionsWithoutValidators() throws RestException {
+        String url = "http://dummy.com/conditional";
+        DummyCache cache = new DummyCache("unconditional");
+
+        Response cached = new Response(200, new Headers().add(ContentType.HEADER_NAME, ContentType.TEXT_PLAIN.toString()).add("Cache-Control", "max-age=0"), "ok".getBytes());
+        cached.getCacheControl().setExpiration(new Date().getTime() - 100);
+        cache.put(url, cached);
+
+        AtomicInteger calls = new AtomicInteger();
+        mockNotModified(url, "\"v1\"", calls);
+
+        Response response = RestClient.getDefault().withCache(cache).get(url);
+
+        assertEquals(1, calls.get());
+        assertEquals("changed", response.getString());
+        assertEquals("changed", cache.get(url).getString());
+    }
+
+    private void mockCountingResponse(final AtomicInteger calls, final String... headers) {
+        MockResponse.builder()
+                .withURL(Pattern.compile("http://dummy\\.com/keyed.*"))
+                .withMethod(GET)
+                .withRequestProcessor(new RequestProcessor() {
+                    public Response makeResponse(Request request, int run) {
+                        Headers responseHeaders = new Headers().add(ContentType.HEADER_NAME, ContentType.TEXT_PLAIN.toString()).add("Cache-Control", "max-age=1000");
+                        for (int i = 0; i < headers.length; i += 2)
+                            responseHeaders.add(headers[i], headers[i + 1]);
+
+                        return new Response(200, responseHeaders, ("call " + calls.incrementAndGet()).getBytes());
+                    }
+                })
+                .build();
+    }
+
+    @Test
+    public void shouldShareEntryRegardlessOfParameterOrder() throws RestException {
+        DummyCache cache = new DummyCache("keyed");
+        AtomicInteger calls = new AtomicInteger();
+        mockCountingResponse(calls);
+
+        Response first = RestClient.getDefault().withCache(cache).withParameter("b", "2").withParameter("a", "1").get("http://dummy.com/keyed");
+        Response second = RestClient.getDefault().withCache(cache).get("http://DUMMY.com/keyed?a=1&b=2");
+
+        assertEquals(1, calls.get());
+        assertEquals(first.getString(), second.getString());
+        assertEquals("call 1", cache.get("http://dummy.com/keyed?a=1&b=2").getString());
+    }
+
+    @Test
+    public void shouldCacheVariantsByVaryHeader() throws RestException {
+        DummyCache cache = new DummyCache("vary");
+        AtomicInteger calls = new AtomicInteger();
+        mockCountingResponse(calls, "Vary", "Accept-Language");
+
+        String url = "http://dummy.com/keyed/vary";
+
+        assertEquals("call 1", RestClient.getDefault().withCache(cache).withHeader("Accept-Language", "es").get(url).getString());
+        assertEquals("call 2", RestClient.getDefault().withCache(cache).withHeader("Accept-Language", "pt").get(url).getString());
+        assertEquals("call 1", RestClient.getDefault().withCache(cache).withHeader("Accept-Language", "es").get(url).getString());
+        assertEquals("call 2", RestClient.getDefault().withCache(cache).withHeader("Accept-Language", "pt").get(url).getString());
+
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void shouldCacheVariantsByDefaultAcceptEncoding() throws RestException {
+        DummyCache cache = new DummyCache("vary_encoding");
+        AtomicInteger calls = new AtomicInteger();
+        mockCountingResponse(calls, "Vary", "Accept-Encoding");
+
+        String url = "http://dummy.com/keyed/encoding";
+
+        for (int i = 0; i < 3; i++)
+            assertEquals("call 1", RestClient.getDefault().withCache(cache).get(url).getString());
+
+        assertEquals(1, calls.get());
+        assertNotNull(cache.get(url + "#accept-encoding=gzip,deflate"));
+    }
+
+    @Test
+    public void shouldNotCacheCorruptEncodedBody() {
+        DummyCache cache = new DummyCache("corrupt");
+        AtomicInteger calls = new AtomicInteger();
+        mockCountingResponse(calls, "Content-Encoding", "gzip");
+
+        for (int i = 0; i < 2; i++) {
+            try {
+                RestClient.getDefault().withCache(cache).get("http://dummy.com/keyed/corrupt");
+                fail("Corrupt body should fail request");
+            } catch (RestException e) {
+                // expected
+            }
+        }
+
+        assertEquals(2, calls.get());
+        assertTrue(cache.getKeys().isEmpty());
+    }
+
+    @Test
+    public void shouldNotCacheVaryAny() throws RestException {
+        DummyCache cache = new DummyCache("vary_any");
+        AtomicInteger calls = new AtomicInteger();
+        mockCountingResponse(calls, "Vary", "*");
+
+        String url = "http://dummy.com/keyed/any";
+
+        RestClient.getDefault().withCache(cache).get(url);
+        RestClient.getDefault().withCache(cache).get(url);
+
+        assertEquals(2, calls.get());
+        assertNull(cache.get(url));
+    }
+
 }
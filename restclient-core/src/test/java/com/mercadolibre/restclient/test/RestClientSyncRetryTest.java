@@ -9,9 +9,11 @@ import com.mercadolibre.restclient.http.ContentType;
 import com.mercadolibre.restclient.retry.SimpleRetryStrategy;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 
 import static com.mercadolibre.restclient.http.HttpMethod.GET;
+import static com.mercadolibre.restclient.http.HttpMethod.POST;
 import static org.junit.Assert.assertEquals;
 
 public class RestClientSyncRetryTest extends RestClientTestBase {
@@ -53,6 +55,22 @@ public class RestClientSyncRetryTest extends RestClientTestBase {
         RestClient.getDefault().get(url);
     }
 
+    @Test(expected = RestException.class)
+    public void shouldNotRetryWithStreamBody() throws RestException {
+        String url = "http://dummy.com/test";
+
+        MockResponse.builder()
+                .withURL(url)
+                .withMethod(POST)
+                .withStatusCode(201)
+                .withResponseHeader(ContentType.HEADER_NAME, ContentType.TEXT_PLAIN.toString())
+                .withResponseBody("ok")
+                .shouldFailAt(1)
+                .build();
+
+        RestClient.getDefault().withRetryStrategy(new SimpleRetryStrategy(3,1)).withBody(new ByteArrayInputStream("ok".getBytes())).post(url);
+    }
+
     @Test
     public void shouldRetryWithCompression() throws IOException, RestException {
         String url = "http://dummy.com/test";
@@ -7,6 +7,7 @@ import static com.mercadolibre.restclient.http.HttpMethod.OPTIONS;
 import static com.mercadolibre.restclient.http.HttpMethod.POST;
 import static com.mercadolibre.restclient.http.HttpMethod.PURGE;
 import static com.mercadolibre.restclient.http.HttpMethod.PUT;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 
@@ -14,14 +15,17 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.zip.GZIPOutputStream;
 
 import com.mercadolibre.restclient.MockResponse;
 import com.mercadolibre.restclient.Response;
 import com.mercadolibre.restclient.RestClient;
 import com.mercadolibre.restclient.RestClientTestBase;
+import com.mercadolibre.restclient.StreamingResponse;
 import org.junit.Test;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.io.ByteStreams;
 import com.mercadolibre.restclient.exception.RestException;
 import com.mercadolibre.restclient.http.ContentType;
 import com.mercadolibre.restclient.http.Headers;
@@ -647,6 +651,45 @@ public class RestClientSyncTest extends RestClientTestBase {
         assertEquals("ok", response.getString());
     }
 
+    @Test
+    public void shouldKeepGzipContentEncodedUntilRead() throws RestException, IOException {
+        String url = "http://dummy.com/test";
+        byte[] body = getGzipped("ok");
+
+        MockResponse.builder()
+                .withURL(url)
+                .withMethod(GET)
+                .withStatusCode(200)
+                .withResponseHeader(ContentType.HEADER_NAME, ContentType.TEXT_PLAIN.toString())
+                .withResponseHeader("Content-Encoding", "gzip")
+                .withResponseBody(body)
+                .build();
+
+        Response response = RestClient.getDefault().get(url);
+
+        assertEquals("gzip", response.getBodyEncoding().getValue());
+        assertArrayEquals(body, response.getEncodedBytes());
+
+        assertEquals("ok", response.getString());
+        assertNull(response.getBodyEncoding());
+        assertArrayEquals("ok".getBytes(StandardCharsets.UTF_8), response.getEncodedBytes());
+    }
+
+    @Test
+    public void shouldShareEncodedBodyInCopies() throws RestException, IOException {
+        byte[] body = getGzipped("ok");
+        Headers headers = new Headers().add(ContentType.HEADER_NAME, ContentType.TEXT_PLAIN.toString()).add("Content-Encoding", "gzip");
+
+        Response response = new Response(200, headers, body);
+        response.setBodyEncoding(headers.getHeader("Content-Encoding"));
+
+        Response copy = response.encodedCopy();
+        assertEquals("ok", copy.getString());
+
+        assertArrayEquals(body, response.getEncodedBytes());
+        assertEquals("ok", response.getString());
+    }
+
     @Test
     public void shouldHandleGzipContentInOutputStream() throws RestException, IOException {
         String url = "http://dummy.com/test";
@@ -699,4 +742,48 @@ public class RestClientSyncTest extends RestClientTestBase {
         assertEquals("ok", output);
     }
 
+    @Test
+    public void shouldGetStreamWithDefaultPool() throws RestException, IOException {
+        String url = "http://dummy.com/test";
+        String body = "ok";
+
+        MockResponse.builder()
+                .withURL(url)
+                .withMethod(GET)
+                .withStatusCode(200)
+                .withResponseHeader(ContentType.HEADER_NAME, ContentType.TEXT_PLAIN.toString())
+                .withResponseBody(body)
+                .build();
+
+        try (StreamingResponse response = RestClient.getDefault().getStream(url)) {
+            assertEquals(200, response.getStatus());
+            assertEquals(ContentType.TEXT_PLAIN.toString(), response.getHeader(ContentType.HEADER_NAME).getValue());
+            assertEquals(body, new String(ByteStreams.toByteArray(response.getBody()), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void shouldDecodeGzipStream() throws RestException, IOException {
+        String url = "http://dummy.com/test";
+        String body = "ok";
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+
+        MockResponse.builder()
+                .withURL(url)
+                .withMethod(POST)
+                .withStatusCode(200)
+                .withResponseHeader("Content-Encoding", "gzip")
+                .withResponseBody(compressed.toByteArray())
+                .build();
+
+        try (StreamingResponse response = RestClient.getDefault().postStream(url, new byte[0])) {
+            assertEquals(200, response.getStatus());
+            assertEquals(body, new String(ByteStreams.toByteArray(response.getBody()), StandardCharsets.UTF_8));
+        }
+    }
+
 }
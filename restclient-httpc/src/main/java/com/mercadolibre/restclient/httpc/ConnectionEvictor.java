@@ -0,0 +1,103 @@
+package com.mercadolibre.restclient.httpc;
+
+import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.nio.conn.NHttpClientConnectionManager;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import static com.mercadolibre.restclient.log.LogUtil.log;
+
+
+/**
+ * Periodically closes expired and idle connections of a connection manager. Every evictor runs as a task of a single
+ * scheduler thread shared across all pools, instead of keeping a sleeping thread for each connection manager.
+ */
+public abstract class ConnectionEvictor implements Runnable {
+
+    private static final ScheduledExecutorService scheduler = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread t = new Thread(r, "Connection evictor");
+            t.setDaemon(true);
+            return t;
+        }
+    });
+
+    private final long sleepTimeMs;
+    private final long maxIdleTimeMs;
+
+    private volatile ScheduledFuture<?> future;
+
+    private ConnectionEvictor(long sleepTime, TimeUnit sleepTimeUnit, long maxIdleTime, TimeUnit maxIdleTimeUnit) {
+        this.sleepTimeMs = sleepTimeUnit.toMillis(sleepTime);
+        this.maxIdleTimeMs = maxIdleTimeUnit.toMillis(maxIdleTime);
+    }
+
+    /**
+     * @param connectionManager a sync client connection manager
+     * @param sleepTime time between evictions
+     * @param sleepTimeUnit unit for sleep time
+     * @param maxIdleTime time after which an idle connection is closed, or a non positive value to keep idle connections
+     * @param maxIdleTimeUnit unit for max idle time
+     * @return an evictor, not started yet
+     */
+    public static ConnectionEvictor of(final HttpClientConnectionManager connectionManager,
+                                       long sleepTime, TimeUnit sleepTimeUnit, long maxIdleTime, TimeUnit maxIdleTimeUnit) {
+        return new ConnectionEvictor(sleepTime, sleepTimeUnit, maxIdleTime, maxIdleTimeUnit) {
+            @Override
+            protected void evict(long maxIdleTimeMs) {
+                connectionManager.closeExpiredConnections();
+                if (maxIdleTimeMs > 0) connectionManager.closeIdleConnections(maxIdleTimeMs, TimeUnit.MILLISECONDS);
+            }
+        };
+    }
+
+    /**
+     * @param connectionManager an async client connection manager
+     * @param sleepTime time between evictions
+     * @param sleepTimeUnit unit for sleep time
+     * @param maxIdleTime time after which an idle connection is closed, or a non positive value to keep idle connections
+     * @param maxIdleTimeUnit unit for max idle time
+     * @return an evictor, not started yet
+     */
+    public static ConnectionEvictor of(final NHttpClientConnectionManager connectionManager,
+                                       long sleepTime, TimeUnit sleepTimeUnit, long maxIdleTime, TimeUnit maxIdleTimeUnit) {
+        return new ConnectionEvictor(sleepTime, sleepTimeUnit, maxIdleTime, maxIdleTimeUnit) {
+            @Override
+            protected void evict(long maxIdleTimeMs) {
+                connectionManager.closeExpiredConnections();
+                if (maxIdleTimeMs > 0) connectionManager.closeIdleConnections(maxIdleTimeMs, TimeUnit.MILLISECONDS);
+            }
+        };
+    }
+
+    protected abstract void evict(long maxIdleTimeMs);
+
+    @Override
+    public void run() {
+        try {
+            evict(maxIdleTimeMs);
+        } catch (Exception e) {
+            // An exception would cancel further executions of this task
+            log.warn("Evictor exception", e);
+        }
+    }
+
+    public synchronized void start() {
+        if (future == null)
+            future = scheduler.scheduleWithFixedDelay(this, sleepTimeMs, sleepTimeMs, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void shutdown() {
+        if (future != null) future.cancel(false);
+    }
+
+    public boolean isRunning() {
+        return future != null && !future.isDone();
+    }
+
+}
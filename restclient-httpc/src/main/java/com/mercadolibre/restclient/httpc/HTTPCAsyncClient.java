@@ -3,8 +3,11 @@ package com.mercadolibre.restclient.httpc;
 import java.io.IOException;
 import java.util.concurrent.Future;
 
+import com.google.common.util.concurrent.ListenableFuture;
 import com.mercadolibre.restclient.httpc.util.HTTPCClientMonitor;
 import org.apache.http.HttpResponse;
+import org.apache.http.client.CredentialsProvider;
+import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.HttpDelete;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpHead;
@@ -12,9 +15,9 @@ import org.apache.http.client.methods.HttpOptions;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpPut;
 import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.client.protocol.HttpClientContext;
 import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
 import org.apache.http.nio.client.methods.HttpAsyncMethods;
-import org.apache.http.nio.protocol.BasicAsyncResponseConsumer;
 import org.apache.http.nio.protocol.HttpAsyncRequestProducer;
 import org.apache.http.nio.protocol.HttpAsyncResponseConsumer;
 import org.apache.http.protocol.HttpContext;
@@ -24,16 +27,21 @@ import com.mercadolibre.restclient.Request;
 import com.mercadolibre.restclient.Response;
 import com.mercadolibre.restclient.async.HTTPCallback;
 import com.mercadolibre.restclient.httpc.async.HTTPCCallback;
+import com.mercadolibre.restclient.httpc.stream.OutputStreamConsumer;
 import com.mercadolibre.restclient.httpc.util.HTTPCUtil;
 
 
 public class HTTPCAsyncClient implements ExecCallbackAsyncREST<HttpResponse> {
 
     private CloseableHttpAsyncClient client;
-    private IdleAsyncConnectionEvictor evictor;
+    private ConnectionEvictor evictor;
     private HTTPCClientMonitor monitor;
 
-    public HTTPCAsyncClient(CloseableHttpAsyncClient client, IdleAsyncConnectionEvictor evictor, HTTPCClientMonitor monitor) {
+    private SharedReactor reactor;
+    private RequestConfig requestConfig;
+    private CredentialsProvider proxyCredentials;
+
+    public HTTPCAsyncClient(CloseableHttpAsyncClient client, ConnectionEvictor evictor, HTTPCClientMonitor monitor) {
         this.client = client;
         this.evictor = evictor;
         evictor.start();
@@ -41,107 +49,151 @@ public class HTTPCAsyncClient implements ExecCallbackAsyncREST<HttpResponse> {
         this.monitor = monitor;
     }
 
+    /**
+     * Creates a client for a pool running over a shared reactor, whose settings are applied to each request instead
+     * @param reactor the shared reactor
+     * @param requestConfig pool request settings
+     * @param proxyCredentials pool proxy credentials, if any
+     */
+    HTTPCAsyncClient(SharedReactor reactor, RequestConfig requestConfig, CredentialsProvider proxyCredentials) {
+        reactor.acquire();
+
+        this.reactor = reactor;
+        this.client = reactor.getClient();
+        this.requestConfig = requestConfig;
+        this.proxyCredentials = proxyCredentials;
+    }
+
+    CloseableHttpAsyncClient getClient() {
+        return client;
+    }
+
+    HttpContext createContext(Request request) {
+        HttpContext context = HTTPCUtil.createContext(request);
+        if (requestConfig == null) return context;
+
+        HttpClientContext clientContext = HttpClientContext.adapt(context);
+        clientContext.setRequestConfig(requestConfig);
+
+        if (proxyCredentials != null && clientContext.getCredentialsProvider() == null)
+            clientContext.setCredentialsProvider(proxyCredentials);
+
+        return clientContext;
+    }
+
     @Override
     public void close() throws IOException {
+        if (reactor != null) {
+            reactor.release();
+            return;
+        }
+
         if (evictor != null) evictor.shutdown();
         if (client != null) client.close();
         if (monitor != null) monitor.close();
     }
 
-    private Future<Response> executeRequest(Request request, HttpRequestBase method, HttpContext context, HTTPCallback<HttpResponse> callback) {
+    private ListenableFuture<Response> executeRequest(Request request, HttpRequestBase method, HttpContext context, HTTPCallback<HttpResponse> callback) {
         if (request.isDownload()) {
             HttpAsyncRequestProducer producer = HttpAsyncMethods.create(method);
-            HttpAsyncResponseConsumer<HttpResponse> consumer = new BasicAsyncResponseConsumer();
+            HttpAsyncResponseConsumer<HttpResponse> consumer = new OutputStreamConsumer(request);
             return executeRequest(producer, consumer, context, callback);
         } else
             return executeRequest(method, context, callback);
     }
 
-    private Future<Response> executeRequest(HttpRequestBase httpMethod, HttpContext httpContext, HTTPCallback<HttpResponse> callback) {
-        client.execute(httpMethod, httpContext, new HTTPCCallback(callback));
+    private ListenableFuture<Response> executeRequest(HttpRequestBase httpMethod, HttpContext httpContext, HTTPCallback<HttpResponse> callback) {
+        Future<HttpResponse> execution = client.execute(httpMethod, httpContext, new HTTPCCallback(callback));
 
-        return callback.getFuture();
+        return bind(callback, execution);
+    }
+
+    private ListenableFuture<Response> executeRequest(HttpAsyncRequestProducer producer, HttpAsyncResponseConsumer<HttpResponse> consumer, HttpContext httpContext, HTTPCallback<HttpResponse> callback) {
+        Future<HttpResponse> execution = client.execute(producer, consumer, httpContext, new HTTPCCallback(callback));
+
+        return bind(callback, execution);
     }
 
-    private Future<Response> executeRequest(HttpAsyncRequestProducer producer, HttpAsyncResponseConsumer<HttpResponse> consumer, HttpContext httpContext, HTTPCallback<HttpResponse> callback) {
-        client.execute(producer, consumer, httpContext, new HTTPCCallback(callback));
+    private ListenableFuture<Response> bind(HTTPCallback<HttpResponse> callback, Future<HttpResponse> execution) {
+        if (callback.getFuture() != null)
+            callback.getFuture().setExecution(execution);
 
         return callback.getFuture();
     }
 
     @Override
-    public Future<Response> asyncGet(Request request, HTTPCallback<HttpResponse> callback) {
+    public ListenableFuture<Response> asyncGet(Request request, HTTPCallback<HttpResponse> callback) {
         HttpGet method = new HttpGet(request.getURL());
         
         HTTPCUtil.setMethodAttributes(method, request);
         
-        HttpContext context = HTTPCUtil.createContext(request);
+        HttpContext context = createContext(request);
 
         return executeRequest(request, method, context, callback);
     }
 
     @Override
-    public Future<Response> asyncPost(Request request, HTTPCallback<HttpResponse> callback) {
+    public ListenableFuture<Response> asyncPost(Request request, HTTPCallback<HttpResponse> callback) {
         HttpPost method = new HttpPost(request.getURL());
         
         HTTPCUtil.setMethodAttributes(method, request);
         
-        HttpContext context = HTTPCUtil.createContext(request);
+        HttpContext context = createContext(request);
         
         return executeRequest(request, method, context, callback);
     }
 
     @Override
-    public Future<Response> asyncPut(Request request, HTTPCallback<HttpResponse> callback) {
+    public ListenableFuture<Response> asyncPut(Request request, HTTPCallback<HttpResponse> callback) {
         HttpPut method = new HttpPut(request.getURL());
         
         HTTPCUtil.setMethodAttributes(method, request);
         
-        HttpContext context = HTTPCUtil.createContext(request);
+        HttpContext context = createContext(request);
 
         return executeRequest(request, method, context, callback);
     }
 
     @Override
-    public Future<Response> asyncDelete(Request request, HTTPCallback<HttpResponse> callback) {
+    public ListenableFuture<Response> asyncDelete(Request request, HTTPCallback<HttpResponse> callback) {
         HttpDelete method = new HttpDelete(request.getURL());
         
         HTTPCUtil.setMethodAttributes(method, request);
         
-        HttpContext context = HTTPCUtil.createContext(request);
+        HttpContext context = createContext(request);
 
         return executeRequest(method, context, callback);
     }
 
     @Override
-    public Future<Response> asyncHead(Request request, HTTPCallback<HttpResponse> callback) {
+    public ListenableFuture<Response> asyncHead(Request request, HTTPCallback<HttpResponse> callback) {
         HttpHead method = new HttpHead(request.getURL());
         
         HTTPCUtil.setMethodAttributes(method, request);
         
-        HttpContext context = HTTPCUtil.createContext(request);
+        HttpContext context = createContext(request);
 
         return executeRequest(method, context, callback);
     }
 
     @Override
-    public Future<Response> asyncOptions(Request request, HTTPCallback<HttpResponse> callback) {
+    public ListenableFuture<Response> asyncOptions(Request request, HTTPCallback<HttpResponse> callback) {
         HttpOptions method = new HttpOptions(request.getURL());
         
         HTTPCUtil.setMethodAttributes(method, request);
         
-        HttpContext context = HTTPCUtil.createContext(request);
+        HttpContext context = createContext(request);
 
         return executeRequest(method, context, callback);
     }
 
     @Override
-    public Future<Response> asyncPurge(Request request, HTTPCallback<HttpResponse> callback) {
+    public ListenableFuture<Response> asyncPurge(Request request, HTTPCallback<HttpResponse> callback) {
         HttpPurge method = new HttpPurge(request.getURL());
         
         HTTPCUtil.setMethodAttributes(method, request);
         
-        HttpContext context = HTTPCUtil.createContext(request);
+        HttpContext context = createContext(request);
 
         return executeRequest(method, context, callback);
     }
@@ -0,0 +1,164 @@
+package com.mercadolibre.restclient.httpc;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.nio.client.methods.HttpAsyncMethods;
+import org.apache.http.nio.protocol.BasicAsyncResponseConsumer;
+import org.apache.http.nio.protocol.HttpAsyncResponseConsumer;
+import org.apache.http.protocol.HttpContext;
+
+import com.mercadolibre.restclient.EmptyResponse;
+import com.mercadolibre.restclient.ExecREST;
+import com.mercadolibre.restclient.Request;
+import com.mercadolibre.restclient.Response;
+import com.mercadolibre.restclient.StreamingResponse;
+import com.mercadolibre.restclient.exception.RestException;
+import com.mercadolibre.restclient.httpc.stream.InputStreamConsumer;
+import com.mercadolibre.restclient.httpc.stream.OutputStreamConsumer;
+import com.mercadolibre.restclient.httpc.util.HTTPCUtil;
+
+
+/**
+ * Sync client running requests over an async client, blocking until each response is received. Used for pools with
+ * a shared connection pool, so sync and async requests draw connections from the same reactor.
+ * <p>
+ * Async client lifecycle is not managed here, so closing this client does nothing.
+ */
+public class HTTPCBlockingClient implements ExecREST {
+
+    private HTTPCAsyncClient asyncClient;
+    private CloseableHttpAsyncClient client;
+
+    public HTTPCBlockingClient(HTTPCAsyncClient asyncClient) {
+        this.asyncClient = asyncClient;
+        this.client = asyncClient.getClient();
+    }
+
+    private Response executeRequest(Request request) throws RestException {
+        HttpRequestBase method = HTTPCUtil.createMethod(request);
+        HttpContext context = asyncClient.createContext(request);
+
+        if (request.isDownload()) {
+            HttpResponse response = await(client.execute(HttpAsyncMethods.create(method), new OutputStreamConsumer(request), context, null));
+            return new EmptyResponse(response.getStatusLine().getStatusCode(), HTTPCUtil.getHeaders(response));
+        }
+
+        HttpAsyncResponseConsumer<HttpResponse> consumer = new BasicAsyncResponseConsumer();
+        HttpResponse response = await(client.execute(HttpAsyncMethods.create(method), consumer, context, null));
+
+        try {
+            return new Response(response.getStatusLine().getStatusCode(), HTTPCUtil.getHeaders(response), HTTPCUtil.handleResponse(response));
+        } catch (IOException e) {
+            throw new RestException(e, e.getMessage());
+        }
+    }
+
+    private static HttpResponse await(Future<HttpResponse> execution) throws RestException {
+        try {
+            return execution.get();
+
+        } catch (InterruptedException e) {
+            execution.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RestException(e, "Interrupted while waiting for response");
+
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            throw new RestException(cause, cause.getMessage());
+        }
+    }
+
+    private static void awaitQuietly(Future<HttpResponse> execution) {
+        try {
+            execution.get();
+        } catch (InterruptedException e) {
+            execution.cancel(true);
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // Content was already read, so failure only affects connection reuse
+        }
+    }
+
+    @Override
+    public StreamingResponse stream(Request request) throws RestException {
+        HttpRequestBase method = HTTPCUtil.createMethod(request);
+        HttpContext context = asyncClient.createContext(request);
+
+        final InputStreamConsumer consumer = new InputStreamConsumer();
+        final Future<HttpResponse> execution = client.execute(HttpAsyncMethods.create(method), consumer, context, null);
+
+        try {
+            HttpResponse response = consumer.getResponse();
+
+            Closeable connection = new Closeable() {
+                @Override
+                public void close() {
+                    // A drained exchange is about to complete and release its connection, so it must not be cancelled
+                    // halfway. Otherwise connection is discarded along with remaining content
+                    if (consumer.isDrained())
+                        awaitQuietly(execution);
+                    else
+                        execution.cancel(true);
+                }
+            };
+
+            return new StreamingResponse(response.getStatusLine().getStatusCode(), HTTPCUtil.getHeaders(response),
+                    response.getEntity() != null ? consumer.getContent() : null, connection);
+
+        } catch (InterruptedException e) {
+            execution.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RestException(e, "Interrupted while waiting for response");
+
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            throw new RestException(cause, cause.getMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+    }
+
+    @Override
+    public Response get(Request request) throws RestException {
+        return executeRequest(request);
+    }
+
+    @Override
+    public Response post(Request request) throws RestException {
+        return executeRequest(request);
+    }
+
+    @Override
+    public Response put(Request request) throws RestException {
+        return executeRequest(request);
+    }
+
+    @Override
+    public Response delete(Request request) throws RestException {
+        return executeRequest(request);
+    }
+
+    @Override
+    public Response head(Request request) throws RestException {
+        return executeRequest(request);
+    }
+
+    @Override
+    public Response options(Request request) throws RestException {
+        return executeRequest(request);
+    }
+
+    @Override
+    public Response purge(Request request) throws RestException {
+        return executeRequest(request);
+    }
+
+}
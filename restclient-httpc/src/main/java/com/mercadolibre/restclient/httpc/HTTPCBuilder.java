@@ -36,7 +36,6 @@ import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
 import org.apache.http.impl.client.DefaultRedirectStrategy;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.HttpClients;
-import org.apache.http.impl.client.IdleConnectionEvictor;
 import org.apache.http.impl.conn.DefaultProxyRoutePlanner;
 import org.apache.http.impl.conn.ManagedHttpClientConnectionFactory;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
@@ -68,6 +67,9 @@ import com.mercadolibre.restclient.http.Proxy;
 public class HTTPCBuilder extends Builder<HTTPCBuilder,HttpResponse> {
 
     private static final long REACTOR_SELECT_INTERVAL = 100;
+    private static final String SHARED_REACTOR_NAME = "shared_reactor";
+
+    private SharedReactor sharedReactor;
 
     private HTTPCBuilder(RestClient client) {
         super(client);
@@ -82,6 +84,80 @@ public class HTTPCBuilder extends Builder<HTTPCBuilder,HttpResponse> {
     }
 
 	protected ExecCallbackAsyncREST<HttpResponse> buildAsyncClient(RESTPool pool) throws IOException {
+        if (isSharedReactor()) {
+            RequestConfig requestConfig = RequestConfig.copy(makeAsyncRequestConfig(pool))
+                    .setProxy(pool.getProxy() != null ? new HttpHost(pool.getProxy().getHostname(), pool.getProxy().getPort()) : null)
+                    .build();
+
+            CredentialsProvider proxyCredentials = pool.getProxy() != null && pool.getProxy().getUsername() != null ? makeProxyCredentialsProvider(pool.getProxy()) : null;
+
+            return new HTTPCAsyncClient(getSharedReactor(), requestConfig, proxyCredentials);
+        }
+
+        PoolingNHttpClientConnectionManager ccm = makeAsyncConnectionManager(pool.getReactorThreadCount(), pool.getSocketTimeout());
+
+        ccm.setMaxTotal(pool.getMaxTotal());
+        ccm.setDefaultMaxPerRoute(pool.getMaxPerRoute());
+
+        HttpAsyncClientBuilder builder = HttpAsyncClients.custom()
+                .setConnectionManager(ccm)
+                .setDefaultRequestConfig(makeAsyncRequestConfig(pool))
+                .setKeepAliveStrategy(DefaultConnectionKeepAliveStrategy.INSTANCE)
+                .disableCookieManagement();
+
+        ConnectionEvictor evictor = ConnectionEvictor.of(ccm, pool.getEvictorSleep(), TimeUnit.MILLISECONDS, pool.getMaxIdleTime(), TimeUnit.MILLISECONDS);
+
+        addProxy(pool, builder);
+
+        handleRedirects(pool, builder);
+
+        CloseableHttpAsyncClient servClient = builder.build();
+
+        servClient.start();
+
+        HTTPCClientMonitor monitor = pool.hasConnectionMetrics() ? new HTTPCAsyncClientMonitor(pool.getName(), ccm) : null;
+
+        return new HTTPCAsyncClient(servClient, evictor, monitor);
+    }
+
+    private synchronized SharedReactor getSharedReactor() throws IOException {
+        if (sharedReactor != null) return sharedReactor;
+
+        int maxPerRoute = 0;
+        long evictorSleep = Long.MAX_VALUE;
+        long maxIdleTime = 0;
+        boolean connectionMetrics = false;
+
+        // Connections are pooled together, so the loosest pool limits apply to all of them, as documented on withSharedReactor
+        for (RESTPool pool : getPools()) {
+            maxPerRoute = Math.max(maxPerRoute, pool.getMaxPerRoute());
+            evictorSleep = Math.min(evictorSleep, pool.getEvictorSleep());
+            maxIdleTime = Math.max(maxIdleTime, pool.getMaxIdleTime());
+            connectionMetrics |= pool.hasConnectionMetrics();
+        }
+
+        PoolingNHttpClientConnectionManager ccm = makeAsyncConnectionManager(getReactorThreadCount(), RESTPool.DEFAULT_MAX_SOCKET_TIMEOUT);
+
+        ccm.setMaxTotal(getMaxTotalConnections());
+        ccm.setDefaultMaxPerRoute(Math.min(maxPerRoute, getMaxTotalConnections()));
+
+        // Pool settings, proxy included, are applied through each request context
+        CloseableHttpAsyncClient servClient = HttpAsyncClients.custom()
+                .setConnectionManager(ccm)
+                .setKeepAliveStrategy(DefaultConnectionKeepAliveStrategy.INSTANCE)
+                .disableCookieManagement()
+                .build();
+
+        ConnectionEvictor evictor = ConnectionEvictor.of(ccm, evictorSleep, TimeUnit.MILLISECONDS, maxIdleTime, TimeUnit.MILLISECONDS);
+
+        HTTPCClientMonitor monitor = connectionMetrics ? new HTTPCAsyncClientMonitor(SHARED_REACTOR_NAME, ccm) : null;
+
+        sharedReactor = new SharedReactor(servClient, evictor, monitor);
+
+        return sharedReactor;
+    }
+
+    private PoolingNHttpClientConnectionManager makeAsyncConnectionManager(int reactorThreadCount, long socketTimeout) throws IOException {
         SSLContext sslContext;
         try {
             sslContext = SSLContext.getDefault();
@@ -95,8 +171,8 @@ public class HTTPCBuilder extends Builder<HTTPCBuilder,HttpResponse> {
                 .build();
 
         IOReactorConfig socketConfig = IOReactorConfig.custom()
-                .setIoThreadCount(pool.getReactorThreadCount())
-                .setSoTimeout(new Long(pool.getSocketTimeout()).intValue())
+                .setIoThreadCount(reactorThreadCount)
+                .setSoTimeout(new Long(socketTimeout).intValue())
                 .setTcpNoDelay(true)
                 .setSoKeepAlive(true)
                 .setSelectInterval(REACTOR_SELECT_INTERVAL)
@@ -108,14 +184,6 @@ public class HTTPCBuilder extends Builder<HTTPCBuilder,HttpResponse> {
                 .setUnmappableInputAction(CodingErrorAction.IGNORE)
                 .build();
 
-        RequestConfig requestConfig = RequestConfig.custom()
-                .setConnectionRequestTimeout(new Long(pool.getMaxPoolWait()).intValue())
-                .setConnectTimeout(new Long(pool.getConnectionTimeout()).intValue())
-                .setExpectContinueEnabled(pool.expectContinue())
-                .setRedirectsEnabled(false)
-                .setStaleConnectionCheckEnabled(pool.getValidationOnInactivity() >= 0)
-                .build();
-
         NHttpConnectionFactory<ManagedNHttpClientConnection> connFactory = new ManagedNHttpClientConnectionFactory(
                 new org.apache.http.impl.nio.codecs.DefaultHttpRequestWriterFactory(),
                 new org.apache.http.impl.nio.codecs.DefaultHttpResponseParserFactory(),
@@ -130,29 +198,20 @@ public class HTTPCBuilder extends Builder<HTTPCBuilder,HttpResponse> {
                 new SystemDefaultDnsResolver()
         );
 
-        ccm.setMaxTotal(pool.getMaxTotal());
-        ccm.setDefaultMaxPerRoute(pool.getMaxPerRoute());
         ccm.setDefaultConnectionConfig(connectionConfig);
 
-        HttpAsyncClientBuilder builder = HttpAsyncClients.custom()
-                .setConnectionManager(ccm)
-                .setDefaultRequestConfig(requestConfig)
-                .setKeepAliveStrategy(DefaultConnectionKeepAliveStrategy.INSTANCE)
-                .disableCookieManagement();
-
-        IdleAsyncConnectionEvictor evictor = new IdleAsyncConnectionEvictor(ccm, pool.getEvictorSleep(), TimeUnit.MILLISECONDS, pool.getMaxIdleTime(), TimeUnit.MILLISECONDS);
-
-        addProxy(pool, builder);
-
-        handleRedirects(pool, builder);
-
-        CloseableHttpAsyncClient servClient = builder.build();
-
-        servClient.start();
-
-        HTTPCClientMonitor monitor = pool.hasConnectionMetrics() ? new HTTPCAsyncClientMonitor(pool.getName(), ccm) : null;
+        return ccm;
+    }
 
-        return new HTTPCAsyncClient(servClient, evictor, monitor);
+    private RequestConfig makeAsyncRequestConfig(RESTPool pool) {
+        return RequestConfig.custom()
+                .setConnectionRequestTimeout(new Long(pool.getMaxPoolWait()).intValue())
+                .setConnectTimeout(new Long(pool.getConnectionTimeout()).intValue())
+                .setSocketTimeout(new Long(pool.getSocketTimeout()).intValue())
+                .setExpectContinueEnabled(pool.expectContinue())
+                .setRedirectsEnabled(false)
+                .setStaleConnectionCheckEnabled(pool.getValidationOnInactivity() >= 0)
+                .build();
     }
 
     @Override
@@ -217,13 +276,23 @@ public class HTTPCBuilder extends Builder<HTTPCBuilder,HttpResponse> {
 
         CloseableHttpClient servClient = builder.build();
 
-        IdleConnectionEvictor evictor = new IdleConnectionEvictor(ccm, pool.getEvictorSleep(), TimeUnit.MILLISECONDS, pool.getMaxIdleTime(), TimeUnit.MILLISECONDS);
+        ConnectionEvictor evictor = ConnectionEvictor.of(ccm, pool.getEvictorSleep(), TimeUnit.MILLISECONDS, pool.getMaxIdleTime(), TimeUnit.MILLISECONDS);
 
         HTTPCClientMonitor monitor = pool.hasConnectionMetrics() ? new HTTPCSyncClientMonitor(pool.getName(), ccm) : null;
 
         return new HTTPCClient(servClient, evictor, monitor);
     }
 
+    @Override
+    protected boolean supportsSharedConnectionPool() {
+        return true;
+    }
+
+    @Override
+    protected ExecREST buildSharedClient(RESTPool pool, ExecCallbackAsyncREST<HttpResponse> asyncClient) {
+        return new HTTPCBlockingClient((HTTPCAsyncClient) asyncClient);
+    }
+
     private void addProxy(RESTPool pool, HttpClientBuilder builder) {
         if (pool.getProxy() == null) return;
 
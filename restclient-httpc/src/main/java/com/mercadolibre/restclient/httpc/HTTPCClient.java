@@ -3,6 +3,7 @@ package com.mercadolibre.restclient.httpc;
 import java.io.IOException;
 
 import com.mercadolibre.restclient.httpc.util.HTTPCClientMonitor;
+import org.apache.http.HttpEntity;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpDelete;
 import org.apache.http.client.methods.HttpGet;
@@ -12,7 +13,6 @@ import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpPut;
 import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.IdleConnectionEvictor;
 import org.apache.http.protocol.HttpContext;
 import org.apache.http.util.EntityUtils;
 
@@ -20,6 +20,7 @@ import com.mercadolibre.restclient.EmptyResponse;
 import com.mercadolibre.restclient.ExecREST;
 import com.mercadolibre.restclient.Request;
 import com.mercadolibre.restclient.Response;
+import com.mercadolibre.restclient.StreamingResponse;
 import com.mercadolibre.restclient.exception.RestException;
 import com.mercadolibre.restclient.httpc.util.HTTPCUtil;
 
@@ -27,10 +28,10 @@ import com.mercadolibre.restclient.httpc.util.HTTPCUtil;
 public class HTTPCClient implements ExecREST {
 
     private CloseableHttpClient client;
-    private IdleConnectionEvictor evictor;
+    private ConnectionEvictor evictor;
     private HTTPCClientMonitor monitor;
 
-    public HTTPCClient(CloseableHttpClient client, IdleConnectionEvictor evictor, HTTPCClientMonitor monitor) {
+    public HTTPCClient(CloseableHttpClient client, ConnectionEvictor evictor, HTTPCClientMonitor monitor) {
         this.client = client;
         this.evictor = evictor;
         evictor.start();
@@ -68,6 +69,35 @@ public class HTTPCClient implements ExecREST {
         }
     }
 
+    @Override
+    public StreamingResponse stream(Request request) throws RestException {
+        HttpRequestBase method = HTTPCUtil.createMethod(request);
+        HttpContext context = HTTPCUtil.createContext(request);
+
+        CloseableHttpResponse response = null;
+
+        try {
+            response = client.execute(method, context);
+            HttpEntity entity = response.getEntity();
+
+            return new StreamingResponse(response.getStatusLine().getStatusCode(), HTTPCUtil.getHeaders(response), entity != null ? entity.getContent() : null, response);
+
+        } catch (Exception e) {
+            method.abort();
+            if (response != null) closeQuietly(response);
+
+            throw new RestException(e, e.getMessage());
+        }
+    }
+
+    private static void closeQuietly(CloseableHttpResponse response) {
+        try {
+            response.close();
+        } catch (IOException e) {
+            // Connection is being discarded anyway
+        }
+    }
+
     @Override
     public void close() throws IOException {
         if (evictor != null) evictor.shutdown();
@@ -0,0 +1,50 @@
+package com.mercadolibre.restclient.httpc;
+
+import java.io.IOException;
+
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+
+import com.mercadolibre.restclient.httpc.util.HTTPCClientMonitor;
+
+
+/**
+ * An async client shared by every pool of a RestClient, along with its IO reactor, connection pool and evictor.
+ * Each pool client holds a reference to it, and it is closed once the last of them is closed.
+ */
+class SharedReactor {
+
+    private final CloseableHttpAsyncClient client;
+    private final ConnectionEvictor evictor;
+    private final HTTPCClientMonitor monitor;
+
+    private int references;
+    private boolean closed;
+
+    SharedReactor(CloseableHttpAsyncClient client, ConnectionEvictor evictor, HTTPCClientMonitor monitor) {
+        this.client = client;
+        this.evictor = evictor;
+        this.monitor = monitor;
+
+        client.start();
+        evictor.start();
+    }
+
+    CloseableHttpAsyncClient getClient() {
+        return client;
+    }
+
+    synchronized void acquire() {
+        if (closed) throw new IllegalStateException("Shared reactor is already closed");
+        references++;
+    }
+
+    synchronized void release() throws IOException {
+        if (closed || --references > 0) return;
+
+        closed = true;
+        evictor.shutdown();
+        client.close();
+        if (monitor != null) monitor.close();
+    }
+
+}
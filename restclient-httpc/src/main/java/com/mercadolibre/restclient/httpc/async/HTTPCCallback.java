@@ -1,33 +1,108 @@
 package com.mercadolibre.restclient.httpc.async;
 
 
+import com.mercadolibre.metrics.Metrics;
+import com.mercadolibre.restclient.Request;
 import com.mercadolibre.restclient.async.HTTPCallback;
+import com.mercadolibre.restclient.metrics.MetricUtil;
+import com.mercadolibre.restclient.util.PoolMonitoring;
 
 import org.apache.http.HttpResponse;
 import org.apache.http.concurrent.FutureCallback;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+
+/**
+ * Bridges HttpAsyncClient completion into an {@link HTTPCallback}. Completion and failure handling are dispatched to the
+ * pool's callback executor, so IO reactor threads are released as soon as the exchange ends.
+ * <p>
+ * When that executor rejects a task, the rejection is counted as {@code restclient.async.callback.rejected} and the task
+ * is handed to an overflow executor shared by all pools, with {@link #OVERFLOW_THREAD_COUNT} threads and
+ * {@link #OVERFLOW_QUEUE_SIZE} queued tasks, so a response already received is still handled. When that one is saturated
+ * as well, the task runs on the reactor thread, which applies backpressure by delaying further reads.
+ * @see com.mercadolibre.restclient.RESTPool.Builder#withCallbackExecutor(Executor)
+ */
 public class HTTPCCallback implements FutureCallback<HttpResponse> {
 
+    public static final int OVERFLOW_THREAD_COUNT = 2;
+    public static final int OVERFLOW_QUEUE_SIZE = 1000;
+
+    private static final ThreadPoolExecutor overflowPool = makeOverflowPool();
+
+    static {
+        PoolMonitoring.INSTANCE.register("callback-overflow", overflowPool);
+    }
+
     private HTTPCallback<HttpResponse> callback;
 
     public HTTPCCallback(HTTPCallback<HttpResponse> callback) {
         this.callback = callback;
     }
 
+    private static ThreadPoolExecutor makeOverflowPool() {
+        final AtomicInteger count = new AtomicInteger();
+
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(OVERFLOW_THREAD_COUNT, OVERFLOW_THREAD_COUNT, 60000L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<Runnable>(OVERFLOW_QUEUE_SIZE), new ThreadFactory() {
+                    @Override
+                    public Thread newThread(Runnable r) {
+                        Thread t = new Thread(r, "Overflow callback worker-" + count.incrementAndGet());
+                        t.setDaemon(true);
+                        return t;
+                    }
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+
+        pool.allowCoreThreadTimeOut(true);
+
+        return pool;
+    }
+
     @Override
-    public void completed(HttpResponse httpResponse) {
-        callback.success(httpResponse);
+    public void completed(final HttpResponse httpResponse) {
+        dispatch(new Runnable() {
+            @Override
+            public void run() {
+                callback.success(httpResponse);
+            }
+        });
     }
 
     @Override
-    public void failed(Exception e) {
-        callback.failure(e);
+    public void failed(final Exception e) {
+        dispatch(new Runnable() {
+            @Override
+            public void run() {
+                callback.failure(e);
+            }
+        });
     }
 
     @Override
     public void cancelled() {
         callback.cancel();
     }
+
+    private void dispatch(Runnable task) {
+        Request request = callback.getRequest();
+
+        if (request.getClients() == null || request.getClients().getPool() == null) {
+            task.run();
+            return;
+        }
+
+        try {
+            request.getClients().getPool().getCallbackExecutor().execute(task);
+        } catch (RejectedExecutionException e) {
+            Metrics.INSTANCE.incrementCounter("restclient.async.callback.rejected", MetricUtil.getRequestTags(request).toArray());
+            overflowPool.execute(task);
+        }
+    }
 	
 }
@@ -22,6 +22,9 @@ public class HTTPCCallbackProcessor implements CallbackProcessor<HttpResponse> {
 	        if(request.isDownload()) {
 	        	EmptyResponse emptyResponse = new EmptyResponse(response.getStatusLine().getStatusCode(), headers);
 	        	
+	        	// Content was already streamed by OutputStreamConsumer
+	        	if (response.getEntity() == null) return emptyResponse;
+	        	
 	        	request.populateOutputStream(response.getEntity().getContent(), emptyResponse.getHeaders().getHeader("Content-Encoding"));
 	        	
 	        	EntityUtils.consume(response.getEntity());
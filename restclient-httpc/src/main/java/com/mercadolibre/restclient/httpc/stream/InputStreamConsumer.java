@@ -0,0 +1,117 @@
+package com.mercadolibre.restclient.httpc.stream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpException;
+import org.apache.http.HttpResponse;
+import org.apache.http.entity.ContentType;
+import org.apache.http.nio.ContentDecoder;
+import org.apache.http.nio.IOControl;
+import org.apache.http.nio.entity.ContentInputStream;
+import org.apache.http.nio.protocol.AbstractAsyncResponseConsumer;
+import org.apache.http.nio.util.SharedInputBuffer;
+import org.apache.http.protocol.HttpContext;
+
+import com.google.common.util.concurrent.SettableFuture;
+
+/**
+ * Async consumer exposing response content as a blocking input stream. Response is available as soon as its head
+ * is received, and content is buffered up to a fixed size, suspending connection input while reader falls behind.
+ */
+public class InputStreamConsumer extends AbstractAsyncResponseConsumer<HttpResponse> {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final SettableFuture<HttpResponse> head = SettableFuture.create();
+    private final SharedInputBuffer buffer = new SharedInputBuffer(BUFFER_SIZE);
+
+    private HttpResponse response;
+    private volatile boolean completed;
+    private volatile boolean aborted;
+    private volatile boolean drained;
+
+    @Override
+    protected void onResponseReceived(HttpResponse response) throws HttpException, IOException {
+        this.response = response;
+    }
+
+    @Override
+    protected void onEntityEnclosed(HttpEntity entity, ContentType contentType) throws IOException {
+        head.set(response);
+    }
+
+    @Override
+    protected void onContentReceived(ContentDecoder decoder, IOControl ioctrl) throws IOException {
+        buffer.consumeContent(decoder, ioctrl);
+
+        // Buffer suspends input when its last chunk fills it up, which would leave a pooled connection deaf
+        if (decoder.isCompleted()) ioctrl.requestInput();
+    }
+
+    @Override
+    protected HttpResponse buildResult(HttpContext context) throws Exception {
+        completed = true;
+        head.set(response);
+
+        return response;
+    }
+
+    @Override
+    protected void releaseResources() {
+        if (completed) return;
+
+        Exception e = getException();
+        head.setException(e != null ? e : new CancellationException("Response consumption cancelled"));
+
+        // Flag must be visible before readers are woken up by shutdown
+        aborted = true;
+        buffer.shutdown();
+    }
+
+    /**
+     * Blocks until response head is received.
+     * @return the response, whose content is read from {@link #getContent()}
+     * @throws ExecutionException if request failed before response head was received
+     * @throws InterruptedException if current thread was interrupted while waiting
+     */
+    public HttpResponse getResponse() throws ExecutionException, InterruptedException {
+        return head.get();
+    }
+
+    /**
+     * @return true if content stream was read up to its end, so connection will be released as soon as exchange completes
+     */
+    public boolean isDrained() {
+        return drained;
+    }
+
+    /**
+     * @return a stream reading response content as it arrives, which fails if content was cut short
+     */
+    public InputStream getContent() {
+        return new ContentInputStream(buffer) {
+            @Override
+            public int read() throws IOException {
+                return check(super.read());
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                return check(super.read(b, off, len));
+            }
+
+            private int check(int read) throws IOException {
+                if (read < 0) {
+                    if (aborted) throw new IOException("Response content is incomplete", getException());
+                    drained = true;
+                }
+                return read;
+            }
+        };
+    }
+
+}
@@ -1,8 +1,11 @@
 package com.mercadolibre.restclient.httpc.stream;
 
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.Buffer;
 import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 
 import org.apache.http.HttpException;
 import org.apache.http.HttpResponse;
@@ -10,29 +13,93 @@ import org.apache.http.nio.IOControl;
 import org.apache.http.nio.client.methods.AsyncByteConsumer;
 import org.apache.http.protocol.HttpContext;
 
+import com.mercadolibre.restclient.Request;
+import com.mercadolibre.restclient.http.Header;
+import com.mercadolibre.restclient.util.DecompressingOutputStream;
+import com.mercadolibre.restclient.util.HttpCompressionHandler;
+
+/**
+ * Async consumer for downloads. Content chunks are written to the request output stream as they arrive from the
+ * I/O reactor, decoding gzip/deflate on the fly when needed, so heap usage does not grow with the size of the body.
+ * Plain content targeting a {@link FileOutputStream} is written through its channel.
+ * <p>
+ * Resulting response carries no entity, as its content has already been written.
+ */
 public class OutputStreamConsumer extends AsyncByteConsumer<HttpResponse> {
 
-    private OutputStream outputStream;
+    private static final String CONTENT_ENCODING_HEADER = "Content-Encoding";
+
+    private final Request request;
+    private final OutputStream outputStream;
+
     private HttpResponse response;
- 
-    public OutputStreamConsumer(OutputStream outputStream) {
-        this.outputStream = outputStream;
-    }
+    private OutputStream target;
+    private WritableByteChannel channel;
+    private byte[] chunk;
 
-    @Override
-    protected void onByteReceived(ByteBuffer buf, IOControl ioctrl) throws IOException {
-        while (buf.hasRemaining())
-            outputStream.write(buf.get());
+    public OutputStreamConsumer(Request request) {
+        this.request = request;
+        this.outputStream = request.getOutputStream();
     }
 
     @Override
     protected void onResponseReceived(HttpResponse response) throws HttpException, IOException {
         this.response = response;
+
+        org.apache.http.Header contentEncoding = response.getFirstHeader(CONTENT_ENCODING_HEADER);
+        boolean compression = request.getClients() != null && request.getClients().getPool().compression();
+
+        target = HttpCompressionHandler.decodingStream(outputStream,
+                contentEncoding != null ? new Header(contentEncoding.getName(), contentEncoding.getValue()) : null, compression);
+
+        if (target == outputStream && outputStream instanceof FileOutputStream)
+            channel = ((FileOutputStream) outputStream).getChannel();
+    }
+
+    @Override
+    protected void onByteReceived(ByteBuffer buf, IOControl ioctrl) throws IOException {
+        // Content reaching the stream cannot be taken back, so a failure from here on must not be retried
+        if (buf.hasRemaining()) request.startDownload();
+
+        if (channel != null) {
+            while (buf.hasRemaining())
+                channel.write(buf);
+
+        } else if (buf.hasArray()) {
+            target.write(buf.array(), buf.arrayOffset() + buf.position(), buf.remaining());
+            ((Buffer) buf).position(buf.limit());
+
+        } else {
+            if (chunk == null) chunk = new byte[buf.capacity()];
+
+            while (buf.hasRemaining()) {
+                int length = Math.min(chunk.length, buf.remaining());
+                buf.get(chunk, 0, length);
+                target.write(chunk, 0, length);
+            }
+        }
     }
 
     @Override
     protected HttpResponse buildResult(HttpContext context) throws Exception {
+        if (target instanceof DecompressingOutputStream)
+            ((DecompressingOutputStream) target).finish();
+        else if (target != null)
+            target.flush();
+
+        response.setEntity(null);
+
         return response;
     }
 
+    @Override
+    protected void releaseResources() {
+        if (target instanceof DecompressingOutputStream)
+            try {
+                ((DecompressingOutputStream) target).finish();
+            } catch (IOException e) {
+                // Only reached when download was interrupted, which is reported through the callback
+            }
+    }
+
 }
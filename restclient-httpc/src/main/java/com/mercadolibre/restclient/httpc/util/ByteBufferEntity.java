@@ -0,0 +1,101 @@
+package com.mercadolibre.restclient.httpc.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.nio.ContentEncoder;
+import org.apache.http.nio.IOControl;
+import org.apache.http.nio.entity.HttpAsyncContentProducer;
+
+/**
+ * Entity sending the remaining content of a heap or direct buffer. Async engine writes buffer straight to the
+ * connection, while sync engine copies it in small chunks unless it's backed by an array.
+ */
+public class ByteBufferEntity extends AbstractHttpEntity implements HttpAsyncContentProducer {
+
+    private static final int CHUNK_SIZE = 8192;
+
+    private final ByteBuffer content;
+    private ByteBuffer buffer;
+
+    public ByteBufferEntity(ByteBuffer content) {
+        this.content = content.duplicate();
+        this.buffer = content.duplicate();
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    @Override
+    public long getContentLength() {
+        return content.remaining();
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return false;
+    }
+
+    @Override
+    public InputStream getContent() {
+        final ByteBuffer source = content.duplicate();
+
+        return new InputStream() {
+            @Override
+            public int read() {
+                return source.hasRemaining() ? source.get() & 0xff : -1;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                if (!source.hasRemaining()) return -1;
+
+                int length = Math.min(len, source.remaining());
+                source.get(b, off, length);
+
+                return length;
+            }
+
+            @Override
+            public int available() {
+                return source.remaining();
+            }
+        };
+    }
+
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+        ByteBuffer source = content.duplicate();
+
+        if (source.hasArray()) {
+            out.write(source.array(), source.arrayOffset() + source.position(), source.remaining());
+            return;
+        }
+
+        byte[] chunk = new byte[Math.min(CHUNK_SIZE, source.remaining())];
+        while (source.hasRemaining()) {
+            int length = Math.min(chunk.length, source.remaining());
+            source.get(chunk, 0, length);
+            out.write(chunk, 0, length);
+        }
+    }
+
+    @Override
+    public void produceContent(ContentEncoder encoder, IOControl ioctrl) throws IOException {
+        encoder.write(buffer);
+
+        if (!buffer.hasRemaining())
+            encoder.complete();
+    }
+
+    @Override
+    public void close() {
+        buffer = content.duplicate();
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.mercadolibre.restclient.httpc.util;
+
+import com.mercadolibre.restclient.body.*;
+import org.apache.http.HttpEntity;
+import org.apache.http.nio.entity.NByteArrayEntity;
+import org.apache.http.nio.entity.NFileEntity;
+
+/**
+ * Adapts a request {@link Body} to an entity both engines can send without copying its content first.
+ * Repeatable sources produce a new entity on each attempt, so retries read them from the start. Input streams are read
+ * on a separate thread by the async engine, so a slow stream never blocks IO reactor threads.
+ */
+public class HTTPCBodyVisitor implements BodyVisitor {
+
+    private HttpEntity entity;
+
+    public HttpEntity getEntity() {
+        return entity;
+    }
+
+    @Override
+    public void visitByteArrayBody(ByteArrayBody body) {
+        entity = new NByteArrayEntity(body.getContent());
+    }
+
+    @Override
+    public void visitByteBufferBody(ByteBufferBody body) {
+        entity = new ByteBufferEntity(body.getContent());
+    }
+
+    @Override
+    public void visitFileBody(FileBody body) {
+        entity = new NFileEntity(body.getContent());
+    }
+
+    @Override
+    public void visitInputStreamBody(InputStreamBody body) {
+        entity = new PumpedInputStreamEntity(body.getContent(), body.getContentLength());
+    }
+
+}
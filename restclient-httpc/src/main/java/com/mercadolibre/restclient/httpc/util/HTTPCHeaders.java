@@ -0,0 +1,29 @@
+package com.mercadolibre.restclient.httpc.util;
+
+import com.mercadolibre.restclient.http.Header;
+import com.mercadolibre.restclient.http.Headers;
+
+/**
+ * Lazy view over HttpClient response headers. Lookups compare names straight from them, and a {@link Header} is only
+ * built for headers actually read.
+ */
+public class HTTPCHeaders extends Headers {
+
+    private final org.apache.http.Header[] source;
+
+    public HTTPCHeaders(org.apache.http.Header[] source) {
+        super(source.length);
+        this.source = source;
+    }
+
+    @Override
+    protected String nameAt(int index) {
+        return source[index].getName();
+    }
+
+    @Override
+    protected Header headerAt(int index) {
+        return new Header(source[index].getName(), source[index].getValue());
+    }
+
+}
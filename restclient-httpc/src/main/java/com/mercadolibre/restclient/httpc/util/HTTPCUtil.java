@@ -14,10 +14,15 @@ import org.apache.http.client.CredentialsProvider;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.entity.DeflateDecompressingEntity;
 import org.apache.http.client.entity.GzipDecompressingEntity;
+import org.apache.http.client.methods.HttpDelete;
 import org.apache.http.client.methods.HttpEntityEnclosingRequestBase;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpHead;
+import org.apache.http.client.methods.HttpOptions;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpPut;
 import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.client.protocol.HttpClientContext;
-import org.apache.http.entity.ByteArrayEntity;
 import org.apache.http.entity.mime.HttpMultipartMode;
 import org.apache.http.entity.mime.MultipartEntityBuilder;
 import org.apache.http.impl.client.BasicCredentialsProvider;
@@ -30,6 +35,7 @@ import com.mercadolibre.restclient.Request;
 import com.mercadolibre.restclient.http.Header;
 import com.mercadolibre.restclient.http.Headers;
 import com.mercadolibre.restclient.http.Proxy;
+import com.mercadolibre.restclient.httpc.HttpPurge;
 import com.mercadolibre.restclient.multipart.Part;
 import com.mercadolibre.restclient.multipart.PartVisitor;
 
@@ -66,22 +72,16 @@ public class HTTPCUtil {
     }
     
     public static Headers getHeaders(HttpResponse response) {
-        Headers output = new Headers();
-
         org.apache.http.Header[] headers = response.getAllHeaders();
-        if (headers != null) {
-            for (org.apache.http.Header header : headers)
-                output.add(new Header(header.getName(), header.getValue()));
-        }
 
-        return output;
+        return headers != null ? new HTTPCHeaders(headers) : new Headers();
     }
 
 	public static void setHeaders(HttpRequestBase method, Headers headers) {
         if (headers == null) return;
 
         for (Header h : headers)
-            method.setHeader(h.getName(), h.getValue());
+            method.addHeader(h.getName(), h.getValue());
     }
 
     public static void setProxy(HttpRequestBase method, Proxy proxy) {
@@ -89,8 +89,11 @@ public class HTTPCUtil {
     }
     
     public static void setMethodAttributes(HttpEntityEnclosingRequestBase method,  Request request) {
-		if(request.getBody() != null) { 
-			method.setEntity(new ByteArrayEntity(request.getBody()));
+		if (request.getBodySource() != null) {
+			HTTPCBodyVisitor visitor = new HTTPCBodyVisitor();
+			request.getBodySource().accept(visitor);
+
+			method.setEntity(visitor.getEntity());
 		}
 
         if (request.getParts() != null) {
@@ -132,6 +135,31 @@ public class HTTPCUtil {
         }
     }
     
+    public static HttpRequestBase createMethod(Request request) {
+        HttpRequestBase method;
+
+        switch (request.getMethod()) {
+            case GET: method = new HttpGet(request.getURL()); break;
+            case DELETE: method = new HttpDelete(request.getURL()); break;
+            case HEAD: method = new HttpHead(request.getURL()); break;
+            case OPTIONS: method = new HttpOptions(request.getURL()); break;
+            case PURGE: method = new HttpPurge(request.getURL()); break;
+            case POST:
+                HttpPost post = new HttpPost(request.getURL());
+                setMethodAttributes(post, request);
+                return post;
+            case PUT:
+                HttpPut put = new HttpPut(request.getURL());
+                setMethodAttributes(put, request);
+                return put;
+            default: throw new IllegalArgumentException("Unknown method: " + request.getMethod());
+        }
+
+        setMethodAttributes(method, request);
+
+        return method;
+    }
+
     public static HttpContext createContext(Request request) {
     	HttpClientContext context = null;
     	
@@ -0,0 +1,151 @@
+package com.mercadolibre.restclient.httpc.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.http.entity.InputStreamEntity;
+import org.apache.http.nio.ContentEncoder;
+import org.apache.http.nio.IOControl;
+import org.apache.http.nio.entity.HttpAsyncContentProducer;
+
+import com.mercadolibre.restclient.util.PoolMonitoring;
+
+/**
+ * Entity sending the content of an input stream. Sync engine reads it on the calling thread, as any other
+ * {@link InputStreamEntity}. Async engine never reads it on IO reactor threads, as a stream read can block for as long
+ * as its source takes: a shared pool of {@link #PUMP_THREAD_COUNT} threads reads it ahead into up to
+ * {@link #QUEUED_CHUNKS} chunks, and output is suspended while none is ready. Streams beyond that thread count wait
+ * for a free thread.
+ */
+public class PumpedInputStreamEntity extends InputStreamEntity implements HttpAsyncContentProducer {
+
+    public static final int PUMP_THREAD_COUNT = 16;
+    public static final int QUEUED_CHUNKS = 4;
+
+    private static final int CHUNK_SIZE = 8192;
+
+    private static final ThreadPoolExecutor pumpPool = makePumpPool();
+
+    static {
+        PoolMonitoring.INSTANCE.register("body-pump", pumpPool);
+    }
+
+    private final InputStream content;
+    private final BlockingQueue<ByteBuffer> chunks = new ArrayBlockingQueue<>(QUEUED_CHUNKS);
+
+    private ByteBuffer current;
+    private Future<?> pump;
+    private volatile boolean done;
+    private volatile IOException error;
+
+    public PumpedInputStreamEntity(InputStream content, long length) {
+        super(content, length);
+        this.content = content;
+    }
+
+    private static ThreadPoolExecutor makePumpPool() {
+        final AtomicInteger count = new AtomicInteger();
+
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(PUMP_THREAD_COUNT, PUMP_THREAD_COUNT, 60000L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+                    @Override
+                    public Thread newThread(Runnable r) {
+                        Thread t = new Thread(r, "Body pump-" + count.incrementAndGet());
+                        t.setDaemon(true);
+                        return t;
+                    }
+                });
+
+        pool.allowCoreThreadTimeOut(true);
+
+        return pool;
+    }
+
+    @Override
+    public synchronized void produceContent(ContentEncoder encoder, IOControl ioctrl) throws IOException {
+        if (pump == null) pump = pumpPool.submit(pumpTask(ioctrl));
+
+        while (true) {
+            ByteBuffer chunk = current != null ? current : chunks.poll();
+
+            if (chunk == null) {
+                if (error != null) throw error;
+
+                // Chunks are all queued before the pump is done, so a last poll sees any of them that was missed
+                if (done && (chunk = chunks.poll()) == null) {
+                    encoder.complete();
+                    return;
+                }
+            }
+
+            if (chunk == null) {
+                ioctrl.suspendOutput();
+
+                // Pump may have queued a chunk and requested output right before suspending it
+                if (!chunks.isEmpty() || done) ioctrl.requestOutput();
+                return;
+            }
+
+            encoder.write(chunk);
+
+            if (chunk.hasRemaining()) {
+                current = chunk;
+                return;
+            }
+
+            current = null;
+        }
+    }
+
+    private Runnable pumpTask(final IOControl ioctrl) {
+        final InputStream in = content;
+        final long length = getContentLength();
+
+        return new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    long remaining = length < 0 ? Long.MAX_VALUE : length;
+
+                    while (remaining > 0) {
+                        byte[] chunk = new byte[(int) Math.min(CHUNK_SIZE, remaining)];
+                        int read = in.read(chunk);
+                        if (read < 0) break;
+
+                        chunks.put(ByteBuffer.wrap(chunk, 0, read));
+                        remaining -= read;
+                        ioctrl.requestOutput();
+                    }
+                } catch (IOException e) {
+                    error = e;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    error = new IOException("Request body pump was interrupted", e);
+                } finally {
+                    done = true;
+                    ioctrl.requestOutput();
+                }
+            }
+        };
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (pump != null) pump.cancel(true);
+
+        chunks.clear();
+        current = null;
+
+        content.close();
+    }
+
+}
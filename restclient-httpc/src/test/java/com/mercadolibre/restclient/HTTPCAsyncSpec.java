@@ -1,20 +1,46 @@
 package com.mercadolibre.restclient;
 
 import com.mercadolibre.restclient.async.HTTPCallback;
+import com.mercadolibre.restclient.body.ByteBufferBody;
+import com.mercadolibre.restclient.body.FileBody;
+import com.mercadolibre.restclient.body.InputStreamBody;
 import com.mercadolibre.restclient.exception.RestException;
 import com.mercadolibre.restclient.mock.HTTPCMockHandler;
 import com.mercadolibre.restclient.mock.TestClients;
+import com.mercadolibre.restclient.retry.SimpleRetryStrategy;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.http.HttpResponse;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.ArrayList;
+import java.io.InputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPOutputStream;
 
 import static com.mercadolibre.restclient.http.HttpMethod.*;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 
@@ -114,4 +140,252 @@ public class HTTPCAsyncSpec extends HTTPCTestBase {
         assertEquals("ok", new String(output.toByteArray()));
     }
 
+    @Test
+    public void shouldDownloadGzip() throws RestException, IOException, ExecutionException, InterruptedException {
+        byte[] content = new byte[256 * 1024];
+        Arrays.fill(content, (byte) 'a');
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(content);
+        }
+
+        Map<String,String> headers = new HashMap<>();
+        headers.put("Content-Type", "text/plain;charset=utf8");
+        headers.put("Content-Encoding", "gzip");
+        HTTPCMockHandler.INSTANCE.addMock("GET", 200, headers, compressed.toByteArray());
+
+        Request request = makeRequest(GET, "/test");
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        request.setOutputStream(output);
+
+        Response response = TestClients.getAsyncClient().asyncGet(request, getCallback(request)).get();
+
+        assertEquals(200, response.getStatus());
+        assertTrue(ArrayUtils.isEmpty(response.getBytes()));
+        assertArrayEquals(content, output.toByteArray());
+    }
+
+    @Test
+    public void shouldDownloadToFile() throws RestException, IOException, ExecutionException, InterruptedException {
+        HTTPCMockHandler.INSTANCE.addMock("GET", 200, Collections.singletonMap("Content-Type", "text/plain;charset=utf8"), "ok".getBytes());
+
+        File file = File.createTempFile("download", ".txt");
+        file.deleteOnExit();
+
+        Response response;
+        Request request = makeRequest(GET, "/test");
+
+        try (FileOutputStream output = new FileOutputStream(file)) {
+            request.setOutputStream(output);
+
+            response = TestClients.getAsyncClient().asyncGet(request, getCallback(request)).get();
+        }
+
+        assertEquals(200, response.getStatus());
+        assertEquals("ok", new String(Files.readAllBytes(file.toPath())));
+    }
+
+    @Test
+    public void shouldNotRetryPartialDownload() throws RestException, IOException, InterruptedException, TimeoutException {
+        HTTPCMockHandler.INSTANCE.addBrokenMock("GET", 200, "partial content".getBytes(), 7);
+
+        Request request = makeRequest(GET, "/test");
+        request.setRetryStrategy(new SimpleRetryStrategy(2, 0));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        request.setOutputStream(output);
+
+        try {
+            TestClients.getAsyncClient().asyncGet(request, getCallback(request)).get(5, TimeUnit.SECONDS);
+            throw new AssertionError("Broken download should fail");
+        } catch (ExecutionException e) {
+            // expected
+        }
+
+        assertFalse(request.isRepeatable());
+        assertEquals("partial", new String(output.toByteArray()));
+    }
+
+    @Test
+    public void shouldPostFile() throws RestException, IOException, ExecutionException, InterruptedException {
+        HTTPCMockHandler.INSTANCE.addMock("POST", 201, Collections.singletonMap("Content-Type", "text/plain;charset=utf8"));
+
+        File file = File.createTempFile("upload", ".txt");
+        file.deleteOnExit();
+        Files.write(file.toPath(), "asd".getBytes());
+
+        Request request = makeRequest(POST, "/test", new FileBody(file));
+        Response response = TestClients.getAsyncClient().asyncPost(request, getCallback(request)).get();
+
+        assertEquals(201, response.getStatus());
+        assertEquals("asd", response.getString());
+    }
+
+    @Test
+    public void shouldPutByteBuffer() throws RestException, ExecutionException, InterruptedException {
+        HTTPCMockHandler.INSTANCE.addMock("PUT", 200, Collections.singletonMap("Content-Type", "text/plain;charset=utf8"));
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(3);
+        buffer.put("asd".getBytes()).flip();
+
+        Request request = makeRequest(PUT, "/test", new ByteBufferBody(buffer));
+        Response response = TestClients.getAsyncClient().asyncPut(request, getCallback(request)).get();
+
+        assertEquals(200, response.getStatus());
+        assertEquals("asd", response.getString());
+    }
+
+    @Test
+    public void shouldPostChunkedInputStream() throws RestException, ExecutionException, InterruptedException {
+        HTTPCMockHandler.INSTANCE.addMock("POST", 201, Collections.singletonMap("Content-Type", "text/plain;charset=utf8"));
+
+        Request request = makeRequest(POST, "/test", new InputStreamBody(new ByteArrayInputStream("asd".getBytes())));
+        Response response = TestClients.getAsyncClient().asyncPost(request, getCallback(request)).get();
+
+        assertEquals(201, response.getStatus());
+        assertEquals("asd", response.getString());
+    }
+
+    @Test
+    public void shouldPostSlowInputStreamOffReactor() throws RestException, ExecutionException, InterruptedException {
+        HTTPCMockHandler.INSTANCE.addMock("POST", 201, Collections.singletonMap("Content-Type", "text/plain;charset=utf8"));
+
+        final List<String> threads = Collections.synchronizedList(new ArrayList<String>());
+        InputStream slow = new InputStream() {
+            private final byte[] content = new byte[20000];
+            private int position;
+
+            @Override
+            public int read() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                threads.add(Thread.currentThread().getName());
+                if (position == content.length) return -1;
+
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+
+                int length = Math.min(Math.min(len, 1000), content.length - position);
+                Arrays.fill(b, off, off + length, (byte) 'a');
+                position += length;
+
+                return length;
+            }
+        };
+
+        Request request = makeRequest(POST, "/test", new InputStreamBody(slow, 20000));
+        Response response = TestClients.getAsyncClient().asyncPost(request, getCallback(request)).get();
+
+        assertEquals(201, response.getStatus());
+        assertEquals(20000, response.getBytes().length);
+
+        for (String thread : threads)
+            assertFalse(thread.startsWith("I/O dispatcher"));
+    }
+
+    @Test
+    public void shouldCancel() throws RestException, ExecutionException, InterruptedException {
+        HTTPCMockHandler.INSTANCE.addMock("GET", 200, "ok".getBytes(), 500L);
+
+        final AtomicBoolean completed = new AtomicBoolean();
+        final CountDownLatch aborted = new CountDownLatch(1);
+
+        Request request = makeRequest(GET, "/test");
+        HTTPCallback<HttpResponse> callback = new HTTPCallback<HttpResponse>(request) {
+            @Override
+            protected void successAction(Response r, RestException e) {
+                completed.set(true);
+                super.successAction(r, e);
+            }
+
+            @Override
+            public void cancel() {
+                aborted.countDown();
+                super.cancel();
+            }
+        };
+        Future<Response> future = TestClients.getAsyncClient().asyncGet(request, callback);
+
+        Future<?> execution = callback.getFuture().getExecution();
+        assertFalse(execution.isDone());
+
+        assertTrue(future.cancel(true));
+        assertTrue(future.isCancelled());
+
+        try {
+            future.get();
+            throw new AssertionError("Cancelled future should not complete");
+        } catch (CancellationException e) {
+            // expected
+        }
+
+        // Engine exchange is aborted right away, so its response is never handled
+        assertTrue(execution.isCancelled());
+        assertTrue(aborted.await(1, TimeUnit.SECONDS));
+        assertFalse(completed.get());
+
+        HTTPCMockHandler.INSTANCE.addMock("GET", 200, Collections.singletonMap("Content-Type", "text/plain;charset=utf8"), "ok".getBytes());
+
+        request = makeRequest(GET, "/test");
+        Response response = TestClients.getAsyncClient().asyncGet(request, getCallback(request)).get();
+
+        assertEquals(200, response.getStatus());
+        assertFalse(completed.get());
+    }
+
+    @Test
+    public void shouldHandleResponseInCallbackExecutor() throws RestException, ExecutionException, InterruptedException {
+        HTTPCMockHandler.INSTANCE.addMock("GET", 200, Collections.singletonMap("Content-Type", "text/plain;charset=utf8"), "ok".getBytes());
+
+        final String[] thread = new String[1];
+
+        Request request = makeRequest(GET, "/test");
+        Response response = TestClients.getAsyncClient().asyncGet(request, new HTTPCallback<HttpResponse>(request) {
+            @Override
+            protected void successAction(Response r, RestException e) {
+                thread[0] = Thread.currentThread().getName();
+                super.successAction(r, e);
+            }
+        }).get();
+
+        assertEquals(200, response.getStatus());
+        assertTrue(thread[0].startsWith("Callback worker-"));
+    }
+
+    @Test
+    public void shouldHandleResponseRejectedByCallbackExecutor() throws RestException, ExecutionException, InterruptedException {
+        HTTPCMockHandler.INSTANCE.addMock("GET", 200, Collections.singletonMap("Content-Type", "text/plain;charset=utf8"), "ok".getBytes());
+
+        RESTPool pool = RESTPool.builder().withName("rejecting").withCallbackExecutor(new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                throw new RejectedExecutionException("Saturated");
+            }
+        }).build();
+
+        final String[] thread = new String[1];
+
+        Request request = makeRequest(GET, "/test");
+        request.setClients(new ClientHolder.Clients<HttpResponse>(null, null, pool));
+
+        Response response = TestClients.getAsyncClient().asyncGet(request, new HTTPCallback<HttpResponse>(request) {
+            @Override
+            protected void successAction(Response r, RestException e) {
+                thread[0] = Thread.currentThread().getName();
+                super.successAction(r, e);
+            }
+        }).get();
+
+        // A response already received is handled on the overflow executor instead of being discarded
+        assertEquals(200, response.getStatus());
+        assertEquals("ok", response.getString());
+        assertTrue(thread[0].startsWith("Overflow callback worker-"));
+    }
+
 }
@@ -0,0 +1,98 @@
+package com.mercadolibre.restclient;
+
+import com.mercadolibre.restclient.exception.RestException;
+import static com.mercadolibre.restclient.http.HttpMethod.*;
+import com.mercadolibre.restclient.mock.HTTPCMockHandler;
+import com.mercadolibre.restclient.mock.TestClients;
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.io.IOUtils;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+
+public class HTTPCBlockingSpec extends HTTPCTestBase {
+
+    @Test
+    public void shouldGet() throws RestException {
+        HTTPCMockHandler.INSTANCE.addMock("GET", 200, Collections.singletonMap("Content-Type", "text/plain;charset=utf8"), "ok".getBytes());
+
+        Response response = TestClients.getBlockingClient().get(makeRequest(GET, "/test"));
+
+        assertEquals(200, response.getStatus());
+        assertEquals("ok", response.getString());
+    }
+
+    @Test
+    public void shouldPost() throws RestException {
+        HTTPCMockHandler.INSTANCE.addMock("POST", 201, Collections.singletonMap("Content-Type", "text/plain;charset=utf8"));
+
+        Response response = TestClients.getBlockingClient().post(makeRequest(POST, "/test", "asd".getBytes()));
+
+        assertEquals(201, response.getStatus());
+        assertEquals("asd", response.getString());
+    }
+
+    @Test
+    public void shouldHead() throws RestException {
+        HTTPCMockHandler.INSTANCE.addMock("HEAD", 200, Collections.singletonMap("X-Test","1"));
+
+        Response response = TestClients.getBlockingClient().head(makeRequest(HEAD, "/test"));
+
+        assertEquals(200, response.getStatus());
+        assertEquals("1", response.getHeader("X-Test").getValue());
+        assertTrue(ArrayUtils.isEmpty(response.getBytes()));
+    }
+
+    @Test
+    public void shouldDownload() throws RestException, IOException {
+        HTTPCMockHandler.INSTANCE.addMock("GET", 200, Collections.singletonMap("Content-Type", "text/plain;charset=utf8"), "ok".getBytes());
+
+        Request request = makeRequest(GET, "/test");
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        request.setOutputStream(output);
+
+        Response response = TestClients.getBlockingClient().get(request);
+
+        assertEquals(200, response.getStatus());
+        assertTrue(ArrayUtils.isEmpty(response.getBytes()));
+        assertEquals("ok", new String(output.toByteArray()));
+    }
+
+    @Test
+    public void shouldStream() throws RestException, IOException {
+        byte[] content = new byte[1024 * 1024];
+        for (int i = 0; i < content.length; i++) content[i] = (byte) i;
+
+        HTTPCMockHandler.INSTANCE.addMock("GET", 200, Collections.singletonMap("Content-Type", "application/octet-stream"), content);
+
+        try (StreamingResponse response = TestClients.getBlockingClient().stream(makeRequest(GET, "/test"))) {
+            assertEquals(200, response.getStatus());
+            assertArrayEquals(content, IOUtils.toByteArray(response.getBody()));
+        }
+    }
+
+    @Test
+    public void shouldReleaseConnectionOnPartialRead() throws RestException, IOException {
+        HTTPCMockHandler.INSTANCE.addMock("POST", 200, new byte[1024 * 1024]);
+
+        for (int i = 0; i < RESTPool.DEFAULT_MAX_PER_ROUTE + 1; i++)
+            try (StreamingResponse response = TestClients.getBlockingClient().stream(makeRequest(POST, "/test", "asd".getBytes()))) {
+                assertEquals(200, response.getStatus());
+                assertEquals(0, response.getBody().read());
+            }
+    }
+
+    @Test(expected = RestException.class)
+    public void shouldFailOnConnectionError() throws RestException {
+        Request request = makeRequest(GET, "/test");
+        request.setURL("http://localhost:1/test");
+
+        TestClients.getBlockingClient().get(request);
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.mercadolibre.restclient;
+
+import com.mercadolibre.restclient.exception.RestException;
+import com.mercadolibre.restclient.mock.HTTPCMockHandler;
+import com.mercadolibre.restclient.mock.HTTPCMockServer;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.Assert.*;
+
+
+public class HTTPCSharedReactorSpec extends HTTPCTestBase {
+
+    private static String url(String path) {
+        return "http://localhost:" + HTTPCMockServer.INSTANCE.getPort() + path;
+    }
+
+    private static int dispatcherThreads() {
+        int count = 0;
+        for (Thread thread : Thread.getAllStackTraces().keySet())
+            if (thread.getName().startsWith("I/O dispatcher")) count++;
+
+        return count;
+    }
+
+    // Dispatchers are started by the reactor thread, some time after client start
+    private static int awaitDispatcherThreads(int expected) throws InterruptedException {
+        for (int i = 0; i < 100 && dispatcherThreads() < expected; i++)
+            Thread.sleep(10);
+
+        return dispatcherThreads();
+    }
+
+    @Test
+    public void shouldShareReactorAcrossPools() throws IOException, RestException, ExecutionException, InterruptedException {
+        HTTPCMockHandler.INSTANCE.addMock("GET", 200, Collections.singletonMap("Content-Type", "text/plain;charset=utf8"), "ok".getBytes());
+
+        RESTPool first = RESTPool.builder().withName("first").build();
+        RESTPool second = RESTPool.builder().withName("second").withSharedConnectionPool(true).build();
+
+        int threads = dispatcherThreads();
+
+        try (RestClient client = RestClient.builder()
+                .withPool(first, second)
+                .disableDefault()
+                .withSharedReactor(true)
+                .withReactorThreadCount(1)
+                .build()) {
+
+            assertEquals(threads, dispatcherThreads());
+
+            client.warmUp();
+            assertEquals(threads + 1, awaitDispatcherThreads(threads + 1));
+
+            assertEquals("ok", client.withPool(first).asyncGet(url("/test")).get().getString());
+            assertEquals("ok", client.withPool(second).asyncGet(url("/test")).get().getString());
+            assertEquals("ok", client.withPool(second).get(url("/test")).getString());
+        }
+    }
+
+    @Test
+    public void shouldBoundConnectionsAcrossPools() throws IOException, RestException {
+        HTTPCMockHandler.INSTANCE.addMock("GET", 200, new byte[1024 * 1024]);
+
+        RESTPool first = RESTPool.builder().withName("first").withSharedConnectionPool(true).build();
+        RESTPool second = RESTPool.builder().withName("second").withSharedConnectionPool(true).build();
+
+        try (RestClient client = RestClient.builder()
+                .withPool(first, second)
+                .disableDefault()
+                .withSharedReactor(true)
+                .withMaxTotalConnections(1)
+                .build()) {
+
+            try (StreamingResponse response = client.withPool(first).getStream(url("/test"))) {
+                assertEquals(200, response.getStatus());
+
+                try {
+                    client.withPool(second).get(url("/test"));
+                    fail("Connection should not be available");
+                } catch (RestException e) {
+                    // Only connection is held by the streaming response of first pool
+                }
+            }
+
+            assertEquals(200, client.withPool(second).get(url("/test")).getStatus());
+        }
+    }
+
+}
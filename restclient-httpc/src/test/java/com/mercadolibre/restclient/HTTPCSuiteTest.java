@@ -9,7 +9,7 @@ import org.junit.runners.Suite;
 
 
 @RunWith(Suite.class)
-@Suite.SuiteClasses({HTTPCSyncSpec.class, HTTPCAsyncSpec.class})
+@Suite.SuiteClasses({HTTPCSyncSpec.class, HTTPCAsyncSpec.class, HTTPCBlockingSpec.class, HTTPCSharedReactorSpec.class})
 public class HTTPCSuiteTest {
 
     @ClassRule
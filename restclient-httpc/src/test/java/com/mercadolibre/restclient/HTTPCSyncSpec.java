@@ -1,14 +1,22 @@
 package com.mercadolibre.restclient;
 
+import com.mercadolibre.restclient.body.ByteBufferBody;
+import com.mercadolibre.restclient.body.FileBody;
+import com.mercadolibre.restclient.body.InputStreamBody;
 import com.mercadolibre.restclient.exception.RestException;
 import static com.mercadolibre.restclient.http.HttpMethod.*;
 import com.mercadolibre.restclient.mock.HTTPCMockHandler;
 import com.mercadolibre.restclient.mock.TestClients;
 import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.io.IOUtils;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
 import java.util.Collections;
 
 import static org.junit.Assert.*;
@@ -100,4 +108,64 @@ public class HTTPCSyncSpec extends HTTPCTestBase {
         assertEquals("ok", new String(output.toByteArray()));
     }
 
+    @Test
+    public void shouldStream() throws RestException, IOException {
+        HTTPCMockHandler.INSTANCE.addMock("GET", 200, Collections.singletonMap("Content-Type", "text/plain;charset=utf8"), "ok".getBytes());
+
+        try (StreamingResponse response = TestClients.getSyncClient().stream(makeRequest(GET, "/test"))) {
+            assertEquals(200, response.getStatus());
+            assertEquals("text/plain;charset=utf8", response.getHeader("Content-Type").getValue());
+            assertEquals("ok", new String(IOUtils.toByteArray(response.getBody())));
+        }
+    }
+
+    @Test
+    public void shouldReleaseConnectionOnPartialRead() throws RestException, IOException {
+        HTTPCMockHandler.INSTANCE.addMock("POST", 200, new byte[1024 * 1024]);
+
+        for (int i = 0; i < RESTPool.DEFAULT_MAX_PER_ROUTE + 1; i++)
+            try (StreamingResponse response = TestClients.getSyncClient().stream(makeRequest(POST, "/test", "asd".getBytes()))) {
+                assertEquals(200, response.getStatus());
+                assertEquals(0, response.getBody().read());
+            }
+    }
+
+    @Test
+    public void shouldPostFile() throws RestException, IOException {
+        HTTPCMockHandler.INSTANCE.addMock("POST", 201, Collections.singletonMap("Content-Type", "text/plain;charset=utf8"));
+
+        File file = File.createTempFile("upload", ".txt");
+        file.deleteOnExit();
+        Files.write(file.toPath(), "asd".getBytes());
+
+        Response response = TestClients.getSyncClient().post(makeRequest(POST, "/test", new FileBody(file)));
+
+        assertEquals(201, response.getStatus());
+        assertEquals("asd", response.getString());
+    }
+
+    @Test
+    public void shouldPutByteBuffer() throws RestException {
+        HTTPCMockHandler.INSTANCE.addMock("PUT", 200, Collections.singletonMap("Content-Type", "text/plain;charset=utf8"));
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(8);
+        buffer.put("--asd".getBytes()).flip();
+        buffer.position(2);
+
+        Request request = makeRequest(PUT, "/test", new ByteBufferBody(buffer));
+
+        assertEquals("asd", TestClients.getSyncClient().put(request).getString());
+        assertEquals("asd", TestClients.getSyncClient().put(request).getString());
+    }
+
+    @Test
+    public void shouldPostChunkedInputStream() throws RestException {
+        HTTPCMockHandler.INSTANCE.addMock("POST", 201, Collections.singletonMap("Content-Type", "text/plain;charset=utf8"));
+
+        Response response = TestClients.getSyncClient().post(makeRequest(POST, "/test", new InputStreamBody(new ByteArrayInputStream("asd".getBytes()))));
+
+        assertEquals(201, response.getStatus());
+        assertEquals("asd", response.getString());
+    }
+
 }
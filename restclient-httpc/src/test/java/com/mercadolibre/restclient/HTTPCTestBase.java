@@ -1,5 +1,6 @@
 package com.mercadolibre.restclient;
 
+import com.mercadolibre.restclient.body.Body;
 import com.mercadolibre.restclient.http.Headers;
 import com.mercadolibre.restclient.http.HttpMethod;
 import com.mercadolibre.restclient.interceptor.AddTimeInterceptor;
@@ -46,6 +47,13 @@ public class HTTPCTestBase {
         return r;
     }
 
+    protected Request makeRequest(HttpMethod method, String url, Body<?> body) {
+        Request r = makeRequest(method, url);
+        r.setBody(body);
+
+        return r;
+    }
+
     protected Request makeRequest(HttpMethod method, String url) {
         Request r =  new Request();
 
@@ -7,6 +7,7 @@ import org.apache.http.protocol.HttpRequestHandler;
 import org.apache.http.util.EntityUtils;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -20,6 +21,8 @@ public enum HTTPCMockHandler implements HttpRequestHandler {
         private Map<String,String> headers;
         private byte[] body;
         private boolean shouldFail;
+        private long delay;
+        private int breakAfter = -1;
 
         public MockResponse(int status, Map<String, String> headers, byte[] body) {
             this.status = status;
@@ -61,13 +64,22 @@ public enum HTTPCMockHandler implements HttpRequestHandler {
 
         if (mock.shouldFail) throw new HttpException("Mock fail");
 
+        if (mock.delay > 0)
+            try {
+                Thread.sleep(mock.delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
         response.setStatusCode(mock.status);
 
         if (mock.headers != null)
             for (Map.Entry<String,String> e : mock.headers.entrySet())
                 response.setHeader(e.getKey(), e.getValue());
 
-        if (mock.body != null)
+        if (mock.body != null && mock.breakAfter >= 0)
+            response.setEntity(new BrokenEntity(mock.body, mock.breakAfter));
+        else if (mock.body != null)
             response.setEntity(new ByteArrayEntity(mock.body));
         else {
             byte[] requestBody = parseRequestBody(request);
@@ -108,5 +120,42 @@ public enum HTTPCMockHandler implements HttpRequestHandler {
         mocks.put(method, new MockResponse(status, headers));
     }
 
+    public void addMock(String method, int status, byte[] body, long delay) {
+        MockResponse mock = new MockResponse(status, body);
+        mock.delay = delay;
+
+        mocks.put(method, mock);
+    }
+
+    /**
+     * Mocks a response whose connection breaks after writing the given number of body bytes
+     */
+    public void addBrokenMock(String method, int status, byte[] body, int breakAfter) {
+        MockResponse mock = new MockResponse(status, body);
+        mock.breakAfter = breakAfter;
+
+        mocks.put(method, mock);
+    }
+
+    private static class BrokenEntity extends ByteArrayEntity {
+
+        private final byte[] body;
+        private final int breakAfter;
+
+        public BrokenEntity(byte[] body, int breakAfter) {
+            super(body);
+            this.body = body;
+            this.breakAfter = breakAfter;
+        }
+
+        @Override
+        public void writeTo(OutputStream outstream) throws IOException {
+            outstream.write(body, 0, breakAfter);
+            outstream.flush();
+
+            throw new IOException("Mock connection reset");
+        }
+    }
+
 
 }
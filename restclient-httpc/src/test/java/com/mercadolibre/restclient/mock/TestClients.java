@@ -1,7 +1,9 @@
 package com.mercadolibre.restclient.mock;
 
+import com.mercadolibre.restclient.ExecCallbackAsyncREST;
 import com.mercadolibre.restclient.RESTPool;
 import com.mercadolibre.restclient.httpc.HTTPCAsyncClient;
+import com.mercadolibre.restclient.httpc.HTTPCBlockingClient;
 import com.mercadolibre.restclient.httpc.HTTPCBuilder;
 import com.mercadolibre.restclient.httpc.HTTPCClient;
 
@@ -13,6 +15,7 @@ public class TestClients {
 
     private static HTTPCClient syncClient;
     private static HTTPCAsyncClient asyncClient;
+    private static HTTPCBlockingClient blockingClient;
 
     @SuppressWarnings("unchecked")
     private static HTTPCClient syncClient() {
@@ -36,10 +39,21 @@ public class TestClients {
         }
     }
 
+    private static HTTPCBlockingClient blockingClient(HTTPCAsyncClient asyncClient) {
+        try {
+            Method method = HTTPCBuilder.class.getDeclaredMethod("buildSharedClient", RESTPool.class, ExecCallbackAsyncREST.class);
+            method.setAccessible(true);
+            return (HTTPCBlockingClient) method.invoke(new HTTPCBuilder(), RESTPool.DEFAULT, asyncClient);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     public static void reload() {
         close();
         syncClient = syncClient();
         asyncClient = asyncClient();
+        blockingClient = blockingClient(asyncClient);
     }
 
     public static void close() {
@@ -59,4 +73,8 @@ public class TestClients {
     public static HTTPCAsyncClient getAsyncClient() {
         return asyncClient;
     }
+
+    public static HTTPCBlockingClient getBlockingClient() {
+        return blockingClient;
+    }
 }